@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+#
+# Measures the time from launch until the application reports ready, with and without the class
+# data sharing archive recorded by the cds profile.
+#
+#   mvn -Pcds package
+#   benchmark/startup.sh [runs]
+#
+# Every run starts the extracted application from target/application, waits until
+# /actuator/health/readiness answers UP and stops it again. The application uses the
+# configuration of the environment and of the config directory of the module, so the database
+# it connects to must be up, for example with docker compose up database. Warmup runs before
+# readiness, as it does in the cluster.
+#
+# STARTUP_ARCHIVE_OPTION is the option that loads the archive, -XX:SharedArchiveFile=application.jsa
+# by default, or -XX:AOTCache=application.aot for an archive recorded with -XX:AOTCacheOutput.
+# The JVM must be the one that recorded the archive, JAVA_HOME or java on the path.
+
+set -euo pipefail
+
+runs="${1:-5}"
+port="${SERVER_PORT:-8080}"
+timeout="${STARTUP_TIMEOUT:-180}"
+archive_option="${STARTUP_ARCHIVE_OPTION:--XX:SharedArchiveFile=application.jsa}"
+java="${JAVA_HOME:+${JAVA_HOME}/bin/}java"
+module="$(cd "$(dirname "$0")/.." && pwd)"
+directory="${module}/target/application"
+jar="nr-waste-plus-backend.jar"
+readiness="http://localhost:${port}/actuator/health/readiness"
+
+if [[ ! -f "${directory}/${jar}" ]]; then
+  echo "No extracted application in ${directory}, run mvn -Pcds package first" >&2
+  exit 1
+fi
+
+now() {
+  date +%s%3N
+}
+
+# Starts the application with the given JVM options and prints the milliseconds until ready
+time_to_ready() {
+  local started pid elapsed
+  started="$(now)"
+  (cd "${directory}" && exec "${java}" "$@" -jar "${jar}" --server.port="${port}" \
+    --spring.config.additional-location="optional:file:${module}/config/") \
+    > "${directory}/startup.log" 2>&1 &
+  pid=$!
+  until curl -fs "${readiness}" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "Application exited before it was ready, see ${directory}/startup.log" >&2
+      exit 1
+    fi
+    if (( $(now) - started > timeout * 1000 )); then
+      kill "${pid}"
+      echo "Application not ready after ${timeout}s, see ${directory}/startup.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now) - started ))
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  echo "${elapsed}"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END {
+    print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2)
+  }'
+}
+
+declare -a without with
+for run in $(seq 1 "${runs}"); do
+  without+=("$(time_to_ready -Xshare:auto)")
+  with+=("$(time_to_ready "${archive_option}")")
+  echo "run ${run}: ${without[-1]} ms without the archive, ${with[-1]} ms with it"
+done
+
+baseline="$(printf '%s\n' "${without[@]}" | median)"
+archived="$(printf '%s\n' "${with[@]}" | median)"
+echo "median time to ready: ${baseline} ms without the archive, ${archived} ms with it" \
+  "($(( (baseline - archived) * 100 / baseline ))% faster)"
@@ -30,4 +30,16 @@ public class BackendConstants {
    */
   public static final String NOCLIENT = "NOCLIENT";
 
+  /**
+   * HTTP header carrying the HMAC-signed internal principal forwarded to the legacy
+   * API when {@code ca.bc.gov.nrs.internal-principal.enabled} is set.
+   */
+  public static final String X_INTERNAL_PRINCIPAL = "X-HRS-Internal-Principal";
+
+  /**
+   * HTTP header set when a response was served from the legacy fallback cache because the legacy
+   * API was unavailable. Its value is the age of the cached data in seconds.
+   */
+  public static final String X_STALE = "X-HRS-Stale";
+
 }
@@ -0,0 +1,202 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Base class for bounded, per-user, write-through caches kept coherent across pods.
+ *
+ * <p>Entries are loaded lazily through {@link #load(String)} and kept in an access-ordered map
+ * that evicts the least recently used user once {@code maxUsers} is reached. Local writes are
+ * applied once the surrounding transaction commits, and a {@code pg_notify} is issued inside
+ * that same transaction so other pods, listening through {@link UserCacheInvalidationListener},
+ * drop their copy. Postgres only delivers notifications on commit, so rolled back changes never
+ * invalidate anything.</p>
+ *
+ * <p>A generation counter is bumped on every invalidation and committed write; a lazy load only
+ * publishes its result if the generation did not move while it was reading, so a load that
+ * raced with a change can never re-insert stale data.</p>
+ *
+ * @param <V> the immutable value cached per user
+ */
+@Slf4j
+abstract class AbstractUserCache<V> implements UserScopedCache {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final String channel;
+  private final Duration reconnectDelay;
+  private final String instanceId = UUID.randomUUID().toString();
+  private final AtomicLong generation = new AtomicLong();
+  private final Map<String, V> entries;
+
+  protected AbstractUserCache(
+      JdbcTemplate jdbcTemplate,
+      boolean enabled,
+      int maxUsers,
+      String channel,
+      Duration reconnectDelay
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled && maxUsers > 0;
+    this.channel = channel;
+    this.reconnectDelay = reconnectDelay;
+    int bound = Math.max(0, maxUsers);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > bound;
+      }
+    };
+  }
+
+  /**
+   * Whether values are being cached.
+   *
+   * @return {@code true} when enabled and bounded to at least one user
+   */
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Return the value of a user, loading it from the database when not cached.
+   *
+   * @param userId the user identifier
+   * @return the user's value; never null
+   */
+  public V get(String userId) {
+    if (!enabled) {
+      return load(userId);
+    }
+
+    synchronized (entries) {
+      V cached = entries.get(userId);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    // Load outside the lock; only publish it if nothing was invalidated meanwhile
+    long observed = generation.get();
+    V loaded = load(userId);
+    synchronized (entries) {
+      if (generation.get() == observed) {
+        entries.putIfAbsent(userId, loaded);
+      }
+    }
+    return loaded;
+  }
+
+  @Override
+  public void invalidate(String userId) {
+    synchronized (entries) {
+      generation.incrementAndGet();
+      entries.remove(userId);
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    synchronized (entries) {
+      generation.incrementAndGet();
+      entries.clear();
+    }
+  }
+
+  /**
+   * Number of users currently cached.
+   *
+   * @return the cache size
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  @Override
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  @Override
+  public String getChannel() {
+    return channel;
+  }
+
+  @Override
+  public Duration getReconnectDelay() {
+    return reconnectDelay;
+  }
+
+  /**
+   * Load the current value of a user from the database.
+   *
+   * @param userId the user identifier
+   * @return the value; never null
+   */
+  protected abstract V load(String userId);
+
+  /**
+   * Notify other pods of a change and apply it locally once the transaction commits.
+   *
+   * @param userId     the user identifier
+   * @param update     applied to the cached value when present
+   * @param whenAbsent stored when the user is not cached; {@code null} to leave it absent
+   */
+  protected void changed(String userId, UnaryOperator<V> update, V whenAbsent) {
+    if (!enabled) {
+      return;
+    }
+
+    publish(userId);
+    afterCommit(() -> {
+      synchronized (entries) {
+        // Also discards any concurrent load that may have read pre-commit data
+        generation.incrementAndGet();
+        entries.compute(
+            userId,
+            (key, current) -> current != null ? update.apply(current) : whenAbsent
+        );
+      }
+    });
+  }
+
+  private void publish(String userId) {
+    try {
+      jdbcTemplate.query(
+          "SELECT pg_notify(?, ?)",
+          rs -> null,
+          channel,
+          instanceId + ":" + userId
+      );
+    } catch (RuntimeException e) {
+      log.warn("Unable to publish {} change for user {}: {}", channel, userId, e.getMessage());
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          }
+      );
+    } else {
+      action.run();
+    }
+  }
+}
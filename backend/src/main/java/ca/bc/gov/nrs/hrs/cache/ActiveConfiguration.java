@@ -0,0 +1,136 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, pre-indexed snapshot of a single district volume or species composition entry.
+ *
+ * <p>The zones, sections and species rows of the JSONB table are flattened once into compact,
+ * fixed-point tables keyed by upper-cased district code, so a lookup for a district is a binary
+ * search over a handful of codes instead of a walk over the whole table, and only the row that
+ * is returned is decoded back into {@link BigDecimal}s.</p>
+ *
+ * @param id               the entry identifier
+ * @param configType       the configuration type
+ * @param area             the geographic area
+ * @param startDate        first day the entry applies
+ * @param endDate          last day the entry applies, or {@code null} when open-ended
+ * @param tableLevelFactor the table level factor
+ * @param heliMultiplier   the helicopter multiplier (coastal only)
+ * @param districts        district volume rows
+ * @param speciesRows      species composition rows
+ */
+public record ActiveConfiguration(
+    Long id,
+    ConfigType configType,
+    Area area,
+    LocalDate startDate,
+    LocalDate endDate,
+    BigDecimal tableLevelFactor,
+    BigDecimal heliMultiplier,
+    CompactDistrictTable districts,
+    CompactSpeciesTable speciesRows
+) {
+
+  /**
+   * Replaces missing tables with empty ones.
+   */
+  public ActiveConfiguration {
+    districts = districts == null ? CompactDistrictTable.EMPTY : districts;
+    speciesRows = speciesRows == null ? CompactSpeciesTable.EMPTY : speciesRows;
+  }
+
+  /**
+   * Build a snapshot from a persisted entry, indexing its table rows by district code.
+   *
+   * @param entity the district volume entity
+   * @return the indexed snapshot
+   */
+  public static ActiveConfiguration from(DistrictVolumeEntity entity) {
+    TableData tableData = entity.getTableData();
+    CompactDistrictTable districts = CompactDistrictTable.EMPTY;
+    CompactSpeciesTable speciesRows = CompactSpeciesTable.EMPTY;
+
+    if (tableData != null) {
+      districts = CompactDistrictTable.of(
+          Stream.concat(
+              Optional.ofNullable(tableData.zones()).stream()
+                  .flatMap(List::stream)
+                  .flatMap(zone -> streamOf(zone.districts())),
+              Optional.ofNullable(tableData.sections()).stream()
+                  .flatMap(List::stream)
+                  .flatMap(section -> streamOf(section.districts()))
+          )
+      );
+      speciesRows = CompactSpeciesTable.of(streamOf(tableData.speciesRows()));
+    }
+
+    return new ActiveConfiguration(
+        entity.getId(),
+        entity.getConfigType(),
+        entity.getArea(),
+        entity.getStartDate(),
+        entity.getEndDate(),
+        entity.getTableLevelFactor(),
+        entity.getHeliMultiplier(),
+        districts,
+        speciesRows
+    );
+  }
+
+  /**
+   * Whether the entry applies on the given date.
+   *
+   * @param date the date to check
+   * @return {@code true} when the date falls within the start and end dates, inclusive
+   */
+  public boolean covers(LocalDate date) {
+    return !date.isBefore(startDate) && (endDate == null || !date.isAfter(endDate));
+  }
+
+  /**
+   * Find the district volume row for a district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return the matching row, if any
+   */
+  public Optional<DistrictRow> district(String districtCode) {
+    int row = districts.row(districtCode);
+    return row < 0 ? Optional.empty() : Optional.of(districts.toRow(row));
+  }
+
+  /**
+   * Find the species composition row for a district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return the matching row, if any
+   */
+  public Optional<SpeciesCompositionRow> speciesRow(String districtCode) {
+    int row = speciesRows.row(districtCode);
+    return row < 0 ? Optional.empty() : Optional.of(speciesRows.toRow(row));
+  }
+
+  /**
+   * Whether the entry holds a district volume or species composition row for the district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return {@code true} when a row exists
+   */
+  public boolean containsDistrict(String districtCode) {
+    return districts.row(districtCode) >= 0 || speciesRows.row(districtCode) >= 0;
+  }
+
+  private static <T> Stream<T> streamOf(List<T> values) {
+    return values == null ? Stream.empty() : values.stream();
+  }
+}
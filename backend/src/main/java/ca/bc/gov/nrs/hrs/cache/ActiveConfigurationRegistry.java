@@ -0,0 +1,241 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.ActiveConfigurationRegistryConfiguration;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory registry of the live district volume and species composition timelines.
+ *
+ * <p>For every ({@link ConfigType}, {@link Area}) pair the registry holds an immutable
+ * {@link ConfigurationTimeline} plus the entry that applies today, resolved ahead of time. Asking
+ * for the active configuration is therefore a map lookup, and asking for a district row within it
+ * is one more.</p>
+ *
+ * <p>Timelines are loaded on startup and lazily on first access, reloaded after a local create
+ * or delete commits, and reloaded on a fixed delay so changes made by other pods are picked up.
+ * The active entry is re-resolved at midnight from the in-memory timeline, so the switch to a
+ * new configuration does not wait for, or depend on, a request hitting the database.</p>
+ *
+ * <p>When disabled nothing is preloaded or reloaded and every lookup goes to the repository;
+ * callers that only need district membership should check {@link #isEnabled()} and use the
+ * database-side district code queries instead.</p>
+ */
+@Component
+@Slf4j
+public class ActiveConfigurationRegistry {
+
+  private final DistrictVolumeRepository repository;
+  private final Clock clock;
+  private final boolean enabled;
+  private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the registry using the system clock.
+   *
+   * @param repository    repository used to load the timelines
+   * @param configuration application configuration holding the registry settings
+   */
+  @Autowired
+  public ActiveConfigurationRegistry(
+      DistrictVolumeRepository repository,
+      HrsConfiguration configuration
+  ) {
+    this(
+        repository,
+        Clock.systemDefaultZone(),
+        Optional
+            .ofNullable(configuration.getActiveConfiguration())
+            .orElseGet(ActiveConfigurationRegistryConfiguration::new)
+            .isEnabled()
+    );
+  }
+
+  ActiveConfigurationRegistry(DistrictVolumeRepository repository, Clock clock) {
+    this(repository, clock, true);
+  }
+
+  ActiveConfigurationRegistry(DistrictVolumeRepository repository, Clock clock, boolean enabled) {
+    this.repository = repository;
+    this.clock = clock;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Whether timelines are held in memory.
+   *
+   * @return {@code true} when the registry caches timelines
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Return the configuration that applies today.
+   *
+   * @param configType the configuration type
+   * @param area       the geographic area
+   * @return the active configuration, if any
+   */
+  public Optional<ActiveConfiguration> active(ConfigType configType, Area area) {
+    return at(configType, area, LocalDate.now(clock));
+  }
+
+  /**
+   * Return the configuration that applies on the given date.
+   *
+   * @param configType the configuration type
+   * @param area       the geographic area
+   * @param date       the date to resolve
+   * @return the configuration covering the date, if any
+   */
+  public Optional<ActiveConfiguration> at(ConfigType configType, Area area, LocalDate date) {
+    if (!enabled) {
+      return load(new Key(configType, area)).at(date);
+    }
+    Snapshot snapshot = current(new Key(configType, area));
+    if (date.equals(snapshot.asOf())) {
+      return Optional.ofNullable(snapshot.active());
+    }
+    return snapshot.timeline().at(date);
+  }
+
+  /**
+   * Reload the timeline for the pair once the current transaction commits, or immediately when
+   * there is no transaction.
+   *
+   * @param configType the configuration type that changed
+   * @param area       the geographic area that changed
+   */
+  public void refresh(ConfigType configType, Area area) {
+    if (!enabled) {
+      return;
+    }
+    Key key = new Key(configType, area);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          reload(key);
+        }
+      });
+    } else {
+      reload(key);
+    }
+  }
+
+  /**
+   * Reload every timeline from the database. Runs on startup and on a fixed delay.
+   *
+   * <p>A failed reload keeps the previous timeline, which is still correct for everything but
+   * changes made by other pods since the last successful reload.</p>
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${ca.bc.gov.nrs.active-configuration.refresh-interval:5m}",
+      fixedDelayString = "${ca.bc.gov.nrs.active-configuration.refresh-interval:5m}"
+  )
+  public void reloadAll() {
+    if (!enabled) {
+      return;
+    }
+    for (ConfigType configType : ConfigType.values()) {
+      for (Area area : Area.values()) {
+        try {
+          reload(new Key(configType, area));
+        } catch (RuntimeException e) {
+          log.warn("Unable to reload {} {} configuration timeline", configType, area, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Re-resolve the active entry of every loaded timeline for the new day, without querying the
+   * database.
+   */
+  @Scheduled(
+      cron = "${ca.bc.gov.nrs.active-configuration.rollover-cron:0 0 0 * * *}"
+  )
+  public void rollover() {
+    LocalDate today = LocalDate.now(clock);
+    snapshots.replaceAll((key, snapshot) -> {
+      Snapshot rolled = Snapshot.of(snapshot.timeline(), today);
+      if (!Objects.equals(id(snapshot), id(rolled))) {
+        log.info("Active {} {} configuration is now {}", key.configType(), key.area(), id(rolled));
+      }
+      return rolled;
+    });
+  }
+
+  private Snapshot current(Key key) {
+    LocalDate today = LocalDate.now(clock);
+    Snapshot snapshot = snapshots.computeIfAbsent(
+        key,
+        missing -> Snapshot.of(load(missing), today));
+    if (!today.equals(snapshot.asOf())) {
+      // The rollover has not run yet for this pair, resolve the new day on the spot.
+      snapshot = snapshots.compute(
+          key,
+          (ignored, previous) -> previous != null && today.equals(previous.asOf())
+              ? previous
+              : Snapshot.of(
+                  previous == null ? load(key) : previous.timeline(),
+                  today
+              )
+      );
+    }
+    return snapshot;
+  }
+
+  private void reload(Key key) {
+    ConfigurationTimeline timeline = load(key);
+    snapshots.put(key, Snapshot.of(timeline, LocalDate.now(clock)));
+    log.debug("Loaded {} {} configuration timeline with {} entries",
+        key.configType(), key.area(), timeline.size());
+  }
+
+  private ConfigurationTimeline load(Key key) {
+    return ConfigurationTimeline.of(
+        repository
+            .findAllLiveByConfigTypeAndAreaOrderByStartDate(key.configType(), key.area())
+            .stream()
+            .map(ActiveConfiguration::from)
+            .toList()
+    );
+  }
+
+  private static Long id(Snapshot snapshot) {
+    return snapshot.active() == null ? null : snapshot.active().id();
+  }
+
+  private record Key(ConfigType configType, Area area) {
+  }
+
+  private record Snapshot(
+      ConfigurationTimeline timeline,
+      LocalDate asOf,
+      ActiveConfiguration active
+  ) {
+
+    static Snapshot of(ConfigurationTimeline timeline, LocalDate asOf) {
+      return new Snapshot(timeline, asOf, timeline.at(asOf).orElse(null));
+    }
+  }
+}
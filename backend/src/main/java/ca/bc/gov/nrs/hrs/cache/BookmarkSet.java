@@ -0,0 +1,173 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable set of bookmarked reporting unit ids backed by a sorted primitive {@code long[]}.
+ *
+ * <p>Membership checks are a binary search over the array, so a user with thousands of
+ * bookmarks costs a few kilobytes instead of one boxed {@link Long} and map entry per id.
+ * Bookmarks change rarely, so {@link #with(long)} and {@link #without(long)} return a new copy
+ * instead of mutating in place, which keeps instances safe to share across request threads.</p>
+ */
+public final class BookmarkSet {
+
+  private static final BookmarkSet EMPTY = new BookmarkSet(new long[0]);
+
+  private final long[] ids;
+
+  private BookmarkSet(long[] ids) {
+    this.ids = ids;
+  }
+
+  /**
+   * Return the shared empty set.
+   *
+   * @return an empty {@link BookmarkSet}
+   */
+  public static BookmarkSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Build a set from the supplied ids, ignoring nulls and duplicates.
+   *
+   * @param values the reporting unit ids
+   * @return a new {@link BookmarkSet}
+   */
+  public static BookmarkSet of(Collection<Long> values) {
+    if (values == null || values.isEmpty()) {
+      return EMPTY;
+    }
+    long[] sorted = values
+        .stream()
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .sorted()
+        .distinct()
+        .toArray();
+    return sorted.length == 0 ? EMPTY : new BookmarkSet(sorted);
+  }
+
+  /**
+   * Check whether the given id is part of the set.
+   *
+   * @param id the reporting unit id
+   * @return {@code true} when present
+   */
+  public boolean contains(long id) {
+    return Arrays.binarySearch(ids, id) >= 0;
+  }
+
+  /**
+   * Return a copy of this set including the given id.
+   *
+   * @param id the reporting unit id to add
+   * @return this instance when already present, otherwise a new set
+   */
+  public BookmarkSet with(long id) {
+    int index = Arrays.binarySearch(ids, id);
+    if (index >= 0) {
+      return this;
+    }
+    int insertion = -index - 1;
+    long[] copy = new long[ids.length + 1];
+    System.arraycopy(ids, 0, copy, 0, insertion);
+    copy[insertion] = id;
+    System.arraycopy(ids, insertion, copy, insertion + 1, ids.length - insertion);
+    return new BookmarkSet(copy);
+  }
+
+  /**
+   * Return a copy of this set without the given id.
+   *
+   * @param id the reporting unit id to remove
+   * @return this instance when absent, otherwise a new set
+   */
+  public BookmarkSet without(long id) {
+    int index = Arrays.binarySearch(ids, id);
+    if (index < 0) {
+      return this;
+    }
+    if (ids.length == 1) {
+      return EMPTY;
+    }
+    long[] copy = new long[ids.length - 1];
+    System.arraycopy(ids, 0, copy, 0, index);
+    System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+    return new BookmarkSet(copy);
+  }
+
+  /**
+   * Return a copy of this set including all the given ids.
+   *
+   * @param values the reporting unit ids to add
+   * @return this instance when nothing changes, otherwise a new set
+   */
+  public BookmarkSet withAll(Collection<Long> values) {
+    if (values == null || values.isEmpty()) {
+      return this;
+    }
+    long[] merged = LongStream
+        .concat(
+            Arrays.stream(ids),
+            values.stream().filter(Objects::nonNull).mapToLong(Long::longValue)
+        )
+        .sorted()
+        .distinct()
+        .toArray();
+    return merged.length == ids.length ? this : new BookmarkSet(merged);
+  }
+
+  /**
+   * Return a copy of this set without any of the given ids.
+   *
+   * @param values the reporting unit ids to remove
+   * @return this instance when nothing changes, otherwise a new set
+   */
+  public BookmarkSet withoutAll(Collection<Long> values) {
+    if (values == null || values.isEmpty() || ids.length == 0) {
+      return this;
+    }
+    BookmarkSet removed = of(values);
+    long[] remaining = Arrays
+        .stream(ids)
+        .filter(id -> !removed.contains(id))
+        .toArray();
+    if (remaining.length == ids.length) {
+      return this;
+    }
+    return remaining.length == 0 ? EMPTY : new BookmarkSet(remaining);
+  }
+
+  /**
+   * Number of ids in the set.
+   *
+   * @return the set size
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Whether the set has no ids.
+   *
+   * @return {@code true} when empty
+   */
+  public boolean isEmpty() {
+    return ids.length == 0;
+  }
+
+  /**
+   * Return the ids as a boxed list in ascending order.
+   *
+   * @return an immutable list of reporting unit ids
+   */
+  public List<Long> toList() {
+    return Arrays.stream(ids).boxed().toList();
+  }
+}
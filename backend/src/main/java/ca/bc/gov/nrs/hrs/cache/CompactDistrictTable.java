@@ -0,0 +1,133 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import java.math.BigDecimal;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Struct-of-arrays, fixed-point copy of the district rows of one district volume table.
+ *
+ * <p>Each {@link Column} is a {@code long[]} of {@link FixedPoint} values, indexed by the row of
+ * the district. A lookup only resolves the row index; values are decoded one cell at a time,
+ * through {@link #decimal(int, Column)} or {@link #toRow(int)}, when a row has to leave the
+ * service as a DTO.</p>
+ */
+public final class CompactDistrictTable {
+
+  static final CompactDistrictTable EMPTY =
+      new CompactDistrictTable(DistrictCodeIndex.EMPTY, new long[Column.COUNT][0]);
+
+  /**
+   * The volume columns of a district row.
+   */
+  public enum Column {
+    AVOIDABLE_SAWLOG(DistrictRow::avoidableSawlog),
+    AVOIDABLE_GRADE_4(DistrictRow::avoidableGrade4),
+    UNAVOIDABLE_GRADE_4(DistrictRow::unavoidableGrade4),
+    AVOIDABLE_HEMBAL_GRADE_U(DistrictRow::avoidableHembalGradeU),
+    AVOIDABLE_GRADE_Y(DistrictRow::avoidableGradeY),
+    UNAVOIDABLE(DistrictRow::unavoidable),
+    TOTAL(DistrictRow::total);
+
+    private static final int COUNT = values().length;
+
+    private final Function<DistrictRow, BigDecimal> value;
+
+    Column(Function<DistrictRow, BigDecimal> value) {
+      this.value = value;
+    }
+  }
+
+  private final DistrictCodeIndex index;
+  private final long[][] columns;
+
+  private CompactDistrictTable(DistrictCodeIndex index, long[][] columns) {
+    this.index = index;
+    this.columns = columns;
+  }
+
+  /**
+   * Build the table from the zone or section rows of a configuration.
+   *
+   * @param rows the district rows; rows without a district code are dropped and the first row of
+   *             a repeated code wins
+   * @return the compact table
+   */
+  public static CompactDistrictTable of(Stream<DistrictRow> rows) {
+    SortedMap<String, DistrictRow> byCode = DistrictCodeIndex.byCode(rows, DistrictRow::district);
+    if (byCode.isEmpty()) {
+      return EMPTY;
+    }
+
+    long[][] columns = new long[Column.COUNT][byCode.size()];
+    int row = 0;
+    for (DistrictRow districtRow : byCode.values()) {
+      for (Column column : Column.values()) {
+        columns[column.ordinal()][row] = FixedPoint.of(column.value.apply(districtRow));
+      }
+      row++;
+    }
+    return new CompactDistrictTable(DistrictCodeIndex.of(byCode, DistrictRow::district), columns);
+  }
+
+  /**
+   * Find the row of a district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return the row index, or {@code -1} when the district is not in the table
+   */
+  public int row(String districtCode) {
+    return index.indexOf(districtCode);
+  }
+
+  /**
+   * Number of districts in the table.
+   *
+   * @return the row count
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * The normalized district code of a row.
+   *
+   * @param row the row index
+   * @return the district code
+   */
+  public String code(int row) {
+    return index.code(row);
+  }
+
+  /**
+   * Read a value as a decimal.
+   *
+   * @param row    the row index
+   * @param column the column
+   * @return the value, or {@code null} when the cell is empty
+   */
+  public BigDecimal decimal(int row, Column column) {
+    return FixedPoint.toDecimal(columns[column.ordinal()][row]);
+  }
+
+  /**
+   * Rebuild the original row, for use at the API edge.
+   *
+   * @param row the row index
+   * @return the district row, with every value at a scale of {@link FixedPoint#SCALE}
+   */
+  public DistrictRow toRow(int row) {
+    return new DistrictRow(
+        index.district(row),
+        decimal(row, Column.AVOIDABLE_SAWLOG),
+        decimal(row, Column.AVOIDABLE_GRADE_4),
+        decimal(row, Column.UNAVOIDABLE_GRADE_4),
+        decimal(row, Column.AVOIDABLE_HEMBAL_GRADE_U),
+        decimal(row, Column.AVOIDABLE_GRADE_Y),
+        decimal(row, Column.UNAVOIDABLE),
+        decimal(row, Column.TOTAL)
+    );
+  }
+}
@@ -0,0 +1,112 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Stream;
+
+/**
+ * Struct-of-arrays, fixed-point copy of a species composition matrix.
+ *
+ * <p>Species codes are interned once per table and given an index in the order they first
+ * appear. The percentages live in a single row-major {@code long[]} of {@link FixedPoint}
+ * values instead of one map of {@link BigDecimal}s per district; a row is only decoded, through
+ * {@link #toRow(int)}, when it has to leave the service.</p>
+ */
+public final class CompactSpeciesTable {
+
+  static final CompactSpeciesTable EMPTY =
+      new CompactSpeciesTable(DistrictCodeIndex.EMPTY, new String[0], new long[0]);
+
+  private final DistrictCodeIndex index;
+  private final String[] species;
+  private final long[] values;
+
+  private CompactSpeciesTable(DistrictCodeIndex index, String[] species, long[] values) {
+    this.index = index;
+    this.species = species;
+    this.values = values;
+  }
+
+  /**
+   * Build the table from the species composition rows of a configuration.
+   *
+   * @param rows the species rows; rows without a district code are dropped and the first row of
+   *             a repeated code wins
+   * @return the compact table
+   */
+  public static CompactSpeciesTable of(Stream<SpeciesCompositionRow> rows) {
+    SortedMap<String, SpeciesCompositionRow> byCode =
+        DistrictCodeIndex.byCode(rows, SpeciesCompositionRow::district);
+    if (byCode.isEmpty()) {
+      return EMPTY;
+    }
+
+    LinkedHashSet<String> speciesCodes = new LinkedHashSet<>();
+    for (SpeciesCompositionRow row : byCode.values()) {
+      if (row.species() != null) {
+        row.species().keySet().forEach(code -> speciesCodes.add(code.intern()));
+      }
+    }
+    String[] species = speciesCodes.toArray(String[]::new);
+
+    long[] values = new long[byCode.size() * species.length];
+    Arrays.fill(values, FixedPoint.ABSENT);
+    int row = 0;
+    for (SpeciesCompositionRow speciesRow : byCode.values()) {
+      if (speciesRow.species() != null) {
+        for (int column = 0; column < species.length; column++) {
+          values[row * species.length + column] =
+              FixedPoint.of(speciesRow.species().get(species[column]));
+        }
+      }
+      row++;
+    }
+
+    return new CompactSpeciesTable(
+        DistrictCodeIndex.of(byCode, SpeciesCompositionRow::district),
+        species,
+        values
+    );
+  }
+
+  /**
+   * Find the row of a district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return the row index, or {@code -1} when the district is not in the table
+   */
+  public int row(String districtCode) {
+    return index.indexOf(districtCode);
+  }
+
+  /**
+   * Number of districts in the table.
+   *
+   * @return the row count
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Rebuild the original row, for use at the API edge.
+   *
+   * @param row the row index
+   * @return the species composition row, with every value at a scale of {@link FixedPoint#SCALE}
+   */
+  public SpeciesCompositionRow toRow(int row) {
+    Map<String, BigDecimal> percentages = new LinkedHashMap<>();
+    for (int column = 0; column < species.length; column++) {
+      long value = values[row * species.length + column];
+      if (FixedPoint.isPresent(value)) {
+        percentages.put(species[column], FixedPoint.toDecimal(value));
+      }
+    }
+    return new SpeciesCompositionRow(index.district(row), percentages);
+  }
+}
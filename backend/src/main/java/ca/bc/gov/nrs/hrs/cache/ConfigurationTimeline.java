@@ -0,0 +1,81 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, start-date ordered timeline of the live entries for one configuration type and
+ * area.
+ *
+ * <p>Lookups for arbitrary dates are a binary search over the start dates. The registry keeps
+ * the entry for the current day resolved ahead of time, so the common "what applies today"
+ * question never reaches this class.</p>
+ */
+final class ConfigurationTimeline {
+
+  private static final ConfigurationTimeline EMPTY = new ConfigurationTimeline(List.of());
+
+  private final List<ActiveConfiguration> entries;
+  private final LocalDate[] startDates;
+
+  private ConfigurationTimeline(List<ActiveConfiguration> entries) {
+    this.entries = entries;
+    this.startDates = entries
+        .stream()
+        .map(ActiveConfiguration::startDate)
+        .toArray(LocalDate[]::new);
+  }
+
+  /**
+   * Build a timeline from the supplied entries, in any order.
+   *
+   * @param entries the live entries
+   * @return a new timeline
+   */
+  static ConfigurationTimeline of(List<ActiveConfiguration> entries) {
+    if (entries == null || entries.isEmpty()) {
+      return EMPTY;
+    }
+    return new ConfigurationTimeline(
+        entries
+            .stream()
+            .sorted(Comparator.comparing(ActiveConfiguration::startDate))
+            .toList()
+    );
+  }
+
+  /**
+   * Find the entry that applies on the given date.
+   *
+   * @param date the date to resolve
+   * @return the entry covering the date, if any
+   */
+  Optional<ActiveConfiguration> at(LocalDate date) {
+    int low = 0;
+    int high = startDates.length - 1;
+    int found = -1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (startDates[middle].isAfter(date)) {
+        high = middle - 1;
+      } else {
+        found = middle;
+        low = middle + 1;
+      }
+    }
+    return found < 0
+        ? Optional.empty()
+        : Optional.of(entries.get(found)).filter(entry -> entry.covers(date));
+  }
+
+  /**
+   * Number of entries in the timeline.
+   *
+   * @return the timeline size
+   */
+  int size() {
+    return entries.size();
+  }
+}
@@ -0,0 +1,164 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.DetailCacheConfiguration;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bounded cache of serialized district volume and species composition detail responses.
+ *
+ * <p>Entries are keyed by configuration type and id and stamped with the {@code updated_at} of
+ * the row they were built from. Callers look an entry up with the current {@code updated_at},
+ * which is a single indexed column read; any write to the row, including closing it or soft
+ * deleting it, moves that timestamp and so misses the cache on every pod without further
+ * coordination. Local writes also evict their entries once they commit, so superseded bodies do
+ * not linger until they age out.</p>
+ *
+ * <p>The entity tag is a digest of the serialized bytes, so it is strong and changes whenever
+ * the response would, including after a change to the DTO shape.</p>
+ */
+@Component
+public class DetailResponseCache {
+
+  private final JsonMapper jsonMapper;
+  private final boolean enabled;
+  private final Map<Key, SerializedDetail> entries;
+
+  /**
+   * Creates the cache.
+   *
+   * @param configuration application configuration holding the detail cache settings
+   * @param jsonMapper    mapper used to serialize the detail DTOs, the same one used by MVC
+   */
+  @Autowired
+  public DetailResponseCache(HrsConfiguration configuration, JsonMapper jsonMapper) {
+    this(
+        jsonMapper,
+        Optional
+            .ofNullable(configuration.getDetailCache())
+            .orElseGet(DetailCacheConfiguration::new)
+    );
+  }
+
+  DetailResponseCache(JsonMapper jsonMapper, DetailCacheConfiguration configuration) {
+    this.jsonMapper = jsonMapper;
+    this.enabled = configuration.isEnabled() && configuration.getMaxEntries() > 0;
+    int bound = Math.max(0, configuration.getMaxEntries());
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, SerializedDetail> eldest) {
+        return size() > bound;
+      }
+    };
+  }
+
+  /**
+   * Return the cached body for the row, if it was built from the given revision.
+   *
+   * @param configType the configuration type
+   * @param id         the configuration id
+   * @param updatedAt  the current {@code updated_at} of the row
+   * @return the cached body, or empty on a miss or when the cached body is outdated
+   */
+  public Optional<SerializedDetail> get(ConfigType configType, Long id, LocalDateTime updatedAt) {
+    if (!enabled || updatedAt == null) {
+      return Optional.empty();
+    }
+    synchronized (entries) {
+      return Optional
+          .ofNullable(entries.get(new Key(configType, id)))
+          .filter(cached -> updatedAt.equals(cached.updatedAt()));
+    }
+  }
+
+  /**
+   * Serialize a detail DTO and cache it under the revision it was built from.
+   *
+   * <p>An entry built from a newer revision is never replaced by an older one.</p>
+   *
+   * @param configType the configuration type
+   * @param id         the configuration id
+   * @param updatedAt  the {@code updated_at} of the row the DTO was built from
+   * @param detail     the detail DTO
+   * @return the serialized body and its entity tag
+   */
+  public SerializedDetail put(
+      ConfigType configType,
+      Long id,
+      LocalDateTime updatedAt,
+      Object detail
+  ) {
+    byte[] body = jsonMapper.writeValueAsBytes(detail);
+    SerializedDetail serialized = new SerializedDetail(
+        updatedAt,
+        body,
+        "\"" + DigestUtils.md5DigestAsHex(body) + "\""
+    );
+    if (enabled && updatedAt != null) {
+      synchronized (entries) {
+        entries.merge(
+            new Key(configType, id),
+            serialized,
+            (previous, current) -> previous.updatedAt().isAfter(current.updatedAt())
+                ? previous
+                : current
+        );
+      }
+    }
+    return serialized;
+  }
+
+  /**
+   * Drop the cached body of a row once the current transaction commits, or immediately when
+   * there is no transaction.
+   *
+   * @param configType the configuration type
+   * @param id         the configuration id
+   */
+  public void evict(ConfigType configType, Long id) {
+    if (!enabled || id == null) {
+      return;
+    }
+    Key key = new Key(configType, id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          remove(key);
+        }
+      });
+    } else {
+      remove(key);
+    }
+  }
+
+  /**
+   * Number of bodies currently cached.
+   *
+   * @return the entry count
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private void remove(Key key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  private record Key(ConfigType configType, Long id) {
+  }
+}
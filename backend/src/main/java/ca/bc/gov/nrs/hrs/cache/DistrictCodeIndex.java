@@ -0,0 +1,112 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Sorted, interned district codes that give every row of a compact table its index.
+ *
+ * <p>Finding a row is a binary search over a handful of codes and allocates nothing when the
+ * caller already passes a trimmed, upper-cased code.</p>
+ */
+final class DistrictCodeIndex {
+
+  static final DistrictCodeIndex EMPTY =
+      new DistrictCodeIndex(new String[0], new CodeDescriptionDto[0]);
+
+  private final String[] codes;
+  private final CodeDescriptionDto[] districts;
+
+  private DistrictCodeIndex(String[] codes, CodeDescriptionDto[] districts) {
+    this.codes = codes;
+    this.districts = districts;
+  }
+
+  /**
+   * Index the rows by normalized district code. Rows without a code are dropped and, when a code
+   * repeats, the first row wins.
+   *
+   * @param rows     the table rows
+   * @param district extracts the district of a row
+   * @param <T>      the row type
+   * @return the rows keyed and ordered by normalized district code
+   */
+  static <T> SortedMap<String, T> byCode(
+      Stream<T> rows,
+      Function<T, CodeDescriptionDto> district
+  ) {
+    SortedMap<String, T> indexed = new TreeMap<>();
+    rows.forEach(row -> {
+      CodeDescriptionDto code = row == null ? null : district.apply(row);
+      String key = code == null ? null : normalize(code.code());
+      if (key != null) {
+        indexed.putIfAbsent(key.intern(), row);
+      }
+    });
+    return indexed;
+  }
+
+  /**
+   * Build the index over codes produced by {@link #byCode(Stream, Function)}.
+   *
+   * @param rows     the rows keyed and ordered by normalized district code
+   * @param district extracts the district of a row
+   * @param <T>      the row type
+   * @return the index
+   */
+  static <T> DistrictCodeIndex of(
+      SortedMap<String, T> rows,
+      Function<T, CodeDescriptionDto> district
+  ) {
+    if (rows.isEmpty()) {
+      return EMPTY;
+    }
+    return new DistrictCodeIndex(
+        rows.keySet().toArray(String[]::new),
+        rows.values().stream().map(district).toArray(CodeDescriptionDto[]::new)
+    );
+  }
+
+  /**
+   * Trim and upper-case a district code.
+   *
+   * @param districtCode the district code as received
+   * @return the normalized code, or {@code null} when blank
+   */
+  static String normalize(String districtCode) {
+    return StringUtils.isBlank(districtCode) ? null : districtCode.trim().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * Find the row of a district.
+   *
+   * @param districtCode the district code, case-insensitive
+   * @return the row index, or {@code -1} when the district is not in the table
+   */
+  int indexOf(String districtCode) {
+    String code = normalize(districtCode);
+    if (code == null) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(codes, code);
+    return index < 0 ? -1 : index;
+  }
+
+  int size() {
+    return codes.length;
+  }
+
+  String code(int row) {
+    return codes[row];
+  }
+
+  CodeDescriptionDto district(int row) {
+    return districts[row];
+  }
+}
@@ -0,0 +1,60 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point encoding used by the compact configuration tables.
+ *
+ * <p>Every district volume and species composition value is normalized to three decimal places
+ * on upload, so it is held exactly as a {@code long} scaled by 1000. Missing values are encoded as
+ * {@link #ABSENT}, which lies outside the range of any real table value.</p>
+ */
+public final class FixedPoint {
+
+  /**
+   * Number of decimal places held by a fixed-point value.
+   */
+  public static final int SCALE = 3;
+
+  /**
+   * Marker for a missing value.
+   */
+  public static final long ABSENT = Long.MIN_VALUE;
+
+  private FixedPoint() {
+  }
+
+  /**
+   * Encode a decimal, rounding half up to {@link #SCALE} decimal places.
+   *
+   * @param value the decimal, may be {@code null}
+   * @return the fixed-point value, or {@link #ABSENT} when {@code null}
+   * @throws ArithmeticException if the value does not fit in a {@code long}
+   */
+  public static long of(BigDecimal value) {
+    return value == null
+        ? ABSENT
+        : value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  /**
+   * Decode a fixed-point value.
+   *
+   * @param value the fixed-point value
+   * @return the decimal with a scale of {@link #SCALE}, or {@code null} when {@link #ABSENT}
+   */
+  public static BigDecimal toDecimal(long value) {
+    return value == ABSENT ? null : BigDecimal.valueOf(value, SCALE);
+  }
+
+  /**
+   * Whether the value is present.
+   *
+   * @param value the fixed-point value
+   * @return {@code false} when the value is {@link #ABSENT}
+   */
+  public static boolean isPresent(long value) {
+    return value != ABSENT;
+  }
+}
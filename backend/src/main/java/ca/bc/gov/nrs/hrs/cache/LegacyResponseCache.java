@@ -0,0 +1,303 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.BackendConstants;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.LegacyResponseCacheConfiguration;
+import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Bounded cache of successful legacy API reads, served as a stale fallback while the legacy API
+ * is unavailable.
+ *
+ * <p>Clients store every successful read. When a read later fails because its circuit breaker
+ * does not permit the call, or because of an I/O failure such as a timeout, the fallback asks
+ * for the stored response instead of answering with an empty one. A response older than the
+ * maximum staleness is never served. When one is, the {@link BackendConstants#X_STALE} header
+ * is set on the current response with the age in seconds, and the {@value #STALE_COUNTER}
+ * counter is incremented.</p>
+ *
+ * <p>Serving a stale response also revalidates it in the background, so the entry is fresh again
+ * as soon as the legacy API recovers. While its breaker is open the reload waits, and runs when
+ * the breaker moves to half-open, or to closed when the half-open breaker turned it away. The
+ * reload runs through the breaker with the security context of the request that triggered it,
+ * as legacy reads are authorized by the forwarded token, and only one reload per entry runs at a
+ * time.</p>
+ *
+ * <p>Reads whose result depends on the user, such as searches, are keyed by user as well.</p>
+ */
+@Slf4j
+@Component
+public class LegacyResponseCache {
+
+  /**
+   * Counter of responses served from the cache because the legacy API was unavailable.
+   */
+  public static final String STALE_COUNTER = "hrs.legacy.stale.responses";
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final boolean enabled;
+  private final Duration maxStaleness;
+  private final Map<Key, Entry> entries;
+  private final Set<Key> revalidating = ConcurrentHashMap.newKeySet();
+  private final Map<String, Map<Key, Runnable>> deferred = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the cache.
+   *
+   * @param configuration          application configuration holding the cache settings
+   * @param circuitBreakerRegistry registry of the breakers revalidations run through
+   * @param meterRegistry          registry the stale response counter is recorded in
+   */
+  @Autowired
+  public LegacyResponseCache(
+      HrsConfiguration configuration,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      MeterRegistry meterRegistry
+  ) {
+    this(
+        Optional
+            .ofNullable(configuration.getLegacyResponseCache())
+            .orElseGet(LegacyResponseCacheConfiguration::new),
+        circuitBreakerRegistry,
+        meterRegistry,
+        Clock.systemUTC()
+    );
+  }
+
+  LegacyResponseCache(
+      LegacyResponseCacheConfiguration configuration,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      MeterRegistry meterRegistry,
+      Clock clock
+  ) {
+    this.circuitBreakerRegistry = circuitBreakerRegistry;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.enabled = configuration.isEnabled() && configuration.getMaxEntries() > 0;
+    this.maxStaleness = configuration.getMaxStaleness();
+    int bound = Math.max(0, configuration.getMaxEntries());
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > bound;
+      }
+    };
+  }
+
+  /**
+   * Stores a successful read.
+   *
+   * @param key   the read key
+   * @param value the response, not stored when {@code null}
+   * @param <T>   the response type
+   * @return the response, for chaining
+   */
+  public <T> T store(Key key, T value) {
+    if (enabled && key != null && value != null) {
+      synchronized (entries) {
+        entries.put(key, new Entry(value, clock.instant()));
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Returns the stored response of a failed read, if the failure allows a stale answer.
+   *
+   * @param breaker the name of the circuit breaker protecting the read, or {@code null}
+   * @param key     the read key
+   * @param cause   the failure of the read
+   * @param loader  reloads the response, used to revalidate the entry in the background
+   * @param <T>     the response type
+   * @return the stored response, or empty when there is none recent enough or the failure is
+   *     not an unavailable legacy API
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Optional<T> stale(String breaker, Key key, Throwable cause, Supplier<T> loader) {
+    if (!enabled || key == null || !isUnavailable(cause)) {
+      return Optional.empty();
+    }
+
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+    if (entry == null) {
+      return Optional.empty();
+    }
+    Duration age = Duration.between(entry.storedAt(), clock.instant());
+    if (age.compareTo(maxStaleness) > 0) {
+      return Optional.empty();
+    }
+
+    log.warn("Serving {} from the fallback cache, {} old", key.operation(), age);
+    markStale(age);
+    Counter
+        .builder(STALE_COUNTER)
+        .description("Responses served from the legacy fallback cache")
+        .tag("operation", key.operation())
+        .register(meterRegistry)
+        .increment();
+    revalidate(breaker, key, loader);
+    return Optional.of((T) entry.value());
+  }
+
+  private static boolean isUnavailable(Throwable cause) {
+    return cause instanceof CallNotPermittedException
+        || cause instanceof ResourceAccessException;
+  }
+
+  private void markStale(Duration age) {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request
+        && request.getResponse() != null
+        && !request.getResponse().isCommitted()) {
+      request.getResponse().setHeader(BackendConstants.X_STALE, String.valueOf(age.toSeconds()));
+    }
+  }
+
+  private <T> void revalidate(String breaker, Key key, Supplier<T> loader) {
+    CircuitBreaker circuitBreaker =
+        breaker == null ? null : circuitBreakerRegistry.circuitBreaker(breaker);
+    Runnable reload = reloader(circuitBreaker, key, loader);
+    if (circuitBreaker == null || circuitBreaker.getState() != CircuitBreaker.State.OPEN) {
+      start(key, reload);
+      return;
+    }
+    defer(circuitBreaker, key, reload);
+    // the breaker may have left the open state before the reload was deferred
+    if (circuitBreaker.getState() != CircuitBreaker.State.OPEN) {
+      resume(circuitBreaker.getName());
+    }
+  }
+
+  private <T> Runnable reloader(CircuitBreaker circuitBreaker, Key key, Supplier<T> loader) {
+    return new DelegatingSecurityContextRunnable(
+        () -> reload(circuitBreaker, key, loader),
+        SecurityContextHolder.getContext()
+    );
+  }
+
+  private <T> void reload(CircuitBreaker circuitBreaker, Key key, Supplier<T> loader) {
+    boolean permitted = true;
+    try {
+      store(key, circuitBreaker == null
+          ? loader.get()
+          : circuitBreaker.executeSupplier(loader));
+    } catch (CallNotPermittedException exception) {
+      permitted = false;
+    } catch (RuntimeException exception) {
+      log.debug("Could not revalidate {}: {}", key.operation(), exception.getMessage());
+    } finally {
+      revalidating.remove(key);
+    }
+    if (!permitted) {
+      // a half-open breaker permits only a few calls, wait for its next transition
+      defer(circuitBreaker, key, reloader(circuitBreaker, key, loader));
+    }
+  }
+
+  private void start(Key key, Runnable reload) {
+    if (revalidating.add(key)) {
+      Thread
+          .ofVirtual()
+          .name("legacy-revalidate")
+          .start(reload);
+    }
+  }
+
+  private void defer(CircuitBreaker circuitBreaker, Key key, Runnable reload) {
+    String name = circuitBreaker.getName();
+    Map<Key, Runnable> reloads = deferred.get(name);
+    if (reloads == null) {
+      Map<Key, Runnable> created = new ConcurrentHashMap<>();
+      reloads = deferred.putIfAbsent(name, created);
+      if (reloads == null) {
+        reloads = created;
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+          CircuitBreaker.State state = event.getStateTransition().getToState();
+          if (state == CircuitBreaker.State.HALF_OPEN || state == CircuitBreaker.State.CLOSED) {
+            resume(name);
+          }
+        });
+      }
+    }
+    reloads.put(key, reload);
+  }
+
+  private void resume(String breaker) {
+    Map<Key, Runnable> reloads = deferred.getOrDefault(breaker, Map.of());
+    for (Key key : reloads.keySet()) {
+      Runnable reload = reloads.remove(key);
+      if (reload != null) {
+        start(key, reload);
+      }
+    }
+  }
+
+  /**
+   * Key of a cached read.
+   *
+   * @param operation the read operation, for example {@code search-expand}
+   * @param user      the user the response is specific to, or {@code null} when shared
+   * @param arguments the read arguments
+   */
+  public record Key(String operation, String user, List<Object> arguments) {
+
+    /**
+     * Creates the key of a read whose response is the same for every user.
+     *
+     * @param operation the read operation
+     * @param arguments the read arguments
+     * @return the key
+     */
+    public static Key shared(String operation, Object... arguments) {
+      return new Key(operation, null, Arrays.asList(arguments));
+    }
+
+    /**
+     * Creates the key of a read whose response depends on the current user.
+     *
+     * @param operation the read operation
+     * @param arguments the read arguments
+     * @return the key, or {@code null} when there is no authenticated user, so nothing is cached
+     */
+    public static Key forUser(String operation, Object... arguments) {
+      if (SecurityContextHolder.getContext().getAuthentication()
+          instanceof JwtAuthenticationToken token) {
+        return new Key(operation, JwtPrincipalUtil.getUserId(token), Arrays.asList(arguments));
+      }
+      return null;
+    }
+  }
+
+  private record Entry(Object value, Instant storedAt) {
+
+  }
+}
@@ -0,0 +1,15 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON body of a configuration detail response, serialized once and served as is.
+ *
+ * <p>The array is shared between requests and must not be modified.</p>
+ *
+ * @param updatedAt the {@code updated_at} of the row the body was built from
+ * @param body      the serialized JSON
+ * @param eTag      strong, quoted entity tag derived from the body
+ */
+public record SerializedDetail(LocalDateTime updatedAt, byte[] body, String eTag) {
+}
@@ -0,0 +1,115 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.BookmarkCacheConfiguration;
+import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntity;
+import ca.bc.gov.nrs.hrs.repository.UserBookmarkRepository;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory, per-user cache of bookmarked reporting unit ids.
+ *
+ * <p>Bookmark sets are loaded lazily from {@link UserBookmarkRepository} on first access and
+ * kept for at most {@link BookmarkCacheConfiguration#getMaxUsers()} users. Local writes are
+ * applied write-through once the surrounding transaction commits and other pods are told to
+ * drop their copy, as described in {@link AbstractUserCache}.</p>
+ *
+ * <p>When the cache is disabled every call goes straight to the repository.</p>
+ */
+@Component
+public class UserBookmarkCache extends AbstractUserCache<BookmarkSet> {
+
+  private final UserBookmarkRepository repository;
+
+  /**
+   * Creates the cache.
+   *
+   * @param configuration application configuration holding the bookmark cache settings
+   * @param repository    repository used to lazily load bookmark sets
+   * @param jdbcTemplate  template used to publish change notifications
+   */
+  @Autowired
+  public UserBookmarkCache(
+      HrsConfiguration configuration,
+      UserBookmarkRepository repository,
+      JdbcTemplate jdbcTemplate
+  ) {
+    this(
+        Optional
+            .ofNullable(configuration.getBookmarkCache())
+            .orElseGet(BookmarkCacheConfiguration::new),
+        repository,
+        jdbcTemplate
+    );
+  }
+
+  private UserBookmarkCache(
+      BookmarkCacheConfiguration configuration,
+      UserBookmarkRepository repository,
+      JdbcTemplate jdbcTemplate
+  ) {
+    super(
+        jdbcTemplate,
+        configuration.isEnabled(),
+        configuration.getMaxUsers(),
+        configuration.getChannel(),
+        configuration.getReconnectDelay()
+    );
+    this.repository = repository;
+  }
+
+  /**
+   * Record that a bookmark was added for the user.
+   *
+   * @param userId          the user identifier
+   * @param reportingUnitId the bookmarked reporting unit
+   */
+  public void added(String userId, long reportingUnitId) {
+    changed(userId, set -> set.with(reportingUnitId), null);
+  }
+
+  /**
+   * Record that a bookmark was removed for the user.
+   *
+   * @param userId          the user identifier
+   * @param reportingUnitId the un-bookmarked reporting unit
+   */
+  public void removed(String userId, long reportingUnitId) {
+    changed(userId, set -> set.without(reportingUnitId), null);
+  }
+
+  /**
+   * Record that several bookmarks were added for the user at once.
+   *
+   * @param userId           the user identifier
+   * @param reportingUnitIds the bookmarked reporting units
+   */
+  public void addedAll(String userId, Collection<Long> reportingUnitIds) {
+    changed(userId, set -> set.withAll(reportingUnitIds), null);
+  }
+
+  /**
+   * Record that several bookmarks were removed for the user at once.
+   *
+   * @param userId           the user identifier
+   * @param reportingUnitIds the un-bookmarked reporting units
+   */
+  public void removedAll(String userId, Collection<Long> reportingUnitIds) {
+    changed(userId, set -> set.withoutAll(reportingUnitIds), null);
+  }
+
+  @Override
+  protected BookmarkSet load(String userId) {
+    return BookmarkSet.of(
+        repository
+            .findByUserId(userId)
+            .stream()
+            .map(UserBookmarkEntity::getReportingUnitId)
+            .toList()
+    );
+  }
+}
@@ -0,0 +1,152 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listens on the Postgres notification channels of every enabled {@link UserScopedCache} and
+ * invalidates entries changed by other backend pods.
+ *
+ * <p>A single dedicated JDBC connection, outside the Hikari pool, is opened for all
+ * {@code LISTEN}s so the small application pool is not reduced and leak detection is not
+ * tripped. Payloads are {@code <instanceId>:<userId>}; notifications published by the receiving
+ * cache itself are ignored because it was already updated write-through. Whenever the connection
+ * is lost every cache is cleared, since notifications may have been missed, and the listener
+ * reconnects after the shortest configured delay.</p>
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidationListener implements SmartLifecycle {
+
+  private static final int POLL_TIMEOUT_MILLIS = 5_000;
+
+  private final Map<String, UserScopedCache> caches;
+  private final String url;
+  private final String username;
+  private final String password;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  /**
+   * Creates the listener.
+   *
+   * @param caches   the caches to keep coherent; disabled ones are skipped
+   * @param url      the Postgres JDBC url
+   * @param username the database username
+   * @param password the database password
+   */
+  public UserCacheInvalidationListener(
+      List<UserScopedCache> caches,
+      @Value("${spring.datasource.url}") String url,
+      @Value("${spring.datasource.username}") String username,
+      @Value("${spring.datasource.password}") String password
+  ) {
+    this.caches = caches
+        .stream()
+        .filter(UserScopedCache::isEnabled)
+        .collect(Collectors.toMap(UserScopedCache::getChannel, Function.identity()));
+    this.url = url;
+    this.username = username;
+    this.password = password;
+  }
+
+  @Override
+  public void start() {
+    if (caches.isEmpty() || running) {
+      return;
+    }
+    running = true;
+    worker = Thread.ofPlatform()
+        .name("user-cache-invalidation-listener")
+        .daemon(true)
+        .start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  void handle(String channel, String payload) {
+    UserScopedCache cache = caches.get(channel);
+    if (cache == null || StringUtils.isBlank(payload)) {
+      return;
+    }
+    int separator = payload.indexOf(':');
+    if (separator < 0) {
+      cache.invalidateAll();
+      return;
+    }
+    if (cache.getInstanceId().equals(payload.substring(0, separator))) {
+      return;
+    }
+    cache.invalidate(payload.substring(separator + 1));
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(url, username, password)) {
+        try (Statement statement = connection.createStatement()) {
+          for (String channel : caches.keySet()) {
+            statement.execute("LISTEN " + channel);
+          }
+        }
+        log.info("Listening for user cache changes on channels {}", caches.keySet());
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              handle(notification.getName(), notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (running) {
+          log.warn("User cache notification listener lost its connection: {}", e.getMessage());
+          caches.values().forEach(UserScopedCache::invalidateAll);
+          pause();
+        }
+      }
+    }
+  }
+
+  private void pause() {
+    Duration delay = caches
+        .values()
+        .stream()
+        .map(UserScopedCache::getReconnectDelay)
+        .min(Duration::compareTo)
+        .orElse(Duration.ofSeconds(5));
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
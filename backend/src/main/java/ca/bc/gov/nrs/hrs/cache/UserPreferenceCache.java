@@ -0,0 +1,85 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.PreferenceCacheConfiguration;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory, per-user cache of {@link VersionedPreferences}.
+ *
+ * <p>Preferences are read on every page load, so they are loaded lazily from
+ * {@link UserPreferenceRepository} once and served from memory afterward. Every write hands
+ * the committed snapshot, with its new revision, to {@link #updated(String,
+ * VersionedPreferences)}; the cache only ever replaces an entry with a snapshot of an equal or
+ * higher revision, so out-of-order commits cannot roll a user back to older preferences. Other
+ * pods are told to drop their copy as described in {@link AbstractUserCache}.</p>
+ *
+ * <p>When the cache is disabled every call goes straight to the repository.</p>
+ */
+@Component
+public class UserPreferenceCache extends AbstractUserCache<VersionedPreferences> {
+
+  private final UserPreferenceRepository repository;
+
+  /**
+   * Creates the cache.
+   *
+   * @param configuration application configuration holding the preference cache settings
+   * @param repository    repository used to lazily load preferences
+   * @param jdbcTemplate  template used to publish change notifications
+   */
+  @Autowired
+  public UserPreferenceCache(
+      HrsConfiguration configuration,
+      UserPreferenceRepository repository,
+      JdbcTemplate jdbcTemplate
+  ) {
+    this(
+        Optional
+            .ofNullable(configuration.getPreferenceCache())
+            .orElseGet(PreferenceCacheConfiguration::new),
+        repository,
+        jdbcTemplate
+    );
+  }
+
+  private UserPreferenceCache(
+      PreferenceCacheConfiguration configuration,
+      UserPreferenceRepository repository,
+      JdbcTemplate jdbcTemplate
+  ) {
+    super(
+        jdbcTemplate,
+        configuration.isEnabled(),
+        configuration.getMaxUsers(),
+        configuration.getChannel(),
+        configuration.getReconnectDelay()
+    );
+    this.repository = repository;
+  }
+
+  /**
+   * Record the preferences committed for the user by the current transaction.
+   *
+   * @param userId      the user identifier
+   * @param preferences the stored preferences and their new revision
+   */
+  public void updated(String userId, VersionedPreferences preferences) {
+    changed(userId, preferences::newest, preferences);
+  }
+
+  @Override
+  protected VersionedPreferences load(String userId) {
+    return repository
+        .findById(userId)
+        .map(entity -> new VersionedPreferences(
+            entity.getPreferences(),
+            Optional.ofNullable(entity.getRevision()).orElse(0L)
+        ))
+        .orElse(VersionedPreferences.empty());
+  }
+}
@@ -0,0 +1,54 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.time.Duration;
+
+/**
+ * In-memory cache keyed by user id that is kept coherent across backend pods through a
+ * Postgres {@code LISTEN/NOTIFY} channel.
+ *
+ * <p>Implementations publish {@code <instanceId>:<userId>} on their channel when a user's data
+ * changes; {@link UserCacheInvalidationListener} delivers those notifications back to the
+ * matching cache on every other pod.</p>
+ */
+public interface UserScopedCache {
+
+  /**
+   * Whether the cache is active. Disabled caches are not listened for.
+   *
+   * @return {@code true} when enabled
+   */
+  boolean isEnabled();
+
+  /**
+   * Postgres notification channel used to broadcast changes.
+   *
+   * @return the channel name
+   */
+  String getChannel();
+
+  /**
+   * Unique id of this cache instance, used to ignore notifications it published itself.
+   *
+   * @return the instance id
+   */
+  String getInstanceId();
+
+  /**
+   * Delay before listening is resumed after the notification connection is lost.
+   *
+   * @return the reconnect delay
+   */
+  Duration getReconnectDelay();
+
+  /**
+   * Drop the cached data of a single user.
+   *
+   * @param userId the user identifier
+   */
+  void invalidate(String userId);
+
+  /**
+   * Drop every cached entry, used when notifications may have been missed.
+   */
+  void invalidateAll();
+}
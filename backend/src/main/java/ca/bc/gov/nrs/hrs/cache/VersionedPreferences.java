@@ -0,0 +1,49 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of a user's preferences stamped with the row revision it was read or written at.
+ *
+ * <p>The revision is the optimistic-lock column of {@code hrs.user_preferences}, which grows
+ * with every write. It lets {@link UserPreferenceCache} keep the newest snapshot when writes
+ * commit out of order, and a revision of {@code 0} means no row exists yet.</p>
+ *
+ * @param preferences the unmodifiable preference map
+ * @param revision    the row revision, {@code 0} when the user has no stored preferences
+ */
+public record VersionedPreferences(Map<String, Object> preferences, long revision) {
+
+  private static final VersionedPreferences EMPTY = new VersionedPreferences(Map.of(), 0L);
+
+  /**
+   * Creates a snapshot, copying the map into an unmodifiable one.
+   */
+  public VersionedPreferences {
+    preferences = preferences == null || preferences.isEmpty()
+        ? Map.of()
+        : Collections.unmodifiableMap(new LinkedHashMap<>(preferences));
+  }
+
+  /**
+   * Return the snapshot used for users without stored preferences.
+   *
+   * @return an empty snapshot with revision {@code 0}
+   */
+  public static VersionedPreferences empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Keep whichever snapshot carries the highest revision.
+   *
+   * @param other another snapshot of the same user
+   * @return this instance when its revision is not older than {@code other}, otherwise
+   *     {@code other}
+   */
+  public VersionedPreferences newest(VersionedPreferences other) {
+    return other == null || revision >= other.revision ? this : other;
+  }
+}
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.UpstreamLimitConfiguration;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.base.CodeNameDto;
 import ca.bc.gov.nrs.hrs.dto.client.ForestClientAutocompleteResultDto;
@@ -30,9 +31,16 @@ import ca.bc.gov.nrs.hrs.exception.RequestException;
 import ca.bc.gov.nrs.hrs.exception.RetriableException;
 import ca.bc.gov.nrs.hrs.exception.TooManyRequestsException;
 import ca.bc.gov.nrs.hrs.exception.UnretriableException;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import ca.bc.gov.nrs.hrs.exception.UserNotFoundException;
+import ca.bc.gov.nrs.hrs.provider.UpstreamConcurrencyLimiter;
+import ca.bc.gov.nrs.hrs.provider.UpstreamMetricsInterceptor;
 import ca.bc.gov.nrs.hrs.provider.forwarders.B3HeaderForwarder;
+import ca.bc.gov.nrs.hrs.provider.forwarders.InternalPrincipalForwarder;
 import ca.bc.gov.nrs.hrs.provider.forwarders.JwtForwarderRequestInitializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +48,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.web.client.RestClient;
 import tools.jackson.databind.SerializationFeature;
@@ -52,7 +62,7 @@ import tools.jackson.databind.json.JsonMapper.Builder;
  * <p>This configuration class registers several shared beans used across the application,
  * including REST clients for external services and a Jackson ObjectMapper. It also registers
  * reflection hints required for native image builds via {@code @RegisterReflectionForBinding}
- * and enables JPA auditing.</p>
+ * and enables JPA auditing and scheduled tasks.</p>
  *
  * @since 1.0.0
  */
@@ -71,6 +81,7 @@ import tools.jackson.databind.json.JsonMapper.Builder;
     RetriableException.class,
     TooManyRequestsException.class,
     UnretriableException.class,
+    UpstreamSaturatedException.class,
     UserNotFoundException.class,
     ReportingUnitSearchResultDto.class,
     ReportingUnitSearchParametersDto.class,
@@ -91,6 +102,7 @@ import tools.jackson.databind.json.JsonMapper.Builder;
     SpeciesCompositionRow.class
 })
 @EnableJpaAuditing(auditorAwareRef = "databaseAuditor")
+@EnableScheduling
 public class GlobalConfiguration {
 
   /**
@@ -103,16 +115,21 @@ public class GlobalConfiguration {
    *
    * @param configuration application configuration providing the Cognito userInfo URI
    * @param b3Header      request initializer that forwards B3 trace headers
+   * @param meterRegistry registry the exchange and concurrency limit metrics are recorded in
    * @return a configured {@link RestClient} for the Cognito userInfo endpoint
    */
   @Bean
   public RestClient cognitoApi(
       HrsConfiguration configuration,
-      B3HeaderForwarder b3Header
+      B3HeaderForwarder b3Header,
+      MeterRegistry meterRegistry
   ) {
     return RestClient.builder()
         .baseUrl(configuration.getCognito().getUserinfoUri())
         .requestInitializer(b3Header)
+        .requestInterceptors(interceptors ->
+            limitConcurrency(interceptors, "cognito", configuration, meterRegistry))
+        .requestInterceptor(new UpstreamMetricsInterceptor("cognito", meterRegistry))
         .build();
   }
 
@@ -127,12 +144,14 @@ public class GlobalConfiguration {
    * @param configuration application configuration that provides the target service
    *                      address and API key
    * @param b3Header      request initializer that forwards B3 trace headers
+   * @param meterRegistry registry the exchange and concurrency limit metrics are recorded in
    * @return a configured {@link RestClient} for the Forest Client API
    */
   @Bean
   public RestClient forestClientApi(
       HrsConfiguration configuration,
-      B3HeaderForwarder b3Header
+      B3HeaderForwarder b3Header,
+      MeterRegistry meterRegistry
   ) {
     return RestClient.builder()
         .baseUrl(configuration.getForestClientApi().getAddress())
@@ -141,6 +160,9 @@ public class GlobalConfiguration {
         .defaultHeader(HttpHeaders.CONTENT_TYPE,
             MediaType.APPLICATION_JSON_VALUE)
         .requestInitializer(b3Header)
+        .requestInterceptors(interceptors ->
+            limitConcurrency(interceptors, "forest-client", configuration, meterRegistry))
+        .requestInterceptor(new UpstreamMetricsInterceptor("forest-client", meterRegistry))
         .build();
   }
 
@@ -148,31 +170,64 @@ public class GlobalConfiguration {
    * Builds a {@link RestClient} configured to call legacy backend APIs.
    *
    * <p>This client uses the legacy API base address from {@link HrsConfiguration}
-   * and sets the content type to {@code application/json}. It applies both the
-   * {@link JwtForwarderRequestInitializer} and the {@link B3HeaderForwarder} as
-   * request initializers so that JWT forwarding and tracing headers are propagated
-   * to legacy services.</p>
+   * and sets the content type to {@code application/json}. It applies the
+   * {@link JwtForwarderRequestInitializer}, the {@link InternalPrincipalForwarder} and the
+   * {@link B3HeaderForwarder} as request initializers so that JWT forwarding, the optional
+   * signed internal principal and tracing headers are propagated to legacy services.</p>
    *
-   * @param configuration application configuration that provides the legacy API address
-   * @param jwtForwarder  request initializer which forwards JWT credentials
-   * @param b3Header      request initializer that forwards B3 trace headers
+   * @param configuration     application configuration that provides the legacy API address
+   * @param jwtForwarder      request initializer which forwards JWT credentials
+   * @param internalPrincipal request initializer which forwards the signed internal principal
+   * @param b3Header          request initializer that forwards B3 trace headers
+   * @param meterRegistry     registry the exchange and concurrency limit metrics are recorded in
    * @return a configured {@link RestClient} for legacy APIs
    */
   @Bean
   public RestClient legacyApi(
       HrsConfiguration configuration,
       JwtForwarderRequestInitializer jwtForwarder,
-      B3HeaderForwarder b3Header
+      InternalPrincipalForwarder internalPrincipal,
+      B3HeaderForwarder b3Header,
+      MeterRegistry meterRegistry
   ) {
     return RestClient.builder()
         .baseUrl(configuration.getLegacyApi().getAddress())
         .defaultHeader(HttpHeaders.CONTENT_TYPE,
             MediaType.APPLICATION_JSON_VALUE)
         .requestInitializer(jwtForwarder)
+        .requestInitializer(internalPrincipal)
         .requestInitializer(b3Header)
+        .requestInterceptors(interceptors ->
+            limitConcurrency(interceptors, "legacy", configuration, meterRegistry))
+        .requestInterceptor(new UpstreamMetricsInterceptor("legacy", meterRegistry))
         .build();
   }
 
+  /**
+   * Adds an {@link UpstreamConcurrencyLimiter} for the upstream, unless limits are disabled.
+   *
+   * <p>It is added before the metrics interceptor so rejected requests, which are never sent,
+   * are not recorded as exchanges.</p>
+   *
+   * @param interceptors  the interceptors of the client being built
+   * @param upstream      name of the upstream service
+   * @param configuration application configuration providing the limit settings
+   * @param meterRegistry registry the limiter meters are registered in
+   */
+  private static void limitConcurrency(
+      List<ClientHttpRequestInterceptor> interceptors,
+      String upstream,
+      HrsConfiguration configuration,
+      MeterRegistry meterRegistry
+  ) {
+    UpstreamLimitConfiguration limits = Optional
+        .ofNullable(configuration.getUpstreamLimits())
+        .orElseGet(UpstreamLimitConfiguration::new);
+    if (limits.isEnabled()) {
+      interceptors.add(new UpstreamConcurrencyLimiter(upstream, limits, meterRegistry));
+    }
+  }
+
   /**
    * Provides the application's Jackson {@link JsonMapper} instance.
    *
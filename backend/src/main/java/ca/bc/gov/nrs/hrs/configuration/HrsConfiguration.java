@@ -1,7 +1,9 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Application configuration properties for the HRS backend bound from properties with prefix
@@ -58,6 +61,90 @@ public class HrsConfiguration {
   @NestedConfigurationProperty
   private HydrationConfiguration hydration;
 
+  /**
+   * Signed internal principal forwarding configuration for calls to the legacy API.
+   */
+  @NestedConfigurationProperty
+  private InternalPrincipalConfiguration internalPrincipal;
+
+  /**
+   * Per-user bookmark cache configuration.
+   */
+  @NestedConfigurationProperty
+  private BookmarkCacheConfiguration bookmarkCache;
+
+  /**
+   * Per-user preference cache configuration.
+   */
+  @NestedConfigurationProperty
+  private PreferenceCacheConfiguration preferenceCache;
+
+  /**
+   * Bookmark API configuration (bulk operation limits).
+   */
+  @NestedConfigurationProperty
+  private BookmarkConfiguration bookmarks;
+
+  /**
+   * In-memory active district volume and species composition registry configuration.
+   */
+  @NestedConfigurationProperty
+  private ActiveConfigurationRegistryConfiguration activeConfiguration;
+
+  /**
+   * Serialized district volume and species composition detail cache configuration.
+   */
+  @NestedConfigurationProperty
+  private DetailCacheConfiguration detailCache;
+
+  /**
+   * Configuration timeline lock configuration.
+   */
+  @NestedConfigurationProperty
+  private TimelineLockConfiguration timelineLock;
+
+  /**
+   * Audit history query configuration.
+   */
+  @NestedConfigurationProperty
+  private AuditHistoryConfiguration auditHistory;
+
+  /**
+   * Audit partition maintenance configuration.
+   */
+  @NestedConfigurationProperty
+  private AuditPartitionConfiguration auditPartitions;
+
+  /**
+   * Application metrics configuration (tag limits and per-meter distributions).
+   */
+  @NestedConfigurationProperty
+  private MetricsConfiguration metrics;
+
+  /**
+   * Adaptive concurrency limits applied to every upstream service.
+   */
+  @NestedConfigurationProperty
+  private UpstreamLimitConfiguration upstreamLimits;
+
+  /**
+   * Fallback cache of legacy API reads.
+   */
+  @NestedConfigurationProperty
+  private LegacyResponseCacheConfiguration legacyResponseCache;
+
+  /**
+   * Virtual thread diagnostics configuration.
+   */
+  @NestedConfigurationProperty
+  private VirtualThreadConfiguration virtualThreads;
+
+  /**
+   * Startup warmup configuration.
+   */
+  @NestedConfigurationProperty
+  private WarmupConfiguration warmup;
+
   /**
    * External API address configuration.
    *
@@ -190,4 +277,510 @@ public class HrsConfiguration {
     private List<String> paths = List.of("/api/users/preferences");
   }
 
+  /**
+   * Internal principal configuration.
+   *
+   * <p>When enabled, every call to the legacy API carries an HMAC-signed copy of the
+   * identity claims already validated by this service, allowing the legacy module to
+   * skip a second JWT signature verification. The secret must match the one configured
+   * on the legacy side. Disabled by default, in which case only the bearer token is
+   * forwarded.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class InternalPrincipalConfiguration {
+
+    /**
+     * Whether the signed internal principal header is sent. Defaults to {@code false}.
+     */
+    @Builder.Default
+    private boolean enabled = false;
+
+    /**
+     * Shared HMAC-SHA256 secret used to sign the header.
+     */
+    private String secret;
+
+    /**
+     * Maximum lifetime of a signed header. The effective expiry is the earliest of this
+     * value and the expiry of the original JWT. Defaults to 60 seconds.
+     */
+    @Builder.Default
+    private Duration ttl = Duration.ofSeconds(60);
+  }
+
+  /**
+   * Bookmark cache configuration.
+   *
+   * <p>Controls the in-memory per-user bookmark sets kept by the backend and the Postgres
+   * {@code LISTEN/NOTIFY} channel used to invalidate them across pods.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class BookmarkCacheConfiguration {
+
+    /**
+     * Whether bookmark sets are cached in memory. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of users whose bookmarks are kept in memory. The least recently used
+     * entry is evicted once the bound is reached. Defaults to 5000.
+     */
+    @Builder.Default
+    private int maxUsers = 5000;
+
+    /**
+     * Postgres notification channel used to broadcast bookmark changes to other pods.
+     */
+    @Builder.Default
+    private String channel = "hrs_user_bookmarks";
+
+    /**
+     * Delay before the notification listener reconnects after losing its connection.
+     */
+    @Builder.Default
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Preference cache configuration.
+   *
+   * <p>Controls the in-memory per-user preference snapshots kept by the backend and the
+   * Postgres {@code LISTEN/NOTIFY} channel used to invalidate them across pods.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PreferenceCacheConfiguration {
+
+    /**
+     * Whether preferences are cached in memory. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of users whose preferences are kept in memory. The least recently used
+     * entry is evicted once the bound is reached. Defaults to 5000.
+     */
+    @Builder.Default
+    private int maxUsers = 5000;
+
+    /**
+     * Postgres notification channel used to broadcast preference changes to other pods.
+     */
+    @Builder.Default
+    private String channel = "hrs_user_preferences";
+
+    /**
+     * Delay before the notification listener reconnects after losing its connection.
+     */
+    @Builder.Default
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Bookmark API configuration.
+   *
+   * <p>Bounds the bulk bookmark endpoints so a single request cannot turn into an unbounded
+   * statement or transaction.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class BookmarkConfiguration {
+
+    /**
+     * Maximum number of reporting units accepted by a single bulk add or remove request.
+     * Defaults to 500.
+     */
+    @Builder.Default
+    private int maxBatchSize = 500;
+  }
+
+  /**
+   * Active configuration registry settings.
+   *
+   * <p>The registry keeps every live district volume and species composition timeline in
+   * memory. It is reloaded on a fixed delay so changes made by other pods are picked up, and
+   * the active entry is re-evaluated at each date boundary without touching the database.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ActiveConfigurationRegistryConfiguration {
+
+    /**
+     * Whether active configurations are held in memory. When disabled, district lookups are
+     * answered by the database through the generated district code column. Defaults to
+     * {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Delay between full reloads of the timelines. Defaults to 5 minutes.
+     */
+    @Builder.Default
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Cron expression used to roll the active entries over to the new day. Defaults to
+     * midnight.
+     */
+    @Builder.Default
+    private String rolloverCron = "0 0 0 * * *";
+  }
+
+  /**
+   * Serialized detail response cache settings.
+   *
+   * <p>Configuration tables never change once stored; only their end date or deleted flag does,
+   * and both bump {@code updated_at}. The detail endpoints therefore keep the serialized JSON of
+   * recently read configurations keyed by id and {@code updated_at}.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DetailCacheConfiguration {
+
+    /**
+     * Whether serialized detail responses are cached. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of configurations kept, least recently used first out. Defaults to 256.
+     */
+    @Builder.Default
+    private int maxEntries = 256;
+  }
+
+  /**
+   * Configuration timeline lock settings.
+   *
+   * <p>Creates and deletes of district volume and species composition configurations take a
+   * transaction-scoped advisory lock per configuration type and area. The timeout bounds how long
+   * a request waits for that lock, and any row lock after it, before the attempt is retried.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class TimelineLockConfiguration {
+
+    /**
+     * Maximum time to wait for the lock in one attempt. Defaults to 5 seconds.
+     */
+    @Builder.Default
+    private Duration timeout = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Audit history query settings.
+   *
+   * <p>Pages of audit history are read with keyset pagination, so the page size only bounds the
+   * response; streamed histories are read from a server-side cursor in batches of the fetch
+   * size.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class AuditHistoryConfiguration {
+
+    /**
+     * Number of entries returned when no size is requested. Defaults to 50.
+     */
+    @Builder.Default
+    private int defaultPageSize = 50;
+
+    /**
+     * Largest page size a client may request. Defaults to 500.
+     */
+    @Builder.Default
+    private int maxPageSize = 500;
+
+    /**
+     * Rows fetched per round trip while streaming a history. Defaults to 500.
+     */
+    @Builder.Default
+    private int streamFetchSize = 500;
+  }
+
+  /**
+   * Audit partition maintenance settings.
+   *
+   * <p>{@code audit_event} and {@code audit_change} are partitioned by UTC month. A scheduled job
+   * creates the partitions of the coming months ahead of time, so changes never fall into the
+   * default partition, and detaches the partitions past the retention period into the
+   * {@code hrs_audit_archive} schema.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class AuditPartitionConfiguration {
+
+    /**
+     * Whether the maintenance job runs. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Cron expression the maintenance job runs on. Defaults to 01:15 every day.
+     */
+    @Builder.Default
+    private String maintenanceCron = "0 15 1 * * *";
+
+    /**
+     * Number of months after the current one to keep partitions ready for. Defaults to 3.
+     */
+    @Builder.Default
+    private int monthsAhead = 3;
+
+    /**
+     * Number of full months of history kept attached before the current one. Defaults to 24.
+     */
+    @Builder.Default
+    private int retentionMonths = 24;
+  }
+
+  /**
+   * Application metrics settings.
+   *
+   * <p>Upstream exchanges and reporting unit searches are tagged with a normalized URI and a
+   * filter shape respectively. Both are bounded so an unexpected path or filter combination
+   * cannot grow the number of series without limit; values past the limit are reported as
+   * {@code OTHER}.</p>
+   *
+   * <p>Distributions are keyed by meter name, or a dot-separated prefix of it, and override the
+   * default percentiles and SLO buckets; the most specific key wins. Keys containing dots must be
+   * bracketed in YAML, for example {@code "[hrs.upstream.requests]"}.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class MetricsConfiguration {
+
+    /**
+     * Maximum number of distinct {@code uri} tag values per upstream meter. Defaults to 100.
+     */
+    @Builder.Default
+    private int maxUriTags = 100;
+
+    /**
+     * Maximum number of distinct search filter {@code shape} tag values. Defaults to 64.
+     */
+    @Builder.Default
+    private int maxSearchShapes = 64;
+
+    /**
+     * Per-meter distribution overrides keyed by meter name or name prefix.
+     */
+    @Builder.Default
+    private Map<String, MeterDistributionConfiguration> distributions = new HashMap<>();
+  }
+
+  /**
+   * Distribution statistics of a meter or family of meters.
+   *
+   * <p>Unset values fall back to the application defaults: the 50th, 95th and 99th percentiles
+   * and, for timers only, SLO buckets between 100ms and one minute.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class MeterDistributionConfiguration {
+
+    /**
+     * Client-side percentiles to publish, for example {@code 0.5, 0.99}.
+     */
+    private List<Double> percentiles;
+
+    /**
+     * SLO buckets of timers.
+     */
+    private List<Duration> slo;
+
+    /**
+     * SLO buckets of payload-size summaries recorded in bytes.
+     */
+    private List<DataSize> sizeSlo;
+  }
+
+  /**
+   * Adaptive concurrency limit settings, applied to each upstream service separately.
+   *
+   * <p>Every upstream has its own limit on concurrent requests, starting at the initial limit. It
+   * grows by one while requests are answered close to the baseline latency and the limit is at
+   * least half used, and shrinks by the backoff ratio when a response takes longer than the
+   * baseline times the latency tolerance, times out, or is answered with 429 or 503. Requests
+   * over the limit are rejected at once with a 503 and a {@code Retry-After} header instead of
+   * waiting.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class UpstreamLimitConfiguration {
+
+    /**
+     * Whether upstream requests are limited. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Limit every upstream starts with. Defaults to 20.
+     */
+    @Builder.Default
+    private int initialLimit = 20;
+
+    /**
+     * Lowest the limit can shrink to. Defaults to 2.
+     */
+    @Builder.Default
+    private int minLimit = 2;
+
+    /**
+     * Highest the limit can grow to. Defaults to 200.
+     */
+    @Builder.Default
+    private int maxLimit = 200;
+
+    /**
+     * Factor the limit is multiplied by on congestion. Defaults to 0.9.
+     */
+    @Builder.Default
+    private double backoffRatio = 0.9;
+
+    /**
+     * Multiple of the baseline latency above which a response counts as congestion. Defaults
+     * to 2.
+     */
+    @Builder.Default
+    private double latencyTolerance = 2.0;
+
+    /**
+     * Number of recent successful responses of an operation whose median is its baseline
+     * latency. Defaults to 50.
+     */
+    @Builder.Default
+    private int baselineWindow = 50;
+
+    /**
+     * {@code Retry-After} sent back when a request is rejected over the limit. Defaults to 1
+     * second.
+     */
+    @Builder.Default
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Longest an upstream {@code Retry-After} is honoured for. Defaults to 30 seconds.
+     */
+    @Builder.Default
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
+  }
+
+  /**
+   * Legacy API fallback cache settings.
+   *
+   * <p>Successful legacy reads are kept so they can be served, marked as stale, while the legacy
+   * API is unavailable. Entries are never served fresh; they only stand in for a failed call.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class LegacyResponseCacheConfiguration {
+
+    /**
+     * Whether legacy reads are kept for fallback. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of responses kept, least recently used first out. Defaults to 2000.
+     */
+    @Builder.Default
+    private int maxEntries = 2000;
+
+    /**
+     * Oldest response that may still be served. Defaults to 1 hour.
+     */
+    @Builder.Default
+    private Duration maxStaleness = Duration.ofHours(1);
+  }
+
+  /**
+   * Virtual thread diagnostics settings.
+   *
+   * <p>Only used while virtual threads are enabled with {@code spring.threads.virtual.enabled},
+   * which then also run request handling, {@code @Async} work and scheduled tasks.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class VirtualThreadConfiguration {
+
+    /**
+     * Time a virtual thread must stay pinned to its carrier to be reported. Defaults to 20
+     * milliseconds.
+     */
+    @Builder.Default
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Number of distinct code locations whose pinning is logged with a stack trace. Defaults
+     * to 100.
+     */
+    @Builder.Default
+    private int maxReportedSites = 100;
+  }
+
+  /**
+   * Startup warmup settings.
+   *
+   * <p>Warmup runs once the application has started and before it reports ready, so the work
+   * the first requests would otherwise pay for is done while the readiness probe still keeps
+   * traffic away.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class WarmupConfiguration {
+
+    /**
+     * Whether warmup runs before the application reports ready. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Time under which a request counts as fast for the time to first fast request. Defaults
+     * to 250 milliseconds.
+     */
+    @Builder.Default
+    private Duration fastRequestThreshold = Duration.ofMillis(250);
+  }
+
 }
@@ -1,16 +1,25 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.MeterDistributionConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.MetricsConfiguration;
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.micrometer.metrics.autoconfigure.MeterRegistryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Configuration for application metrics and Micrometer integration.
@@ -26,6 +35,35 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class HrsMetricConfiguration {
 
+  /**
+   * Prefix of the meters recording {@code RestClient} exchanges with upstream services.
+   */
+  public static final String UPSTREAM_METER_PREFIX = "hrs.upstream";
+
+  /**
+   * Prefix of the meters recording reporting unit searches.
+   */
+  public static final String SEARCH_METER_PREFIX = "hrs.search";
+
+  /**
+   * Tag value that replaces the values of a bounded tag once its limit is reached.
+   */
+  public static final String OVERFLOW_TAG_VALUE = "OTHER";
+
+  private static final double[] DEFAULT_PERCENTILES = {0.5, 0.95, 0.99};
+
+  private static final List<Duration> DEFAULT_TIMER_SLO = List.of(
+      Duration.ofMillis(100),
+      Duration.ofMillis(250),
+      Duration.ofMillis(500),
+      Duration.ofSeconds(1),
+      Duration.ofSeconds(2),
+      Duration.ofSeconds(5),
+      Duration.ofSeconds(15),
+      Duration.ofSeconds(30),
+      Duration.ofMinutes(1)
+  );
+
   /**
    * Application version injected from property {@code info.app.version}.
    */
@@ -61,13 +99,22 @@ public class HrsMetricConfiguration {
    *
    * <p>The returned {@link MeterRegistryCustomizer} adds the application
    * metadata (version, app name and zone) as common tags and registers
-   * additional {@link MeterFilter}s for ignoring noisy tags and configuring
-   * distribution statistics (percentiles and service-level objectives).</p>
+   * additional {@link MeterFilter}s for ignoring noisy tags, bounding the
+   * cardinality of the upstream {@code uri} and search {@code shape} tags and
+   * configuring distribution statistics (percentiles and service-level
+   * objectives).</p>
    *
+   * @param configuration application configuration providing the metrics settings
    * @return a {@link MeterRegistryCustomizer} that customizes the provided registry
    */
   @Bean
-  public MeterRegistryCustomizer<MeterRegistry> metricsCommonTags() {
+  public MeterRegistryCustomizer<MeterRegistry> metricsCommonTags(
+      HrsConfiguration configuration
+  ) {
+    MetricsConfiguration metrics = Optional
+        .ofNullable(configuration.getMetrics())
+        .orElseGet(MetricsConfiguration::new);
+
     return registry -> registry.config()
         .commonTags(
             "version", appVersion,
@@ -75,7 +122,9 @@ public class HrsMetricConfiguration {
             "zone", appZone
         )
         .meterFilter(ignoreTag())
-        .meterFilter(distribution());
+        .meterFilter(boundedTag(UPSTREAM_METER_PREFIX, "uri", metrics.getMaxUriTags()))
+        .meterFilter(boundedTag(SEARCH_METER_PREFIX, "shape", metrics.getMaxSearchShapes()))
+        .meterFilter(distribution(metrics.getDistributions()));
   }
 
   /**
@@ -100,41 +149,125 @@ public class HrsMetricConfiguration {
     return MeterFilter.ignoreTags("type");
   }
 
+  /**
+   * Creates a {@link MeterFilter} that replaces the values of a tag past the first
+   * {@code maximum} distinct ones with {@value #OVERFLOW_TAG_VALUE}.
+   *
+   * <p>Unlike {@link MeterFilter#maximumAllowableTags} the overflowing measurements are kept,
+   * just folded into a single series, so totals stay correct.</p>
+   *
+   * @param meterNamePrefix prefix of the meter names the limit applies to
+   * @param tagKey          the tag to bound
+   * @param maximum         the number of distinct values to keep
+   * @return a {@link MeterFilter} bounding the tag cardinality
+   */
+  public static MeterFilter boundedTag(String meterNamePrefix, String tagKey, int maximum) {
+    Set<String> seen = ConcurrentHashMap.newKeySet();
+    return new MeterFilter() {
+
+      @Override
+      public Meter.Id map(Meter.Id id) {
+        String value = id.getTag(tagKey);
+        if (value == null || !id.getName().startsWith(meterNamePrefix) || seen.contains(value)) {
+          return id;
+        }
+        if (seen.size() < maximum) {
+          seen.add(value);
+          return id;
+        }
+        return id.withTag(Tag.of(tagKey, OVERFLOW_TAG_VALUE));
+      }
+    };
+  }
+
   /**
    * Creates a {@link MeterFilter} that configures distribution statistics for
    * timers and summaries, including percentiles and SLO histogram
    * service-level objectives.
    *
-   * <p>The returned filter merges its configuration with any existing
+   * <p>The settings of the most specific entry of {@code overrides} whose key is the meter
+   * name, or a dot-separated prefix of it, take precedence over the defaults. Timers default to
+   * SLO buckets between 100ms and one minute; summaries have no default buckets, as their unit
+   * is meter-specific. The returned filter merges its configuration with any existing
    * configuration on the meter.</p>
    *
+   * @param overrides per-meter distribution settings keyed by meter name or name prefix
    * @return a {@link MeterFilter} that applies percentile and SLO settings
    */
-  public MeterFilter distribution() {
+  public static MeterFilter distribution(Map<String, MeterDistributionConfiguration> overrides) {
     return new MeterFilter() {
 
       @Override
       public DistributionStatisticConfig configure(
           Meter.Id id,
           DistributionStatisticConfig config) {
-        return DistributionStatisticConfig
+        MeterDistributionConfiguration override = findOverride(overrides, id.getName());
+
+        DistributionStatisticConfig.Builder builder = DistributionStatisticConfig
             .builder()
-            .percentiles(0.5, 0.95, 0.99)
-            .serviceLevelObjectives(
-                Duration.ofMillis(100).toNanos(),
-                Duration.ofMillis(250).toNanos(),
-                Duration.ofMillis(500).toNanos(),
-                Duration.ofSeconds(1).toNanos(),
-                Duration.ofSeconds(2).toNanos(),
-                Duration.ofSeconds(5).toNanos(),
-                Duration.ofSeconds(15).toNanos(),
-                Duration.ofSeconds(30).toNanos(),
-                Duration.ofMinutes(1).toNanos()
-            )
+            .percentiles(
+                Optional
+                    .ofNullable(override.getPercentiles())
+                    .map(HrsMetricConfiguration::toArray)
+                    .orElse(DEFAULT_PERCENTILES)
+            );
+
+        double[] slo = serviceLevelObjectives(id.getType(), override);
+        if (slo.length > 0) {
+          builder.serviceLevelObjectives(slo);
+        }
+
+        return builder
             .build()
             .merge(config);
       }
     };
   }
 
+  private static MeterDistributionConfiguration findOverride(
+      Map<String, MeterDistributionConfiguration> overrides,
+      String meterName
+  ) {
+    if (overrides == null || overrides.isEmpty()) {
+      return new MeterDistributionConfiguration();
+    }
+    String key = meterName;
+    while (true) {
+      MeterDistributionConfiguration override = overrides.get(key);
+      if (override != null) {
+        return override;
+      }
+      int dot = key.lastIndexOf('.');
+      if (dot < 0) {
+        return new MeterDistributionConfiguration();
+      }
+      key = key.substring(0, dot);
+    }
+  }
+
+  private static double[] serviceLevelObjectives(
+      Meter.Type type,
+      MeterDistributionConfiguration override
+  ) {
+    return switch (type) {
+      case TIMER, LONG_TASK_TIMER -> Optional
+          .ofNullable(override.getSlo())
+          .orElse(DEFAULT_TIMER_SLO)
+          .stream()
+          .mapToDouble(Duration::toNanos)
+          .toArray();
+      case DISTRIBUTION_SUMMARY -> Optional
+          .ofNullable(override.getSizeSlo())
+          .orElse(List.of())
+          .stream()
+          .mapToDouble(DataSize::toBytes)
+          .toArray();
+      default -> new double[0];
+    };
+  }
+
+  private static double[] toArray(List<Double> values) {
+    return values.stream().mapToDouble(Double::doubleValue).toArray();
+  }
+
 }
@@ -5,6 +5,12 @@ import ca.bc.gov.nrs.hrs.security.CsrfSecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.HeadersSecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.Oauth2SecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.UserIdentityHydrationFilter;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.net.MalformedURLException;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -12,6 +18,8 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -83,4 +91,35 @@ public class SecurityConfiguration {
     return http.build();
   }
 
+  /**
+   * Source of the Cognito signing keys, read from the JWK set URI and cached.
+   *
+   * <p>It is a bean of its own so the key set can be fetched during startup warmup rather than
+   * by the first authenticated request.</p>
+   *
+   * @param jwkSetUri the JWK set URI of the user pool
+   * @return the cached {@link JWKSource}
+   * @throws MalformedURLException if the JWK set URI is not a valid URL
+   */
+  @Bean
+  public JWKSource<SecurityContext> jwkSource(
+      @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri
+  ) throws MalformedURLException {
+    return JWKSourceBuilder
+        .<SecurityContext>create(URI.create(jwkSetUri).toURL())
+        .retrying(true)
+        .build();
+  }
+
+  /**
+   * Decoder validating the access tokens against the keys of the {@link JWKSource}.
+   *
+   * @param jwkSource the source of the signing keys
+   * @return the {@link JwtDecoder}
+   */
+  @Bean
+  public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
+    return NimbusJwtDecoder.withJwkSource(jwkSource).build();
+  }
+
 }
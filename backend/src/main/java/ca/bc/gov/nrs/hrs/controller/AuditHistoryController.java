@@ -0,0 +1,169 @@
+package ca.bc.gov.nrs.hrs.controller;
+
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryPageDto;
+import ca.bc.gov.nrs.hrs.service.AuditHistoryService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * REST controller for reading the audit history of configurations.
+ *
+ * <p>Each history is served as JSON pages linked by an opaque {@code cursor}, or, when the client
+ * accepts {@code application/x-ndjson}, streamed in full as one change per line. Unless
+ * {@code snapshots=true} is requested, each change only carries the columns that changed.</p>
+ */
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@Slf4j
+public class AuditHistoryController {
+
+  private static final byte[] LINE_SEPARATOR = {'\n'};
+
+  private final AuditHistoryService auditHistoryService;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Retrieves one page of the audit history of a single configuration row.
+   *
+   * @param entityType the audited entity type, DISTRICT_VOLUME or SPECIES_COMPOSITION
+   * @param entityId   the configuration row identifier
+   * @param from       optional start of the time window, inclusive
+   * @param to         optional end of the time window, exclusive
+   * @param snapshots  whether to return full row images instead of the changed columns
+   * @param cursor     the cursor returned with the previous page, if any
+   * @param size       optional page size
+   * @return the page of changes, newest first
+   */
+  @GetMapping(value = "/{entityType}/{entityId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<AuditHistoryPageDto> getEntityHistory(
+      @PathVariable String entityType,
+      @PathVariable Long entityId,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(defaultValue = "false") boolean snapshots,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+
+    return ResponseEntity.ok(auditHistoryService.getHistory(
+        new AuditHistoryFilterDto(entityType, entityId, null, from, to, snapshots, cursor),
+        size));
+  }
+
+  /**
+   * Streams the full audit history of a single configuration row as newline-delimited JSON.
+   *
+   * @param entityType the audited entity type, DISTRICT_VOLUME or SPECIES_COMPOSITION
+   * @param entityId   the configuration row identifier
+   * @param from       optional start of the time window, inclusive
+   * @param to         optional end of the time window, exclusive
+   * @param snapshots  whether to return full row images instead of the changed columns
+   * @param cursor     optional cursor to continue after
+   * @return the changes, newest first, one per line
+   */
+  @GetMapping(value = "/{entityType}/{entityId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamEntityHistory(
+      @PathVariable String entityType,
+      @PathVariable Long entityId,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(defaultValue = "false") boolean snapshots,
+      @RequestParam(required = false) String cursor) {
+
+    return stream(
+        new AuditHistoryFilterDto(entityType, entityId, null, from, to, snapshots, cursor));
+  }
+
+  /**
+   * Retrieves one page of the changes made by a user or within a time window.
+   *
+   * @param changedBy  optional user who made the changes (for example, {@code IDIR/JDOE})
+   * @param entityType optional audited entity type filter
+   * @param from       optional start of the time window, inclusive
+   * @param to         optional end of the time window, exclusive
+   * @param snapshots  whether to return full row images instead of the changed columns
+   * @param cursor     the cursor returned with the previous page, if any
+   * @param size       optional page size
+   * @return the page of changes, newest first
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<AuditHistoryPageDto> getHistory(
+      @RequestParam(required = false) String changedBy,
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(defaultValue = "false") boolean snapshots,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+
+    return ResponseEntity.ok(auditHistoryService.getHistory(
+        new AuditHistoryFilterDto(entityType, null, changedBy, from, to, snapshots, cursor),
+        size));
+  }
+
+  /**
+   * Streams the changes made by a user or within a time window as newline-delimited JSON.
+   *
+   * @param changedBy  optional user who made the changes (for example, {@code IDIR/JDOE})
+   * @param entityType optional audited entity type filter
+   * @param from       optional start of the time window, inclusive
+   * @param to         optional end of the time window, exclusive
+   * @param snapshots  whether to return full row images instead of the changed columns
+   * @param cursor     optional cursor to continue after
+   * @return the changes, newest first, one per line
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamHistory(
+      @RequestParam(required = false) String changedBy,
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(defaultValue = "false") boolean snapshots,
+      @RequestParam(required = false) String cursor) {
+
+    return stream(
+        new AuditHistoryFilterDto(entityType, null, changedBy, from, to, snapshots, cursor));
+  }
+
+  private ResponseEntity<StreamingResponseBody> stream(AuditHistoryFilterDto filter) {
+    // Reject a bad request while the status can still be set
+    AuditHistoryFilterDto validated = auditHistoryService.validate(filter);
+
+    StreamingResponseBody body = outputStream ->
+        auditHistoryService.streamHistory(validated, change -> {
+          try {
+            outputStream.write(jsonMapper.writeValueAsBytes(change));
+            outputStream.write(LINE_SEPARATOR);
+          } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+          }
+        });
+
+    return ResponseEntity
+        .ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+}
@@ -1,9 +1,12 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableDataDto;
 import ca.bc.gov.nrs.hrs.service.DistrictVolumeService;
+import ca.bc.gov.nrs.hrs.service.TableImportService;
 import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
 import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
@@ -15,7 +18,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -27,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -39,6 +45,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class DistrictVolumeController {
 
   private final DistrictVolumeService districtVolumeService;
+  private final TableImportService tableImportService;
 
   /**
    * Retrieves a paginated list of district volume configurations.
@@ -68,17 +75,44 @@ public class DistrictVolumeController {
   /**
    * Retrieves the details of a district volume configuration.
    *
+   * <p>The body is served pre-serialized with a strong {@code ETag}; a request whose
+   * {@code If-None-Match} matches it is answered with {@code 304 Not Modified}.</p>
+   *
    * @param id district volume configuration identifier
-   * @return detailed district volume configuration
+   * @return detailed district volume configuration, as JSON
    */
-  @GetMapping("/{id}")
-  public ResponseEntity<DistrictVolumeDetailDto> getDistrictVolumeById(
+  @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getDistrictVolumeById(
       @PathVariable Long id) {
 
-    DistrictVolumeDetailDto volumeDetail =
-        districtVolumeService.getDistrictVolumeById(id);
+    SerializedDetail detail =
+        districtVolumeService.getSerializedDistrictVolumeById(id);
+
+    return ResponseEntity
+        .ok()
+        .eTag(detail.eTag())
+        .cacheControl(CacheControl.noCache())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(detail.body());
+  }
+
+  /**
+   * Reads the table data of a district volume configuration from a spreadsheet.
+   *
+   * <p>The uploaded CSV or XLSX file is validated row by row and, when every row is valid,
+   * returned as the {@code tableData} to submit with a new configuration. Nothing is saved.
+   * Otherwise the response is a {@code 400 Bad Request} listing every problem found.</p>
+   *
+   * @param area the area the table is for, INTERIOR or COASTAL
+   * @param file the uploaded CSV or XLSX file
+   * @return the district volume table data
+   */
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<TableDataDto> importDistrictVolumeTable(
+      @RequestParam String area,
+      @RequestParam("file") MultipartFile file) {
 
-    return ResponseEntity.ok(volumeDetail);
+    return ResponseEntity.ok(tableImportService.importDistrictVolumeTable(area, file));
   }
 
   /**
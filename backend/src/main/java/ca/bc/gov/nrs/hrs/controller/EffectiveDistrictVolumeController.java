@@ -0,0 +1,77 @@
+package ca.bc.gov.nrs.hrs.controller;
+
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeBatchDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
+import ca.bc.gov.nrs.hrs.service.DistrictVolumeService;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller that resolves the district volume row in effect for a district and date.
+ *
+ * <p>Unlike the configuration endpoints, which only administrators manage, these lookups are
+ * read by everyone who submits or reviews waste assessments.</p>
+ */
+@RestController
+@RequestMapping("/api/district-volumes")
+@RequiredArgsConstructor
+@Slf4j
+public class EffectiveDistrictVolumeController {
+
+  private final DistrictVolumeService districtVolumeService;
+
+  /**
+   * Retrieves the district volume row that applies to a district on a given date.
+   *
+   * <p>Returns only the matching row and the factors of its configuration, resolved from the
+   * in-memory configuration timeline.</p>
+   *
+   * @param district the district code, case-insensitive
+   * @param date     the date to resolve; defaults to today
+   * @return the effective district volume row, or {@code 404 Not Found} if none applies
+   */
+  @GetMapping("/effective")
+  public ResponseEntity<EffectiveDistrictVolumeDto> getEffectiveDistrictVolume(
+      @RequestParam String district,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+    return districtVolumeService
+        .getEffectiveDistrictVolume(district, Optional.ofNullable(date).orElseGet(LocalDate::now))
+        .map(ResponseEntity::ok)
+        .orElseThrow(() -> new ResponseStatusException(
+            HttpStatus.NOT_FOUND,
+            "No district volume configuration applies to district " + district + " on that date"));
+  }
+
+  /**
+   * Retrieves the effective district volume rows for many district and date pairs at once.
+   *
+   * <p>Pairs without a matching row are left out of the response; each returned row carries its
+   * district and date.</p>
+   *
+   * @param request the district and date pairs to resolve
+   * @return the matching rows, in request order
+   */
+  @PostMapping("/effective")
+  public ResponseEntity<List<EffectiveDistrictVolumeDto>> getEffectiveDistrictVolumes(
+      @Valid @RequestBody EffectiveDistrictVolumeBatchDto request) {
+
+    return ResponseEntity.ok(
+        districtVolumeService.getEffectiveDistrictVolumes(request.lookups()));
+  }
+}
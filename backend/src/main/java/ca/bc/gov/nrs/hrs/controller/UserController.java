@@ -5,14 +5,17 @@ import ca.bc.gov.nrs.hrs.dto.base.FeatureFlag;
 import ca.bc.gov.nrs.hrs.service.UserService;
 import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
 import io.micrometer.observation.annotation.Observed;
+import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,6 +39,8 @@ import org.springframework.web.server.ResponseStatusException;
 @Slf4j
 public class UserController {
 
+  private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
   private final UserService userService;
   private final FeatureFlagsConfiguration featureFlagsConfiguration;
 
@@ -78,6 +83,31 @@ public class UserController {
     );
   }
 
+  /**
+   * Partially update the preferences for the authenticated user.
+   *
+   * <p>The request body is a JSON merge patch (RFC 7396): only the keys it contains change,
+   * nested objects are merged and {@code null} removes a key. The method delegates to
+   * {@link UserService#patchUserPreferences(String, java.util.Map)} and returns the resulting
+   * preferences.
+   * </p>
+   *
+   * @param jwt   the authenticated user's JWT principal (injected by Spring)
+   * @param patch the merge patch to apply
+   * @return the preferences after the patch was applied
+   */
+  @PatchMapping(
+      value = "/preferences",
+      consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+  )
+  public Map<String, Object> patchPreferences(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestBody Map<String, Object> patch
+  ) {
+    log.info("Patching preferences for user: {}", JwtPrincipalUtil.getUserId(jwt));
+    return userService.patchUserPreferences(JwtPrincipalUtil.getUserId(jwt), patch);
+  }
+
   /**
    * Bookmark a reporting unit for the authenticated user.
    *
@@ -128,4 +158,56 @@ public class UserController {
           "The requested resource is not available");
     }
   }
+
+  /**
+   * Bookmark many reporting units for the authenticated user in one request.
+   *
+   * <p>Delegates to {@link UserService#addUserBookmarks(String, List)}. The body is a JSON
+   * array of reporting unit ids, bounded by {@code ca.bc.gov.nrs.bookmarks.max-batch-size}.
+   * Already bookmarked reporting units are ignored.</p>
+   *
+   * @param jwt              the authenticated user's JWT principal (injected by Spring)
+   * @param reportingUnitIds the reporting units to bookmark
+   */
+  @PutMapping("/bookmarks")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public void addBookmarkedReportingUnits(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestBody List<Long> reportingUnitIds
+  ) {
+    if (featureFlagsConfiguration.isEnabled(FeatureFlag.BOOKMARK_REPORTING_UNIT_ENABLED)) {
+      log.info("Adding {} bookmark(s) for user: {}",
+          reportingUnitIds.size(), JwtPrincipalUtil.getUserId(jwt));
+      userService.addUserBookmarks(JwtPrincipalUtil.getUserId(jwt), reportingUnitIds);
+    } else {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+          "The requested resource is not available");
+    }
+  }
+
+  /**
+   * Remove many bookmarked reporting units for the authenticated user in one request.
+   *
+   * <p>Delegates to {@link UserService#deleteUserBookmarks(String, List)}. The body is a JSON
+   * array of reporting unit ids, bounded by {@code ca.bc.gov.nrs.bookmarks.max-batch-size}.
+   * Reporting units that are not bookmarked are ignored.</p>
+   *
+   * @param jwt              the authenticated user's JWT principal (injected by Spring)
+   * @param reportingUnitIds the reporting units to un-bookmark
+   */
+  @DeleteMapping("/bookmarks")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void removeBookmarkedReportingUnits(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestBody List<Long> reportingUnitIds
+  ) {
+    if (featureFlagsConfiguration.isEnabled(FeatureFlag.BOOKMARK_REPORTING_UNIT_ENABLED)) {
+      log.info("Removing {} bookmark(s) for user: {}",
+          reportingUnitIds.size(), JwtPrincipalUtil.getUserId(jwt));
+      userService.deleteUserBookmarks(JwtPrincipalUtil.getUserId(jwt), reportingUnitIds);
+    } else {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+          "The requested resource is not available");
+    }
+  }
 }
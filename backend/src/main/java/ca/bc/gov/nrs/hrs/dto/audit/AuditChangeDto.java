@@ -0,0 +1,42 @@
+package ca.bc.gov.nrs.hrs.dto.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * One audited change of a configuration row.
+ *
+ * <p>By default the previous and current values hold only the changed columns; full row images
+ * are returned only when snapshots are requested. A created row has no previous values and a
+ * hard-deleted row has no current values.</p>
+ *
+ * @param id             the audit change identifier
+ * @param eventId        the audit event the change belongs to
+ * @param entityType     the audited entity type (for example, "DISTRICT_VOLUME")
+ * @param entityId       the identifier of the audited row
+ * @param action         the mutation action (CREATE, UPDATE, SOFT_DELETE or DELETE)
+ * @param changedBy      the user who made the change
+ * @param changedAt      when the change was made
+ * @param reason         the reason recorded for the change, if any
+ * @param correlationId  the correlation id linking related changes, if any
+ * @param changedColumns the columns that changed
+ * @param previousValues the values before the change
+ * @param currentValues  the values after the change
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuditChangeDto(
+    Long id,
+    Long eventId,
+    String entityType,
+    Long entityId,
+    String action,
+    String changedBy,
+    Instant changedAt,
+    String reason,
+    String correlationId,
+    List<String> changedColumns,
+    JsonNode previousValues,
+    JsonNode currentValues
+) {}
@@ -0,0 +1,51 @@
+package ca.bc.gov.nrs.hrs.dto.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last change on a page of audit history.
+ *
+ * <p>The next page starts right after this position, so pages stay stable while new changes are
+ * recorded and reading a page never scans the ones before it. Clients treat the encoded form as
+ * opaque.</p>
+ *
+ * @param changedAt when the last change was made
+ * @param id        the audit change id for entity histories, the audit event id otherwise
+ */
+public record AuditHistoryCursor(Instant changedAt, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  /**
+   * Encodes the cursor as a URL-safe token.
+   *
+   * @return the encoded cursor
+   */
+  public String encode() {
+    return Base64
+        .getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((changedAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token produced by {@link #encode()}.
+   *
+   * @param token the encoded cursor
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is not a valid cursor
+   */
+  public static AuditHistoryCursor decode(String token) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = value.lastIndexOf(SEPARATOR);
+      return new AuditHistoryCursor(
+          Instant.parse(value.substring(0, separator)),
+          Long.parseLong(value.substring(separator + 1)));
+    } catch (RuntimeException exception) {
+      throw new IllegalArgumentException("Malformed audit history cursor", exception);
+    }
+  }
+}
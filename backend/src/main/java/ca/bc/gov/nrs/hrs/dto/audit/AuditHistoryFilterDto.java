@@ -0,0 +1,48 @@
+package ca.bc.gov.nrs.hrs.dto.audit;
+
+import java.time.Instant;
+
+/**
+ * Selects the audit history to read.
+ *
+ * <p>A filter with an entity id reads the history of that one row, a filter with a user reads
+ * the changes made by that user and any other filter reads every change in the time window,
+ * optionally narrowed to one entity type. The window is inclusive of {@code from} and exclusive
+ * of {@code to}.</p>
+ *
+ * @param entityType the audited entity type; required with an entity id
+ * @param entityId   the identifier of the audited row
+ * @param changedBy  the user who made the changes
+ * @param from       the start of the time window, inclusive
+ * @param to         the end of the time window, exclusive
+ * @param snapshots  whether full row images are returned instead of the changed columns only
+ * @param cursor     the cursor returned with the previous page, if any
+ */
+public record AuditHistoryFilterDto(
+    String entityType,
+    Long entityId,
+    String changedBy,
+    Instant from,
+    Instant to,
+    boolean snapshots,
+    String cursor
+) {
+
+  /**
+   * Whether the filter reads the history of a single row.
+   *
+   * @return {@code true} when an entity id is set
+   */
+  public boolean isEntityHistory() {
+    return entityId != null;
+  }
+
+  /**
+   * Whether the filter reads the changes made by one user.
+   *
+   * @return {@code true} when a user is set and no entity id is
+   */
+  public boolean isUserHistory() {
+    return entityId == null && changedBy != null;
+  }
+}
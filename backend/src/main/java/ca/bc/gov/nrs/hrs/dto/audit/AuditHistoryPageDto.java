@@ -0,0 +1,16 @@
+package ca.bc.gov.nrs.hrs.dto.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of audit history, newest change first.
+ *
+ * @param changes    the changes on this page
+ * @param nextCursor the cursor to request the next page with; absent on the last page
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuditHistoryPageDto(
+    List<AuditChangeDto> changes,
+    String nextCursor
+) {}
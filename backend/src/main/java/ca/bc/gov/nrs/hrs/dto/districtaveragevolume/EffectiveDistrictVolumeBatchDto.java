@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.dto.districtaveragevolume;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for resolving the effective district volume rows of many district and date pairs in
+ * one call.
+ *
+ * @param lookups the pairs to resolve, at most {@value #MAX_LOOKUPS}
+ */
+public record EffectiveDistrictVolumeBatchDto(
+    @NotEmpty
+    @Size(max = MAX_LOOKUPS)
+    List<@Valid @NotNull EffectiveDistrictVolumeLookupDto> lookups
+) {
+
+  /**
+   * Largest number of pairs accepted in a single batch.
+   */
+  public static final int MAX_LOOKUPS = 5_000;
+}
@@ -0,0 +1,47 @@
+package ca.bc.gov.nrs.hrs.dto.districtaveragevolume;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The district volume row that applies to a district on a given date.
+ *
+ * <p>Carries the configuration-level factors alongside the single matching row, so waste
+ * calculations do not have to fetch and search the whole {@link DistrictVolumeDetailDto}. Fields
+ * that do not apply to the area of the configuration are omitted.</p>
+ *
+ * @param district              the district code, as stored in the configuration
+ * @param date                  the date the lookup was made for
+ * @param configurationId       identifier of the configuration the row comes from
+ * @param area                  "INTERIOR" or "COASTAL"
+ * @param startDate             first day the configuration applies
+ * @param endDate               last day the configuration applies, or {@code null} if open-ended
+ * @param tableLevelFactor      the table level factor
+ * @param heliMultiplier        the helicopter multiplier (coastal only)
+ * @param avoidableSawlog       avoidable sawlog volume
+ * @param avoidableGrade4       avoidable Grade 4 volume (interior only)
+ * @param unavoidableGrade4     unavoidable Grade 4 volume (interior only)
+ * @param avoidableHembalGradeU avoidable HemBal Grade U volume (coast only)
+ * @param avoidableGradeY       avoidable Grade Y volume (coast only)
+ * @param unavoidable           unavoidable volume (coast only)
+ * @param total                 total volume for the district row
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EffectiveDistrictVolumeDto(
+    String district,
+    LocalDate date,
+    Long configurationId,
+    String area,
+    LocalDate startDate,
+    LocalDate endDate,
+    BigDecimal tableLevelFactor,
+    BigDecimal heliMultiplier,
+    BigDecimal avoidableSawlog,
+    BigDecimal avoidableGrade4,
+    BigDecimal unavoidableGrade4,
+    BigDecimal avoidableHembalGradeU,
+    BigDecimal avoidableGradeY,
+    BigDecimal unavoidable,
+    BigDecimal total
+) {}
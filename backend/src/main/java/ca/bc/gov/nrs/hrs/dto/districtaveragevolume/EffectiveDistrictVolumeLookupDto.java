@@ -0,0 +1,16 @@
+package ca.bc.gov.nrs.hrs.dto.districtaveragevolume;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+/**
+ * A single district and date pair within a batch effective district volume lookup.
+ *
+ * @param district the district code, case-insensitive
+ * @param date     the date to resolve the configuration for
+ */
+public record EffectiveDistrictVolumeLookupDto(
+    @NotBlank String district,
+    @NotNull LocalDate date
+) {}
@@ -0,0 +1,18 @@
+package ca.bc.gov.nrs.hrs.dto.districtaveragevolume;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A problem found while importing a district volume or species composition table.
+ *
+ * @param row     the row number in the uploaded file, or {@code null} for a problem with the
+ *                file as a whole
+ * @param column  the column heading the problem relates to, or {@code null} for the whole row
+ * @param message what is wrong
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TableImportErrorDto(
+    Long row,
+    String column,
+    String message
+) {}
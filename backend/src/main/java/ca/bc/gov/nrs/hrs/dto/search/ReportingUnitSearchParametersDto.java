@@ -3,8 +3,12 @@ package ca.bc.gov.nrs.hrs.dto.search;
 import ca.bc.gov.nrs.hrs.util.UriUtils;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -34,6 +38,9 @@ import org.springframework.util.MultiValueMap;
 @Builder
 public class ReportingUnitSearchParametersDto {
 
+  private static final Set<String> MULTI_VALUED_PARAMETERS =
+      Set.of("district", "sampling", "status", "clientNumbers");
+
   private String mainSearchTerm;
   private List<String> district;
   private List<String> sampling;
@@ -130,6 +137,58 @@ public class ReportingUnitSearchParametersDto {
     return toMultiMap(null);
   }
 
+  /**
+   * Convert the populated search parameters into a JSON-friendly request body.
+   *
+   * <p>Values are normalized exactly as in {@link #toMultiMap(Pageable)}, but the
+   * {@code reportingUnitIds} are kept as numbers in a single array so large id sets, such as a
+   * user's bookmarks, can be sent in a POST body instead of as repeated query parameters.
+   * Paging information is not included and must still be sent as query parameters.</p>
+   *
+   * @return a map of non-empty search parameters keyed by the legacy field names
+   */
+  public Map<String, Object> toRequestBody() {
+    Map<String, Object> body = new LinkedHashMap<>();
+    toMultiMap().forEach((key, values) -> {
+      if (!"reportingUnitIds".equals(key)) {
+        body.put(key, MULTI_VALUED_PARAMETERS.contains(key) ? values : values.getFirst());
+      }
+    });
+    if (!CollectionUtils.isEmpty(reportingUnitIds)) {
+      body.put("reportingUnitIds", reportingUnitIds);
+    }
+    return body;
+  }
+
+  /**
+   * Describes which filters are set, without their values.
+   *
+   * <p>The shape lists the names of the populated filters in declaration order, separated by
+   * {@code +}, or is {@code none} when no filter is set. The reporting unit ids are not part of
+   * it as they are only filled in from the user's bookmarks. It is meant as a metric tag, so the
+   * number of distinct shapes is bounded by the number of filter combinations.</p>
+   *
+   * @return the filter shape, for example {@code district+status}
+   */
+  public String filterShape() {
+    List<String> filters = new ArrayList<>();
+    addIf(filters, "mainSearchTerm", StringUtils.isNotBlank(mainSearchTerm));
+    addIf(filters, "district", !CollectionUtils.isEmpty(district));
+    addIf(filters, "sampling", !CollectionUtils.isEmpty(sampling));
+    addIf(filters, "status", !CollectionUtils.isEmpty(status));
+    addIf(filters, "requestByMe", requestByMe);
+    addIf(filters, "multiMark", multiMark);
+    addIf(filters, "bookmarked", bookmarked);
+    addIf(filters, "requestUserId", StringUtils.isNotBlank(requestUserId));
+    addIf(filters, "updateDateStart", updateDateStart != null);
+    addIf(filters, "updateDateEnd", updateDateEnd != null);
+    addIf(filters, "licenseeId", StringUtils.isNotBlank(licenseeId));
+    addIf(filters, "cuttingPermitId", StringUtils.isNotBlank(cuttingPermitId));
+    addIf(filters, "timberMark", StringUtils.isNotBlank(timberMark));
+    addIf(filters, "clientNumbers", !CollectionUtils.isEmpty(clientNumbers));
+    return filters.isEmpty() ? "none" : String.join("+", filters);
+  }
+
   /**
    * Checks whether all search parameters are empty or unset.
    *
@@ -151,4 +210,10 @@ public class ReportingUnitSearchParametersDto {
            && StringUtils.isBlank(timberMark)
            && CollectionUtils.isEmpty(clientNumbers);
   }
+
+  private static void addIf(List<String> filters, String name, boolean set) {
+    if (set) {
+      filters.add(name);
+    }
+  }
 }
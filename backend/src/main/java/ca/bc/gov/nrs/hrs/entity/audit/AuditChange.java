@@ -9,13 +9,18 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.Getter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 /**
- * Per-row audit change with JSONB snapshots.
+ * Per-row audit change with JSONB row images.
  * No foreign key on entity_id — polymorphic audit.
+ *
+ * <p>Updates only carry their changed keys unless {@link #isSnapshot()} is set; full images are
+ * rebuilt by {@code hrs.audit_row_image}. The partition key {@code changed_at} is filled in by
+ * the database.</p>
  */
 @Entity
 @Table(name = "audit_change", schema = "hrs")
@@ -31,6 +36,10 @@ public class AuditChange {
   @Column(name = "event_id", nullable = false)
   private Long eventId;
 
+  @Column(name = "changed_at", nullable = false, insertable = false, updatable = false,
+      columnDefinition = "TIMESTAMPTZ DEFAULT NOW()")
+  private Instant changedAt;
+
   @Column(name = "entity_type", nullable = false, length = 64)
   private String entityType;
 
@@ -51,6 +60,9 @@ public class AuditChange {
   @Column(name = "changed_columns", columnDefinition = "text[]")
   private String[] changedColumns;
 
+  @Column(nullable = false, insertable = false, updatable = false)
+  private boolean snapshot;
+
   protected AuditChange() {}
 
   /**
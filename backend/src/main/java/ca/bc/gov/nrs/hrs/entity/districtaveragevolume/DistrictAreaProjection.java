@@ -0,0 +1,14 @@
+package ca.bc.gov.nrs.hrs.entity.districtaveragevolume;
+
+/**
+ * A district code paired with the area of an active configuration that contains it.
+ *
+ * <p>Returned by the district lookup queries, which read the generated
+ * {@code district_codes} column instead of the {@code table_data} payload.</p>
+ */
+public interface DistrictAreaProjection {
+
+  String getDistrictCode();
+
+  String getArea();
+}
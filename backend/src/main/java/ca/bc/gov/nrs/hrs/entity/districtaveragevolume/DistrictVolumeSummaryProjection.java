@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.entity.districtaveragevolume;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Column-restricted view of a {@link DistrictVolumeEntity} used by the list endpoints.
+ *
+ * <p>Only the columns shown in a listing are selected, so paging through configurations never
+ * reads or deserializes the {@code table_data} JSONB payload.</p>
+ */
+public interface DistrictVolumeSummaryProjection {
+
+  Long getId();
+
+  Area getArea();
+
+  LocalDate getStartDate();
+
+  LocalDate getEndDate();
+
+  String getCreatedBy();
+
+  LocalDateTime getDateOfUpload();
+}
@@ -0,0 +1,24 @@
+package ca.bc.gov.nrs.hrs.entity.users;
+
+/**
+ * Projection returned by single-statement preference writes.
+ *
+ * <p>Carries the stored preferences as raw JSON text together with the row revision they were
+ * written at, so the caller can refresh caches without reading the row again.</p>
+ */
+public interface UserPreferenceRevisionProjection {
+
+  /**
+   * The stored preferences serialized as JSON.
+   *
+   * @return the JSON document
+   */
+  String getPreferences();
+
+  /**
+   * The row revision after the write.
+   *
+   * @return the revision
+   */
+  Long getRevision();
+}
@@ -0,0 +1,31 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a bulk request carries more items than allowed.
+ *
+ * <p>Annotated with {@link ResponseStatus} so when thrown from a controller it
+ * translates to an HTTP 400 (Bad Request) response stating the limit.
+ * </p>
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class BatchSizeExceededException extends ResponseStatusException {
+
+  /**
+   * Constructs a new BatchSizeExceededException.
+   *
+   * @param entityName the name of the entity being processed in bulk
+   * @param size       the number of items received
+   * @param maxSize    the maximum number of items allowed
+   */
+  public BatchSizeExceededException(String entityName, int size, int maxSize) {
+    super(
+        HttpStatus.BAD_REQUEST,
+        String.format("%s batch of %d item(s) exceeds the maximum of %d", entityName, size,
+            maxSize)
+    );
+  }
+}
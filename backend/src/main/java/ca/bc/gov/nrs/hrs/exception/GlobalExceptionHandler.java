@@ -166,6 +166,34 @@ public class GlobalExceptionHandler {
    * @return a 400 {@link ResponseEntity} containing a {@link ProblemDetail}
    */
 
+  /**
+   * Handle {@link TableImportException} raised when an uploaded configuration table fails
+   * validation.
+   *
+   * <p>Returns HTTP 400 Bad Request with a {@link ProblemDetail} whose {@code errors} property
+   * lists every problem found, each with its row number and column heading where known.</p>
+   *
+   * @param ex the import exception carrying the problems
+   * @param request the current {@link HttpServletRequest} used to populate the
+   *        ProblemDetail instance URI
+   * @return a 400 {@link ResponseEntity} containing a {@link ProblemDetail}
+   */
+  @ExceptionHandler(TableImportException.class)
+  public ResponseEntity<ProblemDetail> handleTableImport(
+      TableImportException ex, HttpServletRequest request) {
+    log.warn("Table import rejected: {}", ex.getReason());
+
+    ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    problem.setTitle("Import Validation Failed");
+    problem.setDetail(ex.getReason());
+    problem.setInstance(URI.create(request.getRequestURI()));
+    problem.setProperty("errors", ex.getErrors());
+
+    return ResponseEntity.badRequest()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .body(problem);
+  }
+
   @ExceptionHandler(ResponseStatusException.class)
   public ResponseEntity<ProblemDetail> handleResponseStatusException(
       ResponseStatusException ex, HttpServletRequest request) {
@@ -188,6 +216,7 @@ public class GlobalExceptionHandler {
     problem.setInstance(URI.create(request.getRequestURI()));
 
     return ResponseEntity.status(status)
+        .headers(ex.getHeaders())
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
         .body(problem);
   }
@@ -0,0 +1,35 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableImportErrorDto;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when an uploaded configuration table fails validation.
+ *
+ * <p>Carries every problem found in the file, so the user can fix them all before uploading it
+ * again. Mapped to HTTP 400 (Bad Request) with the problems listed in the response body.
+ * </p>
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class TableImportException extends ResponseStatusException {
+
+  private final transient List<TableImportErrorDto> errors;
+
+  /**
+   * Constructs a new TableImportException.
+   *
+   * @param errors the problems found in the uploaded table
+   */
+  public TableImportException(List<TableImportErrorDto> errors) {
+    super(
+        HttpStatus.BAD_REQUEST,
+        String.format("The uploaded table has %d error(s)", errors.size())
+    );
+    this.errors = List.copyOf(errors);
+  }
+}
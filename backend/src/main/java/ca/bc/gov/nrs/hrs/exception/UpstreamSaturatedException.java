@@ -0,0 +1,67 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a request to an upstream service is rejected without being sent, because
+ * the upstream concurrency limit is reached or the upstream asked to hold off.
+ *
+ * <p>This maps to HTTP 503 (Service Unavailable) and carries a {@code Retry-After} header with
+ * the suggested delay in whole seconds.</p>
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class UpstreamSaturatedException extends ResponseStatusException {
+
+  /**
+   * Suggested delay before the request is retried.
+   */
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new UpstreamSaturatedException.
+   *
+   * @param upstream   the name of the saturated upstream service
+   * @param retryAfter the suggested delay before retrying
+   */
+  public UpstreamSaturatedException(String upstream, Duration retryAfter) {
+    super(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        String.format("%s is saturated, retry after %d seconds",
+            upstream, retryAfterSeconds(retryAfter)
+        )
+    );
+    this.retryAfter = retryAfter;
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(retryAfter)));
+    return headers;
+  }
+
+  /**
+   * Rethrows the throwable if it is an {@link UpstreamSaturatedException}.
+   *
+   * <p>Called first by circuit breaker fallbacks, so a rejected request fails fast with its
+   * {@code Retry-After} instead of being answered with a fallback value.</p>
+   *
+   * @param throwable the exception that triggered the fallback, may be null
+   */
+  public static void propagate(Throwable throwable) {
+    if (throwable instanceof UpstreamSaturatedException saturated) {
+      throw saturated;
+    }
+  }
+
+  private static long retryAfterSeconds(Duration retryAfter) {
+    // Rounded up, as a Retry-After of 0 invites an immediate retry
+    return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+  }
+}
@@ -0,0 +1,153 @@
+package ca.bc.gov.nrs.hrs.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link TabularReader} over RFC 4180 comma separated values.
+ *
+ * <p>Fields may be quoted, with embedded quotes doubled and line breaks allowed inside quotes. A
+ * leading UTF-8 byte order mark, as written by Excel, is ignored. The row number of a record is
+ * the line it starts on.</p>
+ */
+public final class CsvTabularReader implements TabularReader {
+
+  private static final int MAX_FIELD_LENGTH = 4_096;
+
+  private final Reader reader;
+  private long line = 1;
+  private long rowNumber;
+  private boolean started;
+  private int pending = -2;
+
+  /**
+   * Creates a reader over UTF-8 encoded CSV.
+   *
+   * @param input the CSV stream, closed with this reader
+   */
+  public CsvTabularReader(InputStream input) {
+    this(new InputStreamReader(input, StandardCharsets.UTF_8));
+  }
+
+  CsvTabularReader(Reader reader) {
+    this.reader = new BufferedReader(reader);
+  }
+
+  @Override
+  public List<String> next() throws IOException {
+    while (true) {
+      long start = line;
+      List<String> record = readRecord();
+      if (record == null) {
+        return null;
+      }
+      if (record.stream().anyMatch(field -> !field.isBlank())) {
+        rowNumber = start;
+        return record;
+      }
+    }
+  }
+
+  @Override
+  public long rowNumber() {
+    return rowNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private List<String> readRecord() throws IOException {
+    int current = read();
+    if (current == -1) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean wasQuoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (current == -1) {
+          throw new IOException("Unterminated quoted field on line " + line);
+        }
+        if (current == '"') {
+          int following = read();
+          if (following == '"') {
+            append(field, '"');
+          } else {
+            quoted = false;
+            current = following;
+            continue;
+          }
+        } else {
+          if (current == '\n') {
+            line++;
+          }
+          append(field, (char) current);
+        }
+      } else if (current == '"' && field.isEmpty() && !wasQuoted) {
+        quoted = true;
+        wasQuoted = true;
+      } else if (current == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+        wasQuoted = false;
+      } else if (current == '\r' || current == '\n' || current == -1) {
+        if (current == '\r') {
+          int following = read();
+          if (following != '\n') {
+            unread(following);
+          }
+        }
+        if (current != -1) {
+          line++;
+        }
+        fields.add(field.toString());
+        return fields;
+      } else if (wasQuoted) {
+        throw new IOException("Unexpected character after quoted field on line " + line);
+      } else {
+        append(field, (char) current);
+      }
+      current = read();
+    }
+  }
+
+  private void append(StringBuilder field, char value) throws IOException {
+    if (field.length() == MAX_FIELD_LENGTH) {
+      throw new IOException("Field on line " + line + " exceeds " + MAX_FIELD_LENGTH
+          + " characters");
+    }
+    field.append(value);
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int value = pending;
+      pending = -2;
+      return value;
+    }
+    int value = reader.read();
+    if (!started) {
+      started = true;
+      if (value == '\uFEFF') {
+        value = reader.read();
+      }
+    }
+    return value;
+  }
+
+  private void unread(int value) {
+    pending = value;
+  }
+}
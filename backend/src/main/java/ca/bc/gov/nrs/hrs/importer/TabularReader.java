@@ -0,0 +1,31 @@
+package ca.bc.gov.nrs.hrs.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Forward-only reader over the rows of an uploaded table.
+ *
+ * <p>Rows are produced one at a time as the source is read, so a caller that validates and
+ * discards each row never holds more than one of them. Blank rows are skipped.</p>
+ */
+public interface TabularReader extends Closeable {
+
+  /**
+   * Read the next non-blank row.
+   *
+   * @return the cell values of the row, in column order, or {@code null} when there are no more
+   *     rows; missing cells are returned as empty strings
+   * @throws IOException if the source cannot be read or is malformed
+   */
+  List<String> next() throws IOException;
+
+  /**
+   * Row number of the last row returned by {@link #next()}, as the user sees it in the source
+   * file.
+   *
+   * @return the 1-based row number
+   */
+  long rowNumber();
+}
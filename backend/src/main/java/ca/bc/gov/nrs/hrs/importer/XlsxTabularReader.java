@@ -0,0 +1,295 @@
+package ca.bc.gov.nrs.hrs.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * {@link TabularReader} over the first worksheet of an Office Open XML ({@code .xlsx}) workbook.
+ *
+ * <p>The workbook is opened as a zip file so its parts can be read in any order, and the
+ * worksheet is pulled through a StAX parser one row at a time. Only the shared string table is
+ * loaded up front, since cells refer to it by index; its size is bounded. Cell values are returned
+ * as they are stored, so numbers come back in their raw decimal form regardless of the cell
+ * format, and formulas come back as their cached result.</p>
+ */
+public final class XlsxTabularReader implements TabularReader {
+
+  private static final String RELATIONSHIPS_NAMESPACE =
+      "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+  private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+  private static final int MAX_SHARED_STRING_CHARACTERS = 4_000_000;
+  private static final int MAX_COLUMNS = 256;
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+  private final ZipFile zip;
+  private final List<String> sharedStrings;
+  private final InputStream sheetStream;
+  private final XMLStreamReader sheet;
+  private long rowNumber;
+
+  private XlsxTabularReader(ZipFile zip) throws IOException {
+    this.zip = zip;
+    this.sharedStrings = readSharedStrings(zip);
+    ZipEntry sheetEntry = Optional
+        .ofNullable(zip.getEntry(firstSheet(zip)))
+        .orElseThrow(() -> new IOException("The workbook has no worksheet"));
+    this.sheetStream = zip.getInputStream(sheetEntry);
+    this.sheet = parse(sheetStream);
+  }
+
+  /**
+   * Open the first worksheet of a workbook.
+   *
+   * @param workbook the {@code .xlsx} file
+   * @return a reader positioned before the first row
+   * @throws IOException if the file is not a readable workbook
+   */
+  public static XlsxTabularReader open(Path workbook) throws IOException {
+    ZipFile zip = new ZipFile(workbook.toFile());
+    try {
+      return new XlsxTabularReader(zip);
+    } catch (IOException | RuntimeException e) {
+      zip.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public List<String> next() throws IOException {
+    try {
+      while (sheet.hasNext()) {
+        if (sheet.next() == XMLStreamConstants.START_ELEMENT
+            && "row".equals(sheet.getLocalName())) {
+          String reference = sheet.getAttributeValue(null, "r");
+          rowNumber = reference == null ? rowNumber + 1 : Long.parseLong(reference);
+          List<String> row = readRow();
+          if (row.stream().anyMatch(cell -> !cell.isBlank())) {
+            return row;
+          }
+        }
+      }
+      return null;
+    } catch (XMLStreamException | NumberFormatException e) {
+      throw new IOException("The worksheet is malformed near row " + rowNumber, e);
+    }
+  }
+
+  @Override
+  public long rowNumber() {
+    return rowNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      sheet.close();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    } finally {
+      try {
+        sheetStream.close();
+      } finally {
+        zip.close();
+      }
+    }
+  }
+
+  private List<String> readRow() throws XMLStreamException, IOException {
+    List<String> row = new ArrayList<>();
+    while (sheet.hasNext()) {
+      int event = sheet.next();
+      if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+        return row;
+      }
+      if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+        int column = columnIndex(sheet.getAttributeValue(null, "r"), row.size());
+        if (column >= MAX_COLUMNS) {
+          throw new IOException("Row " + rowNumber + " has more than " + MAX_COLUMNS + " columns");
+        }
+        String value = readCell(sheet.getAttributeValue(null, "t"));
+        while (row.size() < column) {
+          row.add("");
+        }
+        row.add(value);
+      }
+    }
+    return row;
+  }
+
+  private String readCell(String type) throws XMLStreamException, IOException {
+    String stored = null;
+    StringBuilder inline = new StringBuilder();
+    while (sheet.hasNext()) {
+      int event = sheet.next();
+      if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+        break;
+      }
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if ("v".equals(sheet.getLocalName())) {
+          stored = sheet.getElementText();
+        } else if ("t".equals(sheet.getLocalName())) {
+          inline.append(sheet.getElementText());
+        }
+      }
+    }
+
+    if ("inlineStr".equals(type)) {
+      return inline.toString();
+    }
+    if (stored == null) {
+      return "";
+    }
+    if ("s".equals(type)) {
+      int index = Integer.parseInt(stored.trim());
+      if (index < 0 || index >= sharedStrings.size()) {
+        throw new IOException("Row " + rowNumber + " refers to a missing shared string");
+      }
+      return sharedStrings.get(index);
+    }
+    if ("b".equals(type)) {
+      return "1".equals(stored.trim()) ? "TRUE" : "FALSE";
+    }
+    return stored;
+  }
+
+  private static int columnIndex(String reference, int fallback) {
+    if (reference == null) {
+      return fallback;
+    }
+    int index = 0;
+    for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+      index = index * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+      if (index > MAX_COLUMNS) {
+        return MAX_COLUMNS;
+      }
+    }
+    return index == 0 ? fallback : index - 1;
+  }
+
+  private static List<String> readSharedStrings(ZipFile zip) throws IOException {
+    ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+    List<String> strings = new ArrayList<>();
+    if (entry == null) {
+      return strings;
+    }
+
+    try (InputStream input = zip.getInputStream(entry)) {
+      XMLStreamReader reader = parse(input);
+      long characters = 0;
+      StringBuilder current = null;
+      int phonetic = 0;
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          switch (reader.getLocalName()) {
+            case "si" -> current = new StringBuilder();
+            case "rPh" -> phonetic++;
+            case "t" -> {
+              String text = reader.getElementText();
+              if (current != null && phonetic == 0) {
+                characters += text.length();
+                if (characters > MAX_SHARED_STRING_CHARACTERS) {
+                  throw new IOException("The workbook's shared strings are too large");
+                }
+                current.append(text);
+              }
+            }
+            default -> {
+              // Formatting runs only wrap the text elements.
+            }
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          if ("rPh".equals(reader.getLocalName())) {
+            phonetic--;
+          } else if ("si".equals(reader.getLocalName()) && current != null) {
+            strings.add(current.toString());
+            current = null;
+          }
+        }
+      }
+      reader.close();
+      return strings;
+    } catch (XMLStreamException e) {
+      throw new IOException("The workbook's shared strings are malformed", e);
+    }
+  }
+
+  private static String firstSheet(ZipFile zip) throws IOException {
+    ZipEntry workbook = zip.getEntry("xl/workbook.xml");
+    ZipEntry relationships = zip.getEntry("xl/_rels/workbook.xml.rels");
+    if (workbook == null) {
+      throw new IOException("The file is not an xlsx workbook");
+    }
+    if (relationships == null) {
+      return DEFAULT_SHEET;
+    }
+
+    try {
+      String relationshipId = null;
+      try (InputStream input = zip.getInputStream(workbook)) {
+        XMLStreamReader reader = parse(input);
+        while (relationshipId == null && reader.hasNext()) {
+          if (reader.next() == XMLStreamConstants.START_ELEMENT
+              && "sheet".equals(reader.getLocalName())) {
+            relationshipId = reader.getAttributeValue(RELATIONSHIPS_NAMESPACE, "id");
+          }
+        }
+        reader.close();
+      }
+      if (relationshipId == null) {
+        return DEFAULT_SHEET;
+      }
+
+      Map<String, String> targets = new HashMap<>();
+      try (InputStream input = zip.getInputStream(relationships)) {
+        XMLStreamReader reader = parse(input);
+        while (reader.hasNext()) {
+          if (reader.next() == XMLStreamConstants.START_ELEMENT
+              && "Relationship".equals(reader.getLocalName())) {
+            targets.put(
+                reader.getAttributeValue(null, "Id"),
+                reader.getAttributeValue(null, "Target"));
+          }
+        }
+        reader.close();
+      }
+
+      String target = targets.get(relationshipId);
+      if (target == null) {
+        return DEFAULT_SHEET;
+      }
+      return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    } catch (XMLStreamException e) {
+      throw new IOException("The workbook is malformed", e);
+    }
+  }
+
+  private static XMLStreamReader parse(InputStream input) throws IOException {
+    try {
+      return XML_INPUT_FACTORY.createXMLStreamReader(input);
+    } catch (XMLStreamException e) {
+      throw new IOException("The workbook is malformed", e);
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    return factory;
+  }
+}
@@ -1,5 +1,8 @@
 package ca.bc.gov.nrs.hrs.mapper;
 
+import ca.bc.gov.nrs.hrs.cache.ActiveConfiguration;
+import ca.bc.gov.nrs.hrs.cache.CompactDistrictTable;
+import ca.bc.gov.nrs.hrs.cache.CompactDistrictTable.Column;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDistrictRowDto;
@@ -7,6 +10,7 @@ import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastSectionDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDistrictRowDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorZoneDto;
@@ -16,11 +20,13 @@ import ca.bc.gov.nrs.hrs.dto.speciescomposition.SpeciesCompositionDataDto;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Section;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +70,60 @@ public final class DistrictVolumeMapper {
     );
   }
 
+  /**
+   * Converts a column-restricted district volume summary into a list item DTO.
+   *
+   * @param summary source summary projection
+   * @return mapped list item DTO
+   */
+  public static DistrictVolumeListItemDto toListItemDto(DistrictVolumeSummaryProjection summary) {
+    return new DistrictVolumeListItemDto(
+        summary.getId(),
+        summary.getArea().name(),
+        summary.getStartDate(),
+        summary.getEndDate(),
+        summary.getCreatedBy(),
+        summary.getDateOfUpload().atOffset(ZoneOffset.UTC).toInstant()
+    );
+  }
+
+  /**
+   * Converts a single district row of an in-memory configuration into the effective district
+   * volume DTO.
+   *
+   * <p>Values are decoded from the compact table; this is the only point at which they become
+   * {@link BigDecimal}s again.</p>
+   *
+   * @param configuration the configuration covering the date
+   * @param row           index of the district row in {@link ActiveConfiguration#districts()}
+   * @param date          the date the lookup was made for
+   * @return mapped effective district volume DTO
+   */
+  public static EffectiveDistrictVolumeDto toEffectiveDto(
+      ActiveConfiguration configuration,
+      int row,
+      LocalDate date
+  ) {
+    CompactDistrictTable table = configuration.districts();
+    return new EffectiveDistrictVolumeDto(
+        table.code(row),
+        date,
+        configuration.id(),
+        configuration.area().name(),
+        configuration.startDate(),
+        configuration.endDate(),
+        configuration.tableLevelFactor(),
+        configuration.heliMultiplier(),
+        table.decimal(row, Column.AVOIDABLE_SAWLOG),
+        table.decimal(row, Column.AVOIDABLE_GRADE_4),
+        table.decimal(row, Column.UNAVOIDABLE_GRADE_4),
+        table.decimal(row, Column.AVOIDABLE_HEMBAL_GRADE_U),
+        table.decimal(row, Column.AVOIDABLE_GRADE_Y),
+        table.decimal(row, Column.UNAVOIDABLE),
+        table.decimal(row, Column.TOTAL)
+    );
+  }
+
   /**
    * Converts a district volume entity into a detailed DTO representation.
    *
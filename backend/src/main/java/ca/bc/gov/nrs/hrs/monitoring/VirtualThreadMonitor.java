@@ -0,0 +1,234 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.VirtualThreadConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports how virtual threads behave while {@code spring.threads.virtual.enabled} is on.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block or a native frame stays
+ * pinned to its carrier thread, which then cannot run any other virtual thread. The JDK reports
+ * every pinning longer than the threshold as a {@code jdk.VirtualThreadPinned} flight recorder
+ * event; this monitor streams those events in process, records them in the {@value #PINNED_TIMER}
+ * timer and logs the stack trace of the first pinning at every code location, up to a bound, so
+ * the driver or library holding the monitor can be found without a recording. Virtual threads
+ * that could not be scheduled are counted in {@value #SUBMIT_FAILED_COUNTER}.</p>
+ *
+ * <p>The {@value #CARRIER_GAUGE} and {@value #PARALLELISM_GAUGE} gauges report the live carrier
+ * threads and the scheduler parallelism they are sized by.</p>
+ *
+ * <p>Nothing is registered or streamed when virtual threads are disabled, and a runtime without
+ * flight recorder support, such as a native image built without it, only gets the gauges.</p>
+ *
+ * <p>The legacy service runs the same monitor. Both copies change together and differ only in
+ * the package of {@code Threading}, which moved in Spring Boot 4.</p>
+ */
+@Slf4j
+@Component
+public class VirtualThreadMonitor implements SmartLifecycle {
+
+  /**
+   * Timer recording how long virtual threads stayed pinned to their carrier.
+   */
+  public static final String PINNED_TIMER = "jvm.threads.virtual.pinned";
+
+  /**
+   * Counter of virtual threads that could not be scheduled on a carrier.
+   */
+  public static final String SUBMIT_FAILED_COUNTER = "jvm.threads.virtual.submit.failed";
+
+  /**
+   * Gauge reporting the live carrier threads.
+   */
+  public static final String CARRIER_GAUGE = "jvm.threads.virtual.carriers";
+
+  /**
+   * Gauge reporting the parallelism of the virtual thread scheduler.
+   */
+  public static final String PARALLELISM_GAUGE = "jvm.threads.virtual.carrier.parallelism";
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+  private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+  private static final String APPLICATION_PACKAGE = "ca.bc.gov.nrs.";
+  private static final int LOGGED_FRAMES = 16;
+
+  private final boolean enabled;
+  private final VirtualThreadConfiguration configuration;
+  private final MeterRegistry meterRegistry;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+  private Timer pinned;
+  private Counter submitFailed;
+  private RecordingStream stream;
+  private volatile boolean running;
+
+  /**
+   * Creates the monitor.
+   *
+   * @param environment   the environment virtual threads are enabled in
+   * @param configuration application configuration holding the diagnostics settings
+   * @param meterRegistry registry the virtual thread meters are registered in
+   */
+  @Autowired
+  public VirtualThreadMonitor(
+      Environment environment,
+      HrsConfiguration configuration,
+      MeterRegistry meterRegistry
+  ) {
+    this(
+        Threading.VIRTUAL.isActive(environment),
+        Optional
+            .ofNullable(configuration.getVirtualThreads())
+            .orElseGet(VirtualThreadConfiguration::new),
+        meterRegistry
+    );
+  }
+
+  VirtualThreadMonitor(
+      boolean enabled,
+      VirtualThreadConfiguration configuration,
+      MeterRegistry meterRegistry
+  ) {
+    this.enabled = enabled;
+    this.configuration = configuration;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || running) {
+      return;
+    }
+    pinned = Timer
+        .builder(PINNED_TIMER)
+        .description("Time virtual threads stayed pinned to their carrier thread")
+        .register(meterRegistry);
+    submitFailed = Counter
+        .builder(SUBMIT_FAILED_COUNTER)
+        .description("Virtual threads that could not be scheduled")
+        .register(meterRegistry);
+    Gauge
+        .builder(CARRIER_GAUGE, VirtualThreadMonitor::carrierThreads)
+        .description("Live carrier threads of the virtual thread scheduler")
+        .register(meterRegistry);
+    Gauge
+        .builder(PARALLELISM_GAUGE, VirtualThreadMonitor::parallelism)
+        .description("Parallelism of the virtual thread scheduler")
+        .register(meterRegistry);
+
+    try {
+      RecordingStream recording = new RecordingStream();
+      recording
+          .enable(PINNED_EVENT)
+          .withThreshold(configuration.getPinnedThreshold())
+          .withStackTrace();
+      recording.enable(SUBMIT_FAILED_EVENT);
+      recording.onEvent(PINNED_EVENT, event ->
+          onPinned(event.getDuration(), frames(event.getStackTrace())));
+      recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+      recording.startAsync();
+      stream = recording;
+      log.info("Reporting virtual threads pinned for {} or longer",
+          configuration.getPinnedThreshold());
+    } catch (RuntimeException | LinkageError exception) {
+      log.warn("Pinned virtual threads are not reported, flight recorder unavailable: {}",
+          exception.getMessage());
+    }
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Records a pinning and logs it the first time its code location is seen.
+   *
+   * @param duration how long the virtual thread stayed pinned
+   * @param frames   the stack of the pinned thread, innermost first
+   */
+  void onPinned(Duration duration, List<String> frames) {
+    pinned.record(duration);
+    String site = frames
+        .stream()
+        .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+        .findFirst()
+        .orElseGet(() -> frames
+            .stream()
+            .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+            .findFirst()
+            .orElse("unknown"));
+    if (reportedSites.size() < configuration.getMaxReportedSites() && reportedSites.add(site)) {
+      log.warn("Virtual thread pinned for {} at {}:\n\tat {}",
+          duration,
+          site,
+          String.join("\n\tat ", frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))));
+    }
+  }
+
+  private static List<String> frames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return List.of();
+    }
+    return stackTrace
+        .getFrames()
+        .stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .map(frame -> frame.getMethod().getType().getName()
+            + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber())
+        .toList();
+  }
+
+  static int carrierThreads() {
+    ThreadGroup root = Thread.currentThread().getThreadGroup();
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    Thread[] threads = new Thread[root.activeCount() * 2 + 16];
+    int count = root.enumerate(threads, true);
+    int carriers = 0;
+    for (int i = 0; i < count; i++) {
+      if (CARRIER_THREAD_CLASS.equals(threads[i].getClass().getName())) {
+        carriers++;
+      }
+    }
+    return carriers;
+  }
+
+  static int parallelism() {
+    return Integer.getInteger(
+        "jdk.virtualThreadScheduler.parallelism",
+        Runtime.getRuntime().availableProcessors());
+  }
+}
@@ -0,0 +1,353 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.UpstreamLimitConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsMetricConfiguration;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Client request interceptor bounding the number of concurrent requests sent to one upstream
+ * service with an adaptive limit.
+ *
+ * <p>The limit follows additive increase, multiplicative decrease, driven by latency the way TCP
+ * Vegas is. Every operation, the request method and path with its identifiers left out, has its
+ * own baseline latency: the median of its last successful responses, so fast code table reads and
+ * slow searches are each judged against their own usual speed. A response slower than its
+ * baseline times the tolerance, an I/O failure or a 429 or 503 answer shrinks the limit by the
+ * backoff ratio; any other response grows it by one while at least half of it is in use. Latency
+ * is measured until the response headers arrive, while the slot is held until the response is
+ * closed, once its body has been read.</p>
+ *
+ * <p>A request over the limit is not sent and fails at once with an
+ * {@link UpstreamSaturatedException}, so request threads never queue behind a slow upstream.
+ * When the upstream answers 429 or 503 with a {@code Retry-After}, every request is rejected the
+ * same way until then, up to the configured maximum.</p>
+ *
+ * <p>Three meters are registered, tagged with the {@code upstream} name: the
+ * {@value #LIMIT_GAUGE} and {@value #INFLIGHT_GAUGE} gauges and the {@value #REJECTION_COUNTER}
+ * counter, which is also tagged with the {@code reason}, {@code limit} or
+ * {@code retry-after}.</p>
+ */
+@Slf4j
+public class UpstreamConcurrencyLimiter implements ClientHttpRequestInterceptor {
+
+  /**
+   * Gauge reporting the current concurrency limit.
+   */
+  public static final String LIMIT_GAUGE =
+      HrsMetricConfiguration.UPSTREAM_METER_PREFIX + ".concurrency.limit";
+
+  /**
+   * Gauge reporting the requests currently awaiting a response.
+   */
+  public static final String INFLIGHT_GAUGE =
+      HrsMetricConfiguration.UPSTREAM_METER_PREFIX + ".concurrency.inflight";
+
+  /**
+   * Counter of requests rejected without being sent.
+   */
+  public static final String REJECTION_COUNTER =
+      HrsMetricConfiguration.UPSTREAM_METER_PREFIX + ".concurrency.rejections";
+
+  private static final Pattern IDENTIFIER = Pattern.compile("/[0-9][^/]*");
+  private static final int MIN_BASELINE_SAMPLES = 5;
+  private static final int MAX_OPERATIONS = 64;
+  private static final String OTHER_OPERATION = "other";
+
+  private final String upstream;
+  private final UpstreamLimitConfiguration configuration;
+  private final AtomicInteger inflight = new AtomicInteger();
+  private final Map<String, Baseline> baselines = new HashMap<>();
+  private final Counter limitRejections;
+  private final Counter retryAfterRejections;
+
+  private volatile double limit;
+  private volatile long holdOffUntil;
+
+  /**
+   * Creates the limiter and registers its meters.
+   *
+   * @param upstream      name of the upstream service, used as the {@code upstream} tag
+   * @param configuration the limit settings
+   * @param meterRegistry registry the limiter meters are registered in
+   */
+  public UpstreamConcurrencyLimiter(
+      @NonNull String upstream,
+      @NonNull UpstreamLimitConfiguration configuration,
+      @NonNull MeterRegistry meterRegistry
+  ) {
+    this.upstream = upstream;
+    this.configuration = configuration;
+    this.limit = configuration.getInitialLimit();
+    this.holdOffUntil = System.nanoTime();
+
+    Gauge
+        .builder(LIMIT_GAUGE, this, UpstreamConcurrencyLimiter::getLimit)
+        .description("Current concurrency limit of upstream requests")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+    Gauge
+        .builder(INFLIGHT_GAUGE, inflight, AtomicInteger::get)
+        .description("Upstream requests awaiting a response")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+    this.limitRejections = rejections(meterRegistry, "limit");
+    this.retryAfterRejections = rejections(meterRegistry, "retry-after");
+  }
+
+  @Override
+  public @NonNull ClientHttpResponse intercept(
+      @NonNull HttpRequest request,
+      byte @NonNull [] body,
+      @NonNull ClientHttpRequestExecution execution
+  ) throws IOException {
+    long startedAt = System.nanoTime();
+    long holdOff = holdOffUntil - startedAt;
+    if (holdOff > 0) {
+      retryAfterRejections.increment();
+      throw new UpstreamSaturatedException(upstream, Duration.ofNanos(holdOff));
+    }
+
+    int acquired = tryAcquire();
+    if (acquired < 0) {
+      limitRejections.increment();
+      throw new UpstreamSaturatedException(upstream, configuration.getRetryAfter());
+    }
+
+    String operation = operation(request);
+    ClientHttpResponse response;
+    try {
+      response = execution.execute(request, body);
+    } catch (IOException | RuntimeException exception) {
+      inflight.decrementAndGet();
+      onSample(operation, System.nanoTime() - startedAt, acquired, true);
+      throw exception;
+    }
+
+    try {
+      int status = response.getStatusCode().value();
+      boolean overloaded = status == HttpStatus.TOO_MANY_REQUESTS.value()
+          || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+      if (overloaded) {
+        holdOff(response.getHeaders());
+      }
+      onSample(operation, System.nanoTime() - startedAt, acquired, overloaded);
+    } catch (IOException | RuntimeException exception) {
+      inflight.decrementAndGet();
+      response.close();
+      throw exception;
+    }
+    return new ReleasingResponse(response);
+  }
+
+  /**
+   * Returns the current concurrency limit.
+   *
+   * @return the number of concurrent requests allowed
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Returns the number of requests awaiting a response.
+   *
+   * @return the inflight request count
+   */
+  public int getInflight() {
+    return inflight.get();
+  }
+
+  /**
+   * Takes a slot under the limit.
+   *
+   * @return the inflight count before the slot was taken, or -1 when the limit is reached
+   */
+  private int tryAcquire() {
+    while (true) {
+      int current = inflight.get();
+      if (current >= getLimit()) {
+        return -1;
+      }
+      if (inflight.compareAndSet(current, current + 1)) {
+        return current;
+      }
+    }
+  }
+
+  /**
+   * Adjusts the limit after a response or failure.
+   *
+   * @param operation the operation the request belongs to
+   * @param nanos     the time until the response headers arrived
+   * @param inflight  the requests already inflight when this one was sent
+   * @param dropped   whether the request failed or the upstream reported overload
+   */
+  synchronized void onSample(String operation, long nanos, int inflight, boolean dropped) {
+    boolean congested = dropped;
+    if (!dropped) {
+      // Unexpected paths share one baseline rather than growing the map without bound
+      String key = baselines.size() < MAX_OPERATIONS || baselines.containsKey(operation)
+          ? operation
+          : OTHER_OPERATION;
+      Baseline baseline = baselines.computeIfAbsent(key,
+          name -> new Baseline(Math.max(1, configuration.getBaselineWindow())));
+      long median = baseline.median();
+      congested = median > 0 && nanos > median * configuration.getLatencyTolerance();
+      baseline.add(nanos);
+    }
+
+    if (congested) {
+      limit = Math.max(configuration.getMinLimit(), limit * configuration.getBackoffRatio());
+    } else if ((inflight + 1) * 2 >= limit) {
+      limit = Math.min(configuration.getMaxLimit(), limit + 1);
+    }
+  }
+
+  /**
+   * Names the operation of a request, its method and path with the segments starting with a
+   * digit, such as identifiers, replaced.
+   *
+   * @param request the request
+   * @return the operation name
+   */
+  static String operation(HttpRequest request) {
+    return request.getMethod().name() + " "
+        + IDENTIFIER.matcher(StringUtils.defaultString(request.getURI().getPath()))
+            .replaceAll("/{id}");
+  }
+
+  private void holdOff(HttpHeaders headers) {
+    Duration retryAfter = parseRetryAfter(headers);
+    if (retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()) {
+      return;
+    }
+    if (retryAfter.compareTo(configuration.getMaxRetryAfter()) > 0) {
+      retryAfter = configuration.getMaxRetryAfter();
+    }
+    log.warn("{} asked to hold off for {}", upstream, retryAfter);
+    holdOffUntil = System.nanoTime() + retryAfter.toNanos();
+  }
+
+  private static Duration parseRetryAfter(HttpHeaders headers) {
+    String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+    if (StringUtils.isBlank(value)) {
+      return null;
+    }
+    if (StringUtils.isNumeric(value.trim())) {
+      return Duration.ofSeconds(Long.parseLong(value.trim()));
+    }
+    try {
+      // Retry-After can also be an HTTP-date
+      return Duration.ofMillis(headers.getFirstDate(HttpHeaders.RETRY_AFTER)
+          - System.currentTimeMillis());
+    } catch (IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  private Counter rejections(MeterRegistry meterRegistry, String reason) {
+    return Counter
+        .builder(REJECTION_COUNTER)
+        .description("Upstream requests rejected without being sent")
+        .tags("upstream", upstream, "reason", reason)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Latest successful response times of one operation, in a ring.
+   */
+  private static final class Baseline {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    private Baseline(int window) {
+      this.samples = new long[window];
+    }
+
+    private void add(long nanos) {
+      samples[next] = nanos;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * Returns the median of the samples, or 0 until there are enough of them to judge by.
+     */
+    private long median() {
+      if (count < Math.min(MIN_BASELINE_SAMPLES, samples.length)) {
+        return 0;
+      }
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      return sorted[count / 2];
+    }
+  }
+
+  /**
+   * Response giving its slot back once it is closed, after its body has been read.
+   */
+  private final class ReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ReleasingResponse(ClientHttpResponse delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public @NonNull HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public @NonNull String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public @NonNull HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public @NonNull InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          inflight.decrementAndGet();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsMetricConfiguration;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Client request interceptor that records the latency and response size of every exchange with
+ * an upstream service.
+ *
+ * <p>Two meters are recorded per exchange, both tagged with the {@code upstream} name, the HTTP
+ * {@code method}, the {@code uri} and the response {@code status} and {@code outcome}:</p>
+ * <ul>
+ *   <li>{@value #REQUEST_TIMER}, the time until the response headers arrive;</li>
+ *   <li>{@value #RESPONSE_SIZE_SUMMARY}, the number of body bytes read, recorded once the
+ *   response is closed.</li>
+ * </ul>
+ *
+ * <p>The {@code uri} tag is the URI template when the request was built from one, or the request
+ * path with every segment holding a digit replaced by {@code {id}} otherwise, so client numbers
+ * and reporting unit ids never become tag values. Query strings are dropped. The number of
+ * distinct values is further bounded by {@link HrsMetricConfiguration}.</p>
+ */
+@RequiredArgsConstructor
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+  /**
+   * Timer recording the latency of upstream exchanges.
+   */
+  public static final String REQUEST_TIMER =
+      HrsMetricConfiguration.UPSTREAM_METER_PREFIX + ".requests";
+
+  /**
+   * Summary recording the response body size of upstream exchanges, in bytes.
+   */
+  public static final String RESPONSE_SIZE_SUMMARY =
+      HrsMetricConfiguration.UPSTREAM_METER_PREFIX + ".response.size";
+
+  private static final String URI_TEMPLATE_ATTRIBUTE = RestClient.class.getName() + ".uriTemplate";
+  private static final Pattern IDENTIFIER_SEGMENT = Pattern.compile("[^/]*\\d[^/]*");
+
+  /**
+   * Name of the upstream service, used as the {@code upstream} tag.
+   */
+  @NonNull
+  private final String upstream;
+
+  @NonNull
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public @NonNull ClientHttpResponse intercept(
+      @NonNull HttpRequest request,
+      byte @NonNull [] body,
+      @NonNull ClientHttpRequestExecution execution
+  ) throws IOException {
+    Tags tags = Tags.of(
+        "upstream", upstream,
+        "method", request.getMethod().name(),
+        "uri", uriTag(request)
+    );
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    ClientHttpResponse response;
+    try {
+      response = execution.execute(request, body);
+    } catch (IOException | RuntimeException exception) {
+      sample.stop(timer(tags.and("status", "IO_ERROR", "outcome", Outcome.UNKNOWN.name())));
+      throw exception;
+    }
+
+    HttpStatusCode status = response.getStatusCode();
+    Tags responseTags = tags.and(
+        "status", String.valueOf(status.value()),
+        "outcome", Outcome.forStatus(status.value()).name()
+    );
+    sample.stop(timer(responseTags));
+
+    return new MeteredResponse(
+        response,
+        DistributionSummary
+            .builder(RESPONSE_SIZE_SUMMARY)
+            .description("Response body size of upstream exchanges")
+            .baseUnit("bytes")
+            .tags(responseTags)
+            .register(meterRegistry)
+    );
+  }
+
+  /**
+   * Resolves the {@code uri} tag of a request.
+   *
+   * @param request the outgoing request
+   * @return the URI template, or the normalized request path
+   */
+  static String uriTag(HttpRequest request) {
+    Object template = request.getAttributes().get(URI_TEMPLATE_ATTRIBUTE);
+    String uri = template instanceof String value
+        ? StringUtils.substringBefore(value, '?')
+        : IDENTIFIER_SEGMENT.matcher(request.getURI().getRawPath()).replaceAll("{id}");
+    return StringUtils.defaultIfBlank(uri, "/");
+  }
+
+  private Timer timer(Tags tags) {
+    return Timer
+        .builder(REQUEST_TIMER)
+        .description("Latency of upstream exchanges until the response headers arrive")
+        .tags(tags)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Response decorator counting the body bytes read and recording them once on close.
+   */
+  @RequiredArgsConstructor
+  private static class MeteredResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final DistributionSummary sizeSummary;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private long bytesRead;
+    private InputStream body;
+
+    @Override
+    public @NonNull HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public @NonNull String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public @NonNull HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public @NonNull InputStream getBody() throws IOException {
+      if (body == null) {
+        body = new FilterInputStream(delegate.getBody()) {
+
+          @Override
+          public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+              bytesRead++;
+            }
+            return value;
+          }
+
+          @Override
+          public int read(byte @NonNull [] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+              bytesRead += count;
+            }
+            return count;
+          }
+        };
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      if (recorded.compareAndSet(false, true)) {
+        sizeSummary.record(bytesRead);
+      }
+      delegate.close();
+    }
+  }
+}
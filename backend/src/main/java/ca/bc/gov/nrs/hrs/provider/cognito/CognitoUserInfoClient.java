@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.hrs.provider.cognito;
 
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
 import java.util.List;
@@ -76,7 +77,7 @@ public class CognitoUserInfoClient {
 
       return Optional.of(mapResponse(body));
 
-    } catch (RestClientException ex) {
+    } catch (RestClientException | UpstreamSaturatedException ex) {
       log.warn("Failed to fetch user info from {}: {}", PROVIDER, ex.getMessage());
       return Optional.empty();
     }
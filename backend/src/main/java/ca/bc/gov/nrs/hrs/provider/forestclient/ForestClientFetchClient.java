@@ -5,6 +5,7 @@ import ca.bc.gov.nrs.hrs.exception.ForestClientNotFoundException;
 import ca.bc.gov.nrs.hrs.exception.RetriableException;
 import ca.bc.gov.nrs.hrs.exception.TooManyRequestsException;
 import ca.bc.gov.nrs.hrs.exception.UnretriableException;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
@@ -87,6 +88,7 @@ public class ForestClientFetchClient {
 
   @SuppressWarnings("unused")
   private Optional<ForestClientDto> fetchClientByNumberFallBack(String number, Throwable ex) {
+    UpstreamSaturatedException.propagate(ex);
     log.warn("Fallback for fetchClientByNumber for {} due to {}.",
         PROVIDER,
         ex == null ? "unknown" : ex.toString()
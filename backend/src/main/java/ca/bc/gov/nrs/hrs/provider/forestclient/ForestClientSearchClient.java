@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.hrs.provider.forestclient;
 
 import ca.bc.gov.nrs.hrs.BackendConstants;
 import ca.bc.gov.nrs.hrs.dto.client.ForestClientDto;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import ca.bc.gov.nrs.hrs.util.UriUtils;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.observation.annotation.Observed;
@@ -49,7 +50,7 @@ public class ForestClientSearchClient {
    * @param value search value for name/acronym/number
    * @return a {@link Page} of {@link ForestClientDto}
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "paginatedFallback")
+  @CircuitBreaker(name = "forest-client-search", fallbackMethod = "paginatedFallback")
   @NewSpan
   public Page<ForestClientDto> searchClients(
       int page,
@@ -101,7 +102,9 @@ public class ForestClientSearchClient {
    * @param name   Optional name filter
    * @return List of matching ForestClientDto
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "searchClientsByIdsFallback")
+  @CircuitBreaker(
+      name = "forest-client-search-by-ids",
+      fallbackMethod = "searchClientsByIdsFallback")
   @NewSpan
   public List<ForestClientDto> searchClientsByIds(
       int page,
@@ -134,6 +137,7 @@ public class ForestClientSearchClient {
       String value,
       Throwable ex
   ) {
+    UpstreamSaturatedException.propagate(ex);
     log.warn("Fallback for searchClients for {} due to {}.",
         PROVIDER,
         ex == null ? "unknown" : ex.toString()
@@ -150,6 +154,7 @@ public class ForestClientSearchClient {
       String name,
       Throwable ex
   ) {
+    UpstreamSaturatedException.propagate(ex);
     log.warn("Fallback for searchClientsByIds for {} due to {}.",
         PROVIDER,
         ex == null ? "unknown" : ex.toString()
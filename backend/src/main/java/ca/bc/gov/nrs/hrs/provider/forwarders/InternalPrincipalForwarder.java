@@ -0,0 +1,121 @@
+package ca.bc.gov.nrs.hrs.provider.forwarders;
+
+import ca.bc.gov.nrs.hrs.BackendConstants;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.InternalPrincipalConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestInitializer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Client request initializer that forwards an HMAC-signed copy of the current user's
+ * identity claims to the legacy API.
+ *
+ * <p>The backend has already validated the JWT and parsed its claims by the time a legacy
+ * call is made. When {@code ca.bc.gov.nrs.internal-principal.enabled} is {@code true}, this
+ * initializer serializes the identity claims used by the legacy module into a compact
+ * {@code base64url(payload).base64url(hmac)} value and sends it in the
+ * {@link BackendConstants#X_INTERNAL_PRINCIPAL} header. The legacy module verifies the HMAC
+ * and trusts those claims instead of re-verifying the JWT signature.</p>
+ *
+ * <p>The bearer token is still forwarded by {@link JwtForwarderRequestInitializer}, so the
+ * legacy module falls back to the regular JWT path whenever the header is absent, expired or
+ * fails verification.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalPrincipalForwarder implements ClientHttpRequestInitializer {
+
+  static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  /**
+   * Claims consumed by the legacy module when deriving identity, user id and client scoping.
+   */
+  static final List<String> FORWARDED_CLAIMS = List.of(
+      "sub",
+      "email",
+      "given_name",
+      "family_name",
+      "cognito:groups",
+      "custom:idp_name",
+      "custom:idp_username",
+      "custom:idp_user_id",
+      "custom:idp_display_name",
+      "custom:idp_business_id",
+      "custom:idp_business_name"
+  );
+
+  private final HrsConfiguration configuration;
+  private final JsonMapper mapper;
+
+  @Override
+  public void initialize(ClientHttpRequest request) {
+    InternalPrincipalConfiguration internal = configuration.getInternalPrincipal();
+    if (internal == null || !internal.isEnabled() || StringUtils.isBlank(internal.getSecret())) {
+      return;
+    }
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication instanceof JwtAuthenticationToken jwtAuth
+        && jwtAuth.isAuthenticated()) {
+      try {
+        request.getHeaders().set(
+            BackendConstants.X_INTERNAL_PRINCIPAL,
+            sign(jwtAuth.getToken(), internal)
+        );
+      } catch (GeneralSecurityException e) {
+        log.warn("Unable to sign internal principal, falling back to JWT only: {}",
+            e.getMessage());
+      }
+    }
+  }
+
+  String sign(Jwt jwt, InternalPrincipalConfiguration internal)
+      throws GeneralSecurityException {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    for (String claim : FORWARDED_CLAIMS) {
+      Object value = jwt.getClaims().get(claim);
+      if (value != null) {
+        claims.put(claim, value);
+      }
+    }
+
+    Instant expiresAt = Instant.now().plus(internal.getTtl());
+    if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+      expiresAt = jwt.getExpiresAt();
+    }
+    claims.put("exp", expiresAt.getEpochSecond());
+
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String payload = encoder.encodeToString(mapper.writeValueAsBytes(claims));
+
+    Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+    mac.init(new SecretKeySpec(
+        internal.getSecret().getBytes(StandardCharsets.UTF_8),
+        HMAC_ALGORITHM
+    ));
+    String signature = encoder.encodeToString(
+        mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))
+    );
+
+    return payload + "." + signature;
+  }
+}
@@ -1,6 +1,9 @@
 package ca.bc.gov.nrs.hrs.provider.legacy;
 
+import ca.bc.gov.nrs.hrs.cache.LegacyResponseCache;
+import ca.bc.gov.nrs.hrs.cache.LegacyResponseCache.Key;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
@@ -21,7 +24,9 @@ import org.springframework.web.client.RestClient;
  * 
  * <p>All methods are annotated with
  * {@link io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker} to provide automatic
- * fault tolerance, falling back to default or empty lists when the legacy API is unavailable.
+ * fault tolerance, falling back to the last successful response kept in the
+ * {@link LegacyResponseCache}, or to default or empty lists when there is none, when the legacy
+ * API is unavailable.
  * </p>
  *
  */
@@ -33,15 +38,25 @@ public class LegacyCodesClient {
   static final String FALLBACK_ERROR = "Error occurred while fetching data from {}: {}";
   private static final String PROVIDER = "Legacy API";
 
+  private static final String DISTRICTS = "codes-districts";
+  private static final String SAMPLINGS = "codes-samplings";
+  private static final String STATUSES = "codes-statuses";
+
   private final RestClient restClient;
+  private final LegacyResponseCache responseCache;
 
   /**
    * Constructs a new LegacyCodesClient.
    *
-   * @param legacyApi the qualified RestClient bean for the legacy API, must not be null
+   * @param legacyApi     the qualified RestClient bean for the legacy API, must not be null
+   * @param responseCache the cache of successful reads served while the API is unavailable
    */
-  LegacyCodesClient(@Qualifier("legacyApi") RestClient legacyApi) {
+  LegacyCodesClient(
+      @Qualifier("legacyApi") RestClient legacyApi,
+      LegacyResponseCache responseCache
+  ) {
     this.restClient = legacyApi;
+    this.responseCache = responseCache;
   }
 
   /**
@@ -59,16 +74,11 @@ public class LegacyCodesClient {
    *         never null, defaults to {@link LegacyApiConstants#DEFAULT_DISTRICTS} if API fails
    * @see LegacyApiConstants#DEFAULT_DISTRICTS
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackDistricts")
+  @CircuitBreaker(name = "legacy-codes-districts", fallbackMethod = "fallbackDistricts")
   @NewSpan
   public List<CodeDescriptionDto> getDistrictCodes() {
     log.info("Starting {} request to /codes/districts", PROVIDER);
-    return restClient
-        .get()
-        .uri("/api/codes/districts")
-        .retrieve()
-        .body(new ParameterizedTypeReference<>() {
-        });
+    return responseCache.store(Key.shared(DISTRICTS), fetchCodes("/api/codes/districts"));
   }
 
   /**
@@ -87,16 +97,11 @@ public class LegacyCodesClient {
    * 
    * @see LegacyApiConstants#CODE_LIST
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackEmptyList")
+  @CircuitBreaker(name = "legacy-codes-samplings", fallbackMethod = "fallbackSamplings")
   @NewSpan
   public List<CodeDescriptionDto> getSamplingCodes() {
     log.info("Starting {} request to /codes/samplings", PROVIDER);
-    return restClient
-        .get()
-        .uri("/api/codes/samplings")
-        .retrieve()
-        .body(new ParameterizedTypeReference<>() {
-        });
+    return responseCache.store(Key.shared(SAMPLINGS), fetchCodes("/api/codes/samplings"));
   }
 
   /**
@@ -115,48 +120,79 @@ public class LegacyCodesClient {
    * 
    * @see LegacyApiConstants#CODE_LIST
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackEmptyList")
+  @CircuitBreaker(name = "legacy-codes-statuses", fallbackMethod = "fallbackStatuses")
   @NewSpan
   public List<CodeDescriptionDto> getStatusCodes() {
     log.info("Starting {} request to /codes/assess-area-statuses", PROVIDER);
-    return restClient
-        .get()
-        .uri("/api/codes/assess-area-statuses")
-        .retrieve()
-        .body(new ParameterizedTypeReference<>() {
-        });
+    return responseCache.store(Key.shared(STATUSES), fetchCodes("/api/codes/assess-area-statuses"));
   }
 
   /**
    * Fallback method invoked when the legacy API fails to provide district codes.
    * 
-   * <p>Returns a predefined list of default districts to ensure the application continues
-   * operating even when the API is unavailable.
+   * <p>Returns the last successful response if the API is unavailable and there is a recent
+   * enough one, or else a predefined list of default districts to ensure the application
+   * continues operating.
    * </p>
    * 
    * @param throwable the exception that triggered the fallback, may be null
-   * @return the default list of districts from {@link LegacyApiConstants#DEFAULT_DISTRICTS}
+   * @return the cached districts, or the default list from
+   *     {@link LegacyApiConstants#DEFAULT_DISTRICTS}
    */
   @SuppressWarnings("unused")
   private List<CodeDescriptionDto> fallbackDistricts(Throwable throwable) {
-    logFallbackError(throwable);
-    return LegacyApiConstants.DEFAULT_DISTRICTS;
+    return fallback(
+        "legacy-codes-districts", DISTRICTS, "/api/codes/districts",
+        LegacyApiConstants.DEFAULT_DISTRICTS, throwable);
   }
 
   /**
-   * Fallback method invoked when the legacy API fails to provide any code list.
+   * Fallback method invoked when the legacy API fails to provide sampling codes.
    * 
-   * <p>Returns an empty list to allow the application to continue operating when the API
-   * is unavailable for sampling codes or status codes.
-   * </p>
+   * @param throwable the exception that triggered the fallback, may be null
+   * @return the cached sampling codes, or an empty list from {@link LegacyApiConstants#CODE_LIST}
+   */
+  @SuppressWarnings("unused")
+  private List<CodeDescriptionDto> fallbackSamplings(Throwable throwable) {
+    return fallback(
+        "legacy-codes-samplings", SAMPLINGS, "/api/codes/samplings",
+        LegacyApiConstants.CODE_LIST, throwable);
+  }
+
+  /**
+   * Fallback method invoked when the legacy API fails to provide status codes.
    * 
    * @param throwable the exception that triggered the fallback, may be null
-   * @return an empty list from {@link LegacyApiConstants#CODE_LIST}
+   * @return the cached status codes, or an empty list from {@link LegacyApiConstants#CODE_LIST}
    */
   @SuppressWarnings("unused")
-  private List<CodeDescriptionDto> fallbackEmptyList(Throwable throwable) {
+  private List<CodeDescriptionDto> fallbackStatuses(Throwable throwable) {
+    return fallback(
+        "legacy-codes-statuses", STATUSES, "/api/codes/assess-area-statuses",
+        LegacyApiConstants.CODE_LIST, throwable);
+  }
+
+  private List<CodeDescriptionDto> fallback(
+      String breaker,
+      String operation,
+      String path,
+      List<CodeDescriptionDto> defaultValue,
+      Throwable throwable
+  ) {
+    UpstreamSaturatedException.propagate(throwable);
     logFallbackError(throwable);
-    return LegacyApiConstants.CODE_LIST;
+    return responseCache
+        .stale(breaker, Key.shared(operation), throwable, () -> fetchCodes(path))
+        .orElse(defaultValue);
+  }
+
+  private List<CodeDescriptionDto> fetchCodes(String path) {
+    return restClient
+        .get()
+        .uri(path)
+        .retrieve()
+        .body(new ParameterizedTypeReference<>() {
+        });
   }
 
   /**
@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.hrs.provider.legacy;
 
 import ca.bc.gov.nrs.hrs.dto.search.MyForestClientSearchResultDto;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
 import ca.bc.gov.nrs.hrs.util.UriUtils;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.observation.annotation.Observed;
@@ -86,7 +87,7 @@ public class LegacyMyForestClientClient {
    * @see Pageable
    * @see LegacyPagedResponseMapper
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackSearchMyClients")
+  @CircuitBreaker(name = "legacy-my-clients", fallbackMethod = "fallbackSearchMyClients")
   @NewSpan
   public Page<MyForestClientSearchResultDto> searchMyClients(
       Set<String> values,
@@ -144,6 +145,7 @@ public class LegacyMyForestClientClient {
       Pageable pageable,
       Throwable throwable
   ) {
+    UpstreamSaturatedException.propagate(throwable);
     logFallbackError(throwable);
     return new PageImpl<>(LegacyApiConstants.MY_CLIENTS_LIST, pageable, 0);
   }
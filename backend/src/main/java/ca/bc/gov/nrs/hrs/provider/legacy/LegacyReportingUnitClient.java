@@ -1,5 +1,7 @@
 package ca.bc.gov.nrs.hrs.provider.legacy;
 
+import ca.bc.gov.nrs.hrs.cache.LegacyResponseCache;
+import ca.bc.gov.nrs.hrs.cache.LegacyResponseCache.Key;
 import ca.bc.gov.nrs.hrs.dto.reportingunit.CreateReportingUnitRequestDto;
 import ca.bc.gov.nrs.hrs.dto.reportingunit.ReportingUnitLegacyDetailsDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchExpandedDto;
@@ -7,6 +9,8 @@ import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
 import ca.bc.gov.nrs.hrs.exception.NotFoundGenericException;
 import ca.bc.gov.nrs.hrs.exception.UnretriableException;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
+import ca.bc.gov.nrs.hrs.util.UriUtils;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
@@ -19,7 +23,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import tools.jackson.databind.JsonNode;
 
@@ -33,6 +40,10 @@ import tools.jackson.databind.JsonNode;
  * <p>All search operations are protected by circuit breakers with fallback methods that
  * return empty or default results, ensuring the application continues functioning even
  * when the legacy API is unavailable.
+ *
+ * <p>Successful reads are kept in the {@link LegacyResponseCache}. While the legacy API is
+ * unavailable, the last successful response of the same read, for the same user, is served
+ * instead of the empty or default result when there is a recent enough one.
  */
 @Slf4j
 @Component
@@ -43,9 +54,14 @@ public class LegacyReportingUnitClient {
       "Error occurred while fetching data from {}: {}";
 
   private static final String PROVIDER = "Legacy API";
+  private static final String SEARCH_REPORTING_UNITS = "/api/search/reporting-units";
+  private static final String SEARCH = "search";
+  private static final String SEARCH_EXPAND = "search-expand";
+  private static final String DETAILS = "reporting-unit-details";
 
   private final RestClient restClient;
   private final LegacyPagedResponseMapper pageMapper;
+  private final LegacyResponseCache responseCache;
 
   /**
    * Constructs a new LegacyReportingUnitClient.
@@ -53,12 +69,15 @@ public class LegacyReportingUnitClient {
    * @param legacyApi the qualified RestClient bean for the legacy API, must not be null
    * @param pageMapper the mapper for converting paged JSON responses to typed lists,
    *     must not be null
+   * @param responseCache the cache of successful reads served while the API is unavailable
    */
   LegacyReportingUnitClient(
       @Qualifier("legacyApi") RestClient legacyApi,
-      LegacyPagedResponseMapper pageMapper) {
+      LegacyPagedResponseMapper pageMapper,
+      LegacyResponseCache responseCache) {
     this.restClient = legacyApi;
     this.pageMapper = pageMapper;
+    this.responseCache = responseCache;
   }
 
   /**
@@ -67,9 +86,11 @@ public class LegacyReportingUnitClient {
    *
    * <p>This method executes a paginated search against the legacy API endpoint
    * {@code GET /api/search/reporting-units} with the provided filter parameters and
-   * pagination settings. The response is expected to be a paged JSON structure with a
-   * {@code content} field containing the results and a {@code page} field containing
-   * pagination metadata.
+   * pagination settings. When the filters carry reporting unit ids, as in a bookmarked search,
+   * the filters are sent to {@code POST /api/search/reporting-units} as a JSON body instead, so
+   * large id sets do not run into URL length limits. The response is expected to be a paged
+   * JSON structure with a {@code content} field containing the results and a {@code page}
+   * field containing pagination metadata.
    *
    * <p>If the response is invalid or missing required fields, the method returns an
    * empty page. If the total elements cannot be determined from the response metadata,
@@ -78,7 +99,8 @@ public class LegacyReportingUnitClient {
    * <p>This method is protected by a circuit breaker that will invoke
    * {@link #fallbackEmptySearchReportingUnit(
    * ReportingUnitSearchParametersDto, Pageable, Throwable)}
-   * if the API call fails.
+   * if the API call fails, which serves the last page returned for the same search and user
+   * while the API is unavailable.
    *
    * @param filters the search filter parameters to apply; may include various reporting
    *     unit criteria
@@ -92,24 +114,44 @@ public class LegacyReportingUnitClient {
    * @see LegacyPagedResponseMapper
    */
   @CircuitBreaker(
-      name = "breaker",
+      name = "legacy-search",
       fallbackMethod = "fallbackEmptySearchReportingUnit")
   @NewSpan
   public Page<ReportingUnitSearchResultDto> searchReportingUnit(
       ReportingUnitSearchParametersDto filters,
       Pageable pageable) {
 
+    return responseCache.store(searchKey(filters, pageable), fetchSearch(filters, pageable));
+  }
+
+  private Page<ReportingUnitSearchResultDto> fetchSearch(
+      ReportingUnitSearchParametersDto filters,
+      Pageable pageable) {
+
     JsonNode pagedResponse =
-        restClient
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/api/search/reporting-units")
-                        .queryParams(filters.toMultiMap(pageable))
-                        .build(Map.of()))
-            .retrieve()
-            .body(JsonNode.class);
+        CollectionUtils.isEmpty(filters.getReportingUnitIds())
+            ? restClient
+                .get()
+                .uri(
+                    uriBuilder ->
+                        uriBuilder
+                            .path(SEARCH_REPORTING_UNITS)
+                            .queryParams(filters.toMultiMap(pageable))
+                            .build(Map.of()))
+                .retrieve()
+                .body(JsonNode.class)
+            : restClient
+                .post()
+                .uri(
+                    uriBuilder ->
+                        uriBuilder
+                            .path(SEARCH_REPORTING_UNITS)
+                            .queryParams(UriUtils.buildPageableQueryParam(pageable))
+                            .build(Map.of()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(filters.toRequestBody())
+                .retrieve()
+                .body(JsonNode.class);
 
     if (pageMapper.isInvalidPage(pagedResponse)) {
       logFallbackError(null);
@@ -143,7 +185,8 @@ public class LegacyReportingUnitClient {
    * <p>The returned object contains comprehensive details including assessment area
    * information, coordinates, status, and associated lists. This method is protected
    * by a circuit breaker that will invoke
-   * {@link #fallbackSearchExpand(Long, Long, Throwable)} if the API fails.
+   * {@link #fallbackSearchExpand(Long, Long, Throwable)} if the API fails, which serves the
+   * last details returned for the same user while the API is unavailable.
    *
    * @param ruId the reporting unit ID; must not be null
    * @param wasteAssessmentAreaId the waste assessment area ID; must not be null
@@ -153,12 +196,21 @@ public class LegacyReportingUnitClient {
    *     unrecoverable HTTP error
    * @see ReportingUnitSearchExpandedDto
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackSearchExpand")
+  @CircuitBreaker(name = "legacy-search-expand", fallbackMethod = "fallbackSearchExpand")
   @NewSpan
   public ReportingUnitSearchExpandedDto getSearchExpanded(
       Long ruId,
       Long wasteAssessmentAreaId) {
 
+    return responseCache.store(
+        Key.forUser(SEARCH_EXPAND, ruId, wasteAssessmentAreaId),
+        fetchSearchExpanded(ruId, wasteAssessmentAreaId));
+  }
+
+  private ReportingUnitSearchExpandedDto fetchSearchExpanded(
+      Long ruId,
+      Long wasteAssessmentAreaId) {
+
     return restClient
         .get()
         .uri(
@@ -191,7 +243,7 @@ public class LegacyReportingUnitClient {
    * @throws org.springframework.web.client.RestClientException if there's an
    *     unrecoverable HTTP error
    */
-  @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackEmptyUsersList")
+  @CircuitBreaker(name = "legacy-search-users", fallbackMethod = "fallbackEmptyUsersList")
   @NewSpan
   public List<String> searchReportingUnitUsers(String userId) {
     log.info(
@@ -226,8 +278,8 @@ public class LegacyReportingUnitClient {
    * </p>
    *
    * <p>This method intentionally has no circuit breaker: expected client-side outcomes such as
-   * 404s must not count as breaker failures and must not open the shared breaker used by other
-   * legacy calls.
+   * 404s must not count as breaker failures. When the legacy API cannot be reached, the last
+   * details returned for the same user are served instead if there are recent enough ones.
    * </p>
    *
    * @param reportingUnitId the unique identifier of the reporting unit to retrieve;
@@ -247,6 +299,17 @@ public class LegacyReportingUnitClient {
         "Retrieving reporting unit details for RU {}",
         reportingUnitId);
 
+    Key key = Key.forUser(DETAILS, reportingUnitId);
+    try {
+      return responseCache.store(key, fetchReportingUnitDetails(reportingUnitId));
+    } catch (ResourceAccessException e) {
+      return responseCache
+          .stale(null, key, e, () -> fetchReportingUnitDetails(reportingUnitId))
+          .orElseThrow(() -> e);
+    }
+  }
+
+  private ReportingUnitLegacyDetailsDto fetchReportingUnitDetails(Long reportingUnitId) {
     return restClient
         .get()
         .uri(
@@ -311,8 +374,22 @@ public class LegacyReportingUnitClient {
       Long wasteAssessmentAreaId,
       Throwable throwable) {
 
+    UpstreamSaturatedException.propagate(throwable);
     logFallbackError(throwable);
 
+    return responseCache
+        .stale(
+            "legacy-search-expand",
+            Key.forUser(SEARCH_EXPAND, ruId, wasteAssessmentAreaId),
+            throwable,
+            () -> fetchSearchExpanded(ruId, wasteAssessmentAreaId))
+        .orElseGet(() -> emptySearchExpanded(ruId, wasteAssessmentAreaId));
+  }
+
+  private ReportingUnitSearchExpandedDto emptySearchExpanded(
+      Long ruId,
+      Long wasteAssessmentAreaId) {
+
     log.error(
         "Returning empty expanded search result for RU: {}, "
             + "Waste Assessment Area: {}",
@@ -342,6 +419,7 @@ public class LegacyReportingUnitClient {
       String userId,
       Throwable throwable) {
 
+    UpstreamSaturatedException.propagate(throwable);
     logFallbackError(throwable);
     log.error(
         "Returning empty users list for userId: {}",
@@ -355,8 +433,19 @@ public class LegacyReportingUnitClient {
       Pageable pageable,
       Throwable throwable) {
 
+    UpstreamSaturatedException.propagate(throwable);
     logFallbackError(throwable);
-    return new PageImpl<>(LegacyApiConstants.RU_SEARCH_LIST, pageable, 0);
+    return responseCache
+        .stale(
+            "legacy-search",
+            searchKey(filters, pageable),
+            throwable,
+            () -> fetchSearch(filters, pageable))
+        .orElseGet(() -> new PageImpl<>(LegacyApiConstants.RU_SEARCH_LIST, pageable, 0));
+  }
+
+  private static Key searchKey(ReportingUnitSearchParametersDto filters, Pageable pageable) {
+    return Key.forUser(SEARCH, filters.toMultiMap(pageable), filters.getReportingUnitIds());
   }
 
   private void logFallbackError(Throwable throwable) {
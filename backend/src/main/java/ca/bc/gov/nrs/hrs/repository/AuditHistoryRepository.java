@@ -0,0 +1,240 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.AuditHistoryConfiguration;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditChangeDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryCursor;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads the audit history written by the {@code trg_district_volume_audit} trigger.
+ *
+ * <p>Every query pages newest first by keyset, so each page is a range scan of one index:</p>
+ * <ul>
+ *   <li>the history of one row walks {@code idx_audit_change_entity_lookup} by change id;</li>
+ *   <li>the changes of one user walk {@code idx_audit_event_changed_by_time};</li>
+ *   <li>a time window walks {@code idx_audit_event_changed_at}.</li>
+ * </ul>
+ *
+ * <p>Unless snapshots are requested, the previous and current row images are cut down to the
+ * changed columns in the database, so an update of an end date does not ship the table data of
+ * the configuration twice. Updates are stored as diffs, so snapshots are rebuilt for each row of
+ * the page by {@code hrs.audit_row_image} from the latest full image of the row.</p>
+ */
+@Repository
+public class AuditHistoryRepository {
+
+  private static final String DIFF_COLUMNS = """
+      hrs.audit_pick(h.previous_values, h.changed_columns) AS previous_values,
+      hrs.audit_pick(h.current_values, h.changed_columns) AS current_values
+      FROM page h
+      """;
+
+  private static final String SNAPSHOT_COLUMNS = """
+      CASE h.action
+          WHEN 'CREATE' THEN NULL
+          WHEN 'DELETE' THEN h.previous_values
+          ELSE r.image || h.previous_values
+      END AS previous_values,
+      CASE WHEN h.action <> 'DELETE' THEN r.image END AS current_values
+      FROM page h
+      CROSS JOIN LATERAL (
+          SELECT hrs.audit_row_image(h.entity_type, h.entity_id, h.id) AS image
+      ) r
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Creates the repository.
+   *
+   * @param configuration application configuration holding the stream fetch size
+   * @param jdbcTemplate  template bound to the transactional data source
+   * @param jsonMapper    mapper used to read the JSONB row images
+   */
+  public AuditHistoryRepository(
+      HrsConfiguration configuration,
+      NamedParameterJdbcTemplate jdbcTemplate,
+      JsonMapper jsonMapper
+  ) {
+    JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+    streaming.setFetchSize(Optional
+        .ofNullable(configuration.getAuditHistory())
+        .orElseGet(AuditHistoryConfiguration::new)
+        .getStreamFetchSize());
+    this.jdbcTemplate = jdbcTemplate;
+    this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Reads up to {@code limit} changes matching the filter, newest first.
+   *
+   * @param filter the history to read
+   * @param after  the position to continue after, {@code null} for the first page
+   * @param limit  the maximum number of changes to read
+   * @return the matching changes
+   */
+  public List<AuditChangeDto> findPage(
+      AuditHistoryFilterDto filter,
+      AuditHistoryCursor after,
+      int limit
+  ) {
+    MapSqlParameterSource parameters = parameters(filter, after).addValue("limit", limit);
+    return jdbcTemplate.query(sql(filter, after, true), parameters, this::mapRow);
+  }
+
+  /**
+   * Hands every change matching the filter to {@code sink}, newest first, without holding the
+   * history in memory.
+   *
+   * <p>Rows are read from a server-side cursor in batches of the configured fetch size, which
+   * the Postgres driver only does inside a transaction.</p>
+   *
+   * @param filter the history to read
+   * @param after  the position to continue after, {@code null} to start from the newest change
+   * @param sink   receives each change in order
+   */
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public void stream(
+      AuditHistoryFilterDto filter,
+      AuditHistoryCursor after,
+      Consumer<AuditChangeDto> sink
+  ) {
+    RowCallbackHandler handler = rs -> sink.accept(mapRow(rs, rs.getRow()));
+    streamingJdbcTemplate.query(sql(filter, after, false), parameters(filter, after), handler);
+  }
+
+  /**
+   * Builds the keyset position of a change for the filter it was read with.
+   *
+   * @param filter the filter the change was read with
+   * @param change the change to continue after
+   * @return the cursor pointing right after the change
+   */
+  public static AuditHistoryCursor cursorOf(AuditHistoryFilterDto filter, AuditChangeDto change) {
+    return new AuditHistoryCursor(
+        change.changedAt(),
+        filter.isEntityHistory() ? change.id() : change.eventId());
+  }
+
+  private static String sql(AuditHistoryFilterDto filter, AuditHistoryCursor after, boolean limit) {
+    List<String> conditions = new ArrayList<>();
+    if (filter.isEntityHistory()) {
+      conditions.add("c.entity_type = :entityType AND c.entity_id = :entityId");
+    } else {
+      if (filter.changedBy() != null) {
+        conditions.add("e.changed_by = :changedBy");
+      }
+      if (filter.entityType() != null) {
+        conditions.add("c.entity_type = :entityType");
+      }
+    }
+    if (filter.from() != null) {
+      conditions.add("e.changed_at >= :from");
+    }
+    if (filter.to() != null) {
+      conditions.add("e.changed_at < :to");
+    }
+    if (after != null) {
+      conditions.add(filter.isEntityHistory()
+          ? "c.id < :afterId"
+          : "(e.changed_at, e.id) < (:afterChangedAt, :afterId)");
+    }
+
+    StringBuilder sql = new StringBuilder("""
+        WITH page AS (
+            SELECT c.id, c.event_id, c.entity_type, c.entity_id, c.action,
+                   e.changed_by, e.changed_at, e.reason, e.correlation_id, c.changed_columns,
+                   c.previous_values, c.current_values
+            FROM hrs.audit_change c
+            JOIN hrs.audit_event e ON e.id = c.event_id AND e.changed_at = c.changed_at
+        """);
+    if (!conditions.isEmpty()) {
+      sql.append("WHERE ").append(String.join(" AND ", conditions)).append('\n');
+    }
+    sql.append(filter.isEntityHistory()
+        ? "ORDER BY c.id DESC\n"
+        : "ORDER BY e.changed_at DESC, e.id DESC\n");
+    if (limit) {
+      sql.append("LIMIT :limit\n");
+    }
+
+    // Images are built for the rows of the page only
+    return sql
+        .append("""
+            )
+            SELECT h.id, h.event_id, h.entity_type, h.entity_id, h.action,
+                   h.changed_by, h.changed_at, h.reason, h.correlation_id, h.changed_columns,
+            """)
+        .append(filter.snapshots() ? SNAPSHOT_COLUMNS : DIFF_COLUMNS)
+        .append(filter.isEntityHistory()
+            ? "ORDER BY h.id DESC\n"
+            : "ORDER BY h.changed_at DESC, h.event_id DESC\n")
+        .toString();
+  }
+
+  private static MapSqlParameterSource parameters(
+      AuditHistoryFilterDto filter,
+      AuditHistoryCursor after
+  ) {
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+        .addValue("entityType", filter.entityType())
+        .addValue("entityId", filter.entityId())
+        .addValue("changedBy", filter.changedBy())
+        .addValue("from", timestamp(filter.from()), Types.TIMESTAMP_WITH_TIMEZONE)
+        .addValue("to", timestamp(filter.to()), Types.TIMESTAMP_WITH_TIMEZONE);
+    if (after != null) {
+      parameters
+          .addValue("afterChangedAt", timestamp(after.changedAt()), Types.TIMESTAMP_WITH_TIMEZONE)
+          .addValue("afterId", after.id());
+    }
+    return parameters;
+  }
+
+  private static OffsetDateTime timestamp(Instant instant) {
+    return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+  }
+
+  private AuditChangeDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new AuditChangeDto(
+        rs.getLong("id"),
+        rs.getLong("event_id"),
+        rs.getString("entity_type"),
+        rs.getLong("entity_id"),
+        rs.getString("action"),
+        rs.getString("changed_by"),
+        rs.getObject("changed_at", OffsetDateTime.class).toInstant(),
+        rs.getString("reason"),
+        rs.getString("correlation_id"),
+        Arrays.asList((String[]) rs.getArray("changed_columns").getArray()),
+        readJson(rs.getString("previous_values")),
+        readJson(rs.getString("current_values")));
+  }
+
+  private JsonNode readJson(String value) {
+    return value == null ? null : jsonMapper.readTree(value);
+  }
+}
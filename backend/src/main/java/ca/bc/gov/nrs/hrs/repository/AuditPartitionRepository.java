@@ -0,0 +1,67 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates and archives the monthly partitions of {@code hrs.audit_event} and
+ * {@code hrs.audit_change}.
+ *
+ * <p>The work is done by the partition functions installed with the partitioned tables, so the
+ * migration and the maintenance job share one definition of partition names and bounds.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditPartitionRepository {
+
+  private static final String NAMESPACE = "hrs.audit_partition_maintenance";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Takes the maintenance lock for the current transaction without waiting, so only one pod
+   * maintains the partitions at a time.
+   *
+   * @return {@code true} if the lock was taken, {@code false} if another transaction holds it
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean tryLock() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+        "SELECT pg_try_advisory_xact_lock(hashtext(?))",
+        Boolean.class,
+        NAMESPACE));
+  }
+
+  /**
+   * Creates the partitions of the current month and the months ahead that do not exist yet.
+   *
+   * @param monthsAhead number of months after the current one to create
+   * @return the names of the partitions created
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<String> createPartitions(int monthsAhead) {
+    return jdbcTemplate.queryForList(
+        "SELECT hrs.audit_create_partitions(?)",
+        String.class,
+        monthsAhead);
+  }
+
+  /**
+   * Detaches the partitions of months past the retention period and moves them to the
+   * {@code hrs_audit_archive} schema.
+   *
+   * @param retentionMonths number of full months kept attached before the current one
+   * @return the names of the partitions archived
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<String> archivePartitions(int retentionMonths) {
+    return jdbcTemplate.queryForList(
+        "SELECT hrs.audit_archive_partitions(?)",
+        String.class,
+        retentionMonths);
+  }
+}
@@ -0,0 +1,73 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.TimelineLockConfiguration;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serializes changes to one configuration timeline through a Postgres advisory lock.
+ *
+ * <p>Every timeline, identified by its {@link ConfigType} and {@link Area}, maps to its own
+ * transaction-scoped advisory lock, so edits to the same timeline queue up behind each other while
+ * edits to different timelines never wait. The lock is released by Postgres when the surrounding
+ * transaction commits or rolls back, which lets the timeline be read and rewritten under
+ * {@code READ COMMITTED} without the aborts a {@code SERIALIZABLE} transaction would raise.</p>
+ *
+ * <p>The wait is bounded by a transaction-local {@code lock_timeout}. When it expires Postgres
+ * cancels the statement and Spring translates the error into a
+ * {@link org.springframework.dao.CannotAcquireLockException}, which callers may retry.</p>
+ */
+@Repository
+@Slf4j
+public class ConfigurationTimelineLock {
+
+  private static final String NAMESPACE = "hrs.district_volume";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration timeout;
+
+  /**
+   * Creates the lock.
+   *
+   * @param configuration application configuration holding the lock timeout
+   * @param jdbcTemplate  template bound to the transactional data source
+   */
+  public ConfigurationTimelineLock(HrsConfiguration configuration, JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.timeout = Optional
+        .ofNullable(configuration.getTimelineLock())
+        .orElseGet(TimelineLockConfiguration::new)
+        .getTimeout();
+  }
+
+  /**
+   * Blocks until the current transaction holds the lock for the timeline.
+   *
+   * @param configType the configuration type of the timeline
+   * @param area       the area of the timeline
+   * @throws org.springframework.dao.CannotAcquireLockException if the lock is not granted within
+   *     the configured timeout
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void acquire(ConfigType configType, Area area) {
+    jdbcTemplate.queryForObject(
+        "SELECT set_config('lock_timeout', ?, true)",
+        String.class,
+        Math.max(1, timeout.toMillis()) + "ms");
+    jdbcTemplate.query(
+        "SELECT pg_advisory_xact_lock(hashtext(?), hashtext(?))",
+        (ResultSetExtractor<Void>) rs -> null,
+        NAMESPACE,
+        configType.name() + ":" + area.name());
+    log.debug("Acquired timeline lock for {} {}", configType, area);
+  }
+}
@@ -0,0 +1,159 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Single-statement edits of a configuration timeline.
+ *
+ * <p>The {@code ex_district_volume_no_overlap} exclusion constraint guarantees that live rows of
+ * one timeline never overlap, so the services no longer look up the open-ended row, the
+ * predecessor and the successor one query at a time. Each method here reads and adjusts the
+ * neighbours of a slot in one round trip; anything that would still overlap is rejected by the
+ * constraint and surfaces as a {@link org.springframework.dao.DataIntegrityViolationException}.
+ * Callers are expected to hold the {@link ConfigurationTimelineLock} of the timeline.</p>
+ *
+ * <p>Rows changed here bypass JPA auditing, so {@code updated_at} and {@code updated_by} are set
+ * explicitly; the audit trigger picks them up like any other change.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConfigurationTimelineRepository {
+
+  private static final String CLOSE_PREDECESSOR = """
+      WITH taken AS (
+          SELECT EXISTS (
+              SELECT 1 FROM hrs.district_volume
+              WHERE config_type = :configType AND area = :area AND deleted = FALSE
+                AND start_date = CAST(:startDate AS date)
+          ) AS taken
+      ), successor AS (
+          SELECT min(start_date) AS start_date FROM hrs.district_volume
+          WHERE config_type = :configType AND area = :area AND deleted = FALSE
+            AND start_date > CAST(:startDate AS date)
+      ), closed AS (
+          UPDATE hrs.district_volume d
+          SET end_date = CAST(:startDate AS date) - 1, updated_at = now(), updated_by = :user
+          WHERE d.id = (
+                  SELECT p.id FROM hrs.district_volume p
+                  WHERE p.config_type = :configType AND p.area = :area AND p.deleted = FALSE
+                    AND p.start_date < CAST(:startDate AS date)
+                  ORDER BY p.start_date DESC
+                  LIMIT 1)
+            AND (d.end_date IS NULL OR d.end_date >= CAST(:startDate AS date))
+            AND NOT (SELECT taken FROM taken)
+          RETURNING d.id
+      )
+      SELECT (SELECT taken FROM taken) AS start_taken,
+             (SELECT id FROM closed) AS predecessor_id,
+             (SELECT start_date FROM successor) AS successor_start_date
+      """;
+
+  private static final String REOPEN_PREDECESSOR = """
+      UPDATE hrs.district_volume d
+      SET end_date = CAST(:endDate AS date), updated_at = now(), updated_by = :user
+      WHERE d.id = (
+          SELECT p.id FROM hrs.district_volume p
+          WHERE p.config_type = :configType AND p.area = :area AND p.deleted = FALSE
+            AND p.start_date < CAST(:startDate AS date)
+          ORDER BY p.start_date DESC
+          LIMIT 1)
+      RETURNING d.id
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Makes room for a new row starting on {@code startDate}.
+   *
+   * <p>The live row before the start date is closed on the day before it when it would
+   * otherwise overlap, and the start date of the live row after it is returned so the new row
+   * can end the day before. Nothing is changed when a live row already starts on that date.</p>
+   *
+   * @param configType the configuration type of the timeline
+   * @param area       the area of the timeline
+   * @param startDate  the start date of the row about to be inserted
+   * @param user       the user making the change
+   * @return the neighbours of the new row
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public TimelineSlot closePredecessor(
+      ConfigType configType,
+      Area area,
+      LocalDate startDate,
+      String user
+  ) {
+    return jdbcTemplate.queryForObject(
+        CLOSE_PREDECESSOR,
+        parameters(configType, area, startDate, user),
+        (rs, rowNum) -> new TimelineSlot(
+            rs.getBoolean("start_taken"),
+            rs.getObject("predecessor_id", Long.class),
+            rs.getObject("successor_start_date", LocalDate.class)));
+  }
+
+  /**
+   * Extends the live row before a removed row over the period the removed row covered.
+   *
+   * <p>The removed row must already be soft-deleted and flushed, otherwise the extended
+   * predecessor would overlap it.</p>
+   *
+   * @param configType the configuration type of the timeline
+   * @param area       the area of the timeline
+   * @param startDate  the start date of the removed row
+   * @param endDate    the end date of the removed row, {@code null} when it was open-ended
+   * @param user       the user making the change
+   * @return the id of the reopened predecessor, if there was one
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Optional<Long> reopenPredecessor(
+      ConfigType configType,
+      Area area,
+      LocalDate startDate,
+      LocalDate endDate,
+      String user
+  ) {
+    List<Long> ids = jdbcTemplate.queryForList(
+        REOPEN_PREDECESSOR,
+        parameters(configType, area, startDate, user).addValue("endDate", endDate, Types.DATE),
+        Long.class);
+    return ids.stream().findFirst();
+  }
+
+  private static MapSqlParameterSource parameters(
+      ConfigType configType,
+      Area area,
+      LocalDate startDate,
+      String user
+  ) {
+    return new MapSqlParameterSource()
+        .addValue("configType", configType.name())
+        .addValue("area", area.name())
+        .addValue("startDate", startDate, Types.DATE)
+        .addValue("user", user);
+  }
+
+  /**
+   * Neighbours of a new row in its timeline.
+   *
+   * @param startTaken         whether a live row already starts on the requested date
+   * @param predecessorId      id of the predecessor that was closed, {@code null} if none was
+   * @param successorStartDate start date of the next live row, {@code null} if there is none
+   */
+  public record TimelineSlot(
+      boolean startTaken,
+      Long predecessorId,
+      LocalDate successorStartDate
+  ) {
+  }
+}
@@ -1,9 +1,12 @@
 package ca.bc.gov.nrs.hrs.repository;
 
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictAreaProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -46,21 +49,6 @@ public interface DistrictVolumeRepository
       + "WHERE d.area = :area AND d.deleted = FALSE")
   Page<DistrictVolumeEntity> findByArea(@Param("area") Area area, Pageable pageable);
 
-  /**
-   * Retrieves a paginated list of live records filtered by config type and area.
-   *
-   * @param configType config type filter
-   * @param area area filter
-   * @param pageable pagination and sorting information
-   * @return paginated list of matching live entities
-   */
-  @Query("SELECT d FROM DistrictVolumeEntity d "
-      + "WHERE d.configType = :configType AND d.area = :area "
-      + "AND d.deleted = FALSE")
-  Page<DistrictVolumeEntity> findAllLiveByConfigTypeAndArea(
-      @Param("configType") ConfigType configType, @Param("area") Area area,
-      Pageable pageable);
-
   /**
    * Retrieves the currently active live record for the specified config type and area.
    */
@@ -98,58 +86,133 @@ public interface DistrictVolumeRepository
       @Param("area") Area area);
 
   /**
-   * Finds all live open-ended entries for the config type and area.
-   *
-   * @param configType config type filter
-   * @param area area filter
-   * @return ordered list of live open-ended entries
+   * Retrieves a single live record by id, scoped to the specified config type.
    */
   @Query("SELECT d FROM DistrictVolumeEntity d "
-      + "WHERE d.configType = :configType AND d.area = :area "
-      + "AND d.endDate IS NULL AND d.deleted = FALSE "
-      + "ORDER BY d.startDate DESC")
-  List<DistrictVolumeEntity> findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-      @Param("configType") ConfigType configType, @Param("area") Area area);
+      + "WHERE d.id = :id AND d.configType = :configType AND d.deleted = FALSE")
+  Optional<DistrictVolumeEntity> findByIdAndConfigType(
+      @Param("id") Long id, @Param("configType") ConfigType configType);
 
   /**
-   * Retrieves a paginated list of live records filtered by config type.
+   * Reads only the area of a live record, scoped to the specified config type. Used to pick the
+   * timeline lock before the record itself is loaded.
    */
-  @Query("SELECT d FROM DistrictVolumeEntity d "
-      + "WHERE d.configType = :configType AND d.deleted = FALSE")
-  Page<DistrictVolumeEntity> findAllLiveByConfigType(
-      @Param("configType") ConfigType configType, Pageable pageable);
+  @Query("SELECT d.area FROM DistrictVolumeEntity d "
+      + "WHERE d.id = :id AND d.configType = :configType AND d.deleted = FALSE")
+  Optional<Area> findAreaByIdAndConfigType(
+      @Param("id") Long id, @Param("configType") ConfigType configType);
 
   /**
-   * Retrieves a single live record by id, scoped to the specified config type.
+   * Reads only the last modification time of a live record, scoped to the specified config type.
+   * Used to validate cached detail responses without loading {@code table_data}.
    */
-  @Query("SELECT d FROM DistrictVolumeEntity d "
+  @Query("SELECT d.updatedAt FROM DistrictVolumeEntity d "
       + "WHERE d.id = :id AND d.configType = :configType AND d.deleted = FALSE")
-  Optional<DistrictVolumeEntity> findByIdAndConfigType(
+  Optional<LocalDateTime> findUpdatedAtByIdAndConfigType(
       @Param("id") Long id, @Param("configType") ConfigType configType);
 
   /**
-   * Finds the first live row after the supplied start date.
+   * Retrieves the full live timeline for the config type and area, oldest first.
+   *
+   * @param configType config type filter
+   * @param area area filter
+   * @return live entries ordered by start date
    */
   @Query("SELECT d FROM DistrictVolumeEntity d "
       + "WHERE d.configType = :configType AND d.area = :area "
-      + "AND d.deleted = FALSE AND d.startDate > :startDate "
-      + "ORDER BY d.startDate ASC")
-  List<DistrictVolumeEntity> findFirstLiveAfter(
+      + "AND d.deleted = FALSE ORDER BY d.startDate ASC")
+  List<DistrictVolumeEntity> findAllLiveByConfigTypeAndAreaOrderByStartDate(
       @Param("configType") ConfigType configType,
-      @Param("area") Area area,
-      @Param("startDate") LocalDate startDate,
-      Pageable pageable);
+      @Param("area") Area area);
 
   /**
-   * Finds the most recent live row before the supplied start date.
+   * Retrieves a paginated list of live record summaries filtered by config type.
+   *
+   * <p>Selects only the listing columns, leaving {@code table_data} untouched.</p>
+   *
+   * @param configType config type filter
+   * @param pageable pagination and sorting information
+   * @return paginated list of matching live summaries
    */
-  @Query("SELECT d FROM DistrictVolumeEntity d "
-      + "WHERE d.configType = :configType AND d.area = :area "
-      + "AND d.deleted = FALSE AND d.startDate < :startDate "
-      + "ORDER BY d.startDate DESC")
-  List<DistrictVolumeEntity> findFirstLiveBefore(
+  @Query(
+      value = "SELECT d.id AS id, d.area AS area, d.startDate AS startDate, "
+          + "d.endDate AS endDate, d.createdBy AS createdBy, d.dateOfUpload AS dateOfUpload "
+          + "FROM DistrictVolumeEntity d "
+          + "WHERE d.configType = :configType AND d.deleted = FALSE",
+      countQuery = "SELECT COUNT(d) FROM DistrictVolumeEntity d "
+          + "WHERE d.configType = :configType AND d.deleted = FALSE")
+  Page<DistrictVolumeSummaryProjection> findAllLiveSummariesByConfigType(
+      @Param("configType") ConfigType configType, Pageable pageable);
+
+  /**
+   * Retrieves a paginated list of live record summaries filtered by config type and area.
+   *
+   * <p>Selects only the listing columns, leaving {@code table_data} untouched.</p>
+   *
+   * @param configType config type filter
+   * @param area area filter
+   * @param pageable pagination and sorting information
+   * @return paginated list of matching live summaries
+   */
+  @Query(
+      value = "SELECT d.id AS id, d.area AS area, d.startDate AS startDate, "
+          + "d.endDate AS endDate, d.createdBy AS createdBy, d.dateOfUpload AS dateOfUpload "
+          + "FROM DistrictVolumeEntity d "
+          + "WHERE d.configType = :configType AND d.area = :area AND d.deleted = FALSE",
+      countQuery = "SELECT COUNT(d) FROM DistrictVolumeEntity d "
+          + "WHERE d.configType = :configType AND d.area = :area AND d.deleted = FALSE")
+  Page<DistrictVolumeSummaryProjection> findAllLiveSummariesByConfigTypeAndArea(
       @Param("configType") ConfigType configType,
       @Param("area") Area area,
-      @Param("startDate") LocalDate startDate,
       Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * Returns the areas whose active configuration on the given date contains the district.
+   *
+   * <p>Served by the generated {@code district_codes} column and its GIN index; the
+   * {@code table_data} payload is never read.</p>
+   *
+   * @param configType config type filter
+   * @param districtCode upper-cased district code
+   * @param currentDate the date the configuration must be active on
+   * @return area names containing the district
+   */
+  @Query(
+      value = "SELECT DISTINCT d.area FROM hrs.district_volume d "
+          + "WHERE d.config_type = :#{#configType.name()} AND d.deleted = FALSE "
+          + "AND d.start_date <= :currentDate "
+          + "AND (d.end_date IS NULL OR d.end_date >= :currentDate) "
+          + "AND d.district_codes @> ARRAY[CAST(:districtCode AS text)]",
+      nativeQuery = true)
+  List<String> findActiveAreasByDistrictCode(
+      @Param("configType") ConfigType configType,
+      @Param("districtCode") String districtCode,
+      @Param("currentDate") LocalDate currentDate);
+
+  /**
+   * Returns every (district code, area) pair for the given districts that is covered by an
+   * active configuration on the given date.
+   *
+   * <p>Served by the generated {@code district_codes} column and its GIN index; the
+   * {@code table_data} payload is never read.</p>
+   *
+   * @param configType config type filter
+   * @param districtCodes upper-cased district codes
+   * @param currentDate the date the configuration must be active on
+   * @return matching district and area pairs
+   */
+  @Query(
+      value = "SELECT DISTINCT codes.code AS districtCode, d.area AS area "
+          + "FROM hrs.district_volume d "
+          + "CROSS JOIN LATERAL unnest(d.district_codes) AS codes(code) "
+          + "WHERE d.config_type = :#{#configType.name()} AND d.deleted = FALSE "
+          + "AND d.start_date <= :currentDate "
+          + "AND (d.end_date IS NULL OR d.end_date >= :currentDate) "
+          + "AND d.district_codes && CAST(:districtCodes AS text[]) "
+          + "AND codes.code = ANY(CAST(:districtCodes AS text[]))",
+      nativeQuery = true)
+  List<DistrictAreaProjection> findActiveAreasByDistrictCodes(
+      @Param("configType") ConfigType configType,
+      @Param("districtCodes") String[] districtCodes,
+      @Param("currentDate") LocalDate currentDate);
+}
@@ -3,8 +3,11 @@ package ca.bc.gov.nrs.hrs.repository;
 import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntity;
 import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntityId;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -30,4 +33,47 @@ public interface UserBookmarkRepository
    */
   List<UserBookmarkEntity> findByUserIdAndReportingUnitIdIn(
       String userId, List<Long> reportingUnitIds);
-}
\ No newline at end of file
+
+  /**
+   * Bookmarks every given reporting unit for the user in a single statement.
+   *
+   * <p>Ids are bound as one Postgres {@code bigint[]} and expanded with {@code unnest}, so the
+   * whole batch is a single round trip. Existing bookmarks are skipped through
+   * {@code ON CONFLICT DO NOTHING}, which keeps the operation idempotent.</p>
+   *
+   * @param userId           the user's identifier
+   * @param reportingUnitIds the reporting units to bookmark
+   * @return the number of bookmarks actually inserted
+   */
+  @Modifying
+  @Query(
+      value = "INSERT INTO hrs.user_bookmarks (user_id, reporting_unit_id) "
+              + "SELECT :userId, ru.id "
+              + "FROM unnest(CAST(:reportingUnitIds AS bigint[])) AS ru(id) "
+              + "ON CONFLICT DO NOTHING",
+      nativeQuery = true
+  )
+  int insertAllIgnoringExisting(
+      @Param("userId") String userId,
+      @Param("reportingUnitIds") Long[] reportingUnitIds);
+
+  /**
+   * Removes the given reporting units from the user's bookmarks in a single statement.
+   *
+   * <p>Missing bookmarks are simply not matched, so no existence check is required.</p>
+   *
+   * @param userId           the user's identifier
+   * @param reportingUnitIds the reporting units to un-bookmark
+   * @return the number of bookmarks actually deleted
+   */
+  @Modifying
+  @Query(
+      value = "DELETE FROM hrs.user_bookmarks "
+              + "WHERE user_id = :userId "
+              + "AND reporting_unit_id = ANY(CAST(:reportingUnitIds AS bigint[]))",
+      nativeQuery = true
+  )
+  int deleteAllByReportingUnitIds(
+      @Param("userId") String userId,
+      @Param("reportingUnitIds") Long[] reportingUnitIds);
+}
@@ -1,9 +1,12 @@
 package ca.bc.gov.nrs.hrs.repository;
 
 import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceRevisionProjection;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.jspecify.annotations.NonNull;
 
@@ -32,4 +35,58 @@ public interface UserPreferenceRepository extends
   @NonNull
   Optional<UserPreferenceEntity> findById(@NonNull String userId);
 
+  /**
+   * Replace the user's preferences in a single statement.
+   *
+   * <p>The row is created when missing, otherwise its document is overwritten and the
+   * revision incremented under the row lock taken by the upsert, so concurrent writers are
+   * serialized by Postgres instead of failing optimistic-lock checks. Must be called inside a
+   * read-write transaction.</p>
+   *
+   * @param userId      the id of the user
+   * @param preferences the full preference document as a JSON object
+   * @return the stored preferences and their new revision
+   */
+  @Query(
+      value = "INSERT INTO hrs.user_preferences AS up (user_id, preferences) "
+              + "VALUES (:userId, CAST(:preferences AS jsonb)) "
+              + "ON CONFLICT (user_id) DO UPDATE SET "
+              + "preferences = EXCLUDED.preferences, "
+              + "updated_date = current_timestamp, "
+              + "revision = up.revision + 1 "
+              + "RETURNING CAST(up.preferences AS text) AS preferences, up.revision AS revision",
+      nativeQuery = true
+  )
+  UserPreferenceRevisionProjection replacePreferences(
+      @Param("userId") String userId,
+      @Param("preferences") String preferences);
+
+  /**
+   * Apply a JSON merge patch to the user's preferences in a single statement.
+   *
+   * <p>The row is created when missing. Otherwise the patch is merged into the stored document
+   * by {@code hrs.jsonb_merge_patch} (RFC 7396: objects merge recursively, {@code null} removes
+   * a key) and the revision is incremented, all under the row lock taken by the upsert. No
+   * read-modify-write cycle is involved, so concurrent patches of different keys never
+   * conflict. Must be called inside a read-write transaction.</p>
+   *
+   * @param userId the id of the user
+   * @param patch  the merge patch as a JSON object
+   * @return the merged preferences and their new revision
+   */
+  @Query(
+      value = "INSERT INTO hrs.user_preferences AS up (user_id, preferences) "
+              + "VALUES (:userId, "
+              + "hrs.jsonb_merge_patch(CAST('{}' AS jsonb), CAST(:patch AS jsonb))) "
+              + "ON CONFLICT (user_id) DO UPDATE SET "
+              + "preferences = hrs.jsonb_merge_patch(up.preferences, CAST(:patch AS jsonb)), "
+              + "updated_date = current_timestamp, "
+              + "revision = up.revision + 1 "
+              + "RETURNING CAST(up.preferences AS text) AS preferences, up.revision AS revision",
+      nativeQuery = true
+  )
+  UserPreferenceRevisionProjection mergePreferences(
+      @Param("userId") String userId,
+      @Param("patch") String patch);
+
 }
@@ -39,7 +39,8 @@ public class ApiAuthorizationCustomizer
    * <p>Registers route-level authorization rules in the following priority
    * order:
    * <ul>
-   *   <li>Public health endpoint ({@code GET /actuator/health}) — permitted to all</li>
+   *   <li>Public health endpoint ({@code GET /actuator/health}) and its liveness and
+   *       readiness probes — permitted to all</li>
    *   <li>Metrics endpoint — requires authentication</li>
    *   <li>OPTIONS requests — requires authentication</li>
    *   <li>User endpoints ({@code /api/users/**}) — requires authentication</li>
@@ -50,6 +51,10 @@ public class ApiAuthorizationCustomizer
    *   <li>Search endpoints ({@code /api/search/**}) — requires authentication</li>
    *   <li>Reporting unit endpoints ({@code /api/reporting-units/**}) —
    *       requires authentication</li>
+   *   <li>Effective district volume lookups ({@code /api/district-volumes/**}) — requires
+   *       Submitter, Area, District or Admin role</li>
+   *   <li>Configuration endpoints ({@code /api/configuration/**}) — requires Admin role</li>
+   *   <li>Audit history endpoints ({@code /api/audit/**}) — requires Admin role</li>
    * </ul>
    *
    * @param authorize the authorization manager request matcher registry to
@@ -62,8 +67,12 @@ public class ApiAuthorizationCustomizer
           .AuthorizationManagerRequestMatcherRegistry authorize
   ) {
     authorize
-        // Public health endpoint
-        .requestMatchers(HttpMethod.GET, "/actuator/health")
+        // Public health endpoint and its liveness and readiness probes
+        .requestMatchers(
+            HttpMethod.GET,
+            "/actuator/health",
+            "/actuator/health/liveness",
+            "/actuator/health/readiness")
         .permitAll()
 
         // Metrics endpoint should be protected
@@ -107,7 +116,15 @@ public class ApiAuthorizationCustomizer
         .access(
             roleCheck.gotRoleMatching(Role.SUBMITTER, Role.AREA, Role.DISTRICT, Role.ADMIN))
 
+        // The district volume in effect is read while assessing, not only while configuring
+        .requestMatchers("/api/district-volumes/**")
+        .access(
+            roleCheck.gotRoleMatching(Role.SUBMITTER, Role.AREA, Role.DISTRICT, Role.ADMIN))
+
         .requestMatchers("/api/configuration/**")
+        .access(roleCheck.gotRoleMatching(Role.ADMIN))
+
+        .requestMatchers("/api/audit/**")
         .access(roleCheck.gotRoleMatching(Role.ADMIN));
   }
 }
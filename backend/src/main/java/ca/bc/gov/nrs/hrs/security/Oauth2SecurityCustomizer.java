@@ -4,7 +4,6 @@ import ca.bc.gov.nrs.hrs.provider.cognito.CognitoUserInfoClient;
 import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.Customizer;
@@ -12,12 +11,14 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 /**
  * Customize OAuth2 resource server configuration to extract authorities
- * from the JWT's {@code cognito:groups} claim and to configure the JWK set URI.
+ * from the JWT's {@code cognito:groups} claim and to decode tokens with the
+ * application {@link JwtDecoder}.
  *
  * <p>The customizer sets a {@link Converter} that uses the
  * {@code cognito:groups} claim as the primary source of granted authorities.
@@ -36,16 +37,14 @@ public class Oauth2SecurityCustomizer
             .OAuth2ResourceServerConfigurer<HttpSecurity>> {
 
   private final CognitoUserInfoClient cognitoUserInfoClient;
-
-  @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-  String jwkSetUri;
+  private final JwtDecoder jwtDecoder;
 
   @Override
   public void customize(
       org.springframework.security.config.annotation.web.configurers.oauth2.server.resource
           .OAuth2ResourceServerConfigurer<HttpSecurity> customize) {
     customize.jwt(
-        jwt -> jwt.jwtAuthenticationConverter(converter()).jwkSetUri(jwkSetUri));
+        jwt -> jwt.jwtAuthenticationConverter(converter()).decoder(jwtDecoder));
   }
 
   private Converter<Jwt, AbstractAuthenticationToken> converter() {
@@ -0,0 +1,171 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.AuditHistoryConfiguration;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditChangeDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryCursor;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryPageDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.repository.AuditHistoryRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service for reading the audit history of district volume and species composition
+ * configurations.
+ *
+ * <p>Histories are returned one keyset page at a time, or streamed in full for exports.</p>
+ */
+@Service
+@Slf4j
+public class AuditHistoryService {
+
+  private final AuditHistoryRepository auditHistoryRepository;
+  private final AuditHistoryConfiguration configuration;
+
+  /**
+   * Creates the service.
+   *
+   * @param configuration          application configuration holding the page size limits
+   * @param auditHistoryRepository repository reading the audit tables
+   */
+  public AuditHistoryService(
+      HrsConfiguration configuration,
+      AuditHistoryRepository auditHistoryRepository
+  ) {
+    this.auditHistoryRepository = auditHistoryRepository;
+    this.configuration = Optional
+        .ofNullable(configuration.getAuditHistory())
+        .orElseGet(AuditHistoryConfiguration::new);
+  }
+
+  /**
+   * Reads one page of audit history, newest change first.
+   *
+   * <p>One row more than the page size is read to tell whether another page follows, in which
+   * case the page carries the cursor to request it with.</p>
+   *
+   * @param filter the history to read
+   * @param size   the requested page size; the configured default when {@code null}, capped at
+   *               the configured maximum
+   * @return the page of changes
+   * @throws ResponseStatusException with HTTP 400 if the filter, cursor or size is invalid
+   */
+  @Transactional(readOnly = true)
+  public AuditHistoryPageDto getHistory(AuditHistoryFilterDto filter, Integer size) {
+    AuditHistoryFilterDto validated = validate(filter);
+    int pageSize = pageSize(size);
+
+    List<AuditChangeDto> changes = auditHistoryRepository.findPage(
+        validated, cursor(validated), pageSize + 1);
+
+    if (changes.size() <= pageSize) {
+      return new AuditHistoryPageDto(changes, null);
+    }
+
+    List<AuditChangeDto> page = changes.subList(0, pageSize);
+    return new AuditHistoryPageDto(
+        List.copyOf(page),
+        AuditHistoryRepository.cursorOf(validated, page.getLast()).encode());
+  }
+
+  /**
+   * Streams every change of the audit history to {@code sink}, newest first.
+   *
+   * @param filter the history to read; its cursor, if any, is the position to continue after
+   * @param sink   receives each change in order
+   * @throws ResponseStatusException with HTTP 400 if the filter or cursor is invalid
+   */
+  @Transactional(readOnly = true)
+  public void streamHistory(AuditHistoryFilterDto filter, Consumer<AuditChangeDto> sink) {
+    AuditHistoryFilterDto validated = validate(filter);
+    log.info("Streaming audit history for {}", validated);
+    auditHistoryRepository.stream(validated, cursor(validated), sink);
+  }
+
+  /**
+   * Checks an audit history filter and normalizes its entity type to upper case.
+   *
+   * <p>Called before a history is streamed so that a bad request is rejected before the
+   * response starts.</p>
+   *
+   * @param filter the filter to check
+   * @return the normalized filter
+   * @throws ResponseStatusException with HTTP 400 if the entity type, time window or cursor is
+   *     invalid
+   */
+  public AuditHistoryFilterDto validate(AuditHistoryFilterDto filter) {
+    String entityType = Optional
+        .ofNullable(filter.entityType())
+        .map(type -> type.toUpperCase(Locale.ROOT))
+        .orElse(null);
+
+    if (entityType != null
+        && Arrays.stream(ConfigType.values()).noneMatch(type -> type.name().equals(entityType))) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Invalid entity type. Must be one of " + Arrays.toString(ConfigType.values()) + "."
+      );
+    }
+    if (filter.isEntityHistory() && entityType == null) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Entity type is required to read the history of an entity."
+      );
+    }
+    if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Invalid time window. 'from' must be before 'to'."
+      );
+    }
+
+    AuditHistoryFilterDto validated = new AuditHistoryFilterDto(
+        entityType,
+        filter.entityId(),
+        filter.changedBy(),
+        filter.from(),
+        filter.to(),
+        filter.snapshots(),
+        filter.cursor());
+    cursor(validated);
+    return validated;
+  }
+
+  private int pageSize(Integer size) {
+    if (size == null) {
+      return configuration.getDefaultPageSize();
+    }
+    if (size < 1) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Invalid size. Must be at least 1."
+      );
+    }
+    return Math.min(size, configuration.getMaxPageSize());
+  }
+
+  private static AuditHistoryCursor cursor(AuditHistoryFilterDto filter) {
+    if (filter.cursor() == null) {
+      return null;
+    }
+    try {
+      return AuditHistoryCursor.decode(filter.cursor());
+    } catch (IllegalArgumentException exception) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Invalid cursor.",
+          exception
+      );
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.AuditPartitionConfiguration;
+import ca.bc.gov.nrs.hrs.repository.AuditPartitionRepository;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the monthly audit partitions ahead of time and archives the ones past retention.
+ *
+ * <p>Every pod schedules the job, but only the one that takes the maintenance lock runs it; the
+ * others skip the run. Both steps are idempotent, so a missed run is caught up by the next.</p>
+ */
+@Service
+@Slf4j
+public class AuditPartitionMaintenanceService {
+
+  private final AuditPartitionRepository auditPartitionRepository;
+  private final AuditPartitionConfiguration configuration;
+
+  /**
+   * Creates the service.
+   *
+   * @param configuration            application configuration holding the partition settings
+   * @param auditPartitionRepository repository managing the partitions
+   */
+  public AuditPartitionMaintenanceService(
+      HrsConfiguration configuration,
+      AuditPartitionRepository auditPartitionRepository
+  ) {
+    this.auditPartitionRepository = auditPartitionRepository;
+    this.configuration = Optional
+        .ofNullable(configuration.getAuditPartitions())
+        .orElseGet(AuditPartitionConfiguration::new);
+  }
+
+  /**
+   * Creates the partitions of the coming months and archives the expired ones.
+   */
+  @Scheduled(cron = "${ca.bc.gov.nrs.audit-partitions.maintenance-cron:0 15 1 * * *}")
+  @Transactional
+  public void maintainPartitions() {
+    if (!configuration.isEnabled()) {
+      return;
+    }
+    if (!auditPartitionRepository.tryLock()) {
+      log.debug("Audit partition maintenance is running elsewhere, skipping");
+      return;
+    }
+
+    List<String> created =
+        auditPartitionRepository.createPartitions(configuration.getMonthsAhead());
+    if (!created.isEmpty()) {
+      log.info("Created audit partitions {}", created);
+    }
+
+    List<String> archived =
+        auditPartitionRepository.archivePartitions(configuration.getRetentionMonths());
+    if (!archived.isEmpty()) {
+      log.info("Archived audit partitions {} to hrs_audit_archive", archived);
+    }
+  }
+}
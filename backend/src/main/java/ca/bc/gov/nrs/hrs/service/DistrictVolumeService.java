@@ -1,30 +1,45 @@
 package ca.bc.gov.nrs.hrs.service;
 
+import ca.bc.gov.nrs.hrs.cache.ActiveConfiguration;
+import ca.bc.gov.nrs.hrs.cache.ActiveConfigurationRegistry;
+import ca.bc.gov.nrs.hrs.cache.DetailResponseCache;
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeLookupDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictAreaProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
-import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import ca.bc.gov.nrs.hrs.mapper.DistrictVolumeMapper;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineLock;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository.TimelineSlot;
 import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.tracing.annotation.NewSpan;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -36,8 +51,9 @@ import org.springframework.web.server.ResponseStatusException;
  * Service for managing district volume configurations.
  *
  * <p>Handles retrieval, creation, and validation of district volume records. Supports filtering
- * by geographic area (INTERIOR, COASTAL) and provides methods to determine which areas have
- * active configurations for a given district code.</p>
+ * by geographic area (INTERIOR, COASTAL), provides methods to determine which areas have
+ * active configurations for a given district code, and resolves the district row that applies on
+ * a given date.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -45,6 +61,10 @@ import org.springframework.web.server.ResponseStatusException;
 public class DistrictVolumeService {
 
   private final DistrictVolumeRepository districtVolumeRepository;
+  private final ActiveConfigurationRegistry activeConfigurationRegistry;
+  private final DetailResponseCache detailResponseCache;
+  private final ConfigurationTimelineLock timelineLock;
+  private final ConfigurationTimelineRepository timelineRepository;
 
   /**
    * Retrieves a paginated list of district volume records.
@@ -66,20 +86,20 @@ public class DistrictVolumeService {
     log.debug("Listing existing district volumes with area filter: {} and page: {}",
         areaOptional.orElse("None"), pageable);
 
-    Page<DistrictVolumeEntity> entities =
+    Page<DistrictVolumeSummaryProjection> summaries =
         areaOptional
             .map(areaStr -> {
               Area areaEnum = Area.valueOf(areaStr.toUpperCase());
-              return districtVolumeRepository.findAllLiveByConfigTypeAndArea(
+              return districtVolumeRepository.findAllLiveSummariesByConfigTypeAndArea(
                   ConfigType.DISTRICT_VOLUME,
                   areaEnum,
                   pageable);
             })
-            .orElseGet(() -> districtVolumeRepository.findAllLiveByConfigType(
+            .orElseGet(() -> districtVolumeRepository.findAllLiveSummariesByConfigType(
                 ConfigType.DISTRICT_VOLUME,
                 pageable));
 
-    return entities.map(DistrictVolumeMapper::toListItemDto);
+    return summaries.map(DistrictVolumeMapper::toListItemDto);
   }
 
   /**
@@ -91,46 +111,71 @@ public class DistrictVolumeService {
    */
   @Transactional(readOnly = true)
   public DistrictVolumeDetailDto getDistrictVolumeById(Long id) {
+    return DistrictVolumeMapper.toDetailDto(findDistrictVolume(id));
+  }
 
-    DistrictVolumeEntity entity =
-        districtVolumeRepository.findByIdAndConfigType(id, ConfigType.DISTRICT_VOLUME)
-            .orElseThrow(
-                () -> new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "District volume record not found"));
-
-    return DistrictVolumeMapper.toDetailDto(entity);
+  /**
+   * Retrieves the serialized detail of a district volume record.
+   *
+   * <p>Only the {@code updated_at} column is read while the body cached for the record is still
+   * current; otherwise the record is loaded, mapped and serialized once and the result cached in
+   * the {@link DetailResponseCache}.</p>
+   *
+   * @param id the unique identifier of the district volume record
+   * @return the serialized {@link DistrictVolumeDetailDto} and its entity tag
+   * @throws ResponseStatusException with HTTP 404 if the record is not found
+   */
+  @Transactional(readOnly = true)
+  public SerializedDetail getSerializedDistrictVolumeById(Long id) {
+    LocalDateTime updatedAt = districtVolumeRepository
+        .findUpdatedAtByIdAndConfigType(id, ConfigType.DISTRICT_VOLUME)
+        .orElseThrow(DistrictVolumeService::notFound);
+
+    return detailResponseCache
+        .get(ConfigType.DISTRICT_VOLUME, id, updatedAt)
+        .orElseGet(() -> {
+          DistrictVolumeEntity entity = findDistrictVolume(id);
+          return detailResponseCache.put(
+              ConfigType.DISTRICT_VOLUME,
+              id,
+              entity.getUpdatedAt(),
+              DistrictVolumeMapper.toDetailDto(entity));
+        });
   }
 
   /**
    * Returns the geographic areas that currently have active district-volume data for a district.
    *
    * <p>Checks both INTERIOR and COASTAL areas to determine which ones have active (non-expired)
-   * configurations containing the specified district code.</p>
+   * configurations containing the specified district code. Served from the in-memory
+   * {@link ActiveConfigurationRegistry}, or from the generated district code column when the
+   * registry is disabled.</p>
    *
    * @param districtCode the district code to search for (e.g., "DND", "DKM")
    * @return list of area names (INTERIOR, COASTAL) that have active data for the district; empty
    *     list if no areas are found or if districtCode is blank
    */
-  @Transactional(readOnly = true)
   @NewSpan
   public List<String> getAreasForDistrictCode(String districtCode) {
     if (StringUtils.isBlank(districtCode)) {
       return List.of();
     }
 
+    if (!activeConfigurationRegistry.isEnabled()) {
+      return sortedAreas(
+          districtVolumeRepository.findActiveAreasByDistrictCode(
+              ConfigType.DISTRICT_VOLUME,
+              normalizeDistrictCode(districtCode),
+              LocalDate.now()));
+    }
+
     List<String> matchedAreas = new ArrayList<>();
-    LocalDate currentDate = LocalDate.now();
 
     for (Area area : List.of(Area.INTERIOR, Area.COASTAL)) {
-      districtVolumeRepository.findActiveByConfigTypeAndArea(
-              ConfigType.DISTRICT_VOLUME,
-              area,
-              currentDate)
-          .stream()
-          .findFirst()
-          .filter(entity -> containsDistrict(entity.getTableData(), districtCode))
-          .ifPresent(ignoredEntity -> matchedAreas.add(area.name()));
+      activeConfigurationRegistry
+          .active(ConfigType.DISTRICT_VOLUME, area)
+          .filter(configuration -> configuration.containsDistrict(districtCode))
+          .ifPresent(ignoredConfiguration -> matchedAreas.add(area.name()));
     }
 
     return matchedAreas;
@@ -139,15 +184,15 @@ public class DistrictVolumeService {
   /**
    * Returns the geographic areas for multiple district codes in a single pass.
    *
-   * <p>Fetches the active INTERIOR and COASTAL configurations once and checks all district codes
-   * against both, avoiding the N+1 query pattern that would result from calling
-   * {@link #getAreasForDistrictCode(String)} in a loop.</p>
+   * <p>Resolves the active INTERIOR and COASTAL configurations once from the in-memory
+   * {@link ActiveConfigurationRegistry} and checks all district codes against both. When the
+   * registry is disabled all codes are resolved by a single query on the generated district code
+   * column.</p>
    *
    * @param districtCodes the district codes to look up (null or empty returns an empty map)
    * @return map of district code to its list of area names (INTERIOR, COASTAL); each list is empty
    *     if the district was not found in any active configuration
    */
-  @Transactional(readOnly = true)
   @NewSpan
   public Map<String, List<String>> getAreasForMultipleDistricts(List<String> districtCodes) {
     if (districtCodes == null || districtCodes.isEmpty()) {
@@ -159,24 +204,93 @@ public class DistrictVolumeService {
       result.put(code, new ArrayList<>());
     }
 
-    LocalDate currentDate = LocalDate.now();
-
-    for (Area area : List.of(Area.INTERIOR, Area.COASTAL)) {
-      districtVolumeRepository.findActiveByConfigTypeAndArea(
+    if (!activeConfigurationRegistry.isEnabled()) {
+      Map<String, List<String>> areasByCode = districtVolumeRepository
+          .findActiveAreasByDistrictCodes(
               ConfigType.DISTRICT_VOLUME,
-              area,
-              currentDate)
+              districtCodes
+                  .stream()
+                  .map(this::normalizeDistrictCode)
+                  .filter(Objects::nonNull)
+                  .distinct()
+                  .toArray(String[]::new),
+              LocalDate.now())
           .stream()
-          .findFirst()
-          .ifPresent(entity -> {
-            for (String districtCode : districtCodes) {
-              if (containsDistrict(entity.getTableData(), districtCode)) {
-                result.get(districtCode).add(area.name());
-              }
-            }
-          });
+          .collect(Collectors.groupingBy(
+              DistrictAreaProjection::getDistrictCode,
+              Collectors.mapping(DistrictAreaProjection::getArea, Collectors.toList())));
+      result.forEach((code, areas) -> areas.addAll(
+          sortedAreas(areasByCode.getOrDefault(normalizeDistrictCode(code), List.of()))));
+      return result;
+    }
+
+    for (Area area : List.of(Area.INTERIOR, Area.COASTAL)) {
+      Optional<ActiveConfiguration> active =
+          activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, area);
+      active.ifPresent(configuration -> {
+        for (String districtCode : districtCodes) {
+          if (configuration.containsDistrict(districtCode)) {
+            result.get(districtCode).add(area.name());
+          }
+        }
+      });
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the district volume row that applies to a district on a given date.
+   *
+   * <p>Resolves the INTERIOR and COASTAL configurations covering the date from the
+   * {@link ActiveConfigurationRegistry} timeline and returns the first one holding a row for the
+   * district. No query is issued once the timelines are loaded.</p>
+   *
+   * @param districtCode the district code, case-insensitive
+   * @param date         the date to resolve
+   * @return the effective row, or empty if no configuration covering the date has the district
+   */
+  public Optional<EffectiveDistrictVolumeDto> getEffectiveDistrictVolume(
+      String districtCode,
+      LocalDate date) {
+    if (StringUtils.isBlank(districtCode) || date == null) {
+      return Optional.empty();
+    }
+    return effectiveDistrictVolume(districtCode, date, this::configurationAt);
+  }
+
+  /**
+   * Returns the effective district volume rows for many district and date pairs.
+   *
+   * <p>Configurations are resolved once per area and distinct date, so a batch that spans a
+   * handful of dates costs a handful of timeline lookups regardless of its size. Pairs without a
+   * matching row are left out; every returned row carries its district and date so callers can
+   * match it back to their request.</p>
+   *
+   * @param lookups the district and date pairs to resolve
+   * @return the matching rows, in request order
+   */
+  @NewSpan
+  public List<EffectiveDistrictVolumeDto> getEffectiveDistrictVolumes(
+      List<EffectiveDistrictVolumeLookupDto> lookups) {
+    if (lookups == null || lookups.isEmpty()) {
+      return List.of();
     }
 
+    Map<Area, Map<LocalDate, Optional<ActiveConfiguration>>> resolved = new EnumMap<>(Area.class);
+    BiFunction<Area, LocalDate, Optional<ActiveConfiguration>> configurations =
+        (area, date) -> resolved
+            .computeIfAbsent(area, ignored -> new HashMap<>())
+            .computeIfAbsent(date, missing -> configurationAt(area, missing));
+
+    List<EffectiveDistrictVolumeDto> result = new ArrayList<>(lookups.size());
+    for (EffectiveDistrictVolumeLookupDto lookup : lookups) {
+      if (StringUtils.isBlank(lookup.district()) || lookup.date() == null) {
+        continue;
+      }
+      effectiveDistrictVolume(lookup.district(), lookup.date(), configurations)
+          .ifPresent(result::add);
+    }
     return result;
   }
 
@@ -189,23 +303,22 @@ public class DistrictVolumeService {
    *   <li>Payload structure consistency with the specified area</li>
    *   <li>Helicopter multiplier requirement for COASTAL area</li>
    *   <li>Start date must be strictly after today</li>
-   *   <li>No duplicate open-ended records for the area</li>
-   *   <li>Start date must be after the most recent existing start date</li>
+   *   <li>No other live record may start on the same date</li>
    * </ul>
-   * If a previous open-ended record exists, its end date is set to one day before the new start
-   * date.
+   * The record before the new start date, if it overlaps, is closed one day before it, and the new
+   * record ends one day before the next record, if any. Both happen in a single statement; the
+   * database rejects any remaining overlap through its exclusion constraint.
    *
    * @param user the user creating the record (for audit trail)
    * @param createDto the district volume configuration payload
    * @return the newly created {@link DistrictVolumeDetailDto}
    * @throws ResponseStatusException with HTTP 400 if validation fails (invalid area, missing
    *     helicopter multiplier, invalid start date, payload mismatch)
-   * @throws ResponseStatusException with HTTP 409 if multiple open-ended records exist for the
-   *     area
    * @throws ResponseStatusException with HTTP 422 if start date is not strictly after today or
-   *     after the most recent existing start date
+   *     another record already starts on it
    */
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Retry(name = "timelineLock")
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public DistrictVolumeDetailDto createDistrictVolume(
       String user, DistrictVolumeCreateDto createDto) {
 
@@ -221,6 +334,7 @@ public class DistrictVolumeService {
     }
 
     validateAreaPayloadConsistency(areaEnum, createDto);
+    timelineLock.acquire(ConfigType.DISTRICT_VOLUME, areaEnum);
 
     if (areaEnum == Area.COASTAL && createDto.heliMultiplier() == null) {
       throw new ResponseStatusException(
@@ -234,57 +348,27 @@ public class DistrictVolumeService {
           "Start date must be strictly after today.");
     }
 
-    List<DistrictVolumeEntity> openEntries =
-        districtVolumeRepository
-            .findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-                ConfigType.DISTRICT_VOLUME,
-                areaEnum);
+    TimelineSlot slot = timelineRepository.closePredecessor(
+        ConfigType.DISTRICT_VOLUME, areaEnum, createDto.startDate(), user);
 
-    if (openEntries.size() > 1) {
+    if (slot.startTaken()) {
       throw new ResponseStatusException(
-          HttpStatus.CONFLICT,
-          "Data integrity issue: multiple open-ended district volume records exist for area "
-              + areaEnum + ". Resolve the duplicates before creating a new configuration.");
+          HttpStatus.UNPROCESSABLE_CONTENT,
+          "A configuration already starts on " + createDto.startDate() + ".");
     }
 
-    List<DistrictVolumeEntity> successorEntries = districtVolumeRepository.findFirstLiveAfter(
-        ConfigType.DISTRICT_VOLUME,
-        areaEnum,
-        createDto.startDate(),
-        PageRequest.of(0, 1));
-    DistrictVolumeEntity successor = successorEntries.isEmpty()
-        ? null
-        : successorEntries.getFirst();
-    DistrictVolumeEntity previousEntry;
-    if (successor != null) {
-      List<DistrictVolumeEntity> previousEntries = districtVolumeRepository.findFirstLiveBefore(
-          ConfigType.DISTRICT_VOLUME,
-          areaEnum,
-          createDto.startDate(),
-          PageRequest.of(0, 1));
-      previousEntry = previousEntries.isEmpty() ? null : previousEntries.getFirst();
-    } else {
-      previousEntry = openEntries.isEmpty() ? null : openEntries.getFirst();
-    }
-
-    if (previousEntry != null) {
-
-      if (!createDto.startDate().isAfter(previousEntry.getStartDate())) {
-        throw new ResponseStatusException(
-            HttpStatus.UNPROCESSABLE_CONTENT,
-            "Start date must be after the most recent existing start date ("
-                + previousEntry.getStartDate() + ").");
-      }
-
-      previousEntry.setEndDate(createDto.startDate().minusDays(1));
-      districtVolumeRepository.save(previousEntry);
+    if (slot.predecessorId() != null) {
+      detailResponseCache.evict(ConfigType.DISTRICT_VOLUME, slot.predecessorId());
     }
 
     DistrictVolumeEntity entity = new DistrictVolumeEntity();
 
     entity.setArea(areaEnum);
     entity.setStartDate(createDto.startDate());
-    entity.setEndDate(successor == null ? null : successor.getStartDate().minusDays(1));
+    entity.setEndDate(Optional
+        .ofNullable(slot.successorStartDate())
+        .map(successorStart -> successorStart.minusDays(1))
+        .orElse(null));
     entity.setTableLevelFactor(createDto.tableLevelFactor());
     entity.setHeliMultiplier(createDto.heliMultiplier());
     entity.setCreatedBy(user);
@@ -295,51 +379,92 @@ public class DistrictVolumeService {
 
     DistrictVolumeEntity savedEntity =
         districtVolumeRepository.save(entity);
+    activeConfigurationRegistry.refresh(ConfigType.DISTRICT_VOLUME, areaEnum);
 
     return DistrictVolumeMapper.toDetailDto(savedEntity);
   }
 
   /**
-   * Checks if the provided table data contains a district with the specified code.
+   * Finds the first area whose configuration covering the date holds a row for the district.
    *
-   * <p>Searches through zones or sections (depending on the table data structure) to find a
-   * matching district code. Comparison is case-insensitive.</p>
+   * @param districtCode   the district code, case-insensitive
+   * @param date           the date to resolve
+   * @param configurations resolves the configuration of an area on a date
+   * @return the effective row, if any
+   */
+  private Optional<EffectiveDistrictVolumeDto> effectiveDistrictVolume(
+      String districtCode,
+      LocalDate date,
+      BiFunction<Area, LocalDate, Optional<ActiveConfiguration>> configurations) {
+    for (Area area : List.of(Area.INTERIOR, Area.COASTAL)) {
+      Optional<EffectiveDistrictVolumeDto> effective = configurations
+          .apply(area, date)
+          .flatMap(configuration -> {
+            int row = configuration.districts().row(districtCode);
+            return row < 0
+                ? Optional.empty()
+                : Optional.of(DistrictVolumeMapper.toEffectiveDto(configuration, row, date));
+          });
+      if (effective.isPresent()) {
+        return effective;
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Resolves the district volume configuration of an area on a date from the registry.
    *
-   * @param tableData the table data structure to search (may be null)
-   * @param districtCode the district code to search for
-   * @return true if the district code is found in the table data; false otherwise
+   * @param area the geographic area
+   * @param date the date to resolve
+   * @return the configuration covering the date, if any
    */
-  private boolean containsDistrict(
-      TableData tableData,
-      String districtCode) {
+  private Optional<ActiveConfiguration> configurationAt(Area area, LocalDate date) {
+    return activeConfigurationRegistry.at(ConfigType.DISTRICT_VOLUME, area, date);
+  }
 
-    if (tableData == null || StringUtils.isBlank(districtCode)) {
-      return false;
-    }
+  /**
+   * Loads a live district volume record.
+   *
+   * @param id the unique identifier of the district volume record
+   * @return the entity
+   * @throws ResponseStatusException with HTTP 404 if the record is not found
+   */
+  private DistrictVolumeEntity findDistrictVolume(Long id) {
+    return districtVolumeRepository
+        .findByIdAndConfigType(id, ConfigType.DISTRICT_VOLUME)
+        .orElseThrow(DistrictVolumeService::notFound);
+  }
 
-    String normalizedCode = districtCode.toUpperCase();
-
-    if (tableData.sections() != null) {
-      boolean match = tableData.sections().stream()
-          .flatMap(section ->
-              section.districts() != null ? section.districts().stream()
-                  : Stream.empty())
-          .anyMatch(d -> normalizedCode.equals(
-              d.district().code().toUpperCase()));
-      if (match) {
-        return true;
-      }
-    }
+  private static ResponseStatusException notFound() {
+    return new ResponseStatusException(HttpStatus.NOT_FOUND, "District volume record not found");
+  }
 
-    if (tableData.zones() != null) {
-      return tableData.zones().stream()
-          .flatMap(zone ->
-              zone.districts() != null ? zone.districts().stream() : Stream.empty())
-          .anyMatch(d -> normalizedCode.equals(
-              d.district().code().toUpperCase()));
-    }
+  /**
+   * Upper-cases and trims a district code to match the generated district code column.
+   *
+   * @param districtCode the district code as received
+   * @return the normalized code, or {@code null} when blank
+   */
+  private String normalizeDistrictCode(String districtCode) {
+    return StringUtils.isBlank(districtCode)
+        ? null
+        : districtCode.trim().toUpperCase(Locale.ROOT);
+  }
 
-    return false;
+  /**
+   * Orders area names the same way the in-memory lookup does (INTERIOR before COASTAL).
+   *
+   * @param areas area names returned by the database
+   * @return the names in {@link Area} declaration order
+   */
+  private List<String> sortedAreas(List<String> areas) {
+    return areas
+        .stream()
+        .map(Area::valueOf)
+        .sorted()
+        .map(Area::name)
+        .toList();
   }
 
   /**
@@ -395,8 +520,16 @@ public class DistrictVolumeService {
    * @throws ResponseStatusException with HTTP 422 if the record is not a
    *     future-start or not open-ended.
    */
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Retry(name = "timelineLock")
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void deleteDistrictVolume(String user, Long id) {
+    Area area = districtVolumeRepository
+        .findAreaByIdAndConfigType(id, ConfigType.DISTRICT_VOLUME)
+        .orElseThrow(() -> new ResponseStatusException(
+            HttpStatus.NOT_FOUND,
+            "District volume record not found: " + id));
+    timelineLock.acquire(ConfigType.DISTRICT_VOLUME, area);
+
     DistrictVolumeEntity entity = districtVolumeRepository
         .findByIdAndConfigType(id, ConfigType.DISTRICT_VOLUME)
         .filter(e -> !e.isDeleted())
@@ -416,19 +549,21 @@ public class DistrictVolumeService {
           "Only open-ended future configurations can be deleted.");
     }
 
-    List<DistrictVolumeEntity> previousEntries = districtVolumeRepository.findFirstLiveBefore(
-        ConfigType.DISTRICT_VOLUME,
-        entity.getArea(),
-        entity.getStartDate(),
-        PageRequest.of(0, 1));
-    if (!previousEntries.isEmpty()) {
-      DistrictVolumeEntity predecessor = previousEntries.getFirst();
-      predecessor.setEndDate(entity.getEndDate());
-      districtVolumeRepository.save(predecessor);
-    }
-
     entity.setDeleted(true);
-    districtVolumeRepository.save(entity);
+    districtVolumeRepository.saveAndFlush(entity);
+    detailResponseCache.evict(ConfigType.DISTRICT_VOLUME, id);
+
+    timelineRepository
+        .reopenPredecessor(
+            ConfigType.DISTRICT_VOLUME,
+            entity.getArea(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            user)
+        .ifPresent(predecessorId ->
+            detailResponseCache.evict(ConfigType.DISTRICT_VOLUME, predecessorId));
+
+    activeConfigurationRegistry.refresh(ConfigType.DISTRICT_VOLUME, entity.getArea());
     log.info("Soft-deleted district volume {} by user {}", id, user);
   }
 
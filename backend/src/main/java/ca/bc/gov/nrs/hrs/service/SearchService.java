@@ -3,6 +3,7 @@ package ca.bc.gov.nrs.hrs.service;
 import static java.util.stream.Collectors.toMap;
 
 import ca.bc.gov.nrs.hrs.configuration.FeatureFlagsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsMetricConfiguration;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.base.FeatureFlag;
 import ca.bc.gov.nrs.hrs.dto.search.MyForestClientSearchResultDto;
@@ -10,6 +11,9 @@ import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchExpandedDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
 import ca.bc.gov.nrs.hrs.provider.legacy.LegacyApiProvider;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
 import java.util.HashMap;
@@ -40,10 +44,23 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SearchService {
 
+  /**
+   * Timer recording reporting unit searches by filter shape.
+   */
+  public static final String SEARCH_TIMER =
+      HrsMetricConfiguration.SEARCH_METER_PREFIX + ".requests";
+
+  /**
+   * Summary recording the number of reporting units matched by a search, by filter shape.
+   */
+  public static final String SEARCH_RESULTS_SUMMARY =
+      HrsMetricConfiguration.SEARCH_METER_PREFIX + ".results";
+
   private final LegacyApiProvider legacyApiProvider;
   private final ForestClientService forestClientService;
   private final UserService userService;
   private final FeatureFlagsConfiguration featureFlagsConfiguration;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Search reporting units using the supplied filters and pageable settings.
@@ -52,6 +69,16 @@ public class SearchService {
    * calling the Forest Client service.
    * </p>
    *
+   * <p>For bookmarked searches the user's bookmark set is handed to the legacy API as part of
+   * the filters, which sends it in the request body; a user without bookmarks gets an empty
+   * page without calling the legacy API at all.
+   * </p>
+   *
+   * <p>Each search is timed under {@value #SEARCH_TIMER} and its total number of matches
+   * recorded under {@value #SEARCH_RESULTS_SUMMARY}, both tagged with the filter shape (which
+   * filters were set, never their values) so slow filter combinations can be told apart.
+   * </p>
+   *
    * @param userId the current user
    * @param filters  search filters
    * @param pageable paging parameters
@@ -63,10 +90,47 @@ public class SearchService {
       ReportingUnitSearchParametersDto filters,
       Pageable pageable
   ) {
+    String shape = filters == null ? "none" : filters.filterShape();
+    String exception = "none";
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      Page<ReportingUnitSearchResultDto> result = searchReportingUnits(userId, filters, pageable);
+      DistributionSummary
+          .builder(SEARCH_RESULTS_SUMMARY)
+          .description("Number of reporting units matched by a search")
+          .tag("shape", shape)
+          .register(meterRegistry)
+          .record(result.getTotalElements());
+      return result;
+    } catch (RuntimeException ex) {
+      exception = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      sample.stop(
+          Timer
+              .builder(SEARCH_TIMER)
+              .description("Latency of reporting unit searches by filter shape")
+              .tag("shape", shape)
+              .tag("exception", exception)
+              .register(meterRegistry)
+      );
+    }
+  }
+
+  private Page<ReportingUnitSearchResultDto> searchReportingUnits(
+      String userId,
+      ReportingUnitSearchParametersDto filters,
+      Pageable pageable
+  ) {
 
     if (filters != null && filters.isBookmarked() && featureFlagsConfiguration.isEnabled(
         FeatureFlag.BOOKMARK_REPORTING_UNIT_ENABLED)) {
-      filters.setReportingUnitIds(userService.getUserBookmarksInList(userId, List.of()));
+      List<Long> bookmarks = userService.getUserBookmarksInList(userId, List.of());
+      // Without bookmarks the legacy id filter would be treated as absent and match everything
+      if (bookmarks.isEmpty()) {
+        return new PageImpl<>(List.of(), pageable, 0);
+      }
+      filters.setReportingUnitIds(bookmarks);
     }
 
     //Search the legacy API for reporting units
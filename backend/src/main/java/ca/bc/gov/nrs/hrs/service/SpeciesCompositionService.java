@@ -1,5 +1,8 @@
 package ca.bc.gov.nrs.hrs.service;
 
+import ca.bc.gov.nrs.hrs.cache.ActiveConfigurationRegistry;
+import ca.bc.gov.nrs.hrs.cache.DetailResponseCache;
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
@@ -9,16 +12,21 @@ import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.SpeciesCompositionTableDataDt
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import ca.bc.gov.nrs.hrs.mapper.DistrictVolumeMapper;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineLock;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository.TimelineSlot;
 import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import io.github.resilience4j.retry.annotation.Retry;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.EnumUtils;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -38,6 +46,10 @@ import org.springframework.web.server.ResponseStatusException;
 public class SpeciesCompositionService {
 
   private final DistrictVolumeRepository districtVolumeRepository;
+  private final ActiveConfigurationRegistry activeConfigurationRegistry;
+  private final DetailResponseCache detailResponseCache;
+  private final ConfigurationTimelineLock timelineLock;
+  private final ConfigurationTimelineRepository timelineRepository;
 
   /**
    * Retrieves a paginated list of species composition records, optionally
@@ -54,19 +66,19 @@ public class SpeciesCompositionService {
     log.debug("Fetching species composition list, areaFilter: {}, pageable: {}",
         areaOptional.orElse("None"), pageable);
 
-    Page<DistrictVolumeEntity> entities =
+    Page<DistrictVolumeSummaryProjection> summaries =
         areaOptional
             .map(areaStr -> {
               Area areaEnum = Area.valueOf(areaStr.toUpperCase());
-              return districtVolumeRepository.findAllLiveByConfigTypeAndArea(
+              return districtVolumeRepository.findAllLiveSummariesByConfigTypeAndArea(
                   ConfigType.SPECIES_COMPOSITION,
                   areaEnum,
                   pageable);
             })
-            .orElseGet(() -> districtVolumeRepository.findAllLiveByConfigType(
+            .orElseGet(() -> districtVolumeRepository.findAllLiveSummariesByConfigType(
                 ConfigType.SPECIES_COMPOSITION, pageable));
 
-    return entities.map(DistrictVolumeMapper::toListItemDto);
+    return summaries.map(DistrictVolumeMapper::toListItemDto);
   }
 
   /**
@@ -80,31 +92,57 @@ public class SpeciesCompositionService {
   @Transactional(readOnly = true)
   public DistrictVolumeDetailDto getSpeciesCompositionById(Long id) {
     log.debug("Fetching species composition detail for ID: {}", id);
-    DistrictVolumeEntity entity = districtVolumeRepository
-        .findByIdAndConfigType(id, ConfigType.SPECIES_COMPOSITION)
-        .orElseThrow(() -> new ResponseStatusException(
-            HttpStatus.NOT_FOUND,
-            "Species composition record not found for id: " + id));
+    return DistrictVolumeMapper.toDetailDto(findSpeciesComposition(id));
+  }
 
-    return DistrictVolumeMapper.toDetailDto(entity);
+  /**
+   * Retrieves the serialized detail of a species composition record.
+   *
+   * <p>Only the {@code updated_at} column is read while the body cached for the record is
+   * still current; otherwise the record is loaded, mapped and serialized once and the result
+   * cached in the {@link DetailResponseCache}.
+   *
+   * @param id the record identifier
+   * @return the serialized species composition detail DTO and its entity tag
+   * @throws org.springframework.web.server.ResponseStatusException with
+   *         {@code NOT_FOUND} if no record exists for the given ID
+   */
+  @Transactional(readOnly = true)
+  public SerializedDetail getSerializedSpeciesCompositionById(Long id) {
+    LocalDateTime updatedAt = districtVolumeRepository
+        .findUpdatedAtByIdAndConfigType(id, ConfigType.SPECIES_COMPOSITION)
+        .orElseThrow(() -> notFound(id));
+
+    return detailResponseCache
+        .get(ConfigType.SPECIES_COMPOSITION, id, updatedAt)
+        .orElseGet(() -> {
+          log.debug("Serializing species composition detail for ID: {}", id);
+          DistrictVolumeEntity entity = findSpeciesComposition(id);
+          return detailResponseCache.put(
+              ConfigType.SPECIES_COMPOSITION,
+              id,
+              entity.getUpdatedAt(),
+              DistrictVolumeMapper.toDetailDto(entity));
+        });
   }
 
   /**
    * Creates a new species composition record.
    *
    * <p>Validates payload consistency with the specified area, ensures the
-   * start date is in the future and chronologically after any existing
-   * open-ended records, closes any currently open-ended record, and
-   * persists the new entry.
+   * start date is in the future and not already taken, closes the overlapping
+   * predecessor in the same statement that finds the successor, and persists
+   * the new entry.
    *
    * @param currentUser the authenticated user creating the record
    * @param createDto   the creation payload
    * @return the persisted species composition detail DTO
    * @throws org.springframework.web.server.ResponseStatusException with
-   *         {@code BAD_REQUEST}, {@code CONFLICT}, or
-   *         {@code UNPROCESSABLE_CONTENT} on validation failures
+   *         {@code BAD_REQUEST} or {@code UNPROCESSABLE_CONTENT} on
+   *         validation failures
    */
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Retry(name = "timelineLock")
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public DistrictVolumeDetailDto createSpeciesComposition(
       String currentUser,
       DistrictVolumeCreateDto createDto) {
@@ -121,6 +159,7 @@ public class SpeciesCompositionService {
     }
 
     validateAreaPayloadConsistency(areaEnum, createDto);
+    timelineLock.acquire(ConfigType.SPECIES_COMPOSITION, areaEnum);
 
     if (!createDto.startDate().isAfter(LocalDate.now())) {
       throw new ResponseStatusException(
@@ -128,60 +167,31 @@ public class SpeciesCompositionService {
           "Start date must be strictly after today.");
     }
 
-    // Fetch existing open-ended rows for this configuration type and area
-    List<DistrictVolumeEntity> openRows = districtVolumeRepository
-        .findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, areaEnum);
+    TimelineSlot slot = timelineRepository.closePredecessor(
+        ConfigType.SPECIES_COMPOSITION, areaEnum, createDto.startDate(), currentUser);
 
-    if (openRows.size() > 1) {
+    if (slot.startTaken()) {
       throw new ResponseStatusException(
-          HttpStatus.CONFLICT,
-          "Data integrity issue: multiple open-ended species composition records exist for area "
-              + areaEnum + ". Resolve the duplicates before creating a new configuration.");
-    }
-
-    List<DistrictVolumeEntity> successorEntries = districtVolumeRepository.findFirstLiveAfter(
-        ConfigType.SPECIES_COMPOSITION,
-        areaEnum,
-        createDto.startDate(),
-        PageRequest.of(0, 1));
-    DistrictVolumeEntity successor = successorEntries.isEmpty()
-        ? null
-        : successorEntries.getFirst();
-    DistrictVolumeEntity previousEntry;
-    if (successor != null) {
-      List<DistrictVolumeEntity> previousEntries = districtVolumeRepository.findFirstLiveBefore(
-          ConfigType.SPECIES_COMPOSITION,
-          areaEnum,
-          createDto.startDate(),
-          PageRequest.of(0, 1));
-      previousEntry = previousEntries.isEmpty() ? null : previousEntries.getFirst();
-    } else {
-      previousEntry = openRows.isEmpty() ? null : openRows.getFirst();
+          HttpStatus.UNPROCESSABLE_CONTENT,
+          "A configuration already starts on " + createDto.startDate() + ".");
     }
 
-    if (previousEntry != null) {
-
-      if (!createDto.startDate().isAfter(previousEntry.getStartDate())) {
-        throw new ResponseStatusException(
-            HttpStatus.UNPROCESSABLE_CONTENT,
-            "Start date must be after the most recent existing start date ("
-                + previousEntry.getStartDate() + ").");
-      }
-
-      // Close the existing open-ended row
-      previousEntry.setEndDate(createDto.startDate().minusDays(1));
-      districtVolumeRepository.save(previousEntry);
-      log.info("Closed existing open-ended species composition ID {} with end date {}",
-          previousEntry.getId(), previousEntry.getEndDate());
+    if (slot.predecessorId() != null) {
+      detailResponseCache.evict(ConfigType.SPECIES_COMPOSITION, slot.predecessorId());
+      log.info("Closed species composition ID {} with end date {}",
+          slot.predecessorId(), createDto.startDate().minusDays(1));
     }
 
     DistrictVolumeEntity newEntity = DistrictVolumeMapper.toEntity(createDto);
     newEntity.setConfigType(ConfigType.SPECIES_COMPOSITION);
-    newEntity.setEndDate(successor == null ? null : successor.getStartDate().minusDays(1));
+    newEntity.setEndDate(Optional
+        .ofNullable(slot.successorStartDate())
+        .map(successorStart -> successorStart.minusDays(1))
+        .orElse(null));
     newEntity.setCreatedBy(currentUser);
 
     DistrictVolumeEntity saved = districtVolumeRepository.save(newEntity);
+    activeConfigurationRegistry.refresh(ConfigType.SPECIES_COMPOSITION, areaEnum);
     log.info("Successfully created species composition record with ID: {}", saved.getId());
 
     return DistrictVolumeMapper.toDetailDto(saved);
@@ -202,8 +212,16 @@ public class SpeciesCompositionService {
    * @throws ResponseStatusException with HTTP 422 if the record is not a
    *     future-start or not open-ended.
    */
-  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @Retry(name = "timelineLock")
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void deleteSpeciesComposition(String user, Long id) {
+    Area area = districtVolumeRepository
+        .findAreaByIdAndConfigType(id, ConfigType.SPECIES_COMPOSITION)
+        .orElseThrow(() -> new ResponseStatusException(
+            HttpStatus.NOT_FOUND,
+            "Species composition record not found: " + id));
+    timelineLock.acquire(ConfigType.SPECIES_COMPOSITION, area);
+
     DistrictVolumeEntity entity = districtVolumeRepository
         .findByIdAndConfigType(id, ConfigType.SPECIES_COMPOSITION)
         .filter(e -> !e.isDeleted())
@@ -223,22 +241,36 @@ public class SpeciesCompositionService {
           "Only open-ended future configurations can be deleted.");
     }
 
-    List<DistrictVolumeEntity> previousEntries = districtVolumeRepository.findFirstLiveBefore(
-        ConfigType.SPECIES_COMPOSITION,
-        entity.getArea(),
-        entity.getStartDate(),
-        PageRequest.of(0, 1));
-    if (!previousEntries.isEmpty()) {
-      DistrictVolumeEntity predecessor = previousEntries.getFirst();
-      predecessor.setEndDate(entity.getEndDate());
-      districtVolumeRepository.save(predecessor);
-    }
-
     entity.setDeleted(true);
-    districtVolumeRepository.save(entity);
+    districtVolumeRepository.saveAndFlush(entity);
+    detailResponseCache.evict(ConfigType.SPECIES_COMPOSITION, id);
+
+    timelineRepository
+        .reopenPredecessor(
+            ConfigType.SPECIES_COMPOSITION,
+            entity.getArea(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            user)
+        .ifPresent(predecessorId ->
+            detailResponseCache.evict(ConfigType.SPECIES_COMPOSITION, predecessorId));
+
+    activeConfigurationRegistry.refresh(ConfigType.SPECIES_COMPOSITION, entity.getArea());
     log.info("Soft-deleted species composition {} by user {}", id, user);
   }
 
+  private DistrictVolumeEntity findSpeciesComposition(Long id) {
+    return districtVolumeRepository
+        .findByIdAndConfigType(id, ConfigType.SPECIES_COMPOSITION)
+        .orElseThrow(() -> notFound(id));
+  }
+
+  private static ResponseStatusException notFound(Long id) {
+    return new ResponseStatusException(
+        HttpStatus.NOT_FOUND,
+        "Species composition record not found for id: " + id);
+  }
+
   private void validateAreaPayloadConsistency(
       Area areaEnum, DistrictVolumeCreateDto createDto) {
 
@@ -0,0 +1,537 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDistrictRowDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastSectionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDistrictRowDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorZoneDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.SpeciesCompositionTableDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableImportErrorDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import ca.bc.gov.nrs.hrs.exception.TableImportException;
+import ca.bc.gov.nrs.hrs.importer.CsvTabularReader;
+import ca.bc.gov.nrs.hrs.importer.TabularReader;
+import ca.bc.gov.nrs.hrs.importer.XlsxTabularReader;
+import ca.bc.gov.nrs.hrs.provider.legacy.LegacyApiProvider;
+import io.micrometer.observation.annotation.Observed;
+import io.micrometer.tracing.annotation.NewSpan;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service that turns uploaded CSV or XLSX spreadsheets into the table data accepted by the
+ * district volume and species composition create endpoints.
+ *
+ * <p>The file is read one row at a time and each row is validated as it is read: the district
+ * code against the legacy district list, every value against its allowed range and the column
+ * layout against the requested area. Problems are collected rather than thrown, so a rejected
+ * upload reports every one of them at once through a {@link TableImportException}. Nothing is
+ * persisted; the caller submits the returned table data with the rest of the configuration.</p>
+ *
+ * <p>District volume tables have a {@code Zone} (INTERIOR) or {@code Section} (COASTAL) column,
+ * a {@code District} column and one column per volume, headed as in the create payload
+ * ({@code Avoidable Sawlog}, {@code avoidable_sawlog} and {@code avoidableSawlog} are all
+ * accepted). Species composition tables have a {@code District} column and one column per species
+ * code holding its percentage.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Observed
+public class TableImportService {
+
+  /**
+   * Maximum number of data rows accepted in a single upload.
+   */
+  public static final int MAX_ROWS = 5_000;
+
+  private static final BigDecimal MAX_VOLUME = new BigDecimal("1000000");
+  private static final BigDecimal MAX_PERCENTAGE = new BigDecimal("100");
+  private static final String DISTRICT_COLUMN = "District";
+  private static final String XLSX_CONTENT_TYPE =
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+  private final LegacyApiProvider legacyApiProvider;
+
+  /**
+   * Reads a district volume table from an uploaded spreadsheet.
+   *
+   * @param area the area the table is for, {@code INTERIOR} or {@code COASTAL}
+   * @param file the uploaded CSV or XLSX file
+   * @return an {@link InteriorDataDto} or {@link CoastDataDto} ready to be submitted as the
+   *     table data of a new district volume configuration
+   * @throws ResponseStatusException with HTTP 400 if the area is invalid or the file cannot be
+   *     read, or HTTP 415 if it is neither CSV nor XLSX
+   * @throws TableImportException if any row or column fails validation
+   */
+  @NewSpan
+  public TableDataDto importDistrictVolumeTable(String area, MultipartFile file) {
+    Area areaEnum = EnumUtils.getEnumIgnoreCase(Area.class, area);
+    if (areaEnum == null) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Invalid area: " + area + ". Must be INTERIOR or COASTAL.");
+    }
+
+    log.info("Importing {} district volume table from {}", areaEnum, file.getOriginalFilename());
+    Map<String, CodeDescriptionDto> districts = knownDistricts();
+    return read(file, reader -> readDistrictVolumes(areaEnum, districts, reader));
+  }
+
+  /**
+   * Reads a species composition table from an uploaded spreadsheet.
+   *
+   * @param file the uploaded CSV or XLSX file
+   * @return a {@link SpeciesCompositionTableDataDto} ready to be submitted as the table data of
+   *     a new species composition configuration
+   * @throws ResponseStatusException with HTTP 400 if the file cannot be read, or HTTP 415 if it
+   *     is neither CSV nor XLSX
+   * @throws TableImportException if any row or column fails validation
+   */
+  @NewSpan
+  public SpeciesCompositionTableDataDto importSpeciesCompositionTable(MultipartFile file) {
+    log.info("Importing species composition table from {}", file.getOriginalFilename());
+    Map<String, CodeDescriptionDto> districts = knownDistricts();
+    return read(file, reader -> readSpeciesCompositions(districts, reader));
+  }
+
+  private TableDataDto readDistrictVolumes(
+      Area area,
+      Map<String, CodeDescriptionDto> districts,
+      TabularReader reader
+  ) throws IOException {
+    ImportErrors errors = new ImportErrors();
+    Header header = readHeader(reader, errors);
+
+    Layout layout = header.has(Layout.INTERIOR.groupColumn) ? Layout.INTERIOR
+        : header.has(Layout.COASTAL.groupColumn) ? Layout.COASTAL
+        : null;
+    if (layout == null) {
+      errors.add(header.row(), null,
+          "The table needs a Zone column for INTERIOR or a Section column for COASTAL data.");
+      throw errors.toException();
+    }
+    if (layout.area != area) {
+      errors.add(header.row(), null, "Area mismatch: Expected " + area + " data layout.");
+      throw errors.toException();
+    }
+    header.require(DISTRICT_COLUMN, errors);
+    layout.valueColumns.forEach(column -> header.require(column, errors));
+    header.rejectOthers(layout, errors);
+    errors.throwIfAny();
+
+    Map<String, Group> groups = new LinkedHashMap<>();
+    Map<String, Long> seen = new HashMap<>();
+    long count = 0;
+    for (List<String> row = reader.next(); row != null; row = reader.next()) {
+      if (++count > MAX_ROWS) {
+        errors.add(null, null, "The table has more than " + MAX_ROWS + " rows.");
+        break;
+      }
+      long number = reader.rowNumber();
+      int before = errors.size();
+
+      String group = header.cell(row, layout.groupColumn).trim();
+      if (group.isEmpty()) {
+        errors.add(number, header.label(layout.groupColumn), "A value is required.");
+      }
+      String code = district(header, row, number, districts, seen, errors);
+      List<BigDecimal> values = new ArrayList<>(layout.valueColumns.size());
+      for (String column : layout.valueColumns) {
+        values.add(number(header, row, column, number, MAX_VOLUME, errors));
+      }
+
+      if (errors.size() == before) {
+        groups
+            .computeIfAbsent(group.toLowerCase(Locale.ROOT), key -> new Group(group))
+            .rows()
+            .add(new ParsedRow(code, values));
+      }
+    }
+    if (count == 0) {
+      errors.add(null, null, "The table has no data rows.");
+    }
+    errors.throwIfAny();
+
+    return layout == Layout.INTERIOR
+        ? new InteriorDataDto(
+            groups.values().stream()
+                .map(zone -> new InteriorZoneDto(
+                    zone.name(),
+                    zone.rows().stream()
+                        .map(row -> new InteriorDistrictRowDto(
+                            row.code(),
+                            row.values().get(0),
+                            row.values().get(1),
+                            row.values().get(2),
+                            row.values().get(3)))
+                        .toList()))
+                .toList(),
+            Map.of())
+        : new CoastDataDto(
+            groups.values().stream()
+                .map(section -> new CoastSectionDto(
+                    section.name(),
+                    section.rows().stream()
+                        .map(row -> new CoastDistrictRowDto(
+                            row.code(),
+                            row.values().get(0),
+                            row.values().get(1),
+                            row.values().get(2),
+                            row.values().get(3),
+                            row.values().get(4)))
+                        .toList()))
+                .toList(),
+            Map.of());
+  }
+
+  private SpeciesCompositionTableDataDto readSpeciesCompositions(
+      Map<String, CodeDescriptionDto> districts,
+      TabularReader reader
+  ) throws IOException {
+    ImportErrors errors = new ImportErrors();
+    Header header = readHeader(reader, errors);
+    header.require(DISTRICT_COLUMN, errors);
+
+    Map<String, Integer> species = new LinkedHashMap<>();
+    for (int index = 0; index < header.labels().size(); index++) {
+      String label = header.labels().get(index).trim();
+      if (index == header.index(DISTRICT_COLUMN)) {
+        continue;
+      }
+      if (label.isEmpty()) {
+        errors.add(header.row(), null, "Column " + (index + 1) + " needs a species code.");
+      } else {
+        // Repeated headings have already been reported by readHeader.
+        species.putIfAbsent(label.toUpperCase(Locale.ROOT), index);
+      }
+    }
+    if (species.isEmpty() && errors.size() == 0) {
+      errors.add(header.row(), null, "The table needs at least one species column.");
+    }
+    errors.throwIfAny();
+
+    List<SpeciesCompositionRow> rows = new ArrayList<>();
+    Map<String, Long> seen = new HashMap<>();
+    long count = 0;
+    for (List<String> row = reader.next(); row != null; row = reader.next()) {
+      if (++count > MAX_ROWS) {
+        errors.add(null, null, "The table has more than " + MAX_ROWS + " rows.");
+        break;
+      }
+      long number = reader.rowNumber();
+      int before = errors.size();
+
+      String code = district(header, row, number, districts, seen, errors);
+      Map<String, BigDecimal> percentages = new LinkedHashMap<>();
+      for (Map.Entry<String, Integer> column : species.entrySet()) {
+        int index = column.getValue();
+        BigDecimal value = number(
+            header.labels().get(index).trim(), cell(row, index), number, MAX_PERCENTAGE, errors);
+        if (value != null) {
+          percentages.put(column.getKey(), value);
+        }
+      }
+
+      if (errors.size() == before) {
+        rows.add(new SpeciesCompositionRow(
+            Optional.ofNullable(districts.get(code))
+                .orElseGet(() -> new CodeDescriptionDto(code, null)),
+            percentages));
+      }
+    }
+    if (count == 0) {
+      errors.add(null, null, "The table has no data rows.");
+    }
+    errors.throwIfAny();
+
+    return new SpeciesCompositionTableDataDto(rows);
+  }
+
+  private Header readHeader(TabularReader reader, ImportErrors errors) throws IOException {
+    List<String> labels = reader.next();
+    if (labels == null) {
+      errors.add(null, null, "The table is empty.");
+      throw errors.toException();
+    }
+
+    long row = reader.rowNumber();
+    Map<String, Integer> columns = new HashMap<>();
+    for (int index = 0; index < labels.size(); index++) {
+      String key = normalizeHeading(labels.get(index));
+      if (!key.isEmpty() && columns.putIfAbsent(key, index) != null) {
+        errors.add(row, labels.get(index).trim(), "Column appears more than once.");
+      }
+    }
+    return new Header(row, labels, columns);
+  }
+
+  private String district(
+      Header header,
+      List<String> row,
+      long number,
+      Map<String, CodeDescriptionDto> districts,
+      Map<String, Long> seen,
+      ImportErrors errors
+  ) {
+    String label = header.label(DISTRICT_COLUMN);
+    String code = header.cell(row, DISTRICT_COLUMN).trim().toUpperCase(Locale.ROOT);
+    if (code.isEmpty()) {
+      errors.add(number, label, "A district code is required.");
+    } else if (!districts.isEmpty() && !districts.containsKey(code)) {
+      errors.add(number, label, "Unknown district code " + code + ".");
+    } else {
+      Long previous = seen.putIfAbsent(code, number);
+      if (previous != null) {
+        errors.add(number, label, "District " + code + " already appears on row " + previous
+            + ".");
+      }
+    }
+    return code;
+  }
+
+  private BigDecimal number(
+      Header header,
+      List<String> row,
+      String column,
+      long number,
+      BigDecimal limit,
+      ImportErrors errors
+  ) {
+    return number(header.label(column), header.cell(row, column), number, limit, errors);
+  }
+
+  private BigDecimal number(
+      String label,
+      String text,
+      long number,
+      BigDecimal limit,
+      ImportErrors errors
+  ) {
+    String trimmed = text.trim();
+    if (trimmed.isEmpty()) {
+      return null;
+    }
+
+    BigDecimal value;
+    try {
+      value = new BigDecimal(trimmed);
+    } catch (NumberFormatException e) {
+      errors.add(number, label, "\"" + StringUtils.abbreviate(trimmed, 32) + "\" is not a number.");
+      return null;
+    }
+    if (value.signum() < 0) {
+      errors.add(number, label, "Value must not be negative.");
+      return null;
+    }
+    if (value.compareTo(limit) > 0) {
+      errors.add(number, label, "Value must not be greater than " + limit.toPlainString() + ".");
+      return null;
+    }
+    return value.setScale(3, RoundingMode.HALF_UP);
+  }
+
+  private Map<String, CodeDescriptionDto> knownDistricts() {
+    Map<String, CodeDescriptionDto> districts = new HashMap<>();
+    for (CodeDescriptionDto district : legacyApiProvider.getDistrictCodes()) {
+      if (district != null && StringUtils.isNotBlank(district.code())) {
+        districts.putIfAbsent(district.code().trim().toUpperCase(Locale.ROOT), district);
+      }
+    }
+    if (districts.isEmpty()) {
+      log.warn("No district codes available, imported district codes will not be checked");
+    }
+    return districts;
+  }
+
+  private <T> T read(MultipartFile file, TableParser<T> parser) {
+    if (file == null || file.isEmpty()) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "A CSV or XLSX file is required.");
+    }
+
+    try {
+      return switch (format(file)) {
+        case CSV -> {
+          try (TabularReader reader = new CsvTabularReader(file.getInputStream())) {
+            yield parser.parse(reader);
+          }
+        }
+        case XLSX -> readWorkbook(file, parser);
+      };
+    } catch (IOException e) {
+      log.warn("Unable to read uploaded table {}: {}", file.getOriginalFilename(), e.getMessage());
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "The uploaded file could not be read: " + e.getMessage(),
+          e);
+    }
+  }
+
+  private <T> T readWorkbook(MultipartFile file, TableParser<T> parser) throws IOException {
+    // A workbook is a zip archive that has to be read out of order, so it is spooled to disk
+    // rather than held in memory. Multipart uploads are usually on disk already and just move.
+    Path workbook = Files.createTempFile("hrs-import-", ".xlsx");
+    try {
+      file.transferTo(workbook);
+      try (TabularReader reader = XlsxTabularReader.open(workbook)) {
+        return parser.parse(reader);
+      }
+    } finally {
+      Files.deleteIfExists(workbook);
+    }
+  }
+
+  private static Format format(MultipartFile file) {
+    String name = StringUtils.defaultString(file.getOriginalFilename()).toLowerCase(Locale.ROOT);
+    String contentType = StringUtils.defaultString(file.getContentType());
+    if (name.endsWith(".xlsx") || contentType.startsWith(XLSX_CONTENT_TYPE)) {
+      return Format.XLSX;
+    }
+    if (name.endsWith(".csv") || contentType.startsWith("text/csv")) {
+      return Format.CSV;
+    }
+    throw new ResponseStatusException(
+        HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+        "Only CSV and XLSX files can be imported.");
+  }
+
+  private static String normalizeHeading(String heading) {
+    return heading.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+  }
+
+  private static String cell(List<String> row, int index) {
+    return index >= 0 && index < row.size() ? row.get(index) : "";
+  }
+
+  private enum Format {
+    CSV,
+    XLSX
+  }
+
+  private enum Layout {
+    INTERIOR(
+        Area.INTERIOR,
+        "Zone",
+        List.of("Avoidable Sawlog", "Avoidable Grade 4", "Unavoidable Grade 4", "Total")),
+    COASTAL(
+        Area.COASTAL,
+        "Section",
+        List.of(
+            "Avoidable Sawlog",
+            "Avoidable Hembal Grade U",
+            "Avoidable Grade Y",
+            "Unavoidable",
+            "Total"));
+
+    private final Area area;
+    private final String groupColumn;
+    private final List<String> valueColumns;
+
+    Layout(Area area, String groupColumn, List<String> valueColumns) {
+      this.area = area;
+      this.groupColumn = groupColumn;
+      this.valueColumns = valueColumns;
+    }
+  }
+
+  @FunctionalInterface
+  private interface TableParser<T> {
+
+    T parse(TabularReader reader) throws IOException;
+  }
+
+  private record Header(long row, List<String> labels, Map<String, Integer> columns) {
+
+    boolean has(String column) {
+      return columns.containsKey(normalizeHeading(column));
+    }
+
+    int index(String column) {
+      return columns.getOrDefault(normalizeHeading(column), -1);
+    }
+
+    String label(String column) {
+      return has(column) ? labels.get(index(column)).trim() : column;
+    }
+
+    String cell(List<String> row, String column) {
+      return TableImportService.cell(row, index(column));
+    }
+
+    void require(String column, ImportErrors errors) {
+      if (!has(column)) {
+        errors.add(row, column, "Required column is missing.");
+      }
+    }
+
+    void rejectOthers(Layout layout, ImportErrors errors) {
+      List<String> expected = new ArrayList<>(layout.valueColumns);
+      expected.add(layout.groupColumn);
+      expected.add(DISTRICT_COLUMN);
+      List<String> keys = expected.stream().map(TableImportService::normalizeHeading).toList();
+      for (String label : labels) {
+        String key = normalizeHeading(label);
+        if (!key.isEmpty() && !keys.contains(key)) {
+          errors.add(row, label.trim(), "Unexpected column.");
+        }
+      }
+    }
+  }
+
+  private record Group(String name, List<ParsedRow> rows) {
+
+    Group(String name) {
+      this(name, new ArrayList<>());
+    }
+  }
+
+  private record ParsedRow(String code, List<BigDecimal> values) {
+  }
+
+  private static final class ImportErrors {
+
+    private final List<TableImportErrorDto> errors = new ArrayList<>();
+
+    void add(Long row, String column, String message) {
+      errors.add(new TableImportErrorDto(row, column, message));
+    }
+
+    int size() {
+      return errors.size();
+    }
+
+    void throwIfAny() {
+      if (!errors.isEmpty()) {
+        throw toException();
+      }
+    }
+
+    TableImportException toException() {
+      return new TableImportException(errors);
+    }
+  }
+}
@@ -1,29 +1,42 @@
 package ca.bc.gov.nrs.hrs.service;
 
+import ca.bc.gov.nrs.hrs.cache.BookmarkSet;
+import ca.bc.gov.nrs.hrs.cache.UserBookmarkCache;
+import ca.bc.gov.nrs.hrs.cache.UserPreferenceCache;
+import ca.bc.gov.nrs.hrs.cache.VersionedPreferences;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.BookmarkConfiguration;
 import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntity;
-import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntityId;
 import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceRevisionProjection;
+import ca.bc.gov.nrs.hrs.exception.BatchSizeExceededException;
 import ca.bc.gov.nrs.hrs.repository.UserBookmarkRepository;
 import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
-import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Service responsible for reading and persisting user preference data.
  *
  * <p>Provides methods to retrieve a user's preferences as a {@link Map} and to
  * save updated preferences. Preferences are stored in the {@link UserPreferenceEntity} and accessed
- * via {@link UserPreferenceRepository}.
+ * via {@link UserPreferenceRepository}. Reads are served from the per-user
+ * {@link UserPreferenceCache}; writes are single upsert statements whose result, stamped with the
+ * new row revision, is written through to the cache.
+ * </p>
+ *
+ * <p>Bookmark reads are served from the per-user {@link UserBookmarkCache}; bookmark writes go
+ * to {@link UserBookmarkRepository} and are propagated write-through to the cache.
  * </p>
  */
 @Slf4j
@@ -34,7 +47,10 @@ public class UserService {
 
   private final UserPreferenceRepository preferenceRepository;
   private final UserBookmarkRepository bookmarkRepository;
-  private final TransactionTemplate transactionTemplate;
+  private final UserBookmarkCache bookmarkCache;
+  private final UserPreferenceCache preferenceCache;
+  private final HrsConfiguration configuration;
+  private final JsonMapper jsonMapper;
 
   /**
    * Retrieve preferences for a given user id.
@@ -48,45 +64,59 @@ public class UserService {
   public Map<String, Object> getUserPreferences(String userId) {
 
     log.info("Retrieving preferences for user: {}", userId);
-    return preferenceRepository
-        .findById(userId)
-        .map(UserPreferenceEntity::getPreferences)
-        .orElse(Map.of());
+    return preferenceCache.get(userId).preferences();
   }
 
   /**
-   * Persist or update preferences for a given user.
+   * Persist or replace preferences for a given user.
    *
-   * <p>If a preferences record already exists for the user it will be updated
-   * with the provided values; otherwise a new {@link UserPreferenceEntity} will be created and
-   * saved.
+   * <p>The whole preference document is replaced by a single upsert, so concurrent saves are
+   * serialized by the database row lock rather than failing optimistic-lock checks and being
+   * retried.
    * </p>
    *
    * @param userId      the id of the user
    * @param preferences the preferences to save
    */
   @NewSpan
-  @Retry(name = "saveUserPreferences")
+  @Transactional
   public void saveUserPreferences(String userId, Map<String, Object> preferences) {
 
     log.info("Saving preferences for user: {}", userId);
+    store(
+        userId,
+        preferenceRepository.replacePreferences(
+            userId,
+            jsonMapper.writeValueAsString(preferences != null ? preferences : Map.of())
+        )
+    );
+  }
+
+  /**
+   * Apply a JSON merge patch (RFC 7396) to the preferences of a given user.
+   *
+   * <p>Only the keys present in the patch change: nested objects are merged, {@code null}
+   * removes a key and any other value replaces it. The merge runs inside Postgres in a single
+   * statement, so several preferences saved at once by the UI never overwrite each other.
+   * </p>
+   *
+   * @param userId the id of the user
+   * @param patch  the merge patch to apply
+   * @return the resulting preferences
+   */
+  @NewSpan
+  @Transactional
+  public Map<String, Object> patchUserPreferences(String userId, Map<String, Object> patch) {
 
-    transactionTemplate.execute(status -> {
-      UserPreferenceEntity preferenceEntity =
-          preferenceRepository
-              .findById(userId)
-              .map(preference -> preference.withPreferences(preferences))
-              .orElse(
-                  UserPreferenceEntity
-                      .builder()
-                      .userId(userId)
-                      .preferences(preferences)
-                      .build()
-              );
-
-      preferenceRepository.save(preferenceEntity);
-      return null;
-    });
+    log.info("Patching preferences {} for user: {}",
+        patch != null ? patch.keySet() : List.of(), userId);
+    return store(
+        userId,
+        preferenceRepository.mergePreferences(
+            userId,
+            jsonMapper.writeValueAsString(patch != null ? patch : Map.of())
+        )
+    ).preferences();
   }
 
   /**
@@ -105,14 +135,15 @@ public class UserService {
   public void addUserBookmark(String userId, Long reportingUnitId) {
     log.info("Adding bookmark for user: {} and reporting unit: {}", userId, reportingUnitId);
     bookmarkRepository.save(new UserBookmarkEntity(userId, reportingUnitId));
+    bookmarkCache.added(userId, reportingUnitId);
   }
 
   /**
    * Removes a bookmark for the given user and reporting unit.
    *
    * <p>This method is idempotent: calling it when the bookmark does not exist is a
-   * safe no-op. The existence check and the delete are wrapped in a single
-   * transaction to prevent a race condition between the two operations.</p>
+   * safe no-op. The delete is issued as a single statement, so no separate existence
+   * check is needed.</p>
    *
    * @param userId          the user's identifier
    * @param reportingUnitId the reporting unit to un-bookmark
@@ -121,14 +152,81 @@ public class UserService {
   @Transactional
   public void deleteUserBookmark(String userId, Long reportingUnitId) {
     log.info("Deleting bookmark for user: {} and reporting unit: {}", userId, reportingUnitId);
-    Optional
-        .of(new UserBookmarkEntityId(userId, reportingUnitId))
-        .filter(bookmarkRepository::existsById)
-        .ifPresent(bookmarkRepository::deleteById);
+    bookmarkRepository.deleteAllByReportingUnitIds(userId, new Long[]{reportingUnitId});
+    bookmarkCache.removed(userId, reportingUnitId);
+  }
+
+  /**
+   * Adds bookmarks for many reporting units at once.
+   *
+   * <p>Null and duplicated ids are ignored and the remaining ones are inserted with a single
+   * {@code INSERT ... ON CONFLICT DO NOTHING} statement, so already bookmarked reporting units
+   * are left untouched and the call is idempotent.</p>
+   *
+   * @param userId           the user's identifier
+   * @param reportingUnitIds the reporting units to bookmark
+   * @throws BatchSizeExceededException when more ids than the configured maximum are sent
+   */
+  @NewSpan
+  @Transactional
+  public void addUserBookmarks(String userId, List<Long> reportingUnitIds) {
+    List<Long> ids = toBatch(reportingUnitIds);
+    if (ids.isEmpty()) {
+      return;
+    }
+    log.info("Adding {} bookmark(s) for user: {}", ids.size(), userId);
+    bookmarkRepository.insertAllIgnoringExisting(userId, ids.toArray(Long[]::new));
+    bookmarkCache.addedAll(userId, ids);
   }
 
+  /**
+   * Removes bookmarks for many reporting units at once.
+   *
+   * <p>Null and duplicated ids are ignored and the remaining ones are removed with a single
+   * {@code DELETE ... WHERE reporting_unit_id = ANY(?)} statement. Reporting units that were
+   * not bookmarked are simply not matched.</p>
+   *
+   * @param userId           the user's identifier
+   * @param reportingUnitIds the reporting units to un-bookmark
+   * @throws BatchSizeExceededException when more ids than the configured maximum are sent
+   */
+  @NewSpan
+  @Transactional
+  public void deleteUserBookmarks(String userId, List<Long> reportingUnitIds) {
+    List<Long> ids = toBatch(reportingUnitIds);
+    if (ids.isEmpty()) {
+      return;
+    }
+    log.info("Deleting {} bookmark(s) for user: {}", ids.size(), userId);
+    bookmarkRepository.deleteAllByReportingUnitIds(userId, ids.toArray(Long[]::new));
+    bookmarkCache.removedAll(userId, ids);
+  }
+
+  /**
+   * Return the user's bookmarked reporting units, optionally restricted to a reference list.
+   *
+   * <p>When the bookmark cache is enabled the user's bookmark set is loaded once and both the
+   * "all bookmarks" and the "bookmarks in this page" lookups are answered from memory.
+   * Otherwise the repository is queried directly.</p>
+   *
+   * @param userId           the user's identifier
+   * @param reportingUnitIds reference list of reporting units; when empty or null all of the
+   *     user's bookmarks are returned
+   * @return the bookmarked reporting unit ids
+   */
   @NewSpan
   public List<Long> getUserBookmarksInList(String userId, List<Long> reportingUnitIds) {
+    if (bookmarkCache.isEnabled()) {
+      BookmarkSet bookmarks = bookmarkCache.get(userId);
+      return CollectionUtils.isEmpty(reportingUnitIds)
+          ? bookmarks.toList()
+          : reportingUnitIds
+              .stream()
+              .filter(id -> id != null && bookmarks.contains(id))
+              .distinct()
+              .toList();
+    }
+
     List<UserBookmarkEntity> bookmarkEntities =
       (CollectionUtils.isEmpty(reportingUnitIds))
           ? bookmarkRepository.findByUserId(userId)
@@ -139,4 +237,33 @@ public class UserService {
         .map(UserBookmarkEntity::getReportingUnitId)
         .toList();
   }
+
+  private List<Long> toBatch(List<Long> reportingUnitIds) {
+    if (CollectionUtils.isEmpty(reportingUnitIds)) {
+      return List.of();
+    }
+    List<Long> ids = reportingUnitIds
+        .stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+
+    int maxBatchSize = configuration.getBookmarks() != null
+        ? configuration.getBookmarks().getMaxBatchSize()
+        : new BookmarkConfiguration().getMaxBatchSize();
+    if (ids.size() > maxBatchSize) {
+      throw new BatchSizeExceededException("Bookmark", ids.size(), maxBatchSize);
+    }
+    return ids;
+  }
+
+  private VersionedPreferences store(String userId, UserPreferenceRevisionProjection stored) {
+    VersionedPreferences preferences = new VersionedPreferences(
+        jsonMapper.readValue(stored.getPreferences(), new TypeReference<Map<String, Object>>() {
+        }),
+        stored.getRevision()
+    );
+    preferenceCache.updated(userId, preferences);
+    return preferences;
+  }
 }
@@ -0,0 +1,101 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.WarmupConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records the time from process start to the first fast request.
+ *
+ * <p>The {@value #FIRST_FAST_REQUEST_GAUGE} gauge reports, in seconds since the process started,
+ * when the first request answered successfully under the fast request threshold
+ * completed, which is when the service actually started serving at speed. It reports
+ * {@code NaN} until then. Actuator requests, such as the probes, are not counted.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstFastRequestFilter extends OncePerRequestFilter {
+
+  /**
+   * Gauge reporting the time from process start to the first fast request.
+   */
+  public static final String FIRST_FAST_REQUEST_GAUGE = "hrs.startup.first.fast.request";
+
+  private final Duration threshold;
+  private final long processStartMillis;
+  private final AtomicLong firstFastMillis = new AtomicLong(-1);
+
+  /**
+   * Creates the filter and registers its gauge.
+   *
+   * @param configuration application configuration holding the warmup settings
+   * @param meterRegistry registry the gauge is registered in
+   */
+  @Autowired
+  public FirstFastRequestFilter(HrsConfiguration configuration, MeterRegistry meterRegistry) {
+    this(
+        Optional
+            .ofNullable(configuration.getWarmup())
+            .orElseGet(WarmupConfiguration::new)
+            .getFastRequestThreshold(),
+        ManagementFactory.getRuntimeMXBean().getStartTime(),
+        meterRegistry
+    );
+  }
+
+  FirstFastRequestFilter(Duration threshold, long processStartMillis, MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.processStartMillis = processStartMillis;
+    TimeGauge
+        .builder(
+            FIRST_FAST_REQUEST_GAUGE,
+            firstFastMillis,
+            TimeUnit.MILLISECONDS,
+            first -> first.get() < 0 ? Double.NaN : first.get() - processStartMillis)
+        .description("Time from process start to the first request answered under the threshold")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return firstFastMillis.get() >= 0 || request.getRequestURI().startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain chain
+  ) throws ServletException, IOException {
+    long started = System.nanoTime();
+    chain.doFilter(request, response);
+    long elapsed = System.nanoTime() - started;
+    if (elapsed < threshold.toNanos()
+        && response.getStatus() < 400
+        && firstFastMillis.compareAndSet(-1, System.currentTimeMillis())) {
+      log.info("First fast request {} {} answered {} ms after process start",
+          request.getMethod(),
+          request.getRequestURI(),
+          firstFastMillis.get() - processStartMillis);
+    }
+  }
+}
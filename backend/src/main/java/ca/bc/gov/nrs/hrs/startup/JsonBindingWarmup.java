@@ -0,0 +1,46 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import ca.bc.gov.nrs.hrs.configuration.GlobalConfiguration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Builds the JSON serializers and deserializers of the types bound over HTTP.
+ *
+ * <p>The types are the ones {@link GlobalConfiguration} registers for reflection with
+ * {@link RegisterReflectionForBinding}, so the list kept for the native image also drives the
+ * warmup. Jackson caches what it builds in the application mapper, so the first request of
+ * every type skips the introspection. A type Jackson cannot bind, such as an exception on the
+ * list, is not an error here: eager fetching leaves the failure to the first real use.</p>
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class JsonBindingWarmup implements WarmupTask {
+
+  private final JsonMapper jsonMapper;
+
+  @Override
+  public String name() {
+    return "json-binding";
+  }
+
+  @Override
+  public void warmUp() {
+    Class<?>[] types = Optional
+        .ofNullable(GlobalConfiguration.class.getAnnotation(RegisterReflectionForBinding.class))
+        .map(RegisterReflectionForBinding::value)
+        .orElseGet(() -> new Class<?>[0]);
+    for (Class<?> type : types) {
+      jsonMapper.writerFor(type);
+      jsonMapper.readerFor(type);
+    }
+    log.info("Prepared JSON binding of {} types", types.length);
+  }
+}
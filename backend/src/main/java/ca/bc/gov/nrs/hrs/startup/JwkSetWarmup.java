@@ -0,0 +1,35 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the Cognito signing keys, so the first authenticated request does not wait for them.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class JwkSetWarmup implements WarmupTask {
+
+  private final JWKSource<SecurityContext> jwkSource;
+
+  @Override
+  public String name() {
+    return "jwk-set";
+  }
+
+  @Override
+  public void warmUp() throws Exception {
+    List<JWK> keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+    log.info("Loaded {} signing keys", keys.size());
+  }
+}
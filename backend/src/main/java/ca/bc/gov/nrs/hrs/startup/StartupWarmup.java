@@ -0,0 +1,95 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.WarmupConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs every {@link WarmupTask} once the application has started.
+ *
+ * <p>Spring Boot only marks the application as accepting traffic after its runners return, so
+ * the readiness probe ({@code /actuator/health/readiness}) keeps reporting
+ * {@code OUT_OF_SERVICE} until warmup is over, while liveness is already up.</p>
+ *
+ * <p>Every task is recorded in the {@value #WARMUP_TIMER} timer, tagged with the {@code task}
+ * name and its {@code outcome}, {@code success} or {@code failure}.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner {
+
+  /**
+   * Timer recording the duration of every warmup task.
+   */
+  public static final String WARMUP_TIMER = "hrs.startup.warmup";
+
+  private final WarmupConfiguration configuration;
+  private final ObjectProvider<WarmupTask> tasks;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the warmup runner.
+   *
+   * @param configuration application configuration holding the warmup settings
+   * @param tasks         the warmup tasks, in order
+   * @param meterRegistry registry the warmup timer is recorded in
+   */
+  public StartupWarmup(
+      HrsConfiguration configuration,
+      ObjectProvider<WarmupTask> tasks,
+      MeterRegistry meterRegistry
+  ) {
+    this.configuration = Optional
+        .ofNullable(configuration.getWarmup())
+        .orElseGet(WarmupConfiguration::new);
+    this.tasks = tasks;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!configuration.isEnabled()) {
+      log.info("Startup warmup is disabled");
+      return;
+    }
+
+    List<WarmupTask> ordered = tasks.orderedStream().toList();
+    long started = System.nanoTime();
+    for (WarmupTask task : ordered) {
+      run(task);
+    }
+    log.info("Warmed up {} tasks in {} ms",
+        ordered.size(), (System.nanoTime() - started) / 1_000_000);
+  }
+
+  private void run(WarmupTask task) {
+    long started = System.nanoTime();
+    String outcome = "success";
+    try {
+      task.warmUp();
+    } catch (Exception exception) {
+      outcome = "failure";
+      log.warn("Warmup task {} failed: {}", task.name(), exception.getMessage());
+    }
+    long elapsed = System.nanoTime() - started;
+    Timer
+        .builder(WARMUP_TIMER)
+        .description("Time taken by startup warmup tasks")
+        .tags("task", task.name(), "outcome", outcome)
+        .register(meterRegistry)
+        .record(Duration.ofNanos(elapsed));
+    log.debug("Warmup task {} took {} ms", task.name(), elapsed / 1_000_000);
+  }
+}
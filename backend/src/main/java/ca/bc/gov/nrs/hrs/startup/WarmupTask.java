@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+/**
+ * Work run once at startup, before the application reports ready, so the first requests do not
+ * pay for it.
+ *
+ * <p>Every bean implementing this interface is run by {@link StartupWarmup}, in order. A task
+ * that fails is logged and recorded, and does not stop the application from starting.</p>
+ */
+public interface WarmupTask {
+
+  /**
+   * Returns the name of the task, used in logs and as the {@code task} tag of the warmup timer.
+   *
+   * @return the task name
+   */
+  String name();
+
+  /**
+   * Runs the task.
+   *
+   * @throws Exception when the task fails
+   */
+  void warmUp() throws Exception;
+}
@@ -0,0 +1,365 @@
+-- Monthly range partitioning and compacted row images for the audit trail.
+--
+-- audit_event and audit_change are partitioned by changed_at (UTC months) so
+-- old history can be detached and archived instead of growing forever. Only
+-- the changed keys of an UPDATE are kept, except for the first change of a row
+-- in each month, which keeps the full current image. Every month is therefore
+-- self-contained: hrs.audit_row_image() rebuilds any image from the latest
+-- snapshot of the row plus the diffs recorded after it.
+--
+-- CREATE and hard DELETE changes keep their full image as before. The foreign
+-- key from audit_change to audit_event is dropped so the partitions of either
+-- table can be detached independently; both rows are still written by the same
+-- trigger call.
+
+CREATE SCHEMA IF NOT EXISTS hrs_audit_archive;
+
+COMMENT ON SCHEMA hrs_audit_archive IS 'Audit partitions detached from hrs.audit_event and hrs.audit_change by the maintenance job.';
+
+-- Keep the id sequences, they outlive the tables they currently belong to.
+ALTER SEQUENCE hrs.audit_event_id_seq OWNED BY NONE;
+ALTER SEQUENCE hrs.audit_change_id_seq OWNED BY NONE;
+
+ALTER TABLE hrs.audit_change RENAME TO audit_change_unpartitioned;
+ALTER INDEX hrs.audit_change_pkey RENAME TO audit_change_unpartitioned_pkey;
+ALTER TABLE hrs.audit_event RENAME TO audit_event_unpartitioned;
+ALTER INDEX hrs.audit_event_pkey RENAME TO audit_event_unpartitioned_pkey;
+
+CREATE TABLE hrs.audit_event (
+    id BIGINT NOT NULL DEFAULT nextval('hrs.audit_event_id_seq'),
+    action VARCHAR(32) NOT NULL,
+    changed_by VARCHAR(128) NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    reason VARCHAR(500),
+    correlation_id VARCHAR(128),
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+COMMENT ON TABLE hrs.audit_event IS 'Immutable audit event grouping one temporal mutation operation. Partitioned by month of changed_at.';
+COMMENT ON COLUMN hrs.audit_event.action IS 'CREATE, UPDATE, SOFT_DELETE, DELETE';
+
+CREATE TABLE hrs.audit_change (
+    id BIGINT NOT NULL DEFAULT nextval('hrs.audit_change_id_seq'),
+    event_id BIGINT NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    entity_type VARCHAR(64) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(32) NOT NULL,
+    previous_values JSONB,
+    current_values JSONB,
+    changed_columns TEXT[] NOT NULL DEFAULT '{}',
+    snapshot BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+COMMENT ON TABLE hrs.audit_change IS 'Append-only per-row audit change. No FK on entity_id (polymorphic audit) nor on event_id (partitions are archived independently). Partitioned by month of changed_at.';
+COMMENT ON COLUMN hrs.audit_change.changed_at IS 'Copy of audit_event.changed_at, the partition key';
+COMMENT ON COLUMN hrs.audit_change.previous_values IS 'Changed keys before an UPDATE; full image before a DELETE';
+COMMENT ON COLUMN hrs.audit_change.current_values IS 'Changed keys after an UPDATE; full image after a CREATE or on a snapshot';
+COMMENT ON COLUMN hrs.audit_change.snapshot IS 'Whether current_values (previous_values for a DELETE) holds the full row image';
+
+ALTER SEQUENCE hrs.audit_event_id_seq OWNED BY hrs.audit_event.id;
+ALTER SEQUENCE hrs.audit_change_id_seq OWNED BY hrs.audit_change.id;
+
+CREATE TABLE hrs.audit_event_default PARTITION OF hrs.audit_event DEFAULT;
+CREATE TABLE hrs.audit_change_default PARTITION OF hrs.audit_change DEFAULT;
+
+-- Keeps only the given keys of a row image.
+CREATE OR REPLACE FUNCTION hrs.audit_pick(p_image JSONB, p_keys TEXT[])
+RETURNS JSONB
+LANGUAGE sql
+IMMUTABLE
+AS $$
+    SELECT CASE WHEN p_image IS NOT NULL THEN COALESCE(
+        (SELECT jsonb_object_agg(k, p_image -> k) FROM unnest(p_keys) AS k),
+        '{}'::JSONB)
+    END
+$$;
+
+COMMENT ON FUNCTION hrs.audit_pick(JSONB, TEXT[]) IS
+'Returns the given keys of a row image, an empty object when there are none, or NULL for a NULL image.';
+
+-- Creates the audit_event and audit_change partitions of one UTC month.
+CREATE OR REPLACE FUNCTION hrs.audit_create_partition(p_month DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', p_month::TIMESTAMP);
+    parent TEXT;
+    part_name TEXT;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['audit_event', 'audit_change'] LOOP
+        part_name := parent || to_char(month_start, '"_y"YYYY"m"MM');
+        IF to_regclass(format('hrs.%I', part_name)) IS NULL THEN
+            EXECUTE format(
+                'CREATE TABLE hrs.%I PARTITION OF hrs.%I FOR VALUES FROM (%L) TO (%L)',
+                part_name,
+                parent,
+                month_start AT TIME ZONE 'UTC',
+                (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+            RETURN NEXT part_name;
+        END IF;
+    END LOOP;
+END;
+$$;
+
+COMMENT ON FUNCTION hrs.audit_create_partition(DATE) IS
+'Creates the monthly audit_event and audit_change partitions holding the given date, returning the names of those created.';
+
+-- Creates the partitions of the current UTC month and the next p_months_ahead.
+CREATE OR REPLACE FUNCTION hrs.audit_create_partitions(p_months_ahead INTEGER)
+RETURNS SETOF TEXT
+LANGUAGE sql
+AS $$
+    SELECT hrs.audit_create_partition(
+        (date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => ahead))::DATE)
+    FROM generate_series(0, p_months_ahead) AS ahead
+$$;
+
+COMMENT ON FUNCTION hrs.audit_create_partitions(INTEGER) IS
+'Creates the monthly audit partitions from the current UTC month up to p_months_ahead months ahead, returning the names of those created.';
+
+-- Detaches the monthly partitions older than the retention period and moves
+-- them to hrs_audit_archive, where they can be dumped and dropped.
+CREATE OR REPLACE FUNCTION hrs.audit_archive_partitions(p_retention_months INTEGER)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    cutoff DATE := (date_trunc('month', now() AT TIME ZONE 'UTC')
+        - make_interval(months => p_retention_months))::DATE;
+    part RECORD;
+BEGIN
+    FOR part IN
+        SELECT parent.relname AS parent_name, child.relname AS child_name
+        FROM pg_inherits i
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        JOIN pg_class child ON child.oid = i.inhrelid
+        JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+        WHERE ns.nspname = 'hrs'
+          AND parent.relname IN ('audit_change', 'audit_event')
+          AND child.relname ~ '_y[0-9]{4}m[0-9]{2}$'
+          AND to_date(right(child.relname, 8), '"y"YYYY"m"MM') < cutoff
+        ORDER BY parent.relname, child.relname
+    LOOP
+        EXECUTE format('ALTER TABLE hrs.%I DETACH PARTITION hrs.%I',
+            part.parent_name, part.child_name);
+        EXECUTE format('ALTER TABLE hrs.%I SET SCHEMA hrs_audit_archive', part.child_name);
+        RETURN NEXT part.child_name;
+    END LOOP;
+END;
+$$;
+
+COMMENT ON FUNCTION hrs.audit_archive_partitions(INTEGER) IS
+'Detaches the monthly audit partitions that ended more than p_retention_months UTC months ago into hrs_audit_archive, returning their names.';
+
+-- Partitions for the existing history and the months ahead.
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+            COALESCE(
+                date_trunc('month', (SELECT min(changed_at) FROM hrs.audit_event_unpartitioned) AT TIME ZONE 'UTC'),
+                date_trunc('month', now() AT TIME ZONE 'UTC')),
+            date_trunc('month', now() AT TIME ZONE 'UTC'),
+            INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM hrs.audit_create_partition(month_start);
+    END LOOP;
+    PERFORM hrs.audit_create_partitions(3);
+END
+$$;
+
+INSERT INTO hrs.audit_event (id, action, changed_by, changed_at, reason, correlation_id)
+SELECT id, action, changed_by, changed_at, reason, correlation_id
+FROM hrs.audit_event_unpartitioned;
+
+-- The first change of a row in each month becomes its snapshot; the other
+-- updates keep only their changed keys.
+INSERT INTO hrs.audit_change (
+    id, event_id, changed_at, entity_type, entity_id, action,
+    previous_values, current_values, changed_columns, snapshot
+)
+SELECT
+    c.id, c.event_id, c.changed_at, c.entity_type, c.entity_id, c.action,
+    CASE WHEN c.action IN ('UPDATE', 'SOFT_DELETE')
+        THEN hrs.audit_pick(c.previous_values, c.changed_columns)
+        ELSE c.previous_values END,
+    CASE WHEN c.action IN ('UPDATE', 'SOFT_DELETE') AND NOT c.snapshot
+        THEN hrs.audit_pick(c.current_values, c.changed_columns)
+        ELSE c.current_values END,
+    c.changed_columns,
+    c.snapshot
+FROM (
+    SELECT
+        c.*,
+        e.changed_at,
+        c.action NOT IN ('UPDATE', 'SOFT_DELETE')
+            OR row_number() OVER (
+                PARTITION BY c.entity_type, c.entity_id, date_trunc('month', e.changed_at, 'UTC')
+                ORDER BY c.id) = 1 AS snapshot
+    FROM hrs.audit_change_unpartitioned c
+    JOIN hrs.audit_event_unpartitioned e ON e.id = c.event_id
+) c;
+
+DROP TABLE hrs.audit_change_unpartitioned;
+DROP TABLE hrs.audit_event_unpartitioned;
+
+CREATE INDEX idx_audit_change_event_id ON hrs.audit_change(event_id);
+CREATE INDEX idx_audit_change_entity_lookup ON hrs.audit_change(entity_type, entity_id, id DESC);
+CREATE INDEX idx_audit_change_entity_type_id ON hrs.audit_change(entity_type, id DESC);
+CREATE INDEX idx_audit_event_changed_by_time ON hrs.audit_event(changed_by, changed_at DESC);
+CREATE INDEX idx_audit_event_changed_at ON hrs.audit_event(changed_at DESC, id DESC);
+
+-- Rebuilds the image of a row right after one of its changes.
+CREATE OR REPLACE FUNCTION hrs.audit_row_image(
+    p_entity_type VARCHAR,
+    p_entity_id BIGINT,
+    p_change_id BIGINT
+)
+RETURNS JSONB
+LANGUAGE plpgsql
+STABLE
+AS $$
+DECLARE
+    base RECORD;
+    step RECORD;
+    image JSONB;
+BEGIN
+    SELECT id, action, current_values
+    INTO base
+    FROM hrs.audit_change
+    WHERE entity_type = p_entity_type
+      AND entity_id = p_entity_id
+      AND id <= p_change_id
+      AND snapshot
+    ORDER BY id DESC
+    LIMIT 1;
+
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'No audit snapshot of % % at or before change %',
+            p_entity_type, p_entity_id, p_change_id
+            USING ERRCODE = 'no_data_found',
+                  HINT = 'The partition holding it may have been archived to hrs_audit_archive.';
+    END IF;
+
+    image := CASE WHEN base.action = 'DELETE' THEN NULL ELSE base.current_values END;
+
+    FOR step IN
+        SELECT action, current_values
+        FROM hrs.audit_change
+        WHERE entity_type = p_entity_type
+          AND entity_id = p_entity_id
+          AND id > base.id
+          AND id <= p_change_id
+        ORDER BY id
+    LOOP
+        image := CASE WHEN step.action = 'DELETE' THEN NULL ELSE image || step.current_values END;
+    END LOOP;
+
+    RETURN image;
+END;
+$$;
+
+COMMENT ON FUNCTION hrs.audit_row_image(VARCHAR, BIGINT, BIGINT) IS
+'Rebuilds the full image of an audited row right after the given change from its latest snapshot and the diffs recorded since. NULL after a hard delete.';
+
+-- The trigger now writes the partition key and compacts updates.
+CREATE OR REPLACE FUNCTION hrs.audit_district_volume_change()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+SECURITY DEFINER
+SET search_path = pg_catalog, hrs
+AS $$
+DECLARE
+    old_row JSONB;
+    new_row JSONB;
+    old_image JSONB;
+    new_image JSONB;
+    actor VARCHAR(128);
+    operation VARCHAR(32);
+    entity_kind VARCHAR(64);
+    changed TEXT[];
+    event_id BIGINT;
+    row_id BIGINT;
+    event_time TIMESTAMPTZ := now();
+    is_snapshot BOOLEAN;
+BEGIN
+    old_row := CASE WHEN TG_OP IN ('UPDATE', 'DELETE') THEN to_jsonb(OLD) END;
+    new_row := CASE WHEN TG_OP IN ('INSERT', 'UPDATE') THEN to_jsonb(NEW) END;
+    row_id := COALESCE((new_row ->> 'id')::BIGINT, (old_row ->> 'id')::BIGINT);
+    entity_kind := CASE
+        WHEN COALESCE(new_row ->> 'config_type', old_row ->> 'config_type')
+            = 'SPECIES_COMPOSITION' THEN 'SPECIES_COMPOSITION'
+        ELSE 'DISTRICT_VOLUME'
+    END;
+
+    actor := COALESCE(
+        NULLIF(CASE WHEN TG_OP = 'INSERT' THEN new_row ->> 'created_by'
+                    WHEN TG_OP = 'DELETE' THEN old_row ->> 'updated_by'
+                    ELSE new_row ->> 'updated_by' END, ''),
+        NULLIF(CASE WHEN TG_OP = 'DELETE' THEN old_row ->> 'created_by'
+                    ELSE new_row ->> 'created_by' END, ''),
+        current_user
+    );
+
+    operation := CASE
+        WHEN TG_OP = 'INSERT' THEN 'CREATE'
+        WHEN TG_OP = 'DELETE' THEN 'DELETE'
+        WHEN OLD.deleted = FALSE AND NEW.deleted = TRUE THEN 'SOFT_DELETE'
+        ELSE 'UPDATE'
+    END;
+
+    changed := CASE
+        WHEN TG_OP = 'INSERT' THEN ARRAY(SELECT jsonb_object_keys(new_row) ORDER BY 1)
+        WHEN TG_OP = 'DELETE' THEN ARRAY(SELECT jsonb_object_keys(old_row) ORDER BY 1)
+        ELSE ARRAY(
+            SELECT key
+            FROM (
+                SELECT jsonb_object_keys(old_row || new_row) AS key
+            ) keys
+            WHERE old_row -> key IS DISTINCT FROM new_row -> key
+            ORDER BY key
+        )
+    END;
+
+    -- An update is a snapshot when it is the first change of the row this month.
+    is_snapshot := TG_OP <> 'UPDATE' OR NOT EXISTS (
+        SELECT 1
+        FROM hrs.audit_change c
+        WHERE c.entity_type = entity_kind
+          AND c.entity_id = row_id
+          AND c.changed_at >= date_trunc('month', event_time, 'UTC')
+    );
+
+    old_image := CASE WHEN TG_OP = 'UPDATE' THEN hrs.audit_pick(old_row, changed) ELSE old_row END;
+    new_image := CASE WHEN TG_OP = 'UPDATE' AND NOT is_snapshot
+        THEN hrs.audit_pick(new_row, changed) ELSE new_row END;
+
+    INSERT INTO hrs.audit_event(action, changed_by, changed_at, reason, correlation_id)
+    VALUES (operation, actor, event_time,
+        COALESCE(NULLIF(new_row ->> 'reason', ''), old_row ->> 'reason'),
+        COALESCE(NULLIF(new_row ->> 'correlation_id', ''), old_row ->> 'correlation_id'))
+    RETURNING id INTO event_id;
+
+    INSERT INTO hrs.audit_change(
+        event_id, changed_at, entity_type, entity_id, action,
+        previous_values, current_values, changed_columns, snapshot
+    )
+    VALUES (
+        event_id, event_time, entity_kind, row_id, operation,
+        old_image, new_image, COALESCE(changed, ARRAY[]::TEXT[]), is_snapshot
+    );
+
+    IF TG_OP = 'DELETE' THEN
+        RETURN OLD;
+    END IF;
+    RETURN NEW;
+END;
+$$;
+
+COMMENT ON FUNCTION hrs.audit_district_volume_change() IS
+'Writes audit records for all district_volume mutations: full images for creates, deletes and the first update of a row each month, changed keys only for other updates. The actor comes from row audit columns and falls back to current_user.';
@@ -0,0 +1,36 @@
+-- JSON merge patch (RFC 7396) for user preferences, applied server-side so partial
+-- preference updates are a single statement instead of a read-modify-write cycle.
+
+CREATE OR REPLACE FUNCTION hrs.jsonb_merge_patch(target JSONB, patch JSONB)
+RETURNS JSONB
+LANGUAGE plpgsql
+IMMUTABLE
+AS $$
+DECLARE
+    merged JSONB;
+    entry RECORD;
+BEGIN
+    -- Non-object patches replace the target entirely
+    IF patch IS NULL OR jsonb_typeof(patch) <> 'object' THEN
+        RETURN patch;
+    END IF;
+
+    merged := CASE WHEN jsonb_typeof(target) = 'object' THEN target ELSE '{}'::JSONB END;
+
+    FOR entry IN SELECT key, value FROM jsonb_each(patch) LOOP
+        IF jsonb_typeof(entry.value) = 'null' THEN
+            merged := merged - entry.key;
+        ELSE
+            merged := jsonb_set(
+                merged,
+                ARRAY[entry.key],
+                hrs.jsonb_merge_patch(merged -> entry.key, entry.value)
+            );
+        END IF;
+    END LOOP;
+
+    RETURN merged;
+END;
+$$;
+
+COMMENT ON FUNCTION hrs.jsonb_merge_patch(JSONB, JSONB) IS 'Applies an RFC 7396 JSON merge patch: objects merge recursively, null removes a key, anything else replaces.';
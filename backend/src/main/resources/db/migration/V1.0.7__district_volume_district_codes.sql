@@ -0,0 +1,37 @@
+-- Materialize the district codes referenced by each configuration so "which
+-- configurations contain district X" is answered by an index instead of by
+-- loading and walking the table_data JSONB in the application.
+
+CREATE OR REPLACE FUNCTION hrs.district_volume_codes(table_data JSONB)
+RETURNS TEXT[]
+LANGUAGE sql
+IMMUTABLE
+PARALLEL SAFE
+AS $$
+    SELECT COALESCE(array_agg(DISTINCT code ORDER BY code), ARRAY[]::TEXT[])
+    FROM (
+        SELECT upper(value #>> '{}') AS code
+        FROM jsonb_path_query(table_data, 'lax $.zones[*].districts[*].district.code') AS value
+        UNION ALL
+        SELECT upper(value #>> '{}')
+        FROM jsonb_path_query(table_data, 'lax $.sections[*].districts[*].district.code') AS value
+        UNION ALL
+        SELECT upper(value #>> '{}')
+        FROM jsonb_path_query(table_data, 'lax $.speciesRows[*].district.code') AS value
+    ) codes
+    WHERE code IS NOT NULL AND code <> ''
+$$;
+
+COMMENT ON FUNCTION hrs.district_volume_codes(JSONB) IS
+'Returns the sorted, upper-cased, distinct district codes found in the zones, sections and speciesRows of a district_volume table_data document.';
+
+ALTER TABLE hrs.district_volume
+    ADD COLUMN IF NOT EXISTS district_codes TEXT[]
+    GENERATED ALWAYS AS (hrs.district_volume_codes(table_data)) STORED;
+
+COMMENT ON COLUMN hrs.district_volume.district_codes IS
+'Generated from table_data. Upper-cased district codes present in the configuration, used for district lookups without reading table_data.';
+
+CREATE INDEX IF NOT EXISTS idx_district_volume_live_district_codes
+    ON hrs.district_volume USING gin (district_codes)
+    WHERE deleted = FALSE;
@@ -0,0 +1,38 @@
+-- Enforce the configuration timeline invariants in the database: live rows of
+-- the same config type and area never cover the same day, which also means at
+-- most one of them is open-ended. Soft-deleted rows are ignored.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    overlapping TEXT;
+BEGIN
+    SELECT string_agg(format('%s/%s ids %s and %s', a.config_type, a.area, a.id, b.id), ', ')
+    INTO overlapping
+    FROM hrs.district_volume a
+    JOIN hrs.district_volume b
+      ON a.config_type = b.config_type
+     AND a.area = b.area
+     AND a.id < b.id
+     AND daterange(a.start_date, a.end_date, '[]') && daterange(b.start_date, b.end_date, '[]')
+    WHERE a.deleted = FALSE AND b.deleted = FALSE;
+
+    IF overlapping IS NOT NULL THEN
+        RAISE EXCEPTION 'district_volume has overlapping live configurations: %', overlapping
+            USING HINT = 'Close or soft-delete the overlapping rows before applying this migration.';
+    END IF;
+END
+$$;
+
+ALTER TABLE hrs.district_volume
+    ADD CONSTRAINT ex_district_volume_no_overlap
+    EXCLUDE USING gist (
+        config_type WITH =,
+        area WITH =,
+        daterange(start_date, end_date, '[]') WITH &&
+    )
+    WHERE (deleted = FALSE);
+
+COMMENT ON CONSTRAINT ex_district_volume_no_overlap ON hrs.district_volume IS
+'Live configurations of the same config_type and area may not overlap; an open-ended row (end_date NULL) extends to infinity.';
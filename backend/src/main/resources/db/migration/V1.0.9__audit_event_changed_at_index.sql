@@ -0,0 +1,7 @@
+-- Audit history by time window. Per-entity and per-user history is served by
+-- idx_audit_change_entity_lookup and idx_audit_event_changed_by_time; a window
+-- across all users needs its own index to page newest first. The id breaks ties
+-- between events of the same transaction and matches the keyset order.
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_changed_at
+    ON hrs.audit_event(changed_at DESC, id DESC);
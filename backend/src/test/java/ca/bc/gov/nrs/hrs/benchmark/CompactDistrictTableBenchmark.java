@@ -0,0 +1,140 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.cache.ActiveConfiguration;
+import ca.bc.gov.nrs.hrs.cache.CompactDistrictTable;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.mapper.DistrictVolumeMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares a batch of effective district volume lookups over the boxed {@link DistrictRow} map
+ * the registry used to hold against the same lookups over {@link CompactDistrictTable}.
+ *
+ * <p>Each operation resolves every requested district and maps it to an
+ * {@link EffectiveDistrictVolumeDto}, the work behind {@code POST /api/district-volumes/effective}.
+ * The compact side goes through {@link DistrictVolumeMapper#toEffectiveDto}, so it measures the
+ * production path. Run with the {@code gc} profiler (the {@code benchmark} profile does) to compare
+ * {@code gc.alloc.rate.norm}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactDistrictTableBenchmark {
+
+  private static final LocalDate DATE = LocalDate.of(2026, 3, 1);
+
+  @Param({"30", "300"})
+  private int districts;
+
+  private ActiveConfiguration configuration;
+  private Map<String, DistrictRow> boxed;
+  private String[] lookups;
+
+  /**
+   * Builds both representations from the same rows, plus a request of mixed-case codes.
+   */
+  @Setup
+  public void setUp() {
+    List<DistrictRow> rows = IntStream
+        .range(0, districts)
+        .mapToObj(index -> new DistrictRow(
+            new CodeDescriptionDto("D" + index, "District " + index),
+            new BigDecimal("1.234"),
+            new BigDecimal("2.345"),
+            new BigDecimal("3.456"),
+            null,
+            null,
+            null,
+            new BigDecimal(index + ".035")))
+        .toList();
+
+    boxed = new HashMap<>();
+    rows.forEach(row -> boxed.put(row.district().code(), row));
+    configuration = new ActiveConfiguration(
+        1L,
+        ConfigType.DISTRICT_VOLUME,
+        Area.INTERIOR,
+        LocalDate.of(2026, 1, 1),
+        null,
+        new BigDecimal("1.150"),
+        null,
+        CompactDistrictTable.of(rows.stream()),
+        null);
+    lookups = IntStream
+        .range(0, 1_000)
+        .mapToObj(index -> (index % 2 == 0 ? "d" : "D") + (index * 7 % districts))
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Lookups over the boxed rows, mapped as the service did before the compact tables.
+   *
+   * @param blackhole sink for the mapped rows
+   */
+  @Benchmark
+  public void boxedRows(Blackhole blackhole) {
+    for (String code : lookups) {
+      DistrictRow row = boxed.get(code.trim().toUpperCase(Locale.ROOT));
+      if (row != null) {
+        blackhole.consume(new EffectiveDistrictVolumeDto(
+            row.district().code(),
+            DATE,
+            configuration.id(),
+            configuration.area().name(),
+            configuration.startDate(),
+            configuration.endDate(),
+            configuration.tableLevelFactor(),
+            configuration.heliMultiplier(),
+            row.avoidableSawlog(),
+            row.avoidableGrade4(),
+            row.unavoidableGrade4(),
+            row.avoidableHembalGradeU(),
+            row.avoidableGradeY(),
+            row.unavoidable(),
+            row.total()));
+      }
+    }
+  }
+
+  /**
+   * Lookups over the compact table, through the production mapper.
+   *
+   * @param blackhole sink for the mapped rows
+   */
+  @Benchmark
+  public void compactTable(Blackhole blackhole) {
+    CompactDistrictTable table = configuration.districts();
+    for (String code : lookups) {
+      int row = table.row(code);
+      if (row >= 0) {
+        blackhole.consume(DistrictVolumeMapper.toEffectiveDto(configuration, row, DATE));
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.cache.ActiveConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Section;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
+import ca.bc.gov.nrs.hrs.mapper.DistrictVolumeMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DistrictVolumeMapper#toDetailDto(DistrictVolumeEntity)} for both areas and the
+ * {@link ActiveConfiguration#containsDistrict(String)} check the service runs for every
+ * configuration when resolving a district.
+ *
+ * <p>The districts are split over four zones (interior) or sections (coastal), as in the
+ * published tables.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistrictVolumeMapperBenchmark {
+
+  private static final int GROUPS = 4;
+
+  @Param({"30", "300"})
+  private int districts;
+
+  private DistrictVolumeEntity interior;
+  private DistrictVolumeEntity coastal;
+  private ActiveConfiguration active;
+  private String[] lookups;
+
+  /**
+   * Builds an interior and a coastal entry with the same districts, plus lookups of which a
+   * quarter miss.
+   */
+  @Setup
+  public void setUp() {
+    List<List<DistrictRow>> groups = IntStream
+        .range(0, GROUPS)
+        .mapToObj(group -> IntStream
+            .range(0, districts)
+            .filter(index -> index % GROUPS == group)
+            .mapToObj(DistrictVolumeMapperBenchmark::row)
+            .toList())
+        .toList();
+
+    interior = entity(Area.INTERIOR, new TableData(
+        IntStream.range(0, GROUPS).mapToObj(i -> new Zone("Zone " + i, groups.get(i))).toList(),
+        null,
+        null,
+        Map.of()));
+    coastal = entity(Area.COASTAL, new TableData(
+        null,
+        IntStream.range(0, GROUPS).mapToObj(i -> new Section("S" + i, groups.get(i))).toList(),
+        null,
+        Map.of()));
+    active = ActiveConfiguration.from(interior);
+    lookups = IntStream
+        .range(0, 1_000)
+        .mapToObj(index -> index % 4 == 0 ? "dx" + index : "d" + (index * 7 % districts))
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Maps the interior entry.
+   *
+   * @return the detail DTO
+   */
+  @Benchmark
+  public DistrictVolumeDetailDto interiorDetail() {
+    return DistrictVolumeMapper.toDetailDto(interior);
+  }
+
+  /**
+   * Maps the coastal entry.
+   *
+   * @return the detail DTO
+   */
+  @Benchmark
+  public DistrictVolumeDetailDto coastalDetail() {
+    return DistrictVolumeMapper.toDetailDto(coastal);
+  }
+
+  /**
+   * Checks a batch of mixed-case codes against the indexed entry.
+   *
+   * @return the number of codes found, so the work is not eliminated
+   */
+  @Benchmark
+  public int containsDistrict() {
+    int found = 0;
+    for (String code : lookups) {
+      if (active.containsDistrict(code)) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  private static DistrictRow row(int index) {
+    return new DistrictRow(
+        new CodeDescriptionDto("D" + index, "District " + index),
+        new BigDecimal("1.2345"),
+        new BigDecimal("2.345"),
+        new BigDecimal("3.456"),
+        new BigDecimal("4.567"),
+        new BigDecimal("5.678"),
+        new BigDecimal("6.789"),
+        new BigDecimal(index + ".035"));
+  }
+
+  private static DistrictVolumeEntity entity(Area area, TableData tableData) {
+    DistrictVolumeEntity entity = new DistrictVolumeEntity();
+    entity.setId(1L);
+    entity.setArea(area);
+    entity.setStartDate(LocalDate.of(2025, 1, 1));
+    entity.setDateOfUpload(LocalDateTime.of(2025, 1, 2, 10, 0));
+    entity.setCreatedBy("IDIR\\testuser");
+    entity.setTableLevelFactor(new BigDecimal("1.150"));
+    entity.setHeliMultiplier(new BigDecimal("1.200"));
+    entity.setTableData(tableData);
+    return entity;
+  }
+}
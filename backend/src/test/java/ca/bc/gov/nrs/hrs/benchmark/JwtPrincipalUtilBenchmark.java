@@ -0,0 +1,90 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.dto.base.Role;
+import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Measures the parsing of {@code cognito:groups} into roles, which every authorization check
+ * repeats for the current token.
+ *
+ * <p>The token holds a concrete role plus one abstract role per client, as a BCeID submitter
+ * with many clients would have.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtPrincipalUtilBenchmark {
+
+  @Param({"2", "50"})
+  private int clients;
+
+  private Jwt jwt;
+  private String lastClient;
+
+  /**
+   * Builds a token with the requested number of client groups.
+   */
+  @Setup
+  public void setUp() {
+    List<String> groups = new ArrayList<>();
+    groups.add("WASTE_PLUS_DISTRICT");
+    for (int index = 0; index < clients; index++) {
+      lastClient = String.format("%08d", index);
+      groups.add("WASTE_PLUS_SUBMITTER_" + lastClient);
+    }
+    jwt = Jwt
+        .withTokenValue("token")
+        .header("alg", "none")
+        .claim("cognito:groups", groups)
+        .build();
+  }
+
+  /**
+   * Parses the groups into the role to clients map.
+   *
+   * @return the parsed roles
+   */
+  @Benchmark
+  public Map<Role, List<String>> getRoles() {
+    return JwtPrincipalUtil.getRoles(jwt);
+  }
+
+  /**
+   * Checks an abstract role for the last client, parsing the groups again as callers do.
+   *
+   * @return whether the role is held
+   */
+  @Benchmark
+  public boolean hasAbstractRole() {
+    return JwtPrincipalUtil.hasAbstractRole(jwt, Role.SUBMITTER, lastClient);
+  }
+
+  /**
+   * Lists the distinct clients across roles.
+   *
+   * @return the client numbers
+   */
+  @Benchmark
+  public List<String> getClientFromRoles() {
+    return JwtPrincipalUtil.getClientFromRoles(jwt);
+  }
+}
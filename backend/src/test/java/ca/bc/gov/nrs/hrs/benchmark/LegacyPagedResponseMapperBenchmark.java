@@ -0,0 +1,113 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
+import ca.bc.gov.nrs.hrs.provider.legacy.LegacyPagedResponseMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the decoding of a legacy search page with {@link LegacyPagedResponseMapper}.
+ *
+ * <p>{@code readPage} starts from the tree the {@code RestClient} hands over, as the clients do;
+ * {@code parseAndReadPage} also parses the response body, to show how the tree step compares to
+ * the conversion into DTOs.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LegacyPagedResponseMapperBenchmark {
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private JsonMapper jsonMapper;
+  private LegacyPagedResponseMapper pageMapper;
+  private byte[] body;
+  private JsonNode tree;
+
+  /**
+   * Serializes a legacy search page of the requested size.
+   */
+  @Setup
+  public void setUp() {
+    jsonMapper = JsonMapper
+        .builder()
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+        .build();
+    pageMapper = new LegacyPagedResponseMapper(jsonMapper);
+
+    List<ReportingUnitSearchResultDto> content = IntStream
+        .range(0, pageSize)
+        .mapToObj(index -> new ReportingUnitSearchResultDto(
+            null,
+            26L + index,
+            "CB-" + index,
+            36_000L + index,
+            new CodeDescriptionDto(String.format("%08d", index % 7), null),
+            "LIC-123",
+            "CP-01",
+            "TM-456",
+            false,
+            false,
+            new CodeDescriptionDto("BLK", "Cutblock"),
+            new CodeDescriptionDto("DND", "Nadina Natural Resource District"),
+            new CodeDescriptionDto("DFT", "Draft"),
+            LocalDateTime.of(2025, 8, 24, 9, 10, 28),
+            false
+        ))
+        .toList();
+    body = jsonMapper.writeValueAsBytes(Map.of(
+        "content", content,
+        "page", Map.of("size", pageSize, "number", 0, "totalElements", 1_000, "totalPages", 10)
+    ));
+    tree = jsonMapper.readTree(body);
+  }
+
+  /**
+   * Validates the tree and converts its content and total.
+   *
+   * @return the decoded entries
+   */
+  @Benchmark
+  public List<ReportingUnitSearchResultDto> readPage() {
+    return decode(tree);
+  }
+
+  /**
+   * Parses the body into a tree, then decodes it as {@link #readPage()} does.
+   *
+   * @return the decoded entries
+   */
+  @Benchmark
+  public List<ReportingUnitSearchResultDto> parseAndReadPage() {
+    return decode(jsonMapper.readTree(body));
+  }
+
+  private List<ReportingUnitSearchResultDto> decode(JsonNode page) {
+    if (pageMapper.isInvalidPage(page) || pageMapper.readTotalElements(page) < 0) {
+      return List.of();
+    }
+    return pageMapper.readContent(page, ReportingUnitSearchResultDto.class);
+  }
+}
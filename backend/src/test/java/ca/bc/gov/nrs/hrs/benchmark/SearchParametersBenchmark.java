@@ -0,0 +1,90 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Measures the conversion of {@link ReportingUnitSearchParametersDto} into the legacy query
+ * parameters, done once per search.
+ *
+ * <p>The sparse filter is the common free-text search; the full one sets every filter, including
+ * a bookmark id set.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchParametersBenchmark {
+
+  private ReportingUnitSearchParametersDto sparse;
+  private ReportingUnitSearchParametersDto full;
+  private Pageable pageable;
+
+  /**
+   * Builds the filters and the page request.
+   */
+  @Setup
+  public void setUp() {
+    sparse = ReportingUnitSearchParametersDto
+        .builder()
+        .mainSearchTerm("36834")
+        .build();
+    full = ReportingUnitSearchParametersDto
+        .builder()
+        .mainSearchTerm("cutblock")
+        .district(List.of("dnd", "dqc", "dcr"))
+        .sampling(List.of("blk", "agg"))
+        .status(List.of("dft", "sub", "apr"))
+        .requestByMe(true)
+        .multiMark(true)
+        .requestUserId("idir\\testuser")
+        .updateDateStart(LocalDate.of(2025, 1, 1))
+        .updateDateEnd(LocalDate.of(2025, 12, 31))
+        .licenseeId("a12345")
+        .cuttingPermitId("cp-01")
+        .timberMark("tm-456")
+        .clientNumbers(List.of("00010002", "00010003"))
+        .reportingUnitIds(LongStream.range(0, 50).boxed().toList())
+        .build();
+    pageable = PageRequest.of(2, 20, Sort.by("lastUpdated").descending());
+  }
+
+  /**
+   * Converts the free-text filter.
+   *
+   * @return the query parameters
+   */
+  @Benchmark
+  public MultiValueMap<String, String> sparseFilter() {
+    return sparse.toMultiMap(pageable);
+  }
+
+  /**
+   * Converts the filter with every field set.
+   *
+   * @return the query parameters
+   */
+  @Benchmark
+  public MultiValueMap<String, String> fullFilter() {
+    return full.toMultiMap(pageable);
+  }
+}
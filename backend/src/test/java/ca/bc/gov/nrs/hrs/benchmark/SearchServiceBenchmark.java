@@ -0,0 +1,131 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import ca.bc.gov.nrs.hrs.configuration.FeatureFlagsConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.base.FeatureFlag;
+import ca.bc.gov.nrs.hrs.dto.client.ForestClientDto;
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
+import ca.bc.gov.nrs.hrs.provider.legacy.LegacyApiProvider;
+import ca.bc.gov.nrs.hrs.service.ForestClientService;
+import ca.bc.gov.nrs.hrs.service.SearchService;
+import ca.bc.gov.nrs.hrs.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Measures the assembly of a reporting unit search page in {@link SearchService}: the client
+ * de-duplication, the id formatting, and the client and bookmark enrichment of every entry.
+ *
+ * <p>The collaborators are stub-only Mockito mocks answering canned values, so the figures hold
+ * the service's own work plus a small constant per collaborator call, not any I/O.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchServiceBenchmark {
+
+  private static final String USER_ID = "IDIR\\testuser";
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private SearchService searchService;
+  private ReportingUnitSearchParametersDto filters;
+  private Pageable pageable;
+
+  /**
+   * Builds a page of results spread over a few clients, with every fifth entry bookmarked.
+   */
+  @Setup
+  public void setUp() {
+    pageable = PageRequest.of(0, pageSize);
+    List<ReportingUnitSearchResultDto> content = IntStream
+        .range(0, pageSize)
+        .mapToObj(index -> new ReportingUnitSearchResultDto(
+            null,
+            26L + index,
+            null,
+            36_000L + index,
+            new CodeDescriptionDto(String.format("%08d", index % 7), null),
+            "LIC-123",
+            "CP-01",
+            "TM-456",
+            false,
+            false,
+            new CodeDescriptionDto("BLK", "Cutblock"),
+            new CodeDescriptionDto("DND", "Nadina Natural Resource District"),
+            new CodeDescriptionDto("DFT", "Draft"),
+            LocalDateTime.of(2025, 8, 24, 9, 10, 28),
+            false
+        ))
+        .toList();
+    Page<ReportingUnitSearchResultDto> page = new PageImpl<>(content, pageable, 1_000);
+
+    LegacyApiProvider legacyApiProvider = stub(LegacyApiProvider.class);
+    ForestClientService forestClientService = stub(ForestClientService.class);
+    UserService userService = stub(UserService.class);
+    FeatureFlagsConfiguration featureFlags = stub(FeatureFlagsConfiguration.class);
+
+    when(legacyApiProvider.searchReportingUnit(any(), any())).thenReturn(page);
+    when(forestClientService.getClientByNumber(anyString()))
+        .thenReturn(Optional.of(
+            new ForestClientDto("00010002", "WEST FRASER", null, null, null, null, null)));
+    when(userService.getUserBookmarksInList(anyString(), anyList()))
+        .thenReturn(LongStream.range(0, pageSize / 5).map(index -> 36_000L + index * 5)
+            .boxed().toList());
+    when(featureFlags.isEnabled(FeatureFlag.BOOKMARK_REPORTING_UNIT_ENABLED)).thenReturn(true);
+
+    searchService = new SearchService(
+        legacyApiProvider, forestClientService, userService, featureFlags,
+        new SimpleMeterRegistry());
+    filters = ReportingUnitSearchParametersDto
+        .builder()
+        .mainSearchTerm("LIC")
+        .build();
+  }
+
+  /**
+   * Runs a search and materializes the enriched page.
+   *
+   * @return the enriched entries
+   */
+  @Benchmark
+  public List<ReportingUnitSearchResultDto> search() {
+    return searchService.search(USER_ID, filters, pageable).getContent();
+  }
+
+  private static <T> T stub(Class<T> type) {
+    return mock(type, withSettings().stubOnly());
+  }
+}
@@ -0,0 +1,265 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("Unit Test | ActiveConfigurationRegistry")
+class ActiveConfigurationRegistryTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 3, 31);
+
+  private final DistrictVolumeRepository repository = mock(DistrictVolumeRepository.class);
+  private final MutableClock clock = new MutableClock(TODAY);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("active should resolve today's entry once and serve it from memory")
+  void active_shouldLoadOnce() {
+    timeline(
+        entity(1L, LocalDate.of(2025, 1, 1), TODAY, "DND"),
+        entity(2L, TODAY.plusDays(1), null, "DKM")
+    );
+    ActiveConfigurationRegistry registry = registry();
+
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(1L);
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR)).isPresent();
+
+    verify(repository, times(1))
+        .findAllLiveByConfigTypeAndAreaOrderByStartDate(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+  }
+
+  @Test
+  @DisplayName("at should resolve past, current and future dates from the timeline")
+  void at_shouldResolveAnyDate() {
+    timeline(
+        entity(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "DND"),
+        entity(2L, LocalDate.of(2026, 1, 1), null, "DKM")
+    );
+    ActiveConfigurationRegistry registry = registry();
+
+    assertThat(registry.at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, LocalDate.of(2024, 6, 1)))
+        .isEmpty();
+    assertThat(registry.at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, LocalDate.of(2025, 6, 1)))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(1L);
+    assertThat(registry.at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, LocalDate.of(2030, 1, 1)))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("rollover should switch to the next entry at midnight without a query")
+  void rollover_shouldSwitchWithoutQuery() {
+    timeline(
+        entity(1L, LocalDate.of(2025, 1, 1), TODAY, "DND"),
+        entity(2L, TODAY.plusDays(1), null, "DKM")
+    );
+    ActiveConfigurationRegistry registry = registry();
+    registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+
+    clock.today = TODAY.plusDays(1);
+    registry.rollover();
+
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .get()
+        .satisfies(active -> {
+          assertThat(active.id()).isEqualTo(2L);
+          assertThat(active.containsDistrict("dkm")).isTrue();
+          assertThat(active.containsDistrict("DND")).isFalse();
+        });
+    verify(repository, times(1))
+        .findAllLiveByConfigTypeAndAreaOrderByStartDate(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+  }
+
+  @Test
+  @DisplayName("active should resolve the new day even if the rollover has not run")
+  void active_shouldResolveNewDayWithoutRollover() {
+    timeline(
+        entity(1L, LocalDate.of(2025, 1, 1), TODAY, "DND"),
+        entity(2L, TODAY.plusDays(1), null, "DKM")
+    );
+    ActiveConfigurationRegistry registry = registry();
+    registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+
+    clock.today = TODAY.plusDays(1);
+
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("refresh should reload the timeline only after the transaction commits")
+  void refresh_shouldWaitForCommit() {
+    timeline(entity(1L, LocalDate.of(2025, 1, 1), null, "DND"));
+    ActiveConfigurationRegistry registry = registry();
+    registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+
+    TransactionSynchronizationManager.initSynchronization();
+    registry.refresh(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+    timeline(entity(3L, LocalDate.of(2026, 1, 1), null, "DND"));
+
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(1L);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .get()
+        .extracting(ActiveConfiguration::id)
+        .isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("disabled registry should load on every lookup and skip reloads")
+  void disabled_shouldAlwaysLoad() {
+    timeline(entity(1L, LocalDate.of(2025, 1, 1), null, "DND"));
+    ActiveConfigurationRegistry registry = new ActiveConfigurationRegistry(repository, clock, false);
+
+    registry.reloadAll();
+    registry.refresh(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR)).isPresent();
+    assertThat(registry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR)).isPresent();
+
+    assertThat(registry.isEnabled()).isFalse();
+    verify(repository, times(2))
+        .findAllLiveByConfigTypeAndAreaOrderByStartDate(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+  }
+
+  @Test
+  @DisplayName("snapshot should index district and species rows by district code")
+  void snapshot_shouldIndexRows() {
+    DistrictRow row = districtRow("DND");
+    SpeciesCompositionRow speciesRow = new SpeciesCompositionRow(
+        new CodeDescriptionDto("DKM", "Kamloops"),
+        Map.of("FD", new BigDecimal("42.500"))
+    );
+    DistrictVolumeEntity entity = entity(1L, TODAY, null, "DND");
+    entity.setTableData(new TableData(
+        List.of(new Zone("North", List.of(row))),
+        null,
+        List.of(speciesRow),
+        Map.of()
+    ));
+
+    ActiveConfiguration active = ActiveConfiguration.from(entity);
+
+    assertThat(active.district("dnd")).contains(row);
+    assertThat(active.district("DKM")).isEmpty();
+    assertThat(active.speciesRow(" dkm ")).contains(speciesRow);
+    assertThat(active.containsDistrict("DKM")).isTrue();
+    assertThat(active.containsDistrict(null)).isFalse();
+    assertThat(active.covers(TODAY.minusDays(1))).isFalse();
+    assertThat(active.covers(TODAY.plusYears(5))).isTrue();
+  }
+
+  private void timeline(DistrictVolumeEntity... entities) {
+    when(repository.findAllLiveByConfigTypeAndAreaOrderByStartDate(
+        ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .thenReturn(List.of(entities));
+  }
+
+  private ActiveConfigurationRegistry registry() {
+    return new ActiveConfigurationRegistry(repository, clock);
+  }
+
+  private static DistrictVolumeEntity entity(
+      Long id,
+      LocalDate startDate,
+      LocalDate endDate,
+      String districtCode
+  ) {
+    DistrictVolumeEntity entity = new DistrictVolumeEntity();
+    entity.setId(id);
+    entity.setArea(Area.INTERIOR);
+    entity.setConfigType(ConfigType.DISTRICT_VOLUME);
+    entity.setStartDate(startDate);
+    entity.setEndDate(endDate);
+    entity.setTableLevelFactor(BigDecimal.ONE);
+    entity.setTableData(new TableData(
+        List.of(new Zone("Zone", List.of(districtRow(districtCode)))),
+        null,
+        null,
+        Map.of()
+    ));
+    return entity;
+  }
+
+  private static DistrictRow districtRow(String districtCode) {
+    return new DistrictRow(
+        new CodeDescriptionDto(districtCode, districtCode),
+        new BigDecimal("1.000"),
+        new BigDecimal("1.000"),
+        new BigDecimal("1.000"),
+        null,
+        null,
+        null,
+        new BigDecimal("3.000")
+    );
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private LocalDate today;
+
+    private MutableClock(LocalDate today) {
+      this.today = today;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return today.atStartOfDay(ZoneOffset.UTC).plusHours(12).toInstant();
+    }
+  }
+}
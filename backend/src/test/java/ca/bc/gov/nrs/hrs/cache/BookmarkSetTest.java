@@ -0,0 +1,68 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | BookmarkSet")
+class BookmarkSetTest {
+
+  @Test
+  @DisplayName("of should sort, de-duplicate and drop nulls")
+  void of_shouldNormalize() {
+    BookmarkSet set = BookmarkSet.of(Arrays.asList(30L, null, 10L, 30L, 20L));
+
+    assertThat(set.toList()).containsExactly(10L, 20L, 30L);
+    assertThat(set.size()).isEqualTo(3);
+    assertThat(set.contains(20L)).isTrue();
+    assertThat(set.contains(25L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("of with empty input should return the empty set")
+  void of_empty_shouldReturnEmpty() {
+    assertThat(BookmarkSet.of(List.of())).isSameAs(BookmarkSet.empty());
+    assertThat(BookmarkSet.of(null)).isSameAs(BookmarkSet.empty());
+    assertThat(BookmarkSet.empty().isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("with should insert in order and be a no-op for existing ids")
+  void with_shouldInsertInOrder() {
+    BookmarkSet set = BookmarkSet.of(List.of(10L, 30L));
+
+    BookmarkSet updated = set.with(20L);
+
+    assertThat(updated.toList()).containsExactly(10L, 20L, 30L);
+    assertThat(set.toList()).containsExactly(10L, 30L);
+    assertThat(updated.with(20L)).isSameAs(updated);
+    assertThat(BookmarkSet.empty().with(5L).toList()).containsExactly(5L);
+  }
+
+  @Test
+  @DisplayName("without should remove ids and be a no-op for missing ids")
+  void without_shouldRemove() {
+    BookmarkSet set = BookmarkSet.of(List.of(10L, 20L, 30L));
+
+    assertThat(set.without(20L).toList()).containsExactly(10L, 30L);
+    assertThat(set.without(40L)).isSameAs(set);
+    assertThat(BookmarkSet.of(List.of(10L)).without(10L)).isSameAs(BookmarkSet.empty());
+  }
+
+  @Test
+  @DisplayName("withAll and withoutAll should merge and subtract in bulk")
+  void bulk_shouldMergeAndSubtract() {
+    BookmarkSet set = BookmarkSet.of(List.of(10L, 30L));
+
+    BookmarkSet merged = set.withAll(Arrays.asList(20L, null, 30L, 40L));
+
+    assertThat(merged.toList()).containsExactly(10L, 20L, 30L, 40L);
+    assertThat(merged.withAll(List.of(10L, 20L))).isSameAs(merged);
+    assertThat(merged.withoutAll(List.of(20L, 40L, 50L)).toList()).containsExactly(10L, 30L);
+    assertThat(merged.withoutAll(List.of(50L))).isSameAs(merged);
+    assertThat(merged.withoutAll(List.of(10L, 20L, 30L, 40L))).isSameAs(BookmarkSet.empty());
+  }
+}
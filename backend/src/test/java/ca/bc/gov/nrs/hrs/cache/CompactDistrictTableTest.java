@@ -0,0 +1,103 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.cache.CompactDistrictTable.Column;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | CompactDistrictTable")
+class CompactDistrictTableTest {
+
+  @Test
+  @DisplayName("district table should round-trip rows at a scale of three")
+  void districtTable_shouldRoundTripRows() {
+    DistrictRow row = new DistrictRow(
+        new CodeDescriptionDto("DND", "Nadina"),
+        new BigDecimal("1.2345"),
+        new BigDecimal("2"),
+        null,
+        null,
+        null,
+        null,
+        new BigDecimal("3.5")
+    );
+
+    CompactDistrictTable table = CompactDistrictTable.of(Stream.of(row));
+    int index = table.row(" dnd ");
+
+    assertThat(index).isZero();
+    assertThat(table.code(index)).isEqualTo("DND");
+    assertThat(table.decimal(index, Column.AVOIDABLE_SAWLOG)).isEqualTo("1.235");
+    assertThat(table.decimal(index, Column.UNAVOIDABLE_GRADE_4)).isNull();
+    assertThat(table.toRow(index)).isEqualTo(new DistrictRow(
+        new CodeDescriptionDto("DND", "Nadina"),
+        new BigDecimal("1.235"),
+        new BigDecimal("2.000"),
+        null,
+        null,
+        null,
+        null,
+        new BigDecimal("3.500")
+    ));
+  }
+
+  @Test
+  @DisplayName("district table should drop blank codes and keep the first of a repeated code")
+  void districtTable_shouldKeepFirstRow() {
+    CompactDistrictTable table = CompactDistrictTable.of(Stream.of(
+        row("DKM", "1"),
+        row("dkm", "2"),
+        row(" ", "3"),
+        row("DND", "4")
+    ));
+
+    assertThat(table.size()).isEqualTo(2);
+    assertThat(table.decimal(table.row("DKM"), Column.TOTAL)).isEqualByComparingTo("1");
+    assertThat(table.row("XYZ")).isEqualTo(-1);
+    assertThat(table.row(null)).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("species table should index species in order of appearance and round-trip rows")
+  void speciesTable_shouldRoundTripRows() {
+    Map<String, BigDecimal> first = new LinkedHashMap<>();
+    first.put("FD", new BigDecimal("42.5"));
+    first.put("PL", new BigDecimal("57.5"));
+    Map<String, BigDecimal> second = new LinkedHashMap<>();
+    second.put("BA", new BigDecimal("100"));
+
+    CompactSpeciesTable table = CompactSpeciesTable.of(Stream.of(
+        new SpeciesCompositionRow(new CodeDescriptionDto("DND", "Nadina"), first),
+        new SpeciesCompositionRow(new CodeDescriptionDto("DKM", "Kamloops"), second)
+    ));
+
+    assertThat(table.size()).isEqualTo(2);
+    assertThat(table.toRow(table.row("dnd")).species())
+        .containsExactly(
+            Map.entry("FD", new BigDecimal("42.500")),
+            Map.entry("PL", new BigDecimal("57.500")));
+    assertThat(table.toRow(table.row("DKM")).species())
+        .containsExactly(Map.entry("BA", new BigDecimal("100.000")));
+  }
+
+  private static DistrictRow row(String code, String total) {
+    return new DistrictRow(
+        new CodeDescriptionDto(code, code),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new BigDecimal(total)
+    );
+  }
+}
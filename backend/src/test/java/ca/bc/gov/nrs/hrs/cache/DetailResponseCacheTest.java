@@ -0,0 +1,134 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.DetailCacheConfiguration;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("Unit Test | DetailResponseCache")
+class DetailResponseCacheTest {
+
+  private static final LocalDateTime REVISION =
+      LocalDateTime.of(2026, Month.JANUARY, 1, 12, 0, 0);
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("should serve the body cached for the current revision")
+  void get_returnsBody_whenRevisionMatches() {
+    DetailResponseCache cache = cache(true, 8);
+
+    SerializedDetail stored =
+        cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+
+    assertThat(new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    assertThat(stored.eTag()).startsWith("\"").endsWith("\"").hasSize(34);
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION)).containsSame(stored);
+    assertThat(cache.get(ConfigType.SPECIES_COMPOSITION, 1L, REVISION)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should miss once the row has a newer revision")
+  void get_misses_whenRevisionMoved() {
+    DetailResponseCache cache = cache(true, 8);
+
+    cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION.plusSeconds(1))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should not replace a body with one built from an older revision")
+  void put_keepsNewerRevision() {
+    DetailResponseCache cache = cache(true, 8);
+
+    SerializedDetail newer =
+        cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION.plusSeconds(1), Map.of("id", 2));
+    cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION.plusSeconds(1)))
+        .containsSame(newer);
+  }
+
+  @Test
+  @DisplayName("should give different bodies different entity tags")
+  void put_derivesETagFromBody() {
+    DetailResponseCache cache = cache(true, 8);
+
+    SerializedDetail first = cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+    SerializedDetail second = cache.put(ConfigType.DISTRICT_VOLUME, 2L, REVISION, Map.of("id", 2));
+    SerializedDetail same = cache.put(ConfigType.DISTRICT_VOLUME, 3L, REVISION, Map.of("id", 1));
+
+    assertThat(first.eTag()).isNotEqualTo(second.eTag()).isEqualTo(same.eTag());
+  }
+
+  @Test
+  @DisplayName("should evict only once the surrounding transaction commits")
+  void evict_waitsForCommit() {
+    DetailResponseCache cache = cache(true, 8);
+    cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.evict(ConfigType.DISTRICT_VOLUME, 1L);
+
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION)).isPresent();
+
+    TransactionSynchronizationManager
+        .getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should drop the least recently used body past the bound")
+  void put_evictsLeastRecentlyUsed() {
+    DetailResponseCache cache = cache(true, 2);
+
+    cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+    cache.put(ConfigType.DISTRICT_VOLUME, 2L, REVISION, Map.of("id", 2));
+    cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION);
+    cache.put(ConfigType.DISTRICT_VOLUME, 3L, REVISION, Map.of("id", 3));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION)).isPresent();
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 2L, REVISION)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should serialize without caching when disabled")
+  void put_doesNotCache_whenDisabled() {
+    DetailResponseCache cache = cache(false, 8);
+
+    SerializedDetail stored =
+        cache.put(ConfigType.DISTRICT_VOLUME, 1L, REVISION, Map.of("id", 1));
+
+    assertThat(stored.body()).isNotEmpty();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(ConfigType.DISTRICT_VOLUME, 1L, REVISION)).isEmpty();
+  }
+
+  private DetailResponseCache cache(boolean enabled, int maxEntries) {
+    return new DetailResponseCache(
+        jsonMapper,
+        DetailCacheConfiguration.builder().enabled(enabled).maxEntries(maxEntries).build()
+    );
+  }
+}
@@ -0,0 +1,270 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.BackendConstants;
+import ca.bc.gov.nrs.hrs.cache.LegacyResponseCache.Key;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.LegacyResponseCacheConfiguration;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("Unit Test | LegacyResponseCache")
+class LegacyResponseCacheTest {
+
+  private static final String BREAKER = "legacy-codes-districts";
+  private static final Key KEY = Key.shared("codes-districts");
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2026-03-31T12:00:00Z"));
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setup() {
+    response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest(), response));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should serve a stored read with its age while the breaker is open")
+  void shouldServeStaleWhileOpen() {
+    LegacyResponseCache cache = cache(10);
+    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(BREAKER);
+    breaker.transitionToOpenState();
+    AtomicInteger reloads = new AtomicInteger();
+
+    cache.store(KEY, List.of("DCK"));
+    clock.advance(Duration.ofSeconds(90));
+
+    assertThat(cache.stale(
+        BREAKER,
+        KEY,
+        CallNotPermittedException.createCallNotPermittedException(breaker),
+        () -> List.of("DCK", "DKM", reloads.incrementAndGet())
+    )).contains(List.of("DCK"));
+    assertThat(response.getHeader(BackendConstants.X_STALE)).isEqualTo("90");
+    assertThat(meterRegistry.get(LegacyResponseCache.STALE_COUNTER)
+        .tag("operation", "codes-districts")
+        .counter()
+        .count()).isEqualTo(1);
+    assertThat(reloads).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("should not serve a stored read for a failure other than an unavailable API")
+  void shouldNotServeOnOtherFailures() {
+    LegacyResponseCache cache = cache(10);
+    cache.store(KEY, List.of("DCK"));
+
+    assertThat(cache.stale(
+        BREAKER,
+        KEY,
+        new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR),
+        List::of
+    )).isEmpty();
+    assertThat(response.getHeader(BackendConstants.X_STALE)).isNull();
+  }
+
+  @Test
+  @DisplayName("should not serve a stored read older than the maximum staleness")
+  void shouldNotServeTooOld() {
+    LegacyResponseCache cache = cache(10);
+    cache.store(KEY, List.of("DCK"));
+    clock.advance(Duration.ofHours(2));
+
+    assertThat(cache.stale(BREAKER, KEY, timeout(), List::of)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should revalidate a served read in the background once the breaker allows it")
+  void shouldRevalidate() throws InterruptedException {
+    LegacyResponseCache cache = cache(10);
+    CountDownLatch reloaded = new CountDownLatch(1);
+    cache.store(KEY, List.of("DCK"));
+
+    assertThat(cache.stale(BREAKER, KEY, timeout(), () -> {
+      reloaded.countDown();
+      return List.of("DKM");
+    })).contains(List.of("DCK"));
+
+    assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+    Optional<List<String>> revalidated = Optional.empty();
+    for (int attempt = 0; attempt < 50 && !revalidated.equals(Optional.of(List.of("DKM")));
+        attempt++) {
+      Thread.sleep(20);
+      revalidated = cache.stale(null, KEY, timeout(), () -> List.of("DKM"));
+    }
+    assertThat(revalidated).contains(List.of("DKM"));
+  }
+
+  @Test
+  @DisplayName("should revalidate a read served while open once the breaker recovers")
+  void shouldRevalidateOnRecovery() throws InterruptedException {
+    LegacyResponseCache cache = cache(10);
+    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(BREAKER);
+    AtomicInteger reloads = new AtomicInteger();
+    CountDownLatch reloaded = new CountDownLatch(1);
+    cache.store(KEY, List.of("DCK"));
+    breaker.transitionToOpenState();
+
+    assertThat(cache.stale(
+        BREAKER,
+        KEY,
+        CallNotPermittedException.createCallNotPermittedException(breaker),
+        () -> {
+          reloads.incrementAndGet();
+          reloaded.countDown();
+          return List.of("DKM");
+        }
+    )).contains(List.of("DCK"));
+    Thread.sleep(100);
+    assertThat(reloads).hasValue(0);
+
+    breaker.transitionToHalfOpenState();
+    assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+    breaker.transitionToClosedState();
+
+    Optional<List<String>> revalidated = Optional.empty();
+    for (int attempt = 0; attempt < 50 && !revalidated.equals(Optional.of(List.of("DKM")));
+        attempt++) {
+      Thread.sleep(20);
+      revalidated = cache.stale(null, KEY, timeout(), () -> List.of("DKM"));
+    }
+    assertThat(revalidated).contains(List.of("DKM"));
+    assertThat(reloads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("should revalidate a read turned away by a half-open breaker once it closes")
+  void shouldRevalidateOnClose() throws InterruptedException {
+    LegacyResponseCache cache = cache(10);
+    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(BREAKER,
+        CircuitBreakerConfig.custom().permittedNumberOfCallsInHalfOpenState(1).build());
+    CountDownLatch reloaded = new CountDownLatch(1);
+    cache.store(KEY, List.of("DCK"));
+    breaker.transitionToOpenState();
+    breaker.transitionToHalfOpenState();
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+
+    assertThat(cache.stale(BREAKER, KEY, timeout(), () -> {
+      reloaded.countDown();
+      return List.of("DKM");
+    })).contains(List.of("DCK"));
+    assertThat(reloaded.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+    breaker.transitionToClosedState();
+    assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("should keep user reads apart and skip them without a user")
+  void shouldKeyByUser() {
+    LegacyResponseCache cache = cache(10);
+
+    assertThat(Key.forUser("search", 1L)).isNull();
+
+    authenticate("IDIR\\ALICE");
+    cache.store(Key.forUser("search", 1L), "alice");
+    authenticate("IDIR\\BOB");
+
+    assertThat(cache.stale(null, Key.forUser("search", 1L), timeout(), () -> "bob")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should evict the least recently used read over the bound")
+  void shouldEvictOverBound() {
+    LegacyResponseCache cache = cache(1);
+    cache.store(KEY, List.of("DCK"));
+    cache.store(Key.shared("codes-samplings"), List.of("OCU"));
+
+    assertThat(cache.stale(BREAKER, KEY, timeout(), List::of)).isEmpty();
+  }
+
+  private LegacyResponseCache cache(int maxEntries) {
+    return new LegacyResponseCache(
+        LegacyResponseCacheConfiguration
+            .builder()
+            .maxEntries(maxEntries)
+            .build(),
+        circuitBreakerRegistry,
+        meterRegistry,
+        clock
+    );
+  }
+
+  private static ResourceAccessException timeout() {
+    return new ResourceAccessException("Read timed out");
+  }
+
+  private static void authenticate(String user) {
+    Jwt jwt = Jwt
+        .withTokenValue("token")
+        .header("alg", "none")
+        .claim("custom:idp_username", user.substring(user.indexOf('\\') + 1))
+        .claim("custom:idp_name", "idir")
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    private void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
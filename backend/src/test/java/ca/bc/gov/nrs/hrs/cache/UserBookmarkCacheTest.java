@@ -0,0 +1,171 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.BookmarkCacheConfiguration;
+import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntity;
+import ca.bc.gov.nrs.hrs.repository.UserBookmarkRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("Unit Test | UserBookmarkCache")
+class UserBookmarkCacheTest {
+
+  private static final String USER_ID = "IDIR\\testuser";
+
+  private final UserBookmarkRepository repository = mock(UserBookmarkRepository.class);
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("get should load lazily once and then serve from memory")
+  void get_shouldLoadOnce() {
+    when(repository.findByUserId(USER_ID))
+        .thenReturn(List.of(new UserBookmarkEntity(USER_ID, 2L), new UserBookmarkEntity(USER_ID, 1L)));
+    UserBookmarkCache cache = cache(true, 10);
+
+    assertThat(cache.get(USER_ID).toList()).containsExactly(1L, 2L);
+    assertThat(cache.get(USER_ID).toList()).containsExactly(1L, 2L);
+
+    verify(repository, times(1)).findByUserId(USER_ID);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("get should always hit the repository when disabled")
+  void get_disabled_shouldAlwaysLoad() {
+    when(repository.findByUserId(USER_ID)).thenReturn(List.of());
+    UserBookmarkCache cache = cache(false, 10);
+
+    cache.get(USER_ID);
+    cache.get(USER_ID);
+
+    verify(repository, times(2)).findByUserId(USER_ID);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("get should evict the least recently used user when full")
+  void get_shouldEvictLeastRecentlyUsed() {
+    when(repository.findByUserId(anyString())).thenReturn(List.of());
+    UserBookmarkCache cache = cache(true, 2);
+
+    cache.get("a");
+    cache.get("b");
+    cache.get("a");
+    cache.get("c");
+
+    assertThat(cache.size()).isEqualTo(2);
+    cache.get("a");
+    verify(repository, times(1)).findByUserId("a");
+    cache.get("b");
+    verify(repository, times(2)).findByUserId("b");
+  }
+
+  @Test
+  @DisplayName("added and removed should update the cached set and notify peers")
+  @SuppressWarnings("unchecked")
+  void writeThrough_shouldUpdateAndNotify() {
+    when(repository.findByUserId(USER_ID)).thenReturn(List.of(new UserBookmarkEntity(USER_ID, 1L)));
+    UserBookmarkCache cache = cache(true, 10);
+    cache.get(USER_ID);
+
+    cache.added(USER_ID, 5L);
+    cache.removed(USER_ID, 1L);
+
+    assertThat(cache.get(USER_ID).toList()).containsExactly(5L);
+    verify(repository, times(1)).findByUserId(USER_ID);
+    verify(jdbcTemplate, times(2)).query(
+        eq("SELECT pg_notify(?, ?)"),
+        any(ResultSetExtractor.class),
+        eq("hrs_user_bookmarks"),
+        eq(cache.getInstanceId() + ":" + USER_ID)
+    );
+  }
+
+  @Test
+  @DisplayName("write-through should be deferred until the transaction commits")
+  void writeThrough_shouldWaitForCommit() {
+    when(repository.findByUserId(USER_ID)).thenReturn(List.of());
+    UserBookmarkCache cache = cache(true, 10);
+    cache.get(USER_ID);
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.added(USER_ID, 7L);
+
+    assertThat(cache.get(USER_ID).isEmpty()).isTrue();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(cache.get(USER_ID).toList()).containsExactly(7L);
+  }
+
+  @Test
+  @DisplayName("changes should not touch the database when disabled")
+  void writeThrough_disabled_shouldDoNothing() {
+    UserBookmarkCache cache = cache(false, 10);
+
+    cache.added(USER_ID, 7L);
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("listener should invalidate peers and ignore its own notifications")
+  void listener_shouldInvalidatePeersOnly() {
+    when(repository.findByUserId(anyString())).thenReturn(List.of());
+    UserBookmarkCache cache = cache(true, 10);
+    UserCacheInvalidationListener listener = new UserCacheInvalidationListener(
+        List.of(cache), "jdbc:postgresql://localhost/none", "u", "p");
+    cache.get(USER_ID);
+    cache.get("other");
+
+    listener.handle("hrs_user_bookmarks", cache.getInstanceId() + ":" + USER_ID);
+    assertThat(cache.size()).isEqualTo(2);
+
+    listener.handle("another_channel", "another-pod:" + USER_ID);
+    assertThat(cache.size()).isEqualTo(2);
+
+    listener.handle("hrs_user_bookmarks", "another-pod:" + USER_ID);
+    assertThat(cache.size()).isEqualTo(1);
+
+    listener.handle("hrs_user_bookmarks", "garbage");
+    assertThat(cache.size()).isZero();
+  }
+
+  private UserBookmarkCache cache(boolean enabled, int maxUsers) {
+    HrsConfiguration configuration = HrsConfiguration
+        .builder()
+        .bookmarkCache(
+            BookmarkCacheConfiguration
+                .builder()
+                .enabled(enabled)
+                .maxUsers(maxUsers)
+                .build()
+        )
+        .build();
+    return new UserBookmarkCache(configuration, repository, jdbcTemplate);
+  }
+}
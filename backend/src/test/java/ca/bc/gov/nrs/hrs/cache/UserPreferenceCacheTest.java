@@ -0,0 +1,144 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.PreferenceCacheConfiguration;
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("Unit Test | UserPreferenceCache")
+class UserPreferenceCacheTest {
+
+  private static final String USER_ID = "IDIR\\testuser";
+
+  private final UserPreferenceRepository repository = mock(UserPreferenceRepository.class);
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("get should load once and stamp the snapshot with the row revision")
+  void get_shouldLoadOnceWithRevision() {
+    when(repository.findById(USER_ID)).thenReturn(Optional.of(entity(Map.of("theme", "dark"), 4L)));
+    UserPreferenceCache cache = cache(true);
+
+    VersionedPreferences first = cache.get(USER_ID);
+    VersionedPreferences second = cache.get(USER_ID);
+
+    assertThat(first.preferences()).containsEntry("theme", "dark");
+    assertThat(first.revision()).isEqualTo(4L);
+    assertThat(second).isSameAs(first);
+    verify(repository, times(1)).findById(USER_ID);
+  }
+
+  @Test
+  @DisplayName("get should return an empty snapshot for users without preferences")
+  void get_missing_shouldReturnEmpty() {
+    when(repository.findById(USER_ID)).thenReturn(Optional.empty());
+
+    VersionedPreferences preferences = cache(true).get(USER_ID);
+
+    assertThat(preferences.preferences()).isEmpty();
+    assertThat(preferences.revision()).isZero();
+  }
+
+  @Test
+  @DisplayName("get should always hit the repository when disabled")
+  void get_disabled_shouldAlwaysLoad() {
+    when(repository.findById(USER_ID)).thenReturn(Optional.empty());
+    UserPreferenceCache cache = cache(false);
+
+    cache.get(USER_ID);
+    cache.get(USER_ID);
+
+    verify(repository, times(2)).findById(USER_ID);
+  }
+
+  @Test
+  @DisplayName("updated should keep the snapshot with the highest revision")
+  void updated_shouldKeepNewestRevision() {
+    UserPreferenceCache cache = cache(true);
+
+    cache.updated(USER_ID, new VersionedPreferences(Map.of("theme", "light"), 3L));
+    cache.updated(USER_ID, new VersionedPreferences(Map.of("theme", "dark"), 2L));
+
+    assertThat(cache.get(USER_ID).preferences()).containsEntry("theme", "light");
+    assertThat(cache.get(USER_ID).revision()).isEqualTo(3L);
+    verify(repository, times(0)).findById(USER_ID);
+  }
+
+  @Test
+  @DisplayName("updated should be applied only after the transaction commits")
+  void updated_shouldWaitForCommit() {
+    when(repository.findById(USER_ID)).thenReturn(Optional.empty());
+    UserPreferenceCache cache = cache(true);
+    cache.get(USER_ID);
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.updated(USER_ID, new VersionedPreferences(Map.of("theme", "dark"), 1L));
+
+    assertThat(cache.get(USER_ID).preferences()).isEmpty();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(cache.get(USER_ID).preferences()).containsEntry("theme", "dark");
+  }
+
+  @Test
+  @DisplayName("listener should route notifications to the preference cache by channel")
+  void listener_shouldRouteByChannel() {
+    when(repository.findById(USER_ID)).thenReturn(Optional.empty());
+    UserPreferenceCache cache = cache(true);
+    UserCacheInvalidationListener listener = new UserCacheInvalidationListener(
+        List.of(cache), "jdbc:postgresql://localhost/none", "u", "p");
+    cache.get(USER_ID);
+
+    listener.handle("hrs_user_bookmarks", "another-pod:" + USER_ID);
+    assertThat(cache.size()).isEqualTo(1);
+
+    listener.handle("hrs_user_preferences", "another-pod:" + USER_ID);
+    assertThat(cache.size()).isZero();
+  }
+
+  private static UserPreferenceEntity entity(Map<String, Object> preferences, long revision) {
+    return UserPreferenceEntity
+        .builder()
+        .userId(USER_ID)
+        .preferences(preferences)
+        .revision(revision)
+        .build();
+  }
+
+  private UserPreferenceCache cache(boolean enabled) {
+    HrsConfiguration configuration = HrsConfiguration
+        .builder()
+        .preferenceCache(
+            PreferenceCacheConfiguration
+                .builder()
+                .enabled(enabled)
+                .build()
+        )
+        .build();
+    return new UserPreferenceCache(configuration, repository, jdbcTemplate);
+  }
+}
@@ -0,0 +1,64 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Sends the browser preflight of the frontend through the whole filter chain. Preflights are
+ * answered before authentication, so no database is needed.
+ */
+@AutoConfigureMockMvc
+@DisplayName("Unit Test | CorsConfiguration")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:1/hrs",
+        "spring.datasource.hikari.initialization-fail-timeout=-1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+        "ca.bc.gov.nrs.active-configuration.enabled=false"
+    }
+)
+class CorsConfigurationTest {
+
+  private static final String FRONTEND = "http://localhost:3000";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("should allow the frontend to patch the user preferences")
+  void shouldAllowPatchPreflight() throws Exception {
+    mockMvc
+        .perform(options("/api/users/preferences")
+            .header(HttpHeaders.ORIGIN, FRONTEND)
+            .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+            .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, FRONTEND))
+        .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+            containsString("PATCH")));
+  }
+
+  @Test
+  @DisplayName("should refuse a preflight from another origin")
+  void shouldRefuseOtherOrigin() throws Exception {
+    mockMvc
+        .perform(options("/api/users/preferences")
+            .header(HttpHeaders.ORIGIN, "https://example.com")
+            .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH"))
+        .andExpect(status().isForbidden());
+  }
+}
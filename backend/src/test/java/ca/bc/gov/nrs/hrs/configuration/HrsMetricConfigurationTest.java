@@ -0,0 +1,104 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.MeterDistributionConfiguration;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("Unit Test | HrsMetricConfiguration")
+class HrsMetricConfigurationTest {
+
+  @Test
+  @DisplayName("distribution should apply the default percentiles and timer SLO buckets")
+  void distribution_appliesDefaults() {
+    DistributionStatisticConfig config = configure(
+        HrsMetricConfiguration.distribution(Map.of()), "http.server.requests", Meter.Type.TIMER);
+
+    assertThat(config.getPercentiles()).containsExactly(0.5, 0.95, 0.99);
+    assertThat(config.getServiceLevelObjectiveBoundaries())
+        .hasSize(9)
+        .startsWith((double) Duration.ofMillis(100).toNanos());
+  }
+
+  @Test
+  @DisplayName("distribution should not apply timer SLO buckets to summaries")
+  void distribution_skipsTimerBucketsForSummaries() {
+    DistributionStatisticConfig config = configure(
+        HrsMetricConfiguration.distribution(Map.of()),
+        "hrs.search.results",
+        Meter.Type.DISTRIBUTION_SUMMARY);
+
+    assertThat(config.getPercentiles()).containsExactly(0.5, 0.95, 0.99);
+    assertThat(config.getServiceLevelObjectiveBoundaries()).isNullOrEmpty();
+  }
+
+  @Test
+  @DisplayName("distribution should apply the most specific override by meter name prefix")
+  void distribution_appliesMostSpecificOverride() {
+    MeterFilter filter = HrsMetricConfiguration.distribution(Map.of(
+        "hrs.upstream", MeterDistributionConfiguration
+            .builder()
+            .percentiles(List.of(0.9))
+            .build(),
+        "hrs.upstream.requests", MeterDistributionConfiguration
+            .builder()
+            .slo(List.of(Duration.ofMillis(50)))
+            .build(),
+        "hrs.upstream.response.size", MeterDistributionConfiguration
+            .builder()
+            .sizeSlo(List.of(DataSize.ofKilobytes(1)))
+            .build()
+    ));
+
+    DistributionStatisticConfig timer =
+        configure(filter, "hrs.upstream.requests", Meter.Type.TIMER);
+    DistributionStatisticConfig summary =
+        configure(filter, "hrs.upstream.response.size", Meter.Type.DISTRIBUTION_SUMMARY);
+    DistributionStatisticConfig other =
+        configure(filter, "hrs.upstream.other", Meter.Type.TIMER);
+
+    assertThat(timer.getPercentiles()).containsExactly(0.5, 0.95, 0.99);
+    assertThat(timer.getServiceLevelObjectiveBoundaries())
+        .containsExactly((double) Duration.ofMillis(50).toNanos());
+    assertThat(summary.getServiceLevelObjectiveBoundaries()).containsExactly(1024.0);
+    assertThat(other.getPercentiles()).containsExactly(0.9);
+    assertThat(other.getServiceLevelObjectiveBoundaries()).hasSize(9);
+  }
+
+  @Test
+  @DisplayName("boundedTag should fold the values past the limit into a single series")
+  void boundedTag_foldsOverflowingValues() {
+    MeterFilter filter = HrsMetricConfiguration.boundedTag("hrs.search", "shape", 2);
+
+    assertThat(shape(filter, "hrs.search.requests", "district")).isEqualTo("district");
+    assertThat(shape(filter, "hrs.search.results", "status")).isEqualTo("status");
+    assertThat(shape(filter, "hrs.search.requests", "district")).isEqualTo("district");
+    assertThat(shape(filter, "hrs.search.requests", "timberMark"))
+        .isEqualTo(HrsMetricConfiguration.OVERFLOW_TAG_VALUE);
+    assertThat(shape(filter, "http.server.requests", "timberMark")).isEqualTo("timberMark");
+  }
+
+  private static DistributionStatisticConfig configure(
+      MeterFilter filter,
+      String name,
+      Meter.Type type
+  ) {
+    Meter.Id id = new Meter.Id(name, Tags.empty(), null, null, type);
+    return filter.configure(id, DistributionStatisticConfig.builder().build());
+  }
+
+  private static String shape(MeterFilter filter, String name, String shape) {
+    return filter
+        .map(new Meter.Id(name, Tags.of("shape", shape), null, null, Meter.Type.TIMER))
+        .getTag("shape");
+  }
+}
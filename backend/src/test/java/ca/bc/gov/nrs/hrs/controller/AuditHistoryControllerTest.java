@@ -0,0 +1,175 @@
+package ca.bc.gov.nrs.hrs.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ca.bc.gov.nrs.hrs.dto.audit.AuditChangeDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryPageDto;
+import ca.bc.gov.nrs.hrs.service.AuditHistoryService;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | Audit History Controller")
+class AuditHistoryControllerTest {
+
+  private static final Instant CHANGED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+  @Mock
+  private AuditHistoryService auditHistoryService;
+
+  private MockMvc mockMvc;
+  private JsonMapper jsonMapper;
+
+  @BeforeEach
+  void setUp() {
+    jsonMapper = JsonMapper.builder().findAndAddModules().build();
+    mockMvc = MockMvcBuilders
+        .standaloneSetup(new AuditHistoryController(auditHistoryService, jsonMapper))
+        .setMessageConverters(new JacksonJsonHttpMessageConverter(jsonMapper))
+        .build();
+  }
+
+  @Test
+  @DisplayName("GET /{entityType}/{entityId} — Should return a page of changed-column diffs")
+  void getEntityHistory_returnsPage() throws Exception {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto("DISTRICT_VOLUME", 7L, null, null, null, false, null);
+    when(auditHistoryService.getHistory(filter, 25))
+        .thenReturn(new AuditHistoryPageDto(List.of(change(10L)), "next"));
+
+    mockMvc.perform(
+            get("/api/audit/DISTRICT_VOLUME/7")
+                .param("size", "25")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changes[0].id").value(10L))
+        .andExpect(jsonPath("$.changes[0].changedColumns[0]").value("end_date"))
+        .andExpect(jsonPath("$.changes[0].currentValues.end_date").value("2026-12-31"))
+        .andExpect(jsonPath("$.nextCursor").value("next"));
+  }
+
+  @Test
+  @DisplayName("GET / — Should pass the user, time window and cursor to the service")
+  void getHistory_passesFilter() throws Exception {
+    Instant from = Instant.parse("2026-01-01T00:00:00Z");
+    Instant to = Instant.parse("2026-02-01T00:00:00Z");
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto(null, null, "IDIR/JDOE", from, to, true, "abc");
+    when(auditHistoryService.getHistory(filter, null))
+        .thenReturn(new AuditHistoryPageDto(List.of(), null));
+
+    mockMvc.perform(
+            get("/api/audit")
+                .param("changedBy", "IDIR/JDOE")
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("snapshots", "true")
+                .param("cursor", "abc")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changes").isEmpty())
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("GET /{entityType}/{entityId} — Should stream changes as NDJSON when requested")
+  @SuppressWarnings("unchecked")
+  void streamEntityHistory_writesOneChangePerLine() throws Exception {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto("DISTRICT_VOLUME", 7L, null, null, null, false, null);
+    when(auditHistoryService.validate(filter)).thenReturn(filter);
+    doAnswer(invocation -> {
+      Consumer<AuditChangeDto> sink = invocation.getArgument(1);
+      sink.accept(change(10L));
+      sink.accept(change(9L));
+      return null;
+    }).when(auditHistoryService).streamHistory(eq(filter), any(Consumer.class));
+
+    MvcResult result = mockMvc.perform(
+            get("/api/audit/DISTRICT_VOLUME/7")
+                .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(
+            jsonMapper.writeValueAsString(change(10L)) + "\n"
+                + jsonMapper.writeValueAsString(change(9L)) + "\n"));
+  }
+
+  @Test
+  @DisplayName("GET / — Should reject an invalid stream before it starts")
+  void streamHistory_returns400_whenFilterInvalid() throws Exception {
+    when(auditHistoryService.validate(any()))
+        .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid entity type."));
+
+    mockMvc.perform(
+            get("/api/audit")
+                .param("entityType", "UNKNOWN")
+                .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(status().isBadRequest());
+
+    verify(auditHistoryService).validate(
+        eq(new AuditHistoryFilterDto("UNKNOWN", null, null, null, null, false, null)));
+    verifyNoMoreInteractions(auditHistoryService);
+  }
+
+  @Test
+  @DisplayName("GET /{entityType}/{entityId} — Should return 400 when the service rejects it")
+  void getEntityHistory_returns400_whenServiceRejects() throws Exception {
+    when(auditHistoryService.getHistory(any(), isNull()))
+        .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor."));
+
+    mockMvc.perform(
+            get("/api/audit/DISTRICT_VOLUME/7")
+                .param("cursor", "bad")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+  }
+
+  private AuditChangeDto change(Long id) {
+    return new AuditChangeDto(
+        id,
+        id + 100,
+        "DISTRICT_VOLUME",
+        7L,
+        "UPDATE",
+        "IDIR/JDOE",
+        CHANGED_AT,
+        null,
+        null,
+        List.of("end_date"),
+        jsonMapper.createObjectNode().putNull("end_date"),
+        jsonMapper.createObjectNode().put("end_date", "2026-12-31"));
+  }
+}
@@ -56,8 +56,7 @@ class CodesControllerIntegrationTest extends AbstractTestContainerIntegrationTes
   public void setUp() {
     clientApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
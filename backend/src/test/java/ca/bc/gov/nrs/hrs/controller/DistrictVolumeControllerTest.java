@@ -8,10 +8,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
@@ -19,6 +22,7 @@ import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwtSecurityContextFactory;
 import ca.bc.gov.nrs.hrs.service.DistrictVolumeService;
+import ca.bc.gov.nrs.hrs.service.TableImportService;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -40,9 +44,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -62,12 +69,17 @@ class DistrictVolumeControllerTest {
   private MockMvc mockMvc;
   private JsonMapper objectMapper;
 
+  private static final String ETAG = "\"5d41402abc4b2a76\"";
+
   private static final Instant FIXED_DATE =
       Instant.parse("2024-01-01T00:00:00Z");
 
   @Mock
   private DistrictVolumeService districtVolumeService;
 
+  @Mock
+  private TableImportService tableImportService;
+
   @InjectMocks
   private DistrictVolumeController districtVolumeController;
 
@@ -124,6 +136,7 @@ class DistrictVolumeControllerTest {
                   }
                 })
             .setMessageConverters(
+                new ByteArrayHttpMessageConverter(),
                 new JacksonJsonHttpMessageConverter(mapper))
             .build();
   }
@@ -253,13 +266,15 @@ class DistrictVolumeControllerTest {
             null,
             interiorData);
 
-    when(districtVolumeService.getDistrictVolumeById(1L))
-        .thenReturn(detailDto);
+    when(districtVolumeService.getSerializedDistrictVolumeById(1L))
+        .thenReturn(serialized(detailDto));
 
     mockMvc.perform(
             get("/api/configuration/district-average-volumes/1")
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
         .andExpect(jsonPath("$.id").value(1L))
         .andExpect(jsonPath("$.area").value("INTERIOR"))
         .andExpect(
@@ -276,7 +291,7 @@ class DistrictVolumeControllerTest {
   void getDistrictVolumeById_returns404_whenNotFound()
       throws Exception {
 
-    when(districtVolumeService.getDistrictVolumeById(99L))
+    when(districtVolumeService.getSerializedDistrictVolumeById(99L))
         .thenThrow(
             new ResponseStatusException(
                 HttpStatus.NOT_FOUND,
@@ -288,6 +303,22 @@ class DistrictVolumeControllerTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName(
+      "GET /{id} — Should return 304 Not Modified when the ETag matches")
+  void getDistrictVolumeById_returns304_whenETagMatches() throws Exception {
+
+    when(districtVolumeService.getSerializedDistrictVolumeById(1L))
+        .thenReturn(new SerializedDetail(MOCK_UPLOAD_TIME, "{}".getBytes(), ETAG));
+
+    mockMvc.perform(
+            get("/api/configuration/district-average-volumes/1")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().bytes(new byte[0]));
+  }
+
   @Test
   @DisplayName(
       "POST / — Should return 201 Created with Location header "
@@ -445,4 +476,30 @@ class DistrictVolumeControllerTest {
         .deleteDistrictVolume(eq("IDIR\\jakethedog"), eq(42L));
   }
 
+  @Test
+  @DisplayName(
+      "POST /import — Should return 200 OK with typed table data read from the upload")
+  void importDistrictVolumeTable_returnsTableData() throws Exception {
+
+    MockMultipartFile file = new MockMultipartFile(
+        "file",
+        "interior.csv",
+        "text/csv",
+        "Zone,District".getBytes());
+
+    when(tableImportService.importDistrictVolumeTable(eq("INTERIOR"), any()))
+        .thenReturn(new InteriorDataDto(Collections.emptyList(), Collections.emptyMap()));
+
+    mockMvc.perform(
+            multipart("/api/configuration/district-average-volumes/import")
+                .file(file)
+                .param("area", "INTERIOR"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.type").value("INTERIOR"))
+        .andExpect(jsonPath("$.zones").isArray());
+  }
+
+  private SerializedDetail serialized(DistrictVolumeDetailDto detail) {
+    return new SerializedDetail(MOCK_UPLOAD_TIME, objectMapper.writeValueAsBytes(detail), ETAG);
   }
+}
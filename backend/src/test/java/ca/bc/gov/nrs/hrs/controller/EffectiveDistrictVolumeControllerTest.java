@@ -0,0 +1,145 @@
+package ca.bc.gov.nrs.hrs.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeBatchDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeLookupDto;
+import ca.bc.gov.nrs.hrs.service.DistrictVolumeService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class EffectiveDistrictVolumeControllerTest {
+
+  private MockMvc mockMvc;
+  private JsonMapper objectMapper;
+
+  @Mock
+  private DistrictVolumeService districtVolumeService;
+
+  @InjectMocks
+  private EffectiveDistrictVolumeController effectiveDistrictVolumeController;
+
+  @BeforeEach
+  void setUp() {
+    this.objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    this.mockMvc =
+        MockMvcBuilders.standaloneSetup(effectiveDistrictVolumeController)
+            .setMessageConverters(new JacksonJsonHttpMessageConverter(objectMapper))
+            .build();
+  }
+
+  @Test
+  @DisplayName(
+      "GET /effective — Should return 200 OK with the matching row")
+  void getEffectiveDistrictVolume_returnsRow() throws Exception {
+
+    LocalDate date = LocalDate.of(2026, Month.MARCH, 1);
+    when(districtVolumeService.getEffectiveDistrictVolume("DND", date))
+        .thenReturn(Optional.of(effective("DND", date)));
+
+    mockMvc.perform(
+            get("/api/district-volumes/effective")
+                .param("district", "DND")
+                .param("date", "2026-03-01")
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.district").value("DND"))
+        .andExpect(jsonPath("$.configurationId").value(3L))
+        .andExpect(jsonPath("$.avoidableGrade4").value(2.5))
+        .andExpect(jsonPath("$.heliMultiplier").doesNotExist());
+  }
+
+  @Test
+  @DisplayName(
+      "GET /effective — Should return 404 Not Found when no configuration applies")
+  void getEffectiveDistrictVolume_returns404_whenNotFound() throws Exception {
+
+    when(districtVolumeService.getEffectiveDistrictVolume(eq("XYZ"), any(LocalDate.class)))
+        .thenReturn(Optional.empty());
+
+    mockMvc.perform(
+            get("/api/district-volumes/effective")
+                .param("district", "XYZ")
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName(
+      "POST /effective — Should return 200 OK with the rows of every matching pair")
+  void getEffectiveDistrictVolumes_returnsRows() throws Exception {
+
+    LocalDate date = LocalDate.of(2026, Month.MARCH, 1);
+    List<EffectiveDistrictVolumeLookupDto> lookups = List.of(
+        new EffectiveDistrictVolumeLookupDto("DND", date),
+        new EffectiveDistrictVolumeLookupDto("XYZ", date));
+    when(districtVolumeService.getEffectiveDistrictVolumes(lookups))
+        .thenReturn(List.of(effective("DND", date)));
+
+    mockMvc.perform(
+            post("/api/district-volumes/effective")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new EffectiveDistrictVolumeBatchDto(lookups))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].district").value("DND"))
+        .andExpect(jsonPath("$[0].date").value("2026-03-01"));
+  }
+
+  @Test
+  @DisplayName(
+      "POST /effective — Should return 400 Bad Request when the batch is empty")
+  void getEffectiveDistrictVolumes_returns400_whenEmpty() throws Exception {
+
+    mockMvc.perform(
+            post("/api/district-volumes/effective")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new EffectiveDistrictVolumeBatchDto(List.of()))))
+        .andExpect(status().isBadRequest());
+  }
+
+  private static EffectiveDistrictVolumeDto effective(String district, LocalDate date) {
+    return new EffectiveDistrictVolumeDto(
+        district,
+        date,
+        3L,
+        "INTERIOR",
+        LocalDate.of(2026, Month.JANUARY, 1),
+        null,
+        new BigDecimal("1.150"),
+        null,
+        new BigDecimal("1.250"),
+        new BigDecimal("2.500"),
+        new BigDecimal("0.750"),
+        null,
+        null,
+        null,
+        new BigDecimal("4.500"));
+  }
+}
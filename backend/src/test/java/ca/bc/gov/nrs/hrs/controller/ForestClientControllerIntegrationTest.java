@@ -79,8 +79,7 @@ class ForestClientControllerIntegrationTest extends AbstractTestContainerIntegra
 
   @BeforeEach
   public void resetCircuitBreaker() {
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
@@ -80,8 +80,7 @@ class ReportingUnitControllerIntegrationTest extends AbstractTestContainerIntegr
     clientApiStub.resetAll();
     legacyApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
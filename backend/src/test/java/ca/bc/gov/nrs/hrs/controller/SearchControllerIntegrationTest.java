@@ -87,8 +87,7 @@ class SearchControllerIntegrationTest extends AbstractTestContainerIntegrationTe
     legacyApiStub.resetAll();
     clientApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
@@ -448,8 +447,9 @@ class SearchControllerIntegrationTest extends AbstractTestContainerIntegrationTe
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
         .andExpect(status().isAccepted());
 
+    // bookmarked ids are sent to legacy in the request body
     legacyApiStub.stubFor(
-        WireMock.get(urlPathEqualTo("/api/search/reporting-units"))
+        WireMock.post(urlPathEqualTo("/api/search/reporting-units"))
             .willReturn(
                 okJson(ForestClientApiProviderTestConstants.REPORTING_UNITS_SEARCH_RESPONSE))
     );
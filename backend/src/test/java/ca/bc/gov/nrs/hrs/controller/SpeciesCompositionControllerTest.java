@@ -8,18 +8,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.SpeciesCompositionTableDataDto;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwtSecurityContextFactory;
 import ca.bc.gov.nrs.hrs.service.SpeciesCompositionService;
+import ca.bc.gov.nrs.hrs.service.TableImportService;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -41,9 +46,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -63,12 +71,17 @@ class SpeciesCompositionControllerTest {
   private MockMvc mockMvc;
   private JsonMapper objectMapper;
 
+  private static final String ETAG = "\"5d41402abc4b2a76\"";
+
   private static final Instant FIXED_DATE =
       Instant.parse("2024-01-01T00:00:00Z");
 
   @Mock
   private SpeciesCompositionService speciesCompositionService;
 
+  @Mock
+  private TableImportService tableImportService;
+
   @InjectMocks
   private SpeciesCompositionController speciesCompositionController;
 
@@ -125,6 +138,7 @@ class SpeciesCompositionControllerTest {
                   }
                 })
             .setMessageConverters(
+                new ByteArrayHttpMessageConverter(),
                 new JacksonJsonHttpMessageConverter(mapper))
             .build();
   }
@@ -254,13 +268,15 @@ class SpeciesCompositionControllerTest {
             null,
             interiorData);
 
-    when(speciesCompositionService.getSpeciesCompositionById(1L))
-        .thenReturn(detailDto);
+    when(speciesCompositionService.getSerializedSpeciesCompositionById(1L))
+        .thenReturn(serialized(detailDto));
 
     mockMvc.perform(
             get("/api/configuration/species-compositions/1")
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
         .andExpect(jsonPath("$.id").value(1L))
         .andExpect(jsonPath("$.area").value("INTERIOR"))
         .andExpect(
@@ -277,7 +293,7 @@ class SpeciesCompositionControllerTest {
   void getSpeciesCompositionById_returns404_whenNotFound()
       throws Exception {
 
-    when(speciesCompositionService.getSpeciesCompositionById(99L))
+    when(speciesCompositionService.getSerializedSpeciesCompositionById(99L))
         .thenThrow(
             new ResponseStatusException(
                 HttpStatus.NOT_FOUND,
@@ -289,6 +305,22 @@ class SpeciesCompositionControllerTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName(
+      "GET /{id} — Should return 304 Not Modified when the ETag matches")
+  void getSpeciesCompositionById_returns304_whenETagMatches() throws Exception {
+
+    when(speciesCompositionService.getSerializedSpeciesCompositionById(1L))
+        .thenReturn(new SerializedDetail(MOCK_UPLOAD_TIME, "{}".getBytes(), ETAG));
+
+    mockMvc.perform(
+            get("/api/configuration/species-compositions/1")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().bytes(new byte[0]));
+  }
+
   @Test
   @DisplayName(
       "POST / — Should return 201 Created with Location header "
@@ -446,4 +478,30 @@ class SpeciesCompositionControllerTest {
         .deleteSpeciesComposition(eq("IDIR\\jakethedog"), eq(42L));
   }
 
-  }
\ No newline at end of file
+  
+  @Test
+  @DisplayName(
+      "POST /import — Should return 200 OK with typed table data read from the upload")
+  void importSpeciesCompositionTable_returnsTableData() throws Exception {
+
+    MockMultipartFile file = new MockMultipartFile(
+        "file",
+        "species.csv",
+        "text/csv",
+        "District,FD".getBytes());
+
+    when(tableImportService.importSpeciesCompositionTable(any()))
+        .thenReturn(new SpeciesCompositionTableDataDto(Collections.emptyList()));
+
+    mockMvc.perform(
+            multipart("/api/configuration/species-compositions/import")
+                .file(file))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.type").value("SPECIES_COMPOSITION"))
+        .andExpect(jsonPath("$.rows").isArray());
+  }
+
+  private SerializedDetail serialized(DistrictVolumeDetailDto detail) {
+    return new SerializedDetail(MOCK_UPLOAD_TIME, objectMapper.writeValueAsBytes(detail), ETAG);
+  }
+}
@@ -103,5 +103,35 @@ class UserBookmarkControllerIntegrationTest extends AbstractTestContainerIntegra
         .andReturn();
   }
 
-}
+  @Test
+  @DisplayName("Bulk add should ignore already bookmarked reporting units")
+  @Order(4)
+  void bulkAdd_shouldIgnoreExisting() throws Exception {
+    mockMvc
+        .perform(
+            put("/api/users/bookmarks")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .content("[%d, %d, %d]".formatted(REPORTING_UNIT_A, REPORTING_UNIT_B,
+                    REPORTING_UNIT_A))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(status().isAccepted())
+        .andReturn();
+  }
 
+  @Test
+  @DisplayName("Bulk delete should remove all listed bookmarks")
+  @Order(5)
+  void bulkDelete_shouldRemoveAll() throws Exception {
+    mockMvc
+        .perform(
+            delete("/api/users/bookmarks")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .content("[%d, %d, 99999]".formatted(REPORTING_UNIT_A, REPORTING_UNIT_B))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(status().isNoContent())
+        .andReturn();
+  }
+
+}
@@ -1,6 +1,9 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
@@ -8,6 +11,7 @@ import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,7 +31,7 @@ class UserPreferenceConcurrencyIntegrationTest extends AbstractTestContainerInte
   private MockMvc mockMvc;
 
   @Test
-  @DisplayName("Concurrent updates should succeed due to retry mechanism")
+  @DisplayName("Concurrent updates should succeed without optimistic lock failures")
   void concurrentUpdates_shouldSucceed() throws Exception {
     SecurityContext securityContext = SecurityContextHolder.getContext();
     String preferencesJson1 = "{\"theme\": \"dark\"}";
@@ -70,4 +74,41 @@ class UserPreferenceConcurrencyIntegrationTest extends AbstractTestContainerInte
     CompletableFuture.allOf(task1, task2).join();
     executor.shutdown();
   }
+
+  @Test
+  @DisplayName("Concurrent patches of different keys should all be kept")
+  void concurrentPatches_shouldMergeAllKeys() throws Exception {
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+
+    mockMvc.perform(put("/api/users/preferences")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{}")
+        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(status().isAccepted());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    CompletableFuture<?>[] tasks = IntStream
+        .range(0, 8)
+        .mapToObj(index -> CompletableFuture.runAsync(() -> {
+          SecurityContextHolder.setContext(securityContext);
+          try {
+            mockMvc.perform(patch("/api/users/preferences")
+                .contentType("application/merge-patch+json")
+                .content("{\"key" + index + "\": " + index + "}")
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk());
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+    executor.shutdown();
+
+    mockMvc.perform(get("/api/users/preferences"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.key0").value(0))
+        .andExpect(jsonPath("$.key7").value(7));
+  }
 }
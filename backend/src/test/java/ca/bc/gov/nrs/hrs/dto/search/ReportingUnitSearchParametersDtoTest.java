@@ -62,5 +62,45 @@ class ReportingUnitSearchParametersDtoTest {
 
     assertThat(multiMap.get("reportingUnitIds")).isNull();
   }
-}
 
+  @Test
+  @DisplayName("toRequestBody should keep ids numeric and single values unwrapped")
+  void toRequestBody_shouldNormalizeValues() {
+    var dto = ReportingUnitSearchParametersDto.builder()
+        .mainSearchTerm("abc")
+        .district(List.of("dnd"))
+        .reportingUnitIds(List.of(100L, 200L))
+        .build();
+
+    var body = dto.toRequestBody();
+
+    assertThat(body)
+        .containsEntry("mainSearchTerm", "ABC")
+        .containsEntry("district", List.of("DND"))
+        .containsEntry("requestByMe", "false")
+        .containsEntry("reportingUnitIds", List.of(100L, 200L))
+        .doesNotContainKeys("page", "size");
+  }
+
+  @Test
+  @DisplayName("filterShape should list the set filters without their values")
+  void filterShape_shouldListSetFiltersOnly() {
+    var dto = ReportingUnitSearchParametersDto.builder()
+        .district(List.of("DND"))
+        .status(List.of("DFT"))
+        .clientNumbers(List.of("00010002"))
+        .multiMark(true)
+        .mainSearchTerm(" ")
+        .reportingUnitIds(List.of(100L))
+        .build();
+
+    assertThat(dto.filterShape()).isEqualTo("district+status+multiMark+clientNumbers");
+  }
+
+  @Test
+  @DisplayName("filterShape should return none when no filter is set")
+  void filterShape_noFilters_shouldReturnNone() {
+    assertThat(ReportingUnitSearchParametersDto.builder().build().filterShape())
+        .isEqualTo("none");
+  }
+}
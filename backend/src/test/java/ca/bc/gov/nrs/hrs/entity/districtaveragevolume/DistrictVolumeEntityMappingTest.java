@@ -41,7 +41,9 @@ public class DistrictVolumeEntityMappingTest
 
     DistrictVolumeEntity entity = new DistrictVolumeEntity();
     entity.setArea(Area.INTERIOR);
-    entity.setStartDate(LocalDate.of(2026, 1, 1));
+    // before the seeded INTERIOR configuration, which is open-ended from 2020
+    entity.setStartDate(LocalDate.of(2019, 1, 1));
+    entity.setEndDate(LocalDate.of(2019, 1, 31));
     entity.setTableData(tableData);
     entity.setTableLevelFactor(new BigDecimal("1.234").setScale(3));
     entity.setHeliMultiplier(null);
@@ -0,0 +1,88 @@
+package ca.bc.gov.nrs.hrs.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | CsvTabularReader")
+class CsvTabularReaderTest {
+
+  @Test
+  @DisplayName("should split quoted and unquoted fields and report the starting line of each row")
+  void next_readsRecordsWithLineNumbers() throws IOException {
+    String csv = "\uFEFFZone,District,Total\r\n"
+        + "\r\n"
+        + "\"Dry belt\",DKM,\"1,5\"\n"
+        + "\"Wet\nbelt\",\"D\"\"X\",\n"
+        + "Wet belt,DND,3";
+
+    try (CsvTabularReader reader = reader(csv)) {
+      assertThat(reader.next()).containsExactly("Zone", "District", "Total");
+      assertThat(reader.rowNumber()).isEqualTo(1);
+
+      assertThat(reader.next()).containsExactly("Dry belt", "DKM", "1,5");
+      assertThat(reader.rowNumber()).isEqualTo(3);
+
+      assertThat(reader.next()).containsExactly("Wet\nbelt", "D\"X", "");
+      assertThat(reader.rowNumber()).isEqualTo(4);
+
+      assertThat(reader.next()).containsExactly("Wet belt", "DND", "3");
+      assertThat(reader.rowNumber()).isEqualTo(6);
+
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("should skip rows with only blank fields")
+  void next_skipsBlankRows() throws IOException {
+    try (CsvTabularReader reader = reader("a,b\n , \n,\nc,d\n")) {
+      assertThat(reader.next()).containsExactly("a", "b");
+      assertThat(reader.next()).containsExactly("c", "d");
+      assertThat(reader.rowNumber()).isEqualTo(4);
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("should reject an unterminated quoted field")
+  void next_rejectsUnterminatedQuote() throws IOException {
+    try (CsvTabularReader reader = reader("a,\"b\nc")) {
+      assertThatThrownBy(reader::next)
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("Unterminated quoted field");
+    }
+  }
+
+  @Test
+  @DisplayName("should reject text after a closing quote")
+  void next_rejectsTextAfterQuote() throws IOException {
+    try (CsvTabularReader reader = reader("\"a\"b,c")) {
+      assertThatThrownBy(reader::next)
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("line 1");
+    }
+  }
+
+  @Test
+  @DisplayName("should return an empty table for empty input")
+  void next_returnsNullForEmptyInput() throws IOException {
+    try (CsvTabularReader reader = reader("")) {
+      assertThat(reader.next()).isNull();
+    }
+    try (CsvTabularReader reader = reader("x")) {
+      assertThat(reader.next()).isEqualTo(List.of("x"));
+    }
+  }
+
+  private static CsvTabularReader reader(String csv) {
+    return new CsvTabularReader(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,128 @@
+package ca.bc.gov.nrs.hrs.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Unit Test | XlsxTabularReader")
+class XlsxTabularReaderTest {
+
+  private static final String MAIN =
+      "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+  private static final String RELATIONSHIPS =
+      "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("should read the first sheet resolving shared, inline and sparse cells")
+  void next_readsFirstSheet() throws IOException {
+    Map<String, String> parts = new LinkedHashMap<>();
+    parts.put("xl/workbook.xml",
+        "<workbook xmlns=\"" + MAIN + "\" xmlns:r=\"" + RELATIONSHIPS + "\"><sheets>"
+            + "<sheet name=\"Volumes\" sheetId=\"2\" r:id=\"rId7\"/>"
+            + "<sheet name=\"Other\" sheetId=\"1\" r:id=\"rId1\"/>"
+            + "</sheets></workbook>");
+    parts.put("xl/_rels/workbook.xml.rels",
+        "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Target=\"worksheets/sheet1.xml\"/>"
+            + "<Relationship Id=\"rId7\" Target=\"/xl/worksheets/volumes.xml\"/>"
+            + "</Relationships>");
+    parts.put("xl/worksheets/sheet1.xml", sheet("<row r=\"1\"><c r=\"A1\"><v>9</v></c></row>"));
+    parts.put("xl/worksheets/volumes.xml", sheet(
+        "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"C1\" t=\"s\"><v>1</v></c></row>"
+            + "<row r=\"2\"><c r=\"A2\" t=\"s\"><v>0</v></c></row>"
+            + "<row r=\"3\"></row>"
+            + "<row r=\"5\"><c r=\"A5\" t=\"inlineStr\"><is><t>Dry belt</t></is></c>"
+            + "<c r=\"B5\"><v>1.1499999999999999</v></c>"
+            + "<c r=\"C5\" t=\"b\"><v>1</v></c></row>"));
+    parts.put("xl/sharedStrings.xml",
+        "<sst xmlns=\"" + MAIN + "\"><si><t>Zone</t></si>"
+            + "<si><r><t>Dis</t></r><r><t>trict</t></r><rPh><t>x</t></rPh></si></sst>");
+
+    try (XlsxTabularReader reader = XlsxTabularReader.open(workbook(parts))) {
+      assertThat(reader.next()).containsExactly("Zone", "", "District");
+      assertThat(reader.rowNumber()).isEqualTo(1);
+
+      assertThat(reader.next()).containsExactly("Zone");
+      assertThat(reader.rowNumber()).isEqualTo(2);
+
+      assertThat(reader.next()).containsExactly("Dry belt", "1.1499999999999999", "TRUE");
+      assertThat(reader.rowNumber()).isEqualTo(5);
+
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("should fall back to the first worksheet part without relationships")
+  void next_readsDefaultSheet() throws IOException {
+    Map<String, String> parts = new LinkedHashMap<>();
+    parts.put("xl/workbook.xml", "<workbook xmlns=\"" + MAIN + "\"/>");
+    parts.put("xl/worksheets/sheet1.xml", sheet("<row><c><v>42</v></c></row>"));
+
+    try (XlsxTabularReader reader = XlsxTabularReader.open(workbook(parts))) {
+      assertThat(reader.next()).containsExactly("42");
+      assertThat(reader.rowNumber()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("should reject a file that is not a workbook")
+  void open_rejectsNonWorkbook() throws IOException {
+    Path text = directory.resolve("table.xlsx");
+    Files.writeString(text, "Zone,District");
+
+    assertThatThrownBy(() -> XlsxTabularReader.open(text)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("should not resolve external entities")
+  void next_ignoresDoctype() throws IOException {
+    Map<String, String> parts = new LinkedHashMap<>();
+    parts.put("xl/workbook.xml", "<workbook xmlns=\"" + MAIN + "\"/>");
+    parts.put("xl/worksheets/sheet1.xml",
+        "<?xml version=\"1.0\"?><!DOCTYPE x [<!ENTITY e SYSTEM \"file:///etc/passwd\">]>"
+            + "<worksheet xmlns=\"" + MAIN + "\"><sheetData>"
+            + "<row><c t=\"inlineStr\"><is><t>&e;</t></is></c></row>"
+            + "</sheetData></worksheet>");
+
+    try (XlsxTabularReader reader = XlsxTabularReader.open(workbook(parts))) {
+      assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+  }
+
+  private Path workbook(Map<String, String> parts) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+      for (Map.Entry<String, String> part : parts.entrySet()) {
+        zip.putNextEntry(new ZipEntry(part.getKey()));
+        zip.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+      }
+    }
+    Path file = directory.resolve("table.xlsx");
+    try (OutputStream output = Files.newOutputStream(file)) {
+      bytes.writeTo(output);
+    }
+    return file;
+  }
+
+  private static String sheet(String rows) {
+    return "<worksheet xmlns=\"" + MAIN + "\"><sheetData>" + rows + "</sheetData></worksheet>";
+  }
+}
@@ -0,0 +1,358 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.cache.ActiveConfigurationRegistry;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.nrs.hrs.extensions.WiremockLogNotifier;
+import ca.bc.gov.nrs.hrs.loadtest.LoadRecorder.EndpointResult;
+import ca.bc.gov.nrs.hrs.monitoring.VirtualThreadMonitor;
+import ca.bc.gov.nrs.hrs.provider.UpstreamConcurrencyLimiter;
+import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * End-to-end load test of the backend against local stand-ins for its upstream services.
+ *
+ * <p>The backend runs on a random port against the Testcontainers database, with WireMock
+ * answering for the legacy API, the Forest Client API and Cognito after an injected latency.
+ * A fixed number of closed-loop virtual users then send a weighted mix of searches, row
+ * expansions, code lookups, bookmark toggles, preference reads and district volume lookups,
+ * each with one of a pool of signed tokens so the identity hydration and per-user caches see
+ * realistic key spread.</p>
+ *
+ * <p>Throughput, p50, p95, p99 and error rate per endpoint are logged and written as JSON to
+ * {@code load.report}, together with the state of every circuit breaker and the concurrency
+ * limit of every upstream, so runs before and after a change to the search, the identity
+ * hydration or the resilience settings can be compared. The run fails when the error rate or,
+ * if set, the p99 budget is exceeded.</p>
+ *
+ * <p>The backend handles requests on the Tomcat thread pool or, with
+ * {@code load.threads=virtual}, on virtual threads. The report then also records the peak
+ * platform thread count, the heap in use and, on virtual threads, the pinning seen by the
+ * {@link VirtualThreadMonitor}. A virtual thread run compares its throughput and p99 with the
+ * platform thread report next to it, which the {@code load-test} profile writes first, in a
+ * JVM with the same maximum heap.</p>
+ *
+ * <p>It only runs with the {@code load-test} profile: {@code mvn -Pload-test verify}. See
+ * {@link LoadTestSettings} for the {@code load.*} properties.</p>
+ */
+@Slf4j
+@DisplayName("Load Test | Backend")
+class BackendLoadTest extends AbstractTestContainerIntegrationTest {
+
+  private static final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+  private static final TokenIssuer tokenIssuer = new TokenIssuer();
+  private static final JsonMapper mapper = JsonMapper
+      .builder()
+      .enable(SerializationFeature.INDENT_OUTPUT)
+      .build();
+
+  @RegisterExtension
+  static WireMockExtension legacyStub = standIn();
+
+  @RegisterExtension
+  static WireMockExtension forestClientStub = standIn();
+
+  @RegisterExtension
+  static WireMockExtension cognitoStub = standIn();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private DistrictVolumeRepository districtVolumeRepository;
+
+  @Autowired
+  private ActiveConfigurationRegistry activeConfigurationRegistry;
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @DynamicPropertySource
+  static void registerUpstreams(DynamicPropertyRegistry registry) {
+    registry.add("ca.bc.gov.nrs.legacy-api.address", legacyStub::baseUrl);
+    registry.add("ca.bc.gov.nrs.forest-client-api.address", forestClientStub::baseUrl);
+    registry.add("ca.bc.gov.nrs.cognito.userinfo-uri",
+        () -> cognitoStub.baseUrl() + "/oauth2/userInfo");
+    registry.add("spring.security.oauth2.resourceserver.jwt.issuer-uri", cognitoStub::baseUrl);
+    registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri",
+        () -> cognitoStub.baseUrl() + "/.well-known/jwks.json");
+    registry.add("spring.threads.virtual.enabled", settings::virtualThreads);
+  }
+
+  @Test
+  @DisplayName("Backend should sustain the traffic mix within the error and latency budgets")
+  void sustainTrafficMix() throws Exception {
+    UpstreamStandIns standIns = new UpstreamStandIns(settings, mapper);
+    standIns.legacy(legacyStub);
+    standIns.forestClient(forestClientStub);
+    standIns.cognito(cognitoStub, tokenIssuer.jwkSet());
+    seedDistrictVolume();
+
+    List<String> tokens = tokenIssuer.issue(
+        cognitoStub.baseUrl(),
+        settings.users(),
+        settings.warmup().plus(settings.duration()).plusHours(1)
+    );
+    LoadRecorder recorder = new LoadRecorder();
+    LoadClient client = new LoadClient(URI.create("http://localhost:" + port), recorder);
+    List<Scenario> weighted = settings
+        .mix()
+        .entrySet()
+        .stream()
+        .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+        .toList();
+
+    log.info("Warming up for {} with {} virtual users on {} threads",
+        settings.warmup(), settings.concurrency(), settings.threads());
+    drive(client, tokens, weighted, settings.warmup());
+    recorder.reset();
+
+    log.info("Measuring for {}", settings.duration());
+    long started = System.nanoTime();
+    drive(client, tokens, weighted, settings.duration());
+    List<EndpointResult> results = recorder.results(Duration.ofNanos(System.nanoTime() - started));
+
+    report(results);
+
+    EndpointResult total = results.getLast();
+    assertThat(total.requests()).isPositive();
+    assertThat(total.errorRate())
+        .as("error rate across all endpoints")
+        .isLessThanOrEqualTo(settings.maxErrorRate());
+    if (settings.p99Budget() != null) {
+      assertThat(results)
+          .allSatisfy(result -> assertThat(result.p99Ms())
+              .as("p99 of %s", result.endpoint())
+              .isLessThanOrEqualTo(settings.p99Budget().toMillis()));
+    }
+  }
+
+  private void drive(
+      LoadClient client,
+      List<String> tokens,
+      List<Scenario> weighted,
+      Duration duration
+  ) throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+    for (int i = 0; i < settings.concurrency(); i++) {
+      workers.submit(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+          weighted
+              .get(random.nextInt(weighted.size()))
+              .run(client, tokens.get(random.nextInt(tokens.size())), random);
+        }
+      });
+    }
+    workers.shutdown();
+    if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+      workers.shutdownNow();
+    }
+  }
+
+  private void seedDistrictVolume() {
+    if (activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR).isPresent()) {
+      return;
+    }
+    // Auditing reads the current user when the entity is saved
+    SecurityContextHolder.getContext().setAuthentication(
+        new JwtAuthenticationToken(this.jwt, AuthorityUtils.createAuthorityList()));
+    try {
+      List<DistrictRow> rows = Stream
+          .of("DND", "DCR", "DMH", "DPG")
+          .map(code -> new DistrictRow(
+              new CodeDescriptionDto(code, code),
+              new BigDecimal("1.234"),
+              new BigDecimal("2.345"),
+              new BigDecimal("3.456"),
+              null,
+              null,
+              null,
+              new BigDecimal("7.035")))
+          .toList();
+
+      DistrictVolumeEntity entity = new DistrictVolumeEntity();
+      entity.setArea(Area.INTERIOR);
+      entity.setConfigType(ConfigType.DISTRICT_VOLUME);
+      entity.setStartDate(LocalDate.now().minusYears(1));
+      entity.setTableLevelFactor(new BigDecimal("1.000"));
+      entity.setTableData(new TableData(List.of(new Zone("Zone", rows)), null, null, Map.of()));
+      districtVolumeRepository.save(entity);
+      activeConfigurationRegistry.reloadAll();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  private void report(List<EndpointResult> results) throws IOException {
+    StringBuilder table = new StringBuilder(String.format(
+        "%n%-58s %9s %7s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+    for (EndpointResult result : results) {
+      table.append(String.format(
+          "%-58s %9d %6.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+          result.endpoint(), result.requests(), result.errorRate() * 100, result.throughput(),
+          result.p50Ms(), result.p95Ms(), result.p99Ms()));
+    }
+    log.info("Load test results:{}", table);
+
+    List<Map<String, Object>> breakers = new ArrayList<>();
+    for (CircuitBreaker breaker : circuitBreakerRegistry.getAllCircuitBreakers()) {
+      CircuitBreaker.Metrics metrics = breaker.getMetrics();
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("name", breaker.getName());
+      entry.put("state", breaker.getState().name());
+      entry.put("failureRate", metrics.getFailureRate());
+      entry.put("slowCallRate", metrics.getSlowCallRate());
+      entry.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+      breakers.add(entry);
+    }
+
+    Map<String, Object> limits = new LinkedHashMap<>();
+    for (Gauge gauge : meterRegistry.find(UpstreamConcurrencyLimiter.LIMIT_GAUGE).gauges()) {
+      String upstream = gauge.getId().getTag("upstream");
+      limits.put(upstream, Map.of(
+          "limit", gauge.value(),
+          "rejections", meterRegistry
+              .find(UpstreamConcurrencyLimiter.REJECTION_COUNTER)
+              .tag("upstream", upstream)
+              .counters()
+              .stream()
+              .mapToDouble(Counter::count)
+              .sum()));
+    }
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("settings", Map.of(
+        "threads", settings.threads(),
+        "warmup", settings.warmup().toString(),
+        "duration", settings.duration().toString(),
+        "concurrency", settings.concurrency(),
+        "users", settings.users(),
+        "latency", Map.of(
+            "legacy", settings.legacyLatency().toString(),
+            "forestClient", settings.forestClientLatency().toString(),
+            "cognito", settings.cognitoLatency().toString(),
+            "sigma", settings.latencySigma()),
+        "mix", settings.mix()));
+    report.put("endpoints", results);
+    report.put("circuitBreakers", breakers);
+    report.put("upstreamLimits", limits);
+    report.put("threads", threads());
+    if (settings.virtualThreads()) {
+      compare(results.getLast()).ifPresent(comparison -> report.put("comparison", comparison));
+    }
+
+    Files.createDirectories(settings.report().toAbsolutePath().getParent());
+    mapper.writeValue(settings.report().toFile(), report);
+    log.info("Load test report written to {}", settings.report().toAbsolutePath());
+  }
+
+  private Map<String, Object> threads() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    Map<String, Object> threads = new LinkedHashMap<>();
+    threads.put("mode", settings.threads());
+    threads.put("peakPlatformThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    threads.put("heapUsedMb", heap.getUsed() / (1024 * 1024));
+    threads.put("heapMaxMb", heap.getMax() / (1024 * 1024));
+    Timer pinned = meterRegistry.find(VirtualThreadMonitor.PINNED_TIMER).timer();
+    if (pinned != null) {
+      threads.put("pinnedCount", pinned.count());
+      threads.put("pinnedTotalMs", pinned.totalTime(TimeUnit.MILLISECONDS));
+      threads.put("pinnedMaxMs", pinned.max(TimeUnit.MILLISECONDS));
+    }
+    return threads;
+  }
+
+  private Optional<Map<String, Object>> compare(EndpointResult total) {
+    Path baseline = settings
+        .report()
+        .toAbsolutePath()
+        .resolveSibling("report-platform.json");
+    if (!Files.exists(baseline)) {
+      log.info("No platform thread report at {} to compare with", baseline);
+      return Optional.empty();
+    }
+    JsonNode endpoints = mapper.readTree(baseline.toFile()).path("endpoints");
+    JsonNode platform = endpoints.get(endpoints.size() - 1);
+    double throughputRatio = total.throughput() / platform.path("throughput").asDouble();
+    double p99Ratio = total.p99Ms() / platform.path("p99Ms").asDouble();
+    log.info("Virtual threads against the platform thread pool: {}x throughput, {}x p99",
+        String.format("%.2f", throughputRatio), String.format("%.2f", p99Ratio));
+    Map<String, Object> comparison = new LinkedHashMap<>();
+    comparison.put("baseline", baseline.toString());
+    comparison.put("platformThroughput", platform.path("throughput").asDouble());
+    comparison.put("platformP99Ms", platform.path("p99Ms").asDouble());
+    comparison.put("throughputRatio", throughputRatio);
+    comparison.put("p99Ratio", p99Ratio);
+    return Optional.of(comparison);
+  }
+
+  private static WireMockExtension standIn() {
+    return WireMockExtension
+        .newInstance()
+        .options(wireMockConfig()
+            .dynamicPort()
+            .notifier(new WiremockLogNotifier())
+            .asynchronousResponseEnabled(true)
+            .asynchronousResponseThreads(Math.max(settings.concurrency(), 10))
+            .containerThreads(Math.max(settings.concurrency() * 2, 25))
+            .disableRequestJournal()
+            .stubRequestLoggingDisabled(true))
+        .configureStaticDsl(false)
+        .build();
+  }
+}
@@ -0,0 +1,77 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Sends the scenario requests to the backend under test and records them.
+ *
+ * <p>A request counts as an error when it cannot be sent, times out, or answers with a 4xx or
+ * 5xx status. Latency runs until the whole body is read, as a browser would see it.</p>
+ */
+@Slf4j
+final class LoadClient {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient httpClient;
+  private final URI baseUri;
+  private final LoadRecorder recorder;
+
+  /**
+   * Creates the client.
+   *
+   * @param baseUri  the backend base address
+   * @param recorder the recorder every request is recorded in
+   */
+  LoadClient(URI baseUri, LoadRecorder recorder) {
+    this.httpClient = HttpClient
+        .newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    this.baseUri = baseUri;
+    this.recorder = recorder;
+  }
+
+  /**
+   * Sends one request and records its latency and outcome.
+   *
+   * @param endpoint the endpoint template the request is recorded under
+   * @param method   the HTTP method
+   * @param path     the path and query string
+   * @param token    the bearer token
+   */
+  void send(String endpoint, String method, String path, String token) {
+    HttpRequest request = HttpRequest
+        .newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+        .method(method, BodyPublishers.noBody())
+        .build();
+
+    long start = System.nanoTime();
+    boolean error;
+    try {
+      int status = httpClient.send(request, BodyHandlers.discarding()).statusCode();
+      error = status >= 400;
+      if (error) {
+        log.debug("{} answered {}", endpoint, status);
+      }
+    } catch (IOException exception) {
+      log.debug("{} failed: {}", endpoint, exception.getMessage());
+      error = true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    recorder.record(endpoint, System.nanoTime() - start, error);
+  }
+}
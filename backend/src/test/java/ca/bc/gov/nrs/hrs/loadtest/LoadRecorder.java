@@ -0,0 +1,143 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the latency and outcome of every request, per endpoint.
+ *
+ * <p>Every sample is kept, so percentiles are exact rather than bucketed; a run of a few minutes
+ * at a few thousand requests per second stays well within a few megabytes.</p>
+ */
+final class LoadRecorder {
+
+  private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+  /**
+   * Records one request.
+   *
+   * @param endpoint the endpoint template
+   * @param nanos    the latency until the full response was read
+   * @param error    whether the request failed or answered with a 4xx or 5xx status
+   */
+  void record(String endpoint, long nanos, boolean error) {
+    endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, error);
+  }
+
+  /**
+   * Drops everything recorded so far, used at the end of the warm-up.
+   */
+  void reset() {
+    endpoints.clear();
+  }
+
+  /**
+   * Summarizes the samples of every endpoint, plus a {@code TOTAL} line across all of them.
+   *
+   * @param measured the measured duration, to compute throughput
+   * @return the results, by endpoint name, with the total last
+   */
+  List<EndpointResult> results(Duration measured) {
+    Samples total = new Samples();
+    List<EndpointResult> results = new ArrayList<>();
+    endpoints.forEach((endpoint, samples) -> {
+      total.addAll(samples);
+      results.add(samples.summarize(endpoint, measured));
+    });
+    results.sort(Comparator.comparing(EndpointResult::endpoint));
+    results.add(total.summarize("TOTAL", measured));
+    return results;
+  }
+
+  /**
+   * Latency and outcome summary of one endpoint.
+   *
+   * @param endpoint   the endpoint template
+   * @param requests   requests sent
+   * @param errors     requests that failed or answered with a 4xx or 5xx status
+   * @param errorRate  errors over requests
+   * @param throughput requests per second over the measured duration
+   * @param p50Ms      median latency, in milliseconds
+   * @param p95Ms      95th percentile latency, in milliseconds
+   * @param p99Ms      99th percentile latency, in milliseconds
+   * @param maxMs      maximum latency, in milliseconds
+   */
+  record EndpointResult(
+      String endpoint,
+      long requests,
+      long errors,
+      double errorRate,
+      double throughput,
+      double p50Ms,
+      double p95Ms,
+      double p99Ms,
+      double maxMs
+  ) {
+
+  }
+
+  private static final class Samples {
+
+    private long[] nanos = new long[1_024];
+    private int size;
+    private long errors;
+
+    synchronized void add(long value, boolean error) {
+      if (size == nanos.length) {
+        nanos = Arrays.copyOf(nanos, size * 2);
+      }
+      nanos[size++] = value;
+      if (error) {
+        errors++;
+      }
+    }
+
+    synchronized void addAll(Samples other) {
+      long[] values;
+      int count;
+      long otherErrors;
+      synchronized (other) {
+        values = other.nanos;
+        count = other.size;
+        otherErrors = other.errors;
+      }
+      if (size + count > nanos.length) {
+        nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + count));
+      }
+      System.arraycopy(values, 0, nanos, size, count);
+      size += count;
+      errors += otherErrors;
+    }
+
+    synchronized EndpointResult summarize(String endpoint, Duration measured) {
+      long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      double seconds = Math.max(measured.toMillis(), 1) / 1_000d;
+      return new EndpointResult(
+          endpoint,
+          size,
+          errors,
+          size == 0 ? 0 : (double) errors / size,
+          size / seconds,
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.95),
+          percentile(sorted, 0.99),
+          size == 0 ? 0 : sorted[size - 1] / 1_000_000d
+      );
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      // Nearest-rank: the smallest sample at or above the quantile
+      int rank = (int) Math.ceil(quantile * sorted.length);
+      return sorted[Math.max(rank - 1, 0)] / 1_000_000d;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a load test run, read from {@code load.*} system properties.
+ *
+ * <p>Maven user properties reach the test JVM as system properties, so a run is tuned from the
+ * command line, for example
+ * {@code mvn -Pload-test verify -Dload.duration=5m -Dload.concurrency=64
+ * -Dload.latency.legacy=250ms}. Durations accept the Spring Boot formats ({@code 500ms},
+ * {@code 2m}, or plain milliseconds).</p>
+ *
+ * <p>{@code load.threads} selects how the backend handles requests, {@code platform} for the
+ * Tomcat thread pool or {@code virtual} for virtual threads. Unless {@code load.report} is set,
+ * the report is named after it, so the two modes can be compared run against run.</p>
+ *
+ * @param warmup              traffic sent before measuring, to warm the JIT, pools and caches
+ * @param duration            measured traffic duration
+ * @param concurrency         number of closed-loop virtual users sending requests
+ * @param users               number of distinct identities the tokens are issued for
+ * @param pageSize            reporting units returned by the legacy search stand-in
+ * @param legacyLatency       median injected latency of the legacy API stand-in
+ * @param forestClientLatency median injected latency of the Forest Client API stand-in
+ * @param cognitoLatency      median injected latency of the Cognito userinfo stand-in
+ * @param latencySigma        log-normal sigma of the injected latency, 0 for a fixed delay
+ * @param mix                 relative weight of every scenario
+ * @param maxErrorRate        error rate above which the run fails
+ * @param p99Budget           p99 above which an endpoint fails the run, or {@code null}
+ * @param virtualThreads      whether the backend handles requests on virtual threads
+ * @param report              file the JSON report is written to
+ */
+public record LoadTestSettings(
+    Duration warmup,
+    Duration duration,
+    int concurrency,
+    int users,
+    int pageSize,
+    Duration legacyLatency,
+    Duration forestClientLatency,
+    Duration cognitoLatency,
+    double latencySigma,
+    Map<Scenario, Integer> mix,
+    double maxErrorRate,
+    Duration p99Budget,
+    boolean virtualThreads,
+    Path report
+) {
+
+  /**
+   * Default traffic mix, loosely following the production request logs: mostly searches, then
+   * row expansions, code lookups for the filters and bookmark toggles.
+   */
+  static final String DEFAULT_MIX =
+      "search=40,expand=15,codes=15,bookmarks=15,preferences=5,district-volumes=10";
+
+  /**
+   * Reads the settings from the system properties, falling back to defaults sized for a laptop.
+   *
+   * @return the settings
+   */
+  public static LoadTestSettings fromSystemProperties() {
+    String p99Budget = System.getProperty("load.p99-budget");
+    String threads = System.getProperty("load.threads", "platform").toLowerCase(Locale.ROOT);
+    if (!threads.equals("platform") && !threads.equals("virtual")) {
+      throw new IllegalArgumentException("Invalid load.threads: " + threads);
+    }
+    return new LoadTestSettings(
+        duration("load.warmup", "10s"),
+        duration("load.duration", "60s"),
+        Integer.getInteger("load.concurrency", 16),
+        Integer.getInteger("load.users", 50),
+        Integer.getInteger("load.page-size", 10),
+        duration("load.latency.legacy", "80ms"),
+        duration("load.latency.forest-client", "40ms"),
+        duration("load.latency.cognito", "60ms"),
+        Double.parseDouble(System.getProperty("load.latency.sigma", "0.4")),
+        mix(System.getProperty("load.mix", DEFAULT_MIX)),
+        Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+        p99Budget == null ? null : DurationStyle.detectAndParse(p99Budget),
+        threads.equals("virtual"),
+        Path.of(System.getProperty(
+            "load.report", "target/load-test/report-" + threads + ".json"))
+    );
+  }
+
+  /**
+   * Returns the name of the request threading mode.
+   *
+   * @return {@code virtual} or {@code platform}
+   */
+  public String threads() {
+    return virtualThreads ? "virtual" : "platform";
+  }
+
+  private static Duration duration(String property, String defaultValue) {
+    return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+  }
+
+  private static Map<Scenario, Integer> mix(String value) {
+    Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+      }
+      weights.put(
+          Scenario.fromKey(parts[0].trim().toLowerCase(Locale.ROOT)),
+          Integer.parseInt(parts[1].trim()));
+    }
+    return weights;
+  }
+}
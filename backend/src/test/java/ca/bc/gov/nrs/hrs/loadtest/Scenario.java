@@ -0,0 +1,138 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * User journeys the load test mixes, each sending one or more requests as a single user.
+ *
+ * <p>Requests are recorded under their endpoint template, so the report groups, for example,
+ * every expansion under one {@code GET /api/search/reporting-units/ex/{ru}/{waa}} line.</p>
+ */
+public enum Scenario {
+
+  /**
+   * Free-text reporting unit search, sometimes narrowed by district or to bookmarks.
+   */
+  SEARCH("search") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      StringBuilder query = new StringBuilder("?mainSearchTerm=")
+          .append(pick(SEARCH_TERMS, random));
+      if (random.nextInt(4) == 0) {
+        query.append("&district=").append(pick(DISTRICTS, random));
+      }
+      if (random.nextInt(5) == 0) {
+        query.append("&bookmarked=true");
+      }
+      query.append("&page=0&size=10");
+      client.send("GET /api/search/reporting-units", "GET",
+          "/api/search/reporting-units" + query, token);
+    }
+  },
+
+  /**
+   * Expansion of a search result row.
+   */
+  EXPAND("expand") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      client.send("GET /api/search/reporting-units/ex/{ru}/{waa}", "GET",
+          "/api/search/reporting-units/ex/" + reportingUnit(random) + "/"
+              + random.nextInt(1, 500), token);
+    }
+  },
+
+  /**
+   * One of the code lists behind the search filters.
+   */
+  CODES("codes") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      String path = pick(CODE_PATHS, random);
+      client.send("GET " + path, "GET", path, token);
+    }
+  },
+
+  /**
+   * Bookmarks a reporting unit, then removes the bookmark.
+   */
+  BOOKMARKS("bookmarks") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      String path = "/api/users/bookmarks/" + reportingUnit(random);
+      client.send("PUT /api/users/bookmarks/{ru}", "PUT", path, token);
+      client.send("DELETE /api/users/bookmarks/{ru}", "DELETE", path, token);
+    }
+  },
+
+  /**
+   * Preference read, the path the identity hydration filter runs on.
+   */
+  PREFERENCES("preferences") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      client.send("GET /api/users/preferences", "GET", "/api/users/preferences", token);
+    }
+  },
+
+  /**
+   * District volume listing or effective volume lookup.
+   */
+  DISTRICT_VOLUMES("district-volumes") {
+    @Override
+    void run(LoadClient client, String token, RandomGenerator random) {
+      if (random.nextBoolean()) {
+        client.send("GET /api/configuration/district-average-volumes", "GET",
+            "/api/configuration/district-average-volumes?area=INTERIOR", token);
+      } else {
+        client.send("GET /api/district-volumes/effective", "GET",
+            "/api/district-volumes/effective?district="
+                + pick(DISTRICTS, random), token);
+      }
+    }
+  };
+
+  private static final String[] SEARCH_TERMS = {"36834", "C-12345", "TM12345", "A12345", "LIC"};
+  private static final String[] DISTRICTS = {"DND", "DCR", "DMH", "DPG"};
+  private static final String[] CODE_PATHS = {
+      "/api/codes/districts", "/api/codes/samplings", "/api/codes/assess-area-statuses"
+  };
+
+  private final String key;
+
+  Scenario(String key) {
+    this.key = key;
+  }
+
+  /**
+   * Sends the requests of one journey.
+   *
+   * @param client the client recording every request
+   * @param token  the bearer token of the user
+   * @param random the random source of the calling worker
+   */
+  abstract void run(LoadClient client, String token, RandomGenerator random);
+
+  /**
+   * Finds a scenario by the key used in {@code load.mix}.
+   *
+   * @param key the scenario key
+   * @return the scenario
+   */
+  static Scenario fromKey(String key) {
+    return Arrays
+        .stream(values())
+        .filter(scenario -> scenario.key.equals(key))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown load test scenario: " + key));
+  }
+
+  private static String pick(String[] values, RandomGenerator random) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private static long reportingUnit(RandomGenerator random) {
+    return 36_000L + random.nextInt(1_000);
+  }
+}
@@ -0,0 +1,87 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import ca.bc.gov.nrs.hrs.extensions.WithMockJwtSecurityContextFactory;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Signs the access tokens of the load test users with a throwaway RSA key.
+ *
+ * <p>The public half is served as the JWK set by the Cognito stand-in, so the backend validates
+ * every token exactly as it validates Cognito ones, signature check included.</p>
+ */
+final class TokenIssuer {
+
+  private static final String KEY_ID = "load-test";
+
+  private final RSAKey key;
+
+  /**
+   * Generates the signing key.
+   */
+  TokenIssuer() {
+    try {
+      key = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+    } catch (JOSEException exception) {
+      throw new IllegalStateException("Could not generate the load test signing key", exception);
+    }
+  }
+
+  /**
+   * Returns the public JWK set the backend validates tokens against.
+   *
+   * @return the JWK set, as JSON
+   */
+  String jwkSet() {
+    return new JWKSet(key.toPublicJWK()).toString();
+  }
+
+  /**
+   * Issues one IDIR admin token per user, valid for the given time.
+   *
+   * @param issuer   the issuer claim
+   * @param users    the number of distinct users
+   * @param validFor how long the tokens stay valid
+   * @return the serialized tokens
+   */
+  List<String> issue(String issuer, int users, Duration validFor) {
+    Instant now = Instant.now();
+    return IntStream
+        .range(0, users)
+        .mapToObj(index -> sign(issuer, "load-user-" + index, now, validFor))
+        .toList();
+  }
+
+  private String sign(String issuer, String subject, Instant now, Duration validFor) {
+    JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+        .issuer(issuer)
+        .issueTime(Date.from(now))
+        .expirationTime(Date.from(now.plus(validFor)));
+    WithMockJwtSecurityContextFactory
+        .createClaims(subject, List.of("WASTE_PLUS_ADMIN"), "idir",
+            "Load, Test WLRS:EX", subject + "@test.ca")
+        .forEach(claims::claim);
+
+    SignedJWT jwt = new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(),
+        claims.build());
+    try {
+      jwt.sign(new RSASSASigner(key));
+    } catch (JOSEException exception) {
+      throw new IllegalStateException("Could not sign a load test token", exception);
+    }
+    return jwt.serialize();
+  }
+}
@@ -0,0 +1,137 @@
+package ca.bc.gov.nrs.hrs.loadtest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+import ca.bc.gov.nrs.hrs.provider.forestclient.ForestClientApiProviderTestConstants;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stubs the upstream services the backend calls, each answering after an injected latency.
+ *
+ * <p>Latency is log-normal around the configured median, which matches the long right tail of
+ * real upstream latency better than a uniform or fixed delay; a sigma of 0 gives a fixed
+ * delay instead.</p>
+ */
+final class UpstreamStandIns {
+
+  private final LoadTestSettings settings;
+  private final JsonMapper mapper;
+
+  /**
+   * Creates the stand-ins.
+   *
+   * @param settings the load test settings
+   * @param mapper   the mapper the generated bodies are written with
+   */
+  UpstreamStandIns(LoadTestSettings settings, JsonMapper mapper) {
+    this.settings = settings;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Stubs the legacy API: search, expansion and code lists.
+   *
+   * @param legacy the legacy API stand-in
+   */
+  void legacy(WireMockExtension legacy) {
+    Duration latency = settings.legacyLatency();
+    legacy.stubFor(any(urlPathEqualTo("/api/search/reporting-units"))
+        .willReturn(delayed(okJson(searchPage()), latency)));
+    legacy.stubFor(get(urlPathMatching("/api/search/reporting-units/ex/\\d+/\\d+"))
+        .willReturn(delayed(
+            okJson(ForestClientApiProviderTestConstants.REPORTING_UNIT_EXPANDED_FULL), latency)));
+    legacy.stubFor(get(urlPathEqualTo("/api/codes/districts"))
+        .willReturn(delayed(okJson(codes("D", 23)), latency)));
+    legacy.stubFor(get(urlPathEqualTo("/api/codes/samplings"))
+        .willReturn(delayed(okJson(codes("S", 6)), latency)));
+    legacy.stubFor(get(urlPathEqualTo("/api/codes/assess-area-statuses"))
+        .willReturn(delayed(okJson(codes("A", 8)), latency)));
+  }
+
+  /**
+   * Stubs the Forest Client API lookup by client number.
+   *
+   * @param forestClient the Forest Client API stand-in
+   */
+  void forestClient(WireMockExtension forestClient) {
+    forestClient.stubFor(get(urlPathMatching("/clients/findByClientNumber/\\d+"))
+        .willReturn(delayed(
+            okJson(ForestClientApiProviderTestConstants.CLIENT_00010002),
+            settings.forestClientLatency())));
+  }
+
+  /**
+   * Stubs Cognito: the JWK set, answered at once as the backend caches it, and userinfo.
+   *
+   * @param cognito the Cognito stand-in
+   * @param jwkSet  the JWK set the tokens are signed against
+   */
+  void cognito(WireMockExtension cognito, String jwkSet) {
+    cognito.stubFor(get(urlPathEqualTo("/.well-known/jwks.json")).willReturn(okJson(jwkSet)));
+    cognito.stubFor(get(urlPathEqualTo("/oauth2/userInfo"))
+        .willReturn(delayed(okJson(mapper.writeValueAsString(Map.of(
+            "sub", "load-user",
+            "email", "load-user@test.ca",
+            "name", "Load Test",
+            "custom:idp_name", "idir",
+            "custom:idp_username", "load-user",
+            "custom:idp_display_name", "Load, Test WLRS:EX",
+            "cognito:groups", List.of("WASTE_PLUS_ADMIN")
+        ))), settings.cognitoLatency())));
+  }
+
+  private ResponseDefinitionBuilder delayed(ResponseDefinitionBuilder response, Duration median) {
+    if (median.isZero()) {
+      return response;
+    }
+    return settings.latencySigma() > 0
+        ? response.withLogNormalRandomDelay(median.toMillis(), settings.latencySigma())
+        : response.withFixedDelay((int) median.toMillis());
+  }
+
+  private String searchPage() {
+    List<Map<String, Object>> content = IntStream
+        .range(0, settings.pageSize())
+        .<Map<String, Object>>mapToObj(index -> Map.ofEntries(
+            Map.entry("wasteAssessmentAreaId", 26 + index),
+            Map.entry("ruNumber", 36_000 + index),
+            // A handful of clients per page, as the Forest Client lookups are per distinct one
+            Map.entry("client", Map.of("code", String.format("%08d", 10_002 + index % 4))),
+            Map.entry("licenseNumber", "C-12345"),
+            Map.entry("cuttingPermit", "A12345"),
+            Map.entry("timberMark", "TM12345"),
+            Map.entry("multiMark", false),
+            Map.entry("secondaryEntry", false),
+            Map.entry("sampling", Map.of("code", "BLK", "description", "Cutblock")),
+            Map.entry("district", Map.of("code", "DND", "description", "Nadina")),
+            Map.entry("status", Map.of("code", "DFT", "description", "Draft")),
+            Map.entry("lastUpdated", "2025-08-24T09:10:28"),
+            Map.entry("bookmarked", false)))
+        .toList();
+    return mapper.writeValueAsString(Map.of(
+        "content", content,
+        "page", Map.of(
+            "size", settings.pageSize(),
+            "number", 0,
+            "totalElements", 1_000,
+            "totalPages", Math.ceilDiv(1_000, Math.max(settings.pageSize(), 1)))
+    ));
+  }
+
+  private String codes(String prefix, int count) {
+    return mapper.writeValueAsString(IntStream
+        .range(0, count)
+        .mapToObj(index -> Map.of("code", prefix + index, "description", "Code " + index))
+        .toList());
+  }
+}
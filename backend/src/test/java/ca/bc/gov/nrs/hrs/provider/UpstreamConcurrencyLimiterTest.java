@@ -0,0 +1,208 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.UpstreamLimitConfiguration;
+import ca.bc.gov.nrs.hrs.exception.UpstreamSaturatedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@DisplayName("Unit Test | UpstreamConcurrencyLimiter")
+class UpstreamConcurrencyLimiterTest {
+
+  private static final long MILLISECOND = 1_000_000L;
+  private static final String SEARCH = "GET /api/search/reporting-units";
+  private static final String CODES = "GET /api/codes/districts";
+
+  private SimpleMeterRegistry meterRegistry;
+  private MockClientHttpRequest request;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("http://legacy/api/search/reporting-units"));
+  }
+
+  @Test
+  @DisplayName("should reject a request over the limit without sending it")
+  void shouldRejectOverLimit() throws IOException {
+    UpstreamConcurrencyLimiter limiter = limiter(1, 1);
+
+    limiter.intercept(request, new byte[0], (req, body) -> {
+      assertThat(limiter.getInflight()).isEqualTo(1);
+      assertThatThrownBy(() -> limiter.intercept(request, new byte[0], (nested, bytes) -> {
+        throw new AssertionError("should not be sent");
+      }))
+          .isInstanceOf(UpstreamSaturatedException.class)
+          .extracting(exception -> ((UpstreamSaturatedException) exception).getHeaders()
+              .getFirst(HttpHeaders.RETRY_AFTER))
+          .isEqualTo("1");
+      return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }).close();
+
+    assertThat(limiter.getInflight()).isZero();
+    assertThat(meterRegistry.get(UpstreamConcurrencyLimiter.REJECTION_COUNTER)
+        .tag("upstream", "legacy")
+        .tag("reason", "limit")
+        .counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should grow the limit while responses stay near the baseline and it is in use")
+  void shouldGrowLimit() {
+    UpstreamConcurrencyLimiter limiter = limiter(4, 2);
+
+    limiter.onSample(SEARCH, 10 * MILLISECOND, 3, false);
+    limiter.onSample(SEARCH, 12 * MILLISECOND, 0, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(5);
+    assertThat(meterRegistry.get(UpstreamConcurrencyLimiter.LIMIT_GAUGE)
+        .tag("upstream", "legacy")
+        .gauge()
+        .value()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("should shrink the limit when a response is far slower than the median")
+  void shouldShrinkOnLatency() {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+
+    for (int sample = 0; sample < 5; sample++) {
+      limiter.onSample(SEARCH, 10 * MILLISECOND, 0, false);
+    }
+    limiter.onSample(SEARCH, 50 * MILLISECOND, 0, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(18);
+  }
+
+  @Test
+  @DisplayName("should judge a slow operation against its own median, not a faster one")
+  void shouldKeepBaselinePerOperation() {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+
+    for (int sample = 0; sample < 5; sample++) {
+      limiter.onSample(CODES, 5 * MILLISECOND, 0, false);
+    }
+    for (int sample = 0; sample < 10; sample++) {
+      limiter.onSample(SEARCH, (200 + sample) * MILLISECOND, 0, false);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("should not judge latency until the operation has a few samples")
+  void shouldWaitForBaseline() {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+
+    limiter.onSample(SEARCH, 10 * MILLISECOND, 0, false);
+    limiter.onSample(SEARCH, 500 * MILLISECOND, 0, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("should hold the slot until the response is closed")
+  void shouldReleaseOnClose() throws IOException {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+
+    var response = limiter.intercept(request, new byte[0], (req, body) ->
+        new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+    assertThat(limiter.getInflight()).isEqualTo(1);
+
+    response.close();
+    response.close();
+    assertThat(limiter.getInflight()).isZero();
+  }
+
+  @Test
+  @DisplayName("should name an operation by its method and path without identifiers")
+  void shouldNameOperation() {
+    assertThat(UpstreamConcurrencyLimiter.operation(new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("http://legacy/api/search/reporting-units?page=2"))))
+        .isEqualTo(SEARCH);
+    assertThat(UpstreamConcurrencyLimiter.operation(new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("http://legacy/api/reporting-units/4521/blocks/17"))))
+        .isEqualTo("GET /api/reporting-units/{id}/blocks/{id}");
+  }
+
+  @Test
+  @DisplayName("should shrink the limit on a failure, down to the minimum")
+  void shouldShrinkOnFailure() {
+    UpstreamConcurrencyLimiter limiter = limiter(3, 2);
+
+    assertThatThrownBy(() -> limiter.intercept(request, new byte[0], (req, body) -> {
+      throw new SocketTimeoutException("Read timed out");
+    })).isInstanceOf(SocketTimeoutException.class);
+    limiter.onSample(SEARCH, MILLISECOND, 0, true);
+    limiter.onSample(SEARCH, MILLISECOND, 0, true);
+
+    assertThat(limiter.getLimit()).isEqualTo(2);
+    assertThat(limiter.getInflight()).isZero();
+  }
+
+  @Test
+  @DisplayName("should hold off every request for the Retry-After of a 503, up to the maximum")
+  void shouldHonourRetryAfter() throws IOException {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+    MockClientHttpResponse unavailable =
+        new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE);
+    unavailable.getHeaders().set(HttpHeaders.RETRY_AFTER, "3600");
+
+    limiter.intercept(request, new byte[0], (req, body) -> unavailable).close();
+
+    assertThatThrownBy(() -> limiter.intercept(request, new byte[0], (req, body) -> {
+      throw new AssertionError("should not be sent");
+    }))
+        .isInstanceOf(UpstreamSaturatedException.class)
+        .extracting(exception -> ((UpstreamSaturatedException) exception).getRetryAfter())
+        .satisfies(retryAfter -> assertThat((Duration) retryAfter)
+            .isPositive()
+            .isLessThanOrEqualTo(Duration.ofSeconds(30)));
+    assertThat(limiter.getLimit()).isEqualTo(18);
+    assertThat(meterRegistry.get(UpstreamConcurrencyLimiter.REJECTION_COUNTER)
+        .tag("reason", "retry-after")
+        .counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should keep sending after a 429 without Retry-After")
+  void shouldIgnoreMissingRetryAfter() throws IOException {
+    UpstreamConcurrencyLimiter limiter = limiter(20, 2);
+
+    limiter.intercept(request, new byte[0], (req, body) ->
+        new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS)).close();
+
+    try (var response = limiter.intercept(request, new byte[0], (req, body) ->
+        new MockClientHttpResponse(new byte[0], HttpStatus.OK))) {
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+  }
+
+  private UpstreamConcurrencyLimiter limiter(int initialLimit, int minLimit) {
+    return new UpstreamConcurrencyLimiter(
+        "legacy",
+        UpstreamLimitConfiguration
+            .builder()
+            .initialLimit(initialLimit)
+            .minLimit(minLimit)
+            .build(),
+        meterRegistry
+    );
+  }
+}
@@ -0,0 +1,106 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("Unit Test | UpstreamMetricsInterceptor")
+class UpstreamMetricsInterceptorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private UpstreamMetricsInterceptor interceptor;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    interceptor = new UpstreamMetricsInterceptor("legacy", meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should time the exchange and record the body size once the response is closed")
+  void shouldRecordLatencyAndSize() throws IOException {
+    MockClientHttpRequest request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("http://legacy/api/search/reporting-units/ex/36834/26?x=1"));
+    MockClientHttpResponse upstream =
+        new MockClientHttpResponse("{\"id\":1}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+    try (var response = interceptor.intercept(request, new byte[0], (req, body) -> upstream)) {
+      assertThat(response.getBody().readAllBytes()).hasSize(8);
+    }
+
+    assertThat(meterRegistry.get(UpstreamMetricsInterceptor.REQUEST_TIMER)
+        .tag("upstream", "legacy")
+        .tag("method", "GET")
+        .tag("uri", "/api/search/reporting-units/ex/{id}/{id}")
+        .tag("status", "200")
+        .tag("outcome", "SUCCESS")
+        .timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get(UpstreamMetricsInterceptor.RESPONSE_SIZE_SUMMARY)
+        .tag("upstream", "legacy")
+        .summary()
+        .totalAmount()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("should prefer the URI template when the request was built from one")
+  void shouldUseUriTemplate() {
+    MockClientHttpRequest request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("http://forest/clients/findByClientNumber/00010002"));
+    request.getAttributes().put(
+        RestClient.class.getName() + ".uriTemplate",
+        "/clients/findByClientNumber/{number}?page={page}");
+
+    assertThat(UpstreamMetricsInterceptor.uriTag(request))
+        .isEqualTo("/clients/findByClientNumber/{number}");
+  }
+
+  @Test
+  @DisplayName("should record the client error outcome of a 4xx response")
+  void shouldRecordClientError() throws IOException {
+    MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.POST, URI.create("http://legacy/api/reporting-units"));
+    MockClientHttpResponse upstream = new MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND);
+
+    interceptor.intercept(request, new byte[0], (req, body) -> upstream).close();
+
+    assertThat(meterRegistry.get(UpstreamMetricsInterceptor.REQUEST_TIMER)
+        .tag("uri", "/api/reporting-units")
+        .tag("status", "404")
+        .tag("outcome", "CLIENT_ERROR")
+        .timer()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should time a failed exchange as an IO error and rethrow")
+  void shouldRecordIoError() {
+    MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.GET, URI.create("http://legacy/api/codes/districts"));
+
+    assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (req, body) -> {
+      throw new UnknownHostException("legacy");
+    })).isInstanceOf(UnknownHostException.class);
+
+    assertThat(meterRegistry.get(UpstreamMetricsInterceptor.REQUEST_TIMER)
+        .tag("status", "IO_ERROR")
+        .tag("outcome", "UNKNOWN")
+        .timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.find(UpstreamMetricsInterceptor.RESPONSE_SIZE_SUMMARY).summary())
+        .isNull();
+  }
+}
@@ -51,8 +51,7 @@ class ForestClientSearchClientIntegrationTest extends AbstractTestContainerInteg
 
   @BeforeEach
   void resetCircuitBreaker() {
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
@@ -0,0 +1,151 @@
+package ca.bc.gov.nrs.hrs.provider.forwarders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ca.bc.gov.nrs.hrs.BackendConstants;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.InternalPrincipalConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("Unit Test | InternalPrincipalForwarder")
+class InternalPrincipalForwarderTest {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+  private final JsonMapper mapper = JsonMapper.builder().build();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should not add header when disabled")
+  void shouldNotAddHeaderWhenDisabled() {
+    authenticate(Instant.now().plusSeconds(300));
+
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    forwarder(false, SECRET).initialize(request);
+
+    assertNull(request.getHeaders().getFirst(BackendConstants.X_INTERNAL_PRINCIPAL));
+  }
+
+  @Test
+  @DisplayName("should not add header when configuration is missing")
+  void shouldNotAddHeaderWhenNotConfigured() {
+    authenticate(Instant.now().plusSeconds(300));
+
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    new InternalPrincipalForwarder(new HrsConfiguration(), mapper).initialize(request);
+
+    assertNull(request.getHeaders().getFirst(BackendConstants.X_INTERNAL_PRINCIPAL));
+  }
+
+  @Test
+  @DisplayName("should not add header when no authentication is present")
+  void shouldNotAddHeaderWithoutAuthentication() {
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    forwarder(true, SECRET).initialize(request);
+
+    assertNull(request.getHeaders().getFirst(BackendConstants.X_INTERNAL_PRINCIPAL));
+  }
+
+  @Test
+  @DisplayName("should add signed header with forwarded claims only")
+  void shouldAddSignedHeader() throws Exception {
+    authenticate(Instant.now().plusSeconds(300));
+
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    forwarder(true, SECRET).initialize(request);
+
+    String header = request.getHeaders().getFirst(BackendConstants.X_INTERNAL_PRINCIPAL);
+    assertNotNull(header);
+
+    String[] parts = header.split("\\.");
+    assertEquals(2, parts.length);
+
+    Mac mac = Mac.getInstance(InternalPrincipalForwarder.HMAC_ALGORITHM);
+    mac.init(new SecretKeySpec(
+        SECRET.getBytes(StandardCharsets.UTF_8),
+        InternalPrincipalForwarder.HMAC_ALGORITHM
+    ));
+    String expectedSignature = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(mac.doFinal(parts[0].getBytes(StandardCharsets.UTF_8)));
+    assertEquals(expectedSignature, parts[1]);
+
+    JsonNode payload = mapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+    assertEquals("IDIR", payload.get("custom:idp_name").asString());
+    assertEquals("JDOE", payload.get("custom:idp_username").asString());
+    assertEquals("Viewer", payload.get("cognito:groups").get(0).asString());
+    assertFalse(payload.has("iss"));
+    assertTrue(payload.get("exp").asLong() <= Instant.now().plusSeconds(61).getEpochSecond());
+  }
+
+  @Test
+  @DisplayName("should never outlive the original token")
+  void shouldCapExpiryAtTokenExpiry() {
+    Instant tokenExpiry = Instant.now().plusSeconds(5);
+    authenticate(tokenExpiry);
+
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    forwarder(true, SECRET).initialize(request);
+
+    String header = request.getHeaders().getFirst(BackendConstants.X_INTERNAL_PRINCIPAL);
+    JsonNode payload = mapper.readTree(Base64.getUrlDecoder().decode(header.split("\\.")[0]));
+    assertEquals(tokenExpiry.getEpochSecond(), payload.get("exp").asLong());
+  }
+
+  private InternalPrincipalForwarder forwarder(boolean enabled, String secret) {
+    HrsConfiguration configuration = HrsConfiguration
+        .builder()
+        .internalPrincipal(
+            InternalPrincipalConfiguration
+                .builder()
+                .enabled(enabled)
+                .secret(secret)
+                .ttl(Duration.ofSeconds(60))
+                .build()
+        )
+        .build();
+    return new InternalPrincipalForwarder(configuration, mapper);
+  }
+
+  private void authenticate(Instant expiresAt) {
+    Jwt jwt = new Jwt(
+        "token",
+        Instant.now(),
+        expiresAt,
+        Map.of("alg", "RS256"),
+        Map.of(
+            "sub", "user123",
+            "iss", "https://issuer",
+            "custom:idp_name", "IDIR",
+            "custom:idp_username", "JDOE",
+            "cognito:groups", List.of("Viewer")
+        )
+    );
+    SecurityContextHolder.getContext()
+        .setAuthentication(new JwtAuthenticationToken(jwt, Collections.emptyList()));
+  }
+}
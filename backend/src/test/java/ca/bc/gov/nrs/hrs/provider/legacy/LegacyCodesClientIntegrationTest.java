@@ -49,8 +49,7 @@ class LegacyCodesClientIntegrationTest extends AbstractTestContainerIntegrationT
   void setUp() {
     clientApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
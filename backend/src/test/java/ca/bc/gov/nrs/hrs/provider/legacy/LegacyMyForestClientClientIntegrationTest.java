@@ -50,8 +50,7 @@ class LegacyMyForestClientClientIntegrationTest extends AbstractTestContainerInt
   void setUp() {
     clientApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
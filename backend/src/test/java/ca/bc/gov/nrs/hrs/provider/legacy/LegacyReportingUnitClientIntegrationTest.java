@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.hrs.provider.legacy;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
@@ -74,8 +76,7 @@ class LegacyReportingUnitClientIntegrationTest extends AbstractTestContainerInte
   void setUp() {
     clientApiStub.resetAll();
 
-    CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("breaker");
-    breaker.reset();
+    circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     RetryConfig retry = retryRegistry.retry("apiRetry").getRetryConfig();
     retryRegistry.remove("apiRetry");
     retryRegistry.retry("apiRetry", retry);
@@ -157,6 +158,27 @@ class LegacyReportingUnitClientIntegrationTest extends AbstractTestContainerInte
     assertEquals(size == 0, result.getContent().isEmpty());
   }
 
+  @Test
+  @DisplayName("Search with reporting unit ids should post the filters as a body")
+  void shouldPostSearchWithReportingUnitIds() {
+    clientApiStub.stubFor(
+        post(urlPathEqualTo("/api/search/reporting-units"))
+            .withQueryParam("page", equalTo("0"))
+            .withRequestBody(matchingJsonPath("$.reportingUnitIds[1]", equalTo("36835")))
+            .willReturn(okJson(ForestClientApiProviderTestConstants.REPORTING_UNITS_SEARCH_RESPONSE)));
+
+    Page<ReportingUnitSearchResultDto> result = legacyReportingUnitClient.searchReportingUnit(
+        ReportingUnitSearchParametersDto
+            .builder()
+            .bookmarked(true)
+            .reportingUnitIds(List.of(36834L, 36835L))
+            .build(),
+        PageRequest.of(0, 10)
+    );
+
+    assertEquals(1L, result.getTotalElements());
+  }
+
   @ParameterizedTest
   @MethodSource("expandedDetailsArguments")
   @DisplayName("Get expanded details for reporting unit")
@@ -0,0 +1,153 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.audit.AuditChangeDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@DisplayName("Integrated Test | Audit History Repository")
+class AuditHistoryRepositoryIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private DistrictVolumeRepository districtVolumeRepository;
+
+  @Autowired
+  private AuditHistoryRepository auditHistoryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DistrictVolumeEntity entity;
+
+  @BeforeEach
+  void setUp() {
+    SecurityContextHolder.getContext().setAuthentication(
+        new JwtAuthenticationToken(this.jwt, AuthorityUtils.createAuthorityList()));
+    // close the seeded open-ended rows so the open-ended row below does not overlap them
+    jdbcTemplate.update(
+        "UPDATE hrs.district_volume SET end_date = ? WHERE end_date IS NULL AND deleted = FALSE",
+        LocalDate.now());
+
+    entity = new DistrictVolumeEntity();
+    entity.setArea(Area.INTERIOR);
+    entity.setConfigType(ConfigType.DISTRICT_VOLUME);
+    entity.setStartDate(LocalDate.now().plusYears(400));
+    entity.setTableData(new TableData(null, null, null, Map.of()));
+    entity.setTableLevelFactor(new BigDecimal("1.000"));
+    entity = districtVolumeRepository.saveAndFlush(entity);
+
+    entity.setEndDate(LocalDate.now().plusYears(401));
+    entity = districtVolumeRepository.saveAndFlush(entity);
+  }
+
+  @Test
+  @DisplayName("Entity history should page newest first and carry only the changed columns")
+  void findPage_returnsDiffsNewestFirst() {
+    AuditHistoryFilterDto filter = filter(false);
+
+    List<AuditChangeDto> firstPage = auditHistoryRepository.findPage(filter, null, 1);
+
+    assertThat(firstPage).singleElement().satisfies(change -> {
+      assertThat(change.action()).isEqualTo("UPDATE");
+      assertThat(change.changedColumns()).contains("end_date").doesNotContain("table_data");
+      assertThat(change.previousValues().has("table_data")).isFalse();
+      assertThat(change.previousValues().get("end_date").isNull()).isTrue();
+      assertThat(change.currentValues().get("end_date").asString())
+          .isEqualTo(entity.getEndDate().toString());
+    });
+
+    List<AuditChangeDto> secondPage = auditHistoryRepository.findPage(
+        filter, AuditHistoryRepository.cursorOf(filter, firstPage.getFirst()), 1);
+
+    assertThat(secondPage).singleElement().satisfies(change -> {
+      assertThat(change.action()).isEqualTo("CREATE");
+      assertThat(change.previousValues()).isNull();
+      assertThat(change.currentValues().has("table_data")).isTrue();
+    });
+  }
+
+  @Test
+  @DisplayName("Snapshots should rebuild the full row images from the stored diffs")
+  void findPage_rebuildsSnapshots_whenRequested() {
+    List<AuditChangeDto> changes = auditHistoryRepository.findPage(filter(true), null, 1);
+
+    assertThat(changes).singleElement().satisfies(change -> {
+      assertThat(change.previousValues().has("table_data")).isTrue();
+      assertThat(change.previousValues().get("end_date").isNull()).isTrue();
+      assertThat(change.currentValues().has("table_data")).isTrue();
+      assertThat(change.currentValues().get("end_date").asString())
+          .isEqualTo(entity.getEndDate().toString());
+    });
+  }
+
+  @Test
+  @DisplayName("An update after the monthly snapshot should only store its changed keys")
+  void trigger_storesChangedKeysOnly_afterSnapshot() {
+    Map<String, Object> stored = jdbcTemplate.queryForMap(
+        "SELECT snapshot, current_values -> 'table_data' IS NOT NULL AS has_table_data, "
+            + "current_values -> 'end_date' IS NOT NULL AS has_end_date "
+            + "FROM hrs.audit_change WHERE entity_type = 'DISTRICT_VOLUME' AND entity_id = ? "
+            + "AND action = 'UPDATE'",
+        entity.getId());
+
+    assertThat(stored)
+        .containsEntry("snapshot", false)
+        .containsEntry("has_table_data", false)
+        .containsEntry("has_end_date", true);
+  }
+
+  @Test
+  @DisplayName("User history should be keyed on the audit event and continue after the cursor")
+  void findPage_pagesUserHistory() {
+    AuditHistoryFilterDto filter = new AuditHistoryFilterDto(
+        "DISTRICT_VOLUME", null, entity.getCreatedBy(), null, null, false, null);
+
+    List<AuditChangeDto> firstPage = auditHistoryRepository.findPage(filter, null, 1);
+    List<AuditChangeDto> secondPage = auditHistoryRepository.findPage(
+        filter, AuditHistoryRepository.cursorOf(filter, firstPage.getFirst()), 1);
+
+    assertThat(firstPage).singleElement()
+        .extracting(AuditChangeDto::entityId).isEqualTo(entity.getId());
+    assertThat(secondPage).singleElement()
+        .extracting(AuditChangeDto::id).isNotEqualTo(firstPage.getFirst().id());
+    assertThat(secondPage.getFirst().changedAt())
+        .isBeforeOrEqualTo(firstPage.getFirst().changedAt());
+  }
+
+  @Test
+  @DisplayName("Streaming should hand over the whole history in order")
+  void stream_returnsWholeHistory() {
+    List<AuditChangeDto> streamed = new ArrayList<>();
+
+    auditHistoryRepository.stream(filter(false), null, streamed::add);
+
+    assertThat(streamed)
+        .extracting(AuditChangeDto::action)
+        .containsExactly("UPDATE", "CREATE");
+  }
+
+  private AuditHistoryFilterDto filter(boolean snapshots) {
+    return new AuditHistoryFilterDto(
+        "DISTRICT_VOLUME", entity.getId(), null, null, null, snapshots, null);
+  }
+}
@@ -0,0 +1,58 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@DisplayName("Integrated Test | Audit Partition Repository")
+class AuditPartitionRepositoryIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private AuditPartitionRepository auditPartitionRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Partitions of the coming months should already exist after the migration")
+  void createPartitions_isIdempotent() {
+    assertThat(auditPartitionRepository.createPartitions(3)).isEmpty();
+    assertThat(auditPartitionRepository.createPartitions(4))
+        .hasSize(2)
+        .allMatch(name -> name.matches("audit_(event|change)_y\\d{4}m\\d{2}"));
+  }
+
+  @Test
+  @DisplayName("Expired partitions should be detached into the archive schema")
+  void archivePartitions_movesExpiredPartitions() {
+    jdbcTemplate.queryForList("SELECT hrs.audit_create_partition(DATE '2000-01-15')", String.class);
+
+    List<String> archived = auditPartitionRepository.archivePartitions(12);
+
+    assertThat(archived).contains("audit_change_y2000m01", "audit_event_y2000m01");
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT table_name FROM information_schema.tables "
+            + "WHERE table_schema = 'hrs_audit_archive'",
+        String.class))
+        .contains("audit_change_y2000m01", "audit_event_y2000m01");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM pg_inherits WHERE inhrelid = "
+            + "'hrs_audit_archive.audit_change_y2000m01'::regclass",
+        Integer.class))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("The maintenance lock should be re-entrant within its transaction")
+  void tryLock_isReentrantWithinTheTransaction() {
+    assertThat(auditPartitionRepository.tryLock()).isTrue();
+    assertThat(auditPartitionRepository.tryLock()).isTrue();
+  }
+}
@@ -0,0 +1,184 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeListItemDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.nrs.hrs.mapper.DistrictVolumeMapper;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares listing a page of configurations through full entities against the column-restricted
+ * summary projection.
+ *
+ * <p>Each configuration carries a large table so the cost of reading and deserializing
+ * {@code table_data} dominates the entity path. Latency is logged for reference only; the
+ * assertion is on allocated bytes, which is stable across machines. Everything runs in a
+ * rolled-back transaction so the seeded rows never leak into other tests.</p>
+ */
+@Slf4j
+@Transactional
+@DisplayName("Integrated Test | District Volume Listing Benchmark")
+class DistrictVolumeListingBenchmarkIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final int CONFIGURATIONS = 40;
+  private static final int ROWS_PER_TABLE = 500;
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+  private static final Pageable PAGE =
+      PageRequest.of(0, CONFIGURATIONS, Sort.by(Sort.Direction.DESC, "startDate"));
+
+  @Autowired
+  private DistrictVolumeRepository repository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  @DisplayName("Summary projection by type and area should allocate less than loading entities")
+  void summariesByTypeAndArea_shouldAllocateLessThanEntities() {
+    seed();
+
+    // the listing as it was before the projection, loading every entity with its table
+    Measurement entities = measure(() -> entityManager
+        .createQuery("SELECT d FROM DistrictVolumeEntity d "
+            + "WHERE d.configType = :configType AND d.area = :area AND d.deleted = FALSE "
+            + "ORDER BY d.startDate DESC", DistrictVolumeEntity.class)
+        .setParameter("configType", ConfigType.SPECIES_COMPOSITION)
+        .setParameter("area", Area.INTERIOR)
+        .setMaxResults(CONFIGURATIONS)
+        .getResultStream()
+        .map(DistrictVolumeMapper::toListItemDto)
+        .toList());
+    Measurement summaries = measure(() -> repository
+        .findAllLiveSummariesByConfigTypeAndArea(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, PAGE)
+        .map(DistrictVolumeMapper::toListItemDto)
+        .getContent());
+
+    report("by type and area", entities, summaries);
+    assertThat(summaries.bytes()).isLessThan(entities.bytes());
+  }
+
+  @Test
+  @DisplayName("Summary projection by type should allocate less than loading entities")
+  void summariesByType_shouldAllocateLessThanEntities() {
+    seed();
+
+    Measurement entities = measure(() -> entityManager
+        .createQuery("SELECT d FROM DistrictVolumeEntity d "
+            + "WHERE d.configType = :configType AND d.deleted = FALSE "
+            + "ORDER BY d.startDate DESC", DistrictVolumeEntity.class)
+        .setParameter("configType", ConfigType.SPECIES_COMPOSITION)
+        .setMaxResults(CONFIGURATIONS)
+        .getResultStream()
+        .map(DistrictVolumeMapper::toListItemDto)
+        .toList());
+    Measurement summaries = measure(() -> repository
+        .findAllLiveSummariesByConfigType(ConfigType.SPECIES_COMPOSITION, PAGE)
+        .map(DistrictVolumeMapper::toListItemDto)
+        .getContent());
+
+    report("by type", entities, summaries);
+    assertThat(summaries.bytes()).isLessThan(entities.bytes());
+  }
+
+  private void report(String listing, Measurement entities, Measurement summaries) {
+    log.info(
+        "Listing {} configurations of {} rows {}: entities {} us / {} KiB, "
+            + "summaries {} us / {} KiB",
+        CONFIGURATIONS, ROWS_PER_TABLE, listing,
+        entities.micros(), entities.kibibytes(),
+        summaries.micros(), summaries.kibibytes());
+  }
+
+  private Measurement measure(Supplier<List<DistrictVolumeListItemDto>> listing) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+
+    for (int i = 0; i < WARMUP; i++) {
+      entityManager.clear();
+      assertThat(listing.get()).hasSizeGreaterThanOrEqualTo(CONFIGURATIONS);
+    }
+
+    long nanos = 0;
+    long bytes = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      entityManager.clear();
+      long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+      long start = System.nanoTime();
+      listing.get();
+      nanos += System.nanoTime() - start;
+      bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    }
+    return new Measurement(nanos / ITERATIONS, bytes / ITERATIONS);
+  }
+
+  private void seed() {
+    SecurityContextHolder.getContext().setAuthentication(
+        new JwtAuthenticationToken(this.jwt, AuthorityUtils.createAuthorityList()));
+
+    List<DistrictRow> rows = IntStream
+        .range(0, ROWS_PER_TABLE)
+        .mapToObj(index -> new DistrictRow(
+            new CodeDescriptionDto("D" + index, "District " + index),
+            new BigDecimal("1.234"),
+            new BigDecimal("2.345"),
+            new BigDecimal("3.456"),
+            null,
+            null,
+            null,
+            new BigDecimal("7.035")))
+        .toList();
+
+    for (int i = 0; i < CONFIGURATIONS; i++) {
+      DistrictVolumeEntity entity = new DistrictVolumeEntity();
+      entity.setArea(Area.INTERIOR);
+      entity.setConfigType(ConfigType.SPECIES_COMPOSITION);
+      entity.setStartDate(LocalDate.now().plusYears(10).plusDays(i));
+      entity.setEndDate(LocalDate.now().plusYears(10).plusDays(i));
+      entity.setTableLevelFactor(new BigDecimal("1.000"));
+      entity.setTableData(new TableData(List.of(new Zone("Zone", rows)), null, null, Map.of()));
+      repository.save(entity);
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private record Measurement(long nanos, long bytes) {
+
+    long micros() {
+      return nanos / 1_000;
+    }
+
+    long kibibytes() {
+      return bytes / 1_024;
+    }
+  }
+}
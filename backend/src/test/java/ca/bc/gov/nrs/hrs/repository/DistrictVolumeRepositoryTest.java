@@ -1,26 +1,50 @@
 package ca.bc.gov.nrs.hrs.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Section;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
 import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
 
+@Transactional
 public class DistrictVolumeRepositoryTest
     extends AbstractTestContainerIntegrationTest {
 
   @Autowired
   private DistrictVolumeRepository repository;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void closeSeededTimelines() {
+    // The seeded rows are open-ended; close them, as a new configuration would, so the rows
+    // below do not overlap them. The test transaction rolls this back.
+    jdbcTemplate.update(
+        "UPDATE hrs.district_volume SET end_date = ? WHERE end_date IS NULL AND deleted = FALSE",
+        LocalDate.now());
+  }
+
   @Test
   void findTop1ByConfigTypeAndAreaAndDeletedFalseOrderByStartDateDesc_returnsNewestForArea() {
 
@@ -34,6 +58,7 @@ public class DistrictVolumeRepositoryTest
     first.setArea(Area.INTERIOR);
     first.setConfigType(ConfigType.DISTRICT_VOLUME);
     first.setStartDate(LocalDate.now().plusDays(1));
+    first.setEndDate(LocalDate.now().plusDays(1));
     first.setTableData(new TableData(null, null, null, java.util.Map.of()));
     first.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
 
@@ -77,16 +102,15 @@ public class DistrictVolumeRepositoryTest
     speciesComposition.setConfigType(ConfigType.SPECIES_COMPOSITION);
 
     repository.save(districtVolume);
-    repository.save(speciesComposition);
+    DistrictVolumeEntity saved = repository.save(speciesComposition);
 
-    var result = repository.findAllLiveByConfigType(
+    var result = repository.findAllLiveSummariesByConfigType(
         ConfigType.SPECIES_COMPOSITION,
         PageRequest.of(0, 10));
 
     assertThat(result.getContent())
-        .hasSize(1)
-        .allMatch(
-            entity -> entity.getConfigType() == ConfigType.SPECIES_COMPOSITION);
+        .extracting(DistrictVolumeSummaryProjection::getId)
+        .containsExactly(saved.getId());
   }
 
   @Test
@@ -118,4 +142,148 @@ public class DistrictVolumeRepositoryTest
             ConfigType.SPECIES_COMPOSITION))
         .isEmpty();
   }
-}
\ No newline at end of file
+
+  @Test
+  void findAllLiveSummariesByConfigTypeAndArea_returnsListingColumnsInRequestedOrder() {
+
+    JwtAuthenticationToken token = new JwtAuthenticationToken(
+        this.jwt,
+        AuthorityUtils.createAuthorityList());
+    SecurityContextHolder.getContext().setAuthentication(token);
+
+    DistrictVolumeEntity older = new DistrictVolumeEntity();
+    older.setArea(Area.COASTAL);
+    older.setStartDate(LocalDate.now().plusDays(10));
+    older.setEndDate(LocalDate.now().plusDays(19));
+    older.setTableData(new TableData(null, null, null, java.util.Map.of()));
+    older.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    older.setConfigType(ConfigType.SPECIES_COMPOSITION);
+
+    DistrictVolumeEntity newer = new DistrictVolumeEntity();
+    newer.setArea(Area.COASTAL);
+    newer.setStartDate(LocalDate.now().plusDays(20));
+    newer.setTableData(new TableData(null, null, null, java.util.Map.of()));
+    newer.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    newer.setConfigType(ConfigType.SPECIES_COMPOSITION);
+
+    repository.save(older);
+    repository.save(newer);
+
+    var result = repository.findAllLiveSummariesByConfigTypeAndArea(
+        ConfigType.SPECIES_COMPOSITION,
+        Area.COASTAL,
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate")));
+
+    assertThat(result.getTotalElements()).isGreaterThanOrEqualTo(2);
+    assertThat(result.getContent())
+        .allMatch(summary -> summary.getArea() == Area.COASTAL)
+        .allMatch(summary -> summary.getCreatedBy() != null)
+        .allMatch(summary -> summary.getDateOfUpload() != null);
+    assertThat(result.getContent().getFirst().getStartDate())
+        .isAfterOrEqualTo(newer.getStartDate());
+  }
+
+  @Test
+  void findActiveAreasByDistrictCodes_readsGeneratedDistrictCodes() {
+
+    JwtAuthenticationToken token = new JwtAuthenticationToken(
+        this.jwt,
+        AuthorityUtils.createAuthorityList());
+    SecurityContextHolder.getContext().setAuthentication(token);
+
+    LocalDate lookupDate = LocalDate.now().plusYears(50);
+
+    DistrictVolumeEntity active = new DistrictVolumeEntity();
+    active.setArea(Area.COASTAL);
+    active.setStartDate(lookupDate.minusDays(1));
+    active.setEndDate(lookupDate.plusDays(1));
+    active.setTableData(new TableData(
+        null,
+        java.util.List.of(new Section("North", java.util.List.of(districtRow("zzq")))),
+        null,
+        java.util.Map.of()));
+    active.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    active.setConfigType(ConfigType.DISTRICT_VOLUME);
+
+    DistrictVolumeEntity expired = new DistrictVolumeEntity();
+    expired.setArea(Area.INTERIOR);
+    expired.setStartDate(lookupDate.minusDays(10));
+    expired.setEndDate(lookupDate.minusDays(5));
+    expired.setTableData(new TableData(
+        java.util.List.of(new Zone("South", java.util.List.of(districtRow("ZZQ")))),
+        null,
+        null,
+        java.util.Map.of()));
+    expired.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    expired.setConfigType(ConfigType.DISTRICT_VOLUME);
+
+    repository.save(active);
+    repository.save(expired);
+
+    assertThat(repository.findActiveAreasByDistrictCode(
+        ConfigType.DISTRICT_VOLUME, "ZZQ", lookupDate))
+        .containsExactly("COASTAL");
+    assertThat(repository.findActiveAreasByDistrictCodes(
+        ConfigType.DISTRICT_VOLUME, new String[]{"ZZQ", "ZZX"}, lookupDate))
+        .singleElement()
+        .satisfies(match -> {
+          assertThat(match.getDistrictCode()).isEqualTo("ZZQ");
+          assertThat(match.getArea()).isEqualTo("COASTAL");
+        });
+    assertThat(repository.findActiveAreasByDistrictCode(
+        ConfigType.SPECIES_COMPOSITION, "ZZQ", lookupDate))
+        .isEmpty();
+  }
+
+  @Test
+  void save_rejectsOverlappingLiveRows_butIgnoresDeletedOnes() {
+
+    JwtAuthenticationToken token = new JwtAuthenticationToken(
+        this.jwt,
+        AuthorityUtils.createAuthorityList());
+    SecurityContextHolder.getContext().setAuthentication(token);
+
+    LocalDate start = LocalDate.now().plusYears(60);
+
+    DistrictVolumeEntity deleted = new DistrictVolumeEntity();
+    deleted.setArea(Area.INTERIOR);
+    deleted.setStartDate(start);
+    deleted.setTableData(new TableData(null, null, null, java.util.Map.of()));
+    deleted.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    deleted.setConfigType(ConfigType.SPECIES_COMPOSITION);
+    deleted.setDeleted(true);
+
+    DistrictVolumeEntity bounded = new DistrictVolumeEntity();
+    bounded.setArea(Area.INTERIOR);
+    bounded.setStartDate(start);
+    bounded.setEndDate(start.plusDays(9));
+    bounded.setTableData(new TableData(null, null, null, java.util.Map.of()));
+    bounded.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    bounded.setConfigType(ConfigType.SPECIES_COMPOSITION);
+
+    DistrictVolumeEntity overlapping = new DistrictVolumeEntity();
+    overlapping.setArea(Area.INTERIOR);
+    overlapping.setStartDate(start.plusDays(9));
+    overlapping.setTableData(new TableData(null, null, null, java.util.Map.of()));
+    overlapping.setTableLevelFactor(new BigDecimal("1.000").setScale(3));
+    overlapping.setConfigType(ConfigType.SPECIES_COMPOSITION);
+
+    repository.saveAndFlush(deleted);
+    repository.saveAndFlush(bounded);
+
+    assertThatThrownBy(() -> repository.saveAndFlush(overlapping))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  private static DistrictRow districtRow(String districtCode) {
+    return new DistrictRow(
+        new CodeDescriptionDto(districtCode, districtCode),
+        BigDecimal.ONE,
+        null,
+        null,
+        BigDecimal.ONE,
+        BigDecimal.ONE,
+        BigDecimal.ONE,
+        new BigDecimal("4"));
+  }
+}
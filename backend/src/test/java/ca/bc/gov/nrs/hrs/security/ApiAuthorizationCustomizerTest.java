@@ -0,0 +1,94 @@
+package ca.bc.gov.nrs.hrs.security;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
+import ca.bc.gov.nrs.hrs.service.DistrictVolumeService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Sends requests through the whole filter chain to check who may reach an endpoint. The services
+ * behind the endpoints are mocked, so no database is needed.
+ */
+@AutoConfigureMockMvc
+@DisplayName("Unit Test | ApiAuthorizationCustomizer")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    properties = {
+        "spring.datasource.url=jdbc:postgresql://localhost:1/hrs",
+        "spring.datasource.hikari.initialization-fail-timeout=-1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+        "ca.bc.gov.nrs.active-configuration.enabled=false"
+    }
+)
+class ApiAuthorizationCustomizerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private DistrictVolumeService districtVolumeService;
+
+  @Test
+  @WithMockJwt(cognitoGroups = {"WASTE_PLUS_SUBMITTER_00012345"})
+  @DisplayName("should let a submitter look up the effective district volume")
+  void shouldAllowSubmitterEffectiveLookup() throws Exception {
+    when(districtVolumeService.getEffectiveDistrictVolume(eq("DND"), any(LocalDate.class)))
+        .thenReturn(Optional.empty());
+
+    mockMvc
+        .perform(get("/api/district-volumes/effective").param("district", "DND"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @WithMockJwt(cognitoGroups = {"WASTE_PLUS_DISTRICT"})
+  @DisplayName("should let a district reviewer look up effective district volumes in batch")
+  void shouldAllowDistrictBatchLookup() throws Exception {
+    when(districtVolumeService.getEffectiveDistrictVolumes(any())).thenReturn(List.of());
+
+    mockMvc
+        .perform(post("/api/district-volumes/effective")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"lookups\":[{\"district\":\"DND\",\"date\":\"2026-03-01\"}]}"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @WithMockJwt(cognitoGroups = {"WASTE_PLUS_VIEWER"})
+  @DisplayName("should refuse the effective district volume to a viewer")
+  void shouldRefuseViewerEffectiveLookup() throws Exception {
+    mockMvc
+        .perform(get("/api/district-volumes/effective").param("district", "DND"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockJwt(cognitoGroups = {"WASTE_PLUS_SUBMITTER_00012345"})
+  @DisplayName("should keep the district volume configuration to administrators")
+  void shouldRefuseSubmitterConfiguration() throws Exception {
+    mockMvc
+        .perform(get("/api/configuration/district-average-volumes"))
+        .andExpect(status().isForbidden());
+  }
+}
@@ -0,0 +1,223 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.AuditHistoryConfiguration;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditChangeDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryCursor;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryFilterDto;
+import ca.bc.gov.nrs.hrs.dto.audit.AuditHistoryPageDto;
+import ca.bc.gov.nrs.hrs.repository.AuditHistoryRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | Audit History Service")
+class AuditHistoryServiceTest {
+
+  private static final Instant CHANGED_AT = Instant.parse("2026-03-01T10:15:30.123456Z");
+
+  @Mock
+  private AuditHistoryRepository auditHistoryRepository;
+
+  private AuditHistoryService service;
+
+  @BeforeEach
+  void setUp() {
+    HrsConfiguration configuration = new HrsConfiguration();
+    configuration.setAuditHistory(AuditHistoryConfiguration
+        .builder()
+        .defaultPageSize(2)
+        .maxPageSize(3)
+        .build());
+    service = new AuditHistoryService(configuration, auditHistoryRepository);
+  }
+
+  @Test
+  @DisplayName("Should return the last page without a cursor")
+  void getHistory_returnsLastPageWithoutCursor() {
+    AuditHistoryFilterDto filter = entityFilter(null);
+    when(auditHistoryRepository.findPage(any(), isNull(), eq(3)))
+        .thenReturn(changes(2));
+
+    AuditHistoryPageDto page = service.getHistory(filter, null);
+
+    assertThat(page.changes()).hasSize(2);
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should read one row more than the page and return a cursor after the last change")
+  void getHistory_returnsCursor_whenMoreChangesExist() {
+    when(auditHistoryRepository.findPage(any(), isNull(), eq(3)))
+        .thenReturn(changes(3));
+
+    AuditHistoryPageDto page = service.getHistory(entityFilter(null), null);
+
+    assertThat(page.changes()).extracting(AuditChangeDto::id).containsExactly(10L, 9L);
+    assertThat(AuditHistoryCursor.decode(page.nextCursor()))
+        .isEqualTo(new AuditHistoryCursor(CHANGED_AT, 9L));
+  }
+
+  @Test
+  @DisplayName("Should key the cursor of a user history on the audit event id")
+  void getHistory_usesEventIdInCursor_forUserHistory() {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto(null, null, "IDIR/JDOE", null, null, false, null);
+    when(auditHistoryRepository.findPage(any(), isNull(), eq(2)))
+        .thenReturn(changes(2));
+
+    AuditHistoryPageDto page = service.getHistory(filter, 1);
+
+    assertThat(AuditHistoryCursor.decode(page.nextCursor()))
+        .isEqualTo(new AuditHistoryCursor(CHANGED_AT, 110L));
+  }
+
+  @Test
+  @DisplayName("Should continue after the decoded cursor")
+  void getHistory_continuesAfterCursor() {
+    AuditHistoryCursor cursor = new AuditHistoryCursor(CHANGED_AT, 42L);
+    when(auditHistoryRepository.findPage(any(), eq(cursor), anyInt()))
+        .thenReturn(List.of());
+
+    AuditHistoryPageDto page = service.getHistory(entityFilter(cursor.encode()), null);
+
+    assertThat(page.changes()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should cap the page size at the configured maximum")
+  void getHistory_capsPageSize() {
+    when(auditHistoryRepository.findPage(any(), isNull(), eq(4)))
+        .thenReturn(List.of());
+
+    service.getHistory(entityFilter(null), 1000);
+
+    verify(auditHistoryRepository).findPage(any(), isNull(), eq(4));
+  }
+
+  @Test
+  @DisplayName("Should normalize the entity type to upper case")
+  void getHistory_normalizesEntityType() {
+    ArgumentCaptor<AuditHistoryFilterDto> captor =
+        ArgumentCaptor.forClass(AuditHistoryFilterDto.class);
+    when(auditHistoryRepository.findPage(captor.capture(), isNull(), anyInt()))
+        .thenReturn(List.of());
+
+    service.getHistory(
+        new AuditHistoryFilterDto("species_composition", 7L, null, null, null, true, null), null);
+
+    assertThat(captor.getValue().entityType()).isEqualTo("SPECIES_COMPOSITION");
+    assertThat(captor.getValue().snapshots()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown entity type with 400")
+  void getHistory_throws400_whenEntityTypeUnknown() {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto("USER_PREFERENCE", 7L, null, null, null, false, null);
+
+    assertBadRequest(() -> service.getHistory(filter, null));
+  }
+
+  @Test
+  @DisplayName("Should reject an entity history without an entity type with 400")
+  void getHistory_throws400_whenEntityTypeMissing() {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto(null, 7L, null, null, null, false, null);
+
+    assertBadRequest(() -> service.getHistory(filter, null));
+  }
+
+  @Test
+  @DisplayName("Should reject an empty time window with 400")
+  void getHistory_throws400_whenWindowEmpty() {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto(null, null, null, CHANGED_AT, CHANGED_AT, false, null);
+
+    assertBadRequest(() -> service.getHistory(filter, null));
+  }
+
+  @Test
+  @DisplayName("Should reject a malformed cursor with 400")
+  void getHistory_throws400_whenCursorMalformed() {
+    assertBadRequest(() -> service.getHistory(entityFilter("not-a-cursor"), null));
+  }
+
+  @Test
+  @DisplayName("Should reject a page size below one with 400")
+  void getHistory_throws400_whenSizeNotPositive() {
+    assertBadRequest(() -> service.getHistory(entityFilter(null), 0));
+  }
+
+  @Test
+  @DisplayName("Should stream the history after the decoded cursor")
+  void streamHistory_streamsAfterCursor() {
+    AuditHistoryCursor cursor = new AuditHistoryCursor(CHANGED_AT, 42L);
+    Consumer<AuditChangeDto> sink = change -> { };
+
+    service.streamHistory(entityFilter(cursor.encode()), sink);
+
+    verify(auditHistoryRepository).stream(any(), eq(cursor), eq(sink));
+  }
+
+  @Test
+  @DisplayName("Should not stream an invalid filter")
+  void streamHistory_throws400_whenFilterInvalid() {
+    AuditHistoryFilterDto filter =
+        new AuditHistoryFilterDto("UNKNOWN", 7L, null, null, null, false, null);
+
+    assertBadRequest(() -> service.streamHistory(filter, change -> { }));
+    verifyNoInteractions(auditHistoryRepository);
+  }
+
+  private static AuditHistoryFilterDto entityFilter(String cursor) {
+    return new AuditHistoryFilterDto("DISTRICT_VOLUME", 7L, null, null, null, false, cursor);
+  }
+
+  private static List<AuditChangeDto> changes(int count) {
+    return LongStream
+        .range(0, count)
+        .mapToObj(index -> new AuditChangeDto(
+            10L - index,
+            110L - index,
+            "DISTRICT_VOLUME",
+            7L,
+            "UPDATE",
+            "IDIR/JDOE",
+            CHANGED_AT,
+            null,
+            null,
+            List.of("end_date"),
+            null,
+            null))
+        .toList();
+  }
+
+  private static void assertBadRequest(Runnable call) {
+    assertThatThrownBy(call::run)
+        .isInstanceOf(ResponseStatusException.class)
+        .extracting(exception -> ((ResponseStatusException) exception).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+}
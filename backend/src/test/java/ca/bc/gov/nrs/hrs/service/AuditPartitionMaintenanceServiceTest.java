@@ -0,0 +1,73 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.AuditPartitionConfiguration;
+import ca.bc.gov.nrs.hrs.repository.AuditPartitionRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | Audit Partition Maintenance Service")
+class AuditPartitionMaintenanceServiceTest {
+
+  @Mock
+  private AuditPartitionRepository auditPartitionRepository;
+
+  @Test
+  @DisplayName("Should create the coming partitions before archiving the expired ones")
+  void maintainPartitions_createsThenArchives() {
+    when(auditPartitionRepository.tryLock()).thenReturn(true);
+    when(auditPartitionRepository.createPartitions(2))
+        .thenReturn(List.of("audit_event_y2026m06", "audit_change_y2026m06"));
+    when(auditPartitionRepository.archivePartitions(12))
+        .thenReturn(List.of("audit_change_y2025m01", "audit_event_y2025m01"));
+
+    service(true).maintainPartitions();
+
+    InOrder inOrder = inOrder(auditPartitionRepository);
+    inOrder.verify(auditPartitionRepository).tryLock();
+    inOrder.verify(auditPartitionRepository).createPartitions(2);
+    inOrder.verify(auditPartitionRepository).archivePartitions(12);
+  }
+
+  @Test
+  @DisplayName("Should skip the run when another pod holds the lock")
+  void maintainPartitions_skips_whenLockHeldElsewhere() {
+    when(auditPartitionRepository.tryLock()).thenReturn(false);
+
+    service(true).maintainPartitions();
+
+    verify(auditPartitionRepository, never()).createPartitions(2);
+    verify(auditPartitionRepository, never()).archivePartitions(12);
+  }
+
+  @Test
+  @DisplayName("Should do nothing when disabled")
+  void maintainPartitions_doesNothing_whenDisabled() {
+    service(false).maintainPartitions();
+
+    verifyNoInteractions(auditPartitionRepository);
+  }
+
+  private AuditPartitionMaintenanceService service(boolean enabled) {
+    HrsConfiguration configuration = new HrsConfiguration();
+    configuration.setAuditPartitions(AuditPartitionConfiguration
+        .builder()
+        .enabled(enabled)
+        .monthsAhead(2)
+        .retentionMonths(12)
+        .build());
+    return new AuditPartitionMaintenanceService(configuration, auditPartitionRepository);
+  }
+}
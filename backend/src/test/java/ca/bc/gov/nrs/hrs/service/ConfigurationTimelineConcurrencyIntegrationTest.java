@@ -0,0 +1,152 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableDataDto;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Hammers configuration timelines with concurrent creates to check that the per-timeline advisory
+ * lock keeps every timeline gap-free and overlap-free without aborting any request.
+ *
+ * <p>Every create uses a distinct far-future start date, submitted in shuffled order so rows land
+ * both before and after each other. Rows that were open-ended before the test are reopened and
+ * the created rows, all starting on or after {@link #BASE}, removed afterward.</p>
+ */
+@DisplayName("Integrated Test | Configuration Timeline Concurrency")
+class ConfigurationTimelineConcurrencyIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final String USER = "timeline-concurrency";
+  private static final LocalDate BASE = LocalDate.now().plusYears(500);
+  private static final int CREATES_PER_TIMELINE = 12;
+  private static final int THREADS = 8;
+
+  @Autowired
+  private DistrictVolumeService districtVolumeService;
+
+  @Autowired
+  private SpeciesCompositionService speciesCompositionService;
+
+  @Autowired
+  private DistrictVolumeRepository repository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private List<Long> openBefore;
+
+  @BeforeEach
+  void setUp() {
+    SecurityContextHolder.getContext().setAuthentication(
+        new JwtAuthenticationToken(this.jwt, AuthorityUtils.createAuthorityList()));
+    openBefore = jdbcTemplate.queryForList(
+        "SELECT id FROM hrs.district_volume WHERE end_date IS NULL AND deleted = FALSE",
+        Long.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM hrs.district_volume WHERE start_date >= ?", BASE);
+    for (Long id : openBefore) {
+      jdbcTemplate.update("UPDATE hrs.district_volume SET end_date = NULL WHERE id = ?", id);
+    }
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("Concurrent creates across areas should all succeed with contiguous timelines")
+  void concurrentCreates_shouldKeepTimelinesContiguous() {
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+    List<Runnable> creates = new ArrayList<>();
+    for (ConfigType configType : ConfigType.values()) {
+      for (Area area : Area.values()) {
+        for (int index = 0; index < CREATES_PER_TIMELINE; index++) {
+          DistrictVolumeCreateDto createDto = createDto(area, BASE.plusMonths(index));
+          creates.add(configType == ConfigType.DISTRICT_VOLUME
+              ? () -> districtVolumeService.createDistrictVolume(USER, createDto)
+              : () -> speciesCompositionService.createSpeciesComposition(USER, createDto));
+        }
+      }
+    }
+    Collections.shuffle(creates);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CompletableFuture<?>[] tasks = creates
+        .stream()
+        .map(create -> CompletableFuture.runAsync(() -> {
+          SecurityContextHolder.setContext(securityContext);
+          try {
+            create.run();
+          } finally {
+            SecurityContextHolder.clearContext();
+          }
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+    executor.shutdown();
+
+    for (ConfigType configType : ConfigType.values()) {
+      for (Area area : Area.values()) {
+        List<DistrictVolumeEntity> timeline = repository
+            .findAllLiveByConfigTypeAndAreaOrderByStartDate(configType, area);
+
+        assertThat(timeline)
+            .filteredOn(entity -> !entity.getStartDate().isBefore(BASE))
+            .hasSize(CREATES_PER_TIMELINE);
+        assertThat(timeline)
+            .filteredOn(entity -> entity.getEndDate() == null)
+            .hasSize(1)
+            .first()
+            .extracting(DistrictVolumeEntity::getStartDate)
+            .isEqualTo(BASE.plusMonths(CREATES_PER_TIMELINE - 1L));
+        for (int index = 0; index < timeline.size() - 1; index++) {
+          if (timeline.get(index + 1).getStartDate().isBefore(BASE)) {
+            continue;
+          }
+          assertThat(timeline.get(index).getEndDate())
+              .as("%s %s row starting %s", configType, area, timeline.get(index).getStartDate())
+              .isEqualTo(timeline.get(index + 1).getStartDate().minusDays(1));
+        }
+      }
+    }
+  }
+
+  private static DistrictVolumeCreateDto createDto(Area area, LocalDate startDate) {
+    TableDataDto tableData = area == Area.INTERIOR
+        ? new InteriorDataDto(List.of(), Map.of())
+        : new CoastDataDto(List.of(), Map.of());
+    return new DistrictVolumeCreateDto(
+        area.name(),
+        startDate,
+        BigDecimal.ONE,
+        area == Area.COASTAL ? BigDecimal.ONE : null,
+        tableData);
+  }
+}
@@ -2,26 +2,40 @@ package ca.bc.gov.nrs.hrs.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import ca.bc.gov.nrs.hrs.cache.ActiveConfiguration;
+import ca.bc.gov.nrs.hrs.cache.ActiveConfigurationRegistry;
+import ca.bc.gov.nrs.hrs.cache.DetailResponseCache;
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.EffectiveDistrictVolumeLookupDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictAreaProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictRow;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Section;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Zone;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineLock;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository.TimelineSlot;
 import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,15 +46,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,9 +79,31 @@ class DistrictVolumeServiceTest {
   @Mock
   private DistrictVolumeRepository districtVolumeRepository;
 
+  @Mock
+  private ActiveConfigurationRegistry activeConfigurationRegistry;
+
+  @Mock
+  private DetailResponseCache detailResponseCache;
+
+  @Mock
+  private ConfigurationTimelineLock timelineLock;
+
+  @Mock
+  private ConfigurationTimelineRepository timelineRepository;
+
   @InjectMocks
   private DistrictVolumeService districtVolumeService;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(activeConfigurationRegistry.isEnabled()).thenReturn(true);
+  }
+
+  private static DistrictVolumeSummaryProjection summaryOf(DistrictVolumeEntity entity) {
+    return new SpelAwareProxyProjectionFactory()
+        .createProjection(DistrictVolumeSummaryProjection.class, entity);
+  }
+
   private DistrictVolumeEntity buildEntity(Area area) {
     DistrictVolumeEntity entity = new DistrictVolumeEntity();
     entity.setId(1L);
@@ -100,8 +139,9 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
     PageRequest pageable = PageRequest.of(0, 10);
 
-    when(districtVolumeRepository.findAllLiveByConfigType(ConfigType.DISTRICT_VOLUME, pageable))
-        .thenReturn(new PageImpl<>(List.of(entity), pageable, 1));
+    when(districtVolumeRepository.findAllLiveSummariesByConfigType(
+            ConfigType.DISTRICT_VOLUME, pageable))
+        .thenReturn(new PageImpl<>(List.of(summaryOf(entity)), pageable, 1));
 
     var result =
         districtVolumeService.getDistrictVolumes(Optional.empty(), pageable);
@@ -110,7 +150,8 @@ class DistrictVolumeServiceTest {
     assertThat(result.getTotalElements()).isEqualTo(1);
     assertThat(result.getContent()).hasSize(1);
     assertThat(result.getContent().get(0).area()).isEqualTo("INTERIOR");
-    verify(districtVolumeRepository).findAllLiveByConfigType(ConfigType.DISTRICT_VOLUME, pageable);
+    verify(districtVolumeRepository)
+        .findAllLiveSummariesByConfigType(ConfigType.DISTRICT_VOLUME, pageable);
     verify(districtVolumeRepository, never()).findAll(pageable);
   }
 
@@ -122,11 +163,11 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
     PageRequest pageable = PageRequest.of(0, 10);
 
-    when(districtVolumeRepository.findAllLiveByConfigTypeAndArea(
+    when(districtVolumeRepository.findAllLiveSummariesByConfigTypeAndArea(
             ConfigType.DISTRICT_VOLUME,
             Area.INTERIOR,
             pageable))
-        .thenReturn(new PageImpl<>(List.of(entity), pageable, 1));
+        .thenReturn(new PageImpl<>(List.of(summaryOf(entity)), pageable, 1));
 
     var result =
         districtVolumeService.getDistrictVolumes(
@@ -136,7 +177,7 @@ class DistrictVolumeServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getTotalElements()).isEqualTo(1);
     assertThat(result.getContent().get(0).area()).isEqualTo("INTERIOR");
-    verify(districtVolumeRepository).findAllLiveByConfigTypeAndArea(
+    verify(districtVolumeRepository).findAllLiveSummariesByConfigTypeAndArea(
         ConfigType.DISTRICT_VOLUME,
         Area.INTERIOR,
         pageable);
@@ -175,6 +216,61 @@ class DistrictVolumeServiceTest {
         .hasMessageContaining("District volume record not found");
   }
 
+  @Test
+  @DisplayName(
+      "getSerializedDistrictVolumeById — should serve the cached body without loading the entity")
+  void getSerializedDistrictVolumeById_returnsCachedBody_whenCurrent() {
+
+    SerializedDetail cached = new SerializedDetail(MOCK_UPLOAD_TIME, new byte[] {1}, "\"1\"");
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(MOCK_UPLOAD_TIME));
+    when(detailResponseCache.get(ConfigType.DISTRICT_VOLUME, 1L, MOCK_UPLOAD_TIME))
+        .thenReturn(Optional.of(cached));
+
+    assertThat(districtVolumeService.getSerializedDistrictVolumeById(1L)).isSameAs(cached);
+    verify(districtVolumeRepository, never()).findByIdAndConfigType(any(), any());
+  }
+
+  @Test
+  @DisplayName(
+      "getSerializedDistrictVolumeById — should serialize and cache the entity on a miss")
+  void getSerializedDistrictVolumeById_serializesEntity_whenNotCached() {
+
+    DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
+    entity.setUpdatedAt(MOCK_UPLOAD_TIME);
+    SerializedDetail serialized = new SerializedDetail(MOCK_UPLOAD_TIME, new byte[] {1}, "\"1\"");
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(MOCK_UPLOAD_TIME));
+    when(detailResponseCache.get(ConfigType.DISTRICT_VOLUME, 1L, MOCK_UPLOAD_TIME))
+        .thenReturn(Optional.empty());
+    when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(entity));
+    when(detailResponseCache.put(
+        eq(ConfigType.DISTRICT_VOLUME),
+        eq(1L),
+        eq(MOCK_UPLOAD_TIME),
+        any(DistrictVolumeDetailDto.class)))
+        .thenReturn(serialized);
+
+    assertThat(districtVolumeService.getSerializedDistrictVolumeById(1L)).isSameAs(serialized);
+  }
+
+  @Test
+  @DisplayName(
+      "getSerializedDistrictVolumeById — should throw 404 when the record does not exist")
+  void getSerializedDistrictVolumeById_throws404_whenNotFound() {
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(99L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> districtVolumeService.getSerializedDistrictVolumeById(99L))
+        .isInstanceOf(ResponseStatusException.class)
+        .hasMessageContaining("District volume record not found");
+    verify(detailResponseCache, never()).get(any(), any(), any());
+  }
+
   @Test
   @DisplayName(
       "getDistrictVolumeById — should reject a record with another config type")
@@ -372,10 +468,9 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity savedEntity = buildEntity(Area.INTERIOR);
     savedEntity.setTableLevelFactor(new BigDecimal("1.150"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.INTERIOR))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
 
@@ -385,6 +480,7 @@ class DistrictVolumeServiceTest {
             createDto);
 
     assertThat(result).isNotNull();
+    verify(timelineLock).acquire(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
     assertThat(result.area()).isEqualTo("INTERIOR");
     assertThat(result.tableLevelFactor())
         .isEqualTo(new BigDecimal("1.150"));
@@ -392,27 +488,11 @@ class DistrictVolumeServiceTest {
 
   @Test
   @DisplayName(
-      "createDistrictVolume — should close the existing open-ended row before saving the new row")
-  void createDistrictVolume_closesExistingOpenEndedRow_beforeSavingNewRow() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
+      "createDistrictVolume — should close the overlapping predecessor before saving the new row")
+  void createDistrictVolume_closesPredecessor_beforeSavingNewRow() {
 
     LocalDate newStartDate = LocalDate.of(9999, Month.JANUARY, 1);
-
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            newStartDate,
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity existingOpenEntry = buildEntity(Area.INTERIOR);
-    existingOpenEntry.setStartDate(LocalDate.of(2026, Month.JANUARY, 1));
-    existingOpenEntry.setEndDate(null);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(newStartDate);
 
     DistrictVolumeEntity savedEntity = buildEntity(Area.INTERIOR);
     savedEntity.setId(2L);
@@ -420,12 +500,11 @@ class DistrictVolumeServiceTest {
     savedEntity.setEndDate(null);
     savedEntity.setTableLevelFactor(new BigDecimal("1.150"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.INTERIOR))
-        .thenReturn(List.of(existingOpenEntry));
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, newStartDate, "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
-        .thenReturn(existingOpenEntry, savedEntity);
+        .thenReturn(savedEntity);
 
     DistrictVolumeDetailDto result =
         districtVolumeService.createDistrictVolume(
@@ -435,26 +514,20 @@ class DistrictVolumeServiceTest {
     ArgumentCaptor<DistrictVolumeEntity> saveCaptor =
         ArgumentCaptor.forClass(DistrictVolumeEntity.class);
 
-    verify(districtVolumeRepository)
-        .findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.INTERIOR);
-    verify(districtVolumeRepository, org.mockito.Mockito.times(2)).save(saveCaptor.capture());
-
-    List<DistrictVolumeEntity> savedEntities = saveCaptor.getAllValues();
-
-    assertThat(savedEntities.get(0)).isSameAs(existingOpenEntry);
-    assertThat(savedEntities.get(0).getEndDate())
-        .isEqualTo(newStartDate.minusDays(1));
-
-    assertThat(savedEntities.get(1).getArea()).isEqualTo(Area.INTERIOR);
-    assertThat(savedEntities.get(1).getStartDate()).isEqualTo(newStartDate);
-    assertThat(savedEntities.get(1).getEndDate()).isNull();
-    assertThat(savedEntities.get(1).getCreatedBy()).isEqualTo("TEST_USER");
-    assertThat(savedEntities.get(1).getConfigType())
-        .isEqualTo(ConfigType.DISTRICT_VOLUME);
-    assertThat(savedEntities.get(1).getTableLevelFactor())
-        .isEqualTo(new BigDecimal("1.150"));
+    InOrder inOrder = inOrder(timelineLock, timelineRepository, districtVolumeRepository);
+    inOrder.verify(timelineLock).acquire(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+    inOrder.verify(timelineRepository).closePredecessor(
+        ConfigType.DISTRICT_VOLUME, Area.INTERIOR, newStartDate, "TEST_USER");
+    inOrder.verify(districtVolumeRepository).save(saveCaptor.capture());
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 1L);
+
+    DistrictVolumeEntity saved = saveCaptor.getValue();
+    assertThat(saved.getArea()).isEqualTo(Area.INTERIOR);
+    assertThat(saved.getStartDate()).isEqualTo(newStartDate);
+    assertThat(saved.getEndDate()).isNull();
+    assertThat(saved.getCreatedBy()).isEqualTo("TEST_USER");
+    assertThat(saved.getConfigType()).isEqualTo(ConfigType.DISTRICT_VOLUME);
+    assertThat(saved.getTableLevelFactor()).isEqualTo(new BigDecimal("1.150"));
 
     assertThat(result.id()).isEqualTo(2L);
     assertThat(result.startDate()).isEqualTo(newStartDate);
@@ -462,81 +535,25 @@ class DistrictVolumeServiceTest {
 
   @Test
   @DisplayName(
-      "createDistrictVolume — should throw 422 when start date is not after existing open row")
-  void createDistrictVolume_throws422_whenStartDateNotAfterExistingOpenEndedRow() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
+      "createDistrictVolume — should throw 422 when another row already starts on the date")
+  void createDistrictVolume_throws422_whenStartDateTaken() {
 
     LocalDate existingStartDate = LocalDate.now().plusDays(5);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(existingStartDate);
 
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            existingStartDate,
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity existingOpenEntry = buildEntity(Area.INTERIOR);
-    existingOpenEntry.setStartDate(existingStartDate);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.INTERIOR))
-        .thenReturn(List.of(existingOpenEntry));
-
-    assertThatThrownBy(
-          () -> districtVolumeService.createDistrictVolume(
-              "TEST_USER",
-              createDto))
-        .isInstanceOf(ResponseStatusException.class)
-        .hasMessageContaining("Start date must be after the most recent existing start date");
-
-    verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
-  }
-
-  @Test
-  @DisplayName(
-      "createDistrictVolume — should throw 409 when multiple open-ended rows exist for area")
-  void createDistrictVolume_throws409_whenMultipleOpenEndedRowsExist() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
-
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            LocalDate.of(9999, Month.JANUARY, 1),
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity newestOpenEntry = buildEntity(Area.INTERIOR);
-    newestOpenEntry.setStartDate(LocalDate.of(2026, Month.FEBRUARY, 1));
-
-    DistrictVolumeEntity olderOpenEntry = buildEntity(Area.INTERIOR);
-    olderOpenEntry.setId(2L);
-    olderOpenEntry.setStartDate(LocalDate.of(2026, Month.JANUARY, 1));
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.INTERIOR))
-        .thenReturn(List.of(newestOpenEntry, olderOpenEntry));
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, existingStartDate, "TEST_USER"))
+        .thenReturn(new TimelineSlot(true, null, LocalDate.now().plusDays(10)));
 
     assertThatThrownBy(
           () -> districtVolumeService.createDistrictVolume(
               "TEST_USER",
               createDto))
         .isInstanceOf(ResponseStatusException.class)
-        .hasMessageContaining(
-            "multiple open-ended district volume records exist for area INTERIOR");
+        .hasMessageContaining("A configuration already starts on " + existingStartDate);
 
     verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache, never()).evict(any(), any());
   }
 
   @Test
@@ -561,10 +578,9 @@ class DistrictVolumeServiceTest {
     savedEntity.setTableLevelFactor(new BigDecimal("1.200"));
     savedEntity.setHeliMultiplier(new BigDecimal("1.500"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME,
-            Area.COASTAL))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.COASTAL, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(
             any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
@@ -596,35 +612,10 @@ class DistrictVolumeServiceTest {
         new BigDecimal("1.500"),
         coastData);
 
-    // Successor: row starting Aug 1, 2027
-    DistrictVolumeEntity successor = buildEntity(Area.COASTAL);
-    successor.setId(2L);
-    successor.setStartDate(LocalDate.of(2027, Month.AUGUST, 1));
-    successor.setEndDate(null);
-
-    // Predecessor: row starting Jan 1, 2027
-    DistrictVolumeEntity predecessor = buildEntity(Area.COASTAL);
-    predecessor.setId(1L);
-    predecessor.setStartDate(LocalDate.of(2027, Month.JANUARY, 1));
-    predecessor.setEndDate(null);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME, Area.COASTAL))
-        .thenReturn(Collections.singletonList(predecessor));
-
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.DISTRICT_VOLUME),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(successor));
-
-    when(districtVolumeRepository.findFirstLiveBefore(
-            eq(ConfigType.DISTRICT_VOLUME),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(predecessor));
+    // Predecessor id 1 is closed; successor starts Aug 1, 2027
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.COASTAL, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, LocalDate.of(2027, Month.AUGUST, 1)));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -635,9 +626,9 @@ class DistrictVolumeServiceTest {
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
     assertThat(result.endDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 31)); // successor start - 1 day
 
-    // Verify predecessor was closed
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getEndDate().equals(LocalDate.of(2027, Month.JULY, 14))));
+    // Only the new entity goes through JPA; the predecessor was closed by the timeline statement
+    verify(districtVolumeRepository, times(1)).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 1L);
   }
 
   @Test
@@ -645,31 +636,11 @@ class DistrictVolumeServiceTest {
       "createDistrictVolume — should insert after all rows when no successor exists")
   void createDistrictVolume_insertsAfterAllRows_whenNoSuccessor() {
 
-    InteriorDataDto interiorData = new InteriorDataDto(Collections.emptyList(), Collections.emptyMap());
-
-    DistrictVolumeCreateDto createDto = new DistrictVolumeCreateDto(
-        "INTERIOR",
-        LocalDate.of(2027, Month.JULY, 15),
-        new BigDecimal("1.200"),
-        null,
-        interiorData);
-
-    // Open-ended predecessor
-    DistrictVolumeEntity predecessor = buildEntity(Area.INTERIOR);
-    predecessor.setId(1L);
-    predecessor.setStartDate(LocalDate.of(2027, Month.JANUARY, 1));
-    predecessor.setEndDate(null);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(LocalDate.of(2027, Month.JULY, 15));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
-        .thenReturn(Collections.singletonList(predecessor));
-
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.DISTRICT_VOLUME),
-            eq(Area.INTERIOR),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, null));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -680,13 +651,9 @@ class DistrictVolumeServiceTest {
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
     assertThat(result.endDate()).isNull(); // No successor = open-ended
 
-    // Verify predecessor was closed
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getEndDate() != null && e.getEndDate().equals(LocalDate.of(2027, Month.JULY, 14))));
-
-    // Verify new entity was saved as open-ended (endDate = null)
     verify(districtVolumeRepository).save(argThat(e ->
         e.getEndDate() == null));
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 1L);
   }
 
   @Test
@@ -694,38 +661,12 @@ class DistrictVolumeServiceTest {
       "createDistrictVolume — should insert before all rows when no predecessor exists")
   void createDistrictVolume_insertsBeforeAllRows_whenNoPredecessor() {
 
-    InteriorDataDto interiorData = new InteriorDataDto(Collections.emptyList(), Collections.emptyMap());
+    DistrictVolumeCreateDto createDto = interiorCreateDto(LocalDate.of(2027, Month.JULY, 15));
 
-    DistrictVolumeCreateDto createDto = new DistrictVolumeCreateDto(
-        "INTERIOR",
-        LocalDate.of(2027, Month.JANUARY, 15),
-        new BigDecimal("1.200"),
-        null,
-        interiorData);
-
-    // Successor exists (starts Jan 1)
-    DistrictVolumeEntity successor = buildEntity(Area.INTERIOR);
-    successor.setId(1L);
-    successor.setStartDate(LocalDate.of(2027, Month.JANUARY, 1));
-    successor.setEndDate(null);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
-        .thenReturn(Collections.emptyList());
-
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.DISTRICT_VOLUME),
-            eq(Area.INTERIOR),
-            eq(LocalDate.of(2027, Month.JANUARY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(successor));
-
-    when(districtVolumeRepository.findFirstLiveBefore(
-            eq(ConfigType.DISTRICT_VOLUME),
-            eq(Area.INTERIOR),
-            eq(LocalDate.of(2027, Month.JANUARY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(Collections.emptyList());
+    // Successor exists (starts Aug 1), nothing to close
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, LocalDate.of(2027, Month.AUGUST, 1)));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -733,12 +674,12 @@ class DistrictVolumeServiceTest {
     DistrictVolumeDetailDto result = districtVolumeService.createDistrictVolume(
         "TEST_USER", createDto);
 
-    assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JANUARY, 15));
-    // successor starts Jan 1, so endDate = Dec 31, 2026
-    assertThat(result.endDate()).isEqualTo(LocalDate.of(2026, Month.DECEMBER, 31));
+    assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
+    // successor starts Aug 1, so endDate = July 31
+    assertThat(result.endDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 31));
 
-    // No predecessor to close — only the new entity is saved (with endDate != null)
     verify(districtVolumeRepository, times(1)).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache, never()).evict(any(), any());
   }
 
   @Test
@@ -755,9 +696,9 @@ class DistrictVolumeServiceTest {
         null,
         interiorData);
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -767,6 +708,7 @@ class DistrictVolumeServiceTest {
 
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JANUARY, 15));
     assertThat(result.endDate()).isNull(); // Open-ended
+    verify(activeConfigurationRegistry).refresh(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
   }
 
   @Test
@@ -778,13 +720,18 @@ class DistrictVolumeServiceTest {
     entity.setStartDate(LocalDate.now().plusYears(1));
     entity.setEndDate(null);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
         .thenReturn(Optional.of(entity));
 
     districtVolumeService.deleteDistrictVolume("TEST_USER", 1L);
 
     assertThat(entity.isDeleted()).isTrue();
-    verify(districtVolumeRepository).save(entity);
+    verify(timelineLock).acquire(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+    verify(districtVolumeRepository).saveAndFlush(entity);
+    verify(activeConfigurationRegistry).refresh(ConfigType.DISTRICT_VOLUME, Area.INTERIOR);
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 1L);
   }
 
   @Test
@@ -792,7 +739,7 @@ class DistrictVolumeServiceTest {
       "deleteDistrictVolume — should throw 404 when record is not found")
   void deleteDistrictVolume_throws404_whenNotFound() {
 
-    when(districtVolumeRepository.findByIdAndConfigType(99L, ConfigType.DISTRICT_VOLUME))
+    when(districtVolumeRepository.findAreaByIdAndConfigType(99L, ConfigType.DISTRICT_VOLUME))
         .thenReturn(Optional.empty());
 
     assertThatThrownBy(
@@ -801,6 +748,7 @@ class DistrictVolumeServiceTest {
         .hasMessageContaining("District volume record not found");
 
     verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
+    verify(timelineLock, never()).acquire(any(), any());
   }
 
   @Test
@@ -811,6 +759,8 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
     entity.setDeleted(true);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.DISTRICT_VOLUME))
         .thenReturn(Optional.of(entity));
 
@@ -822,6 +772,35 @@ class DistrictVolumeServiceTest {
     verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
   }
 
+  @Test
+  @DisplayName(
+      "deleteDistrictVolume — should reopen predecessor when deleting open-ended record")
+  void deleteDistrictVolume_reopensPredecessor_whenOpenEndedDeleted() {
+
+    DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
+    entity.setId(2L);
+    entity.setStartDate(LocalDate.now().plusYears(1));
+    entity.setEndDate(null);
+
+    when(districtVolumeRepository.findAreaByIdAndConfigType(2L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(Area.INTERIOR));
+    when(districtVolumeRepository.findByIdAndConfigType(2L, ConfigType.DISTRICT_VOLUME))
+        .thenReturn(Optional.of(entity));
+    when(timelineRepository.reopenPredecessor(
+            ConfigType.DISTRICT_VOLUME, Area.INTERIOR, entity.getStartDate(), null, "TEST_USER"))
+        .thenReturn(Optional.of(1L));
+
+    districtVolumeService.deleteDistrictVolume("TEST_USER", 2L);
+
+    assertThat(entity.isDeleted()).isTrue();
+    InOrder inOrder = inOrder(districtVolumeRepository, timelineRepository);
+    inOrder.verify(districtVolumeRepository).saveAndFlush(entity);
+    inOrder.verify(timelineRepository).reopenPredecessor(
+        ConfigType.DISTRICT_VOLUME, Area.INTERIOR, entity.getStartDate(), null, "TEST_USER");
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 1L);
+    verify(detailResponseCache).evict(ConfigType.DISTRICT_VOLUME, 2L);
+  }
+
   // ---- helper methods ----
 
   private DistrictVolumeEntity buildEntityWithDistricts(
@@ -874,8 +853,7 @@ class DistrictVolumeServiceTest {
     var result = districtVolumeService.getAreasForDistrictCode(" ");
 
     assertThat(result).isEmpty();
-    verify(districtVolumeRepository, never())
-        .findActiveByConfigTypeAndArea(any(), any(), any());
+    verify(activeConfigurationRegistry, never()).active(any(), any());
   }
 
   @Test
@@ -888,12 +866,10 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity coastalEntity =
         buildEntityWithDistricts(Area.COASTAL, "DND");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
-        .thenReturn(Optional.of(interiorEntity));
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
-        .thenReturn(Optional.of(coastalEntity));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .thenReturn(Optional.of(ActiveConfiguration.from(interiorEntity)));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
 
     var result = districtVolumeService.getAreasForDistrictCode("DND");
 
@@ -908,11 +884,9 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity interiorEntity =
         buildEntityWithDistricts(Area.INTERIOR, "DND");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
-        .thenReturn(Optional.of(interiorEntity));
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .thenReturn(Optional.of(ActiveConfiguration.from(interiorEntity)));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
         .thenReturn(Optional.empty());
 
     var result = districtVolumeService.getAreasForDistrictCode("DND");
@@ -928,12 +902,10 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity coastalEntity =
         buildEntityWithDistricts(Area.COASTAL, "DND");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
         .thenReturn(Optional.empty());
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
-        .thenReturn(Optional.of(coastalEntity));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
 
     var result = districtVolumeService.getAreasForDistrictCode("DND");
 
@@ -951,12 +923,10 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity coastalEntity =
         buildEntityWithDistricts(Area.COASTAL, "OTHER");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
-        .thenReturn(Optional.of(interiorEntity));
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
-        .thenReturn(Optional.of(coastalEntity));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .thenReturn(Optional.of(ActiveConfiguration.from(interiorEntity)));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
 
     var result = districtVolumeService.getAreasForDistrictCode("DND");
 
@@ -968,11 +938,9 @@ class DistrictVolumeServiceTest {
       "getAreasForDistrictCode — should return empty list when no active config exists")
   void getAreasForDistrictCode_returnsEmptyList_whenNoActiveConfig() {
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
         .thenReturn(Optional.empty());
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
         .thenReturn(Optional.empty());
 
     var result = districtVolumeService.getAreasForDistrictCode("DND");
@@ -990,8 +958,7 @@ class DistrictVolumeServiceTest {
     var result = districtVolumeService.getAreasForMultipleDistricts(null);
 
     assertThat(result).isEmpty();
-    verify(districtVolumeRepository, never())
-        .findActiveByConfigTypeAndArea(any(), any(), any());
+    verify(activeConfigurationRegistry, never()).active(any(), any());
   }
 
   @Test
@@ -1002,8 +969,7 @@ class DistrictVolumeServiceTest {
     var result = districtVolumeService.getAreasForMultipleDistricts(List.of());
 
     assertThat(result).isEmpty();
-    verify(districtVolumeRepository, never())
-        .findActiveByConfigTypeAndArea(any(), any(), any());
+    verify(activeConfigurationRegistry, never()).active(any(), any());
   }
 
   @Test
@@ -1016,12 +982,10 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity coastalEntity =
         buildEntityWithDistricts(Area.COASTAL, "DND", "DFO");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
-        .thenReturn(Optional.of(interiorEntity));
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
-        .thenReturn(Optional.of(coastalEntity));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
+        .thenReturn(Optional.of(ActiveConfiguration.from(interiorEntity)));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
 
     var result =
         districtVolumeService.getAreasForMultipleDistricts(
@@ -1040,11 +1004,9 @@ class DistrictVolumeServiceTest {
           + "active config exists")
   void getAreasForMultipleDistricts_returnsEmptyLists_whenNoActiveConfig() {
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
         .thenReturn(Optional.empty());
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
         .thenReturn(Optional.empty());
 
     var result =
@@ -1065,16 +1027,162 @@ class DistrictVolumeServiceTest {
     DistrictVolumeEntity coastalEntity =
         buildEntityWithDistricts(Area.COASTAL, "DND");
 
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.INTERIOR))
         .thenReturn(Optional.empty());
-    when(districtVolumeRepository.findActiveByConfigTypeAndArea(
-            eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
-        .thenReturn(Optional.of(coastalEntity));
+    when(activeConfigurationRegistry.active(ConfigType.DISTRICT_VOLUME, Area.COASTAL))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
 
     var result =
         districtVolumeService.getAreasForMultipleDistricts(List.of("dnd"));
 
     assertThat(result.get("dnd")).containsExactly("COASTAL");
   }
+
+  @Test
+  @DisplayName(
+      "getAreasForDistrictCode — should query the district code column when the registry "
+          + "is disabled")
+  void getAreasForDistrictCode_usesDatabase_whenRegistryDisabled() {
+
+    when(activeConfigurationRegistry.isEnabled()).thenReturn(false);
+    when(districtVolumeRepository.findActiveAreasByDistrictCode(
+            eq(ConfigType.DISTRICT_VOLUME), eq("DND"), any()))
+        .thenReturn(List.of("COASTAL", "INTERIOR"));
+
+    var result = districtVolumeService.getAreasForDistrictCode(" dnd ");
+
+    assertThat(result).containsExactly("INTERIOR", "COASTAL");
+    verify(activeConfigurationRegistry, never()).active(any(), any());
+  }
+
+  @Test
+  @DisplayName(
+      "getAreasForMultipleDistricts — should resolve all codes in one query when the "
+          + "registry is disabled")
+  void getAreasForMultipleDistricts_usesDatabase_whenRegistryDisabled() {
+
+    when(activeConfigurationRegistry.isEnabled()).thenReturn(false);
+    when(districtVolumeRepository.findActiveAreasByDistrictCodes(
+            eq(ConfigType.DISTRICT_VOLUME),
+            argThat(codes -> Arrays.equals(codes, new String[]{"DND", "DKM", "XYZ"})),
+            any()))
+        .thenReturn(List.of(
+            districtArea("DND", "COASTAL"),
+            districtArea("DND", "INTERIOR"),
+            districtArea("DKM", "INTERIOR")));
+
+    var result =
+        districtVolumeService.getAreasForMultipleDistricts(List.of("dnd", "DKM", "XYZ"));
+
+    assertThat(result.get("dnd")).containsExactly("INTERIOR", "COASTAL");
+    assertThat(result.get("DKM")).containsExactly("INTERIOR");
+    assertThat(result.get("XYZ")).isEmpty();
+    verify(activeConfigurationRegistry, never()).active(any(), any());
+  }
+
+  // ---- effective district volume tests ----
+
+  @Test
+  @DisplayName(
+      "getEffectiveDistrictVolume — should return the row of the configuration covering the date")
+  void getEffectiveDistrictVolume_returnsRow_whenConfigurationCoversDate() {
+
+    DistrictVolumeEntity coastalEntity = buildEntityWithDistricts(Area.COASTAL, "DCR");
+    coastalEntity.setId(7L);
+    coastalEntity.setTableLevelFactor(new BigDecimal("1.150"));
+    coastalEntity.setHeliMultiplier(new BigDecimal("1.500"));
+    LocalDate date = LocalDate.of(2026, Month.MARCH, 1);
+
+    when(activeConfigurationRegistry.at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, date))
+        .thenReturn(Optional.of(
+            ActiveConfiguration.from(buildEntityWithDistricts(Area.INTERIOR, "DND"))));
+    when(activeConfigurationRegistry.at(ConfigType.DISTRICT_VOLUME, Area.COASTAL, date))
+        .thenReturn(Optional.of(ActiveConfiguration.from(coastalEntity)));
+
+    var result = districtVolumeService.getEffectiveDistrictVolume("dcr", date);
+
+    assertThat(result).get().satisfies(effective -> {
+      assertThat(effective.district()).isEqualTo("DCR");
+      assertThat(effective.date()).isEqualTo(date);
+      assertThat(effective.configurationId()).isEqualTo(7L);
+      assertThat(effective.area()).isEqualTo("COASTAL");
+      assertThat(effective.tableLevelFactor()).isEqualByComparingTo("1.150");
+      assertThat(effective.heliMultiplier()).isEqualByComparingTo("1.500");
+      assertThat(effective.avoidableSawlog()).isEqualByComparingTo(BigDecimal.TEN);
+      assertThat(effective.total()).isEqualByComparingTo(BigDecimal.TEN);
+    });
+    verify(districtVolumeRepository, never())
+        .findAllLiveByConfigTypeAndAreaOrderByStartDate(any(), any());
+  }
+
+  @Test
+  @DisplayName(
+      "getEffectiveDistrictVolume — should return empty when no configuration has the district")
+  void getEffectiveDistrictVolume_returnsEmpty_whenDistrictNotFound() {
+
+    when(activeConfigurationRegistry.at(eq(ConfigType.DISTRICT_VOLUME), any(), any()))
+        .thenReturn(Optional.empty());
+
+    assertThat(districtVolumeService.getEffectiveDistrictVolume("DND", LocalDate.now()))
+        .isEmpty();
+    assertThat(districtVolumeService.getEffectiveDistrictVolume(" ", LocalDate.now()))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName(
+      "getEffectiveDistrictVolumes — should resolve each area and date once and skip misses")
+  void getEffectiveDistrictVolumes_resolvesEachDateOnce() {
+
+    LocalDate first = LocalDate.of(2026, Month.MARCH, 1);
+    LocalDate second = LocalDate.of(2026, Month.APRIL, 1);
+    DistrictVolumeEntity interiorEntity = buildEntityWithDistricts(Area.INTERIOR, "DND", "DKM");
+
+    when(activeConfigurationRegistry.at(eq(ConfigType.DISTRICT_VOLUME), eq(Area.INTERIOR), any()))
+        .thenReturn(Optional.of(ActiveConfiguration.from(interiorEntity)));
+    when(activeConfigurationRegistry.at(eq(ConfigType.DISTRICT_VOLUME), eq(Area.COASTAL), any()))
+        .thenReturn(Optional.empty());
+
+    var result = districtVolumeService.getEffectiveDistrictVolumes(List.of(
+        new EffectiveDistrictVolumeLookupDto("DND", first),
+        new EffectiveDistrictVolumeLookupDto("XYZ", first),
+        new EffectiveDistrictVolumeLookupDto("dkm", first),
+        new EffectiveDistrictVolumeLookupDto("DND", second)));
+
+    assertThat(result)
+        .extracting(EffectiveDistrictVolumeDto::district, EffectiveDistrictVolumeDto::date)
+        .containsExactly(
+            tuple("DND", first),
+            tuple("DKM", first),
+            tuple("DND", second));
+    verify(activeConfigurationRegistry, times(1))
+        .at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, first);
+    verify(activeConfigurationRegistry, times(1))
+        .at(ConfigType.DISTRICT_VOLUME, Area.COASTAL, first);
+    verify(activeConfigurationRegistry, times(1))
+        .at(ConfigType.DISTRICT_VOLUME, Area.INTERIOR, second);
+  }
+
+  private static DistrictAreaProjection districtArea(String districtCode, String area) {
+    return new DistrictAreaProjection() {
+      @Override
+      public String getDistrictCode() {
+        return districtCode;
+      }
+
+      @Override
+      public String getArea() {
+        return area;
+      }
+    };
+  }
+
+  private static DistrictVolumeCreateDto interiorCreateDto(LocalDate startDate) {
+    return new DistrictVolumeCreateDto(
+        "INTERIOR",
+        startDate,
+        new BigDecimal("1.150"),
+        null,
+        new InteriorDataDto(Collections.emptyList(), Collections.emptyMap()));
+  }
 }
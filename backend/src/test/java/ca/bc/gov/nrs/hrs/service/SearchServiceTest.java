@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.hrs.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -15,6 +16,7 @@ import ca.bc.gov.nrs.hrs.dto.client.ForestClientDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
 import ca.bc.gov.nrs.hrs.provider.legacy.LegacyApiProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +24,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -46,7 +47,8 @@ class SearchServiceTest {
   @Mock
   private FeatureFlagsConfiguration featureFlagsConfiguration;
 
-  @InjectMocks
+  private SimpleMeterRegistry meterRegistry;
+
   private SearchService searchService;
 
   private static final String USER_ID = "IDIR\\testuser";
@@ -74,6 +76,10 @@ class SearchServiceTest {
 
   @BeforeEach
   void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    searchService = new SearchService(
+        legacyApiProvider, forestClientService, userService, featureFlagsConfiguration,
+        meterRegistry);
     when(featureFlagsConfiguration.isEnabled(FeatureFlag.BOOKMARK_REPORTING_UNIT_ENABLED))
         .thenReturn(true);
   }
@@ -160,6 +166,22 @@ class SearchServiceTest {
     assertThat(filters.getReportingUnitIds()).containsExactly(36834L, 12345L);
   }
 
+  @Test
+  @DisplayName("Search with bookmarked=true and no bookmarks should skip the legacy API")
+  void search_withBookmarkedTrue_noBookmarks_shouldReturnEmptyPage() {
+    var filters = ReportingUnitSearchParametersDto.builder()
+        .bookmarked(true)
+        .build();
+
+    when(userService.getUserBookmarksInList(USER_ID, List.of())).thenReturn(List.of());
+
+    Page<ReportingUnitSearchResultDto> results = searchService.search(USER_ID, filters, PAGEABLE);
+
+    assertThat(results.getContent()).isEmpty();
+    assertThat(results.getTotalElements()).isZero();
+    verify(legacyApiProvider, never()).searchReportingUnit(any(), any());
+  }
+
   @Test
   @DisplayName("Search with bookmarked=false should not fetch user bookmarks for filtering")
   void search_withBookmarkedFalse_shouldNotFetchBookmarksForFiltering() {
@@ -226,5 +248,53 @@ class SearchServiceTest {
     assertThat(results.getContent().get(0).bookmarked()).isTrue();
     assertThat(results.getContent().get(1).bookmarked()).isFalse();
   }
-}
 
+  @Test
+  @DisplayName("Search should time and count matches by filter shape, not by filter values")
+  void search_shouldRecordMetricsByFilterShape() {
+    var filters = ReportingUnitSearchParametersDto.builder()
+        .district(List.of("DND"))
+        .clientNumbers(List.of("00010002"))
+        .build();
+
+    when(legacyApiProvider.searchReportingUnit(any(), any()))
+        .thenReturn(new PageImpl<>(List.of(), PAGEABLE, 42));
+    when(userService.getUserBookmarksInList(USER_ID, List.of())).thenReturn(List.of());
+
+    searchService.search(USER_ID, filters, PAGEABLE);
+
+    assertThat(meterRegistry.get(SearchService.SEARCH_TIMER)
+        .tag("shape", "district+clientNumbers")
+        .tag("exception", "none")
+        .timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get(SearchService.SEARCH_RESULTS_SUMMARY)
+        .tag("shape", "district+clientNumbers")
+        .summary()
+        .totalAmount()).isEqualTo(42);
+    assertThat(meterRegistry.getMeters())
+        .flatMap(meter -> meter.getId().getTags())
+        .noneMatch(tag -> tag.getValue().contains("00010002"));
+  }
+
+  @Test
+  @DisplayName("Search should time failed searches with the exception name")
+  void search_shouldRecordExceptionOnFailure() {
+    var filters = ReportingUnitSearchParametersDto.builder()
+        .bookmarked(true)
+        .build();
+
+    when(userService.getUserBookmarksInList(USER_ID, List.of())).thenReturn(List.of(36834L));
+    when(legacyApiProvider.searchReportingUnit(any(), any()))
+        .thenThrow(new IllegalStateException("legacy down"));
+
+    assertThatThrownBy(() -> searchService.search(USER_ID, filters, PAGEABLE))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(meterRegistry.get(SearchService.SEARCH_TIMER)
+        .tag("shape", "bookmarked")
+        .tag("exception", "IllegalStateException")
+        .timer()
+        .count()).isEqualTo(1);
+  }
+}
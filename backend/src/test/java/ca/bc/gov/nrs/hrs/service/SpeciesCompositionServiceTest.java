@@ -5,11 +5,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import ca.bc.gov.nrs.hrs.cache.ActiveConfigurationRegistry;
+import ca.bc.gov.nrs.hrs.cache.DetailResponseCache;
+import ca.bc.gov.nrs.hrs.cache.SerializedDetail;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeCreateDto;
 import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.DistrictVolumeDetailDto;
@@ -19,8 +23,12 @@ import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.Area;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.ConfigType;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeEntity;
+import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.DistrictVolumeSummaryProjection;
 import ca.bc.gov.nrs.hrs.entity.districtaveragevolume.TableData;
 import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineLock;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository;
+import ca.bc.gov.nrs.hrs.repository.ConfigurationTimelineRepository.TimelineSlot;
 import ca.bc.gov.nrs.hrs.repository.DistrictVolumeRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,11 +42,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,9 +61,26 @@ class SpeciesCompositionServiceTest {
   @Mock
   private DistrictVolumeRepository districtVolumeRepository;
 
+  @Mock
+  private ActiveConfigurationRegistry activeConfigurationRegistry;
+
+  @Mock
+  private DetailResponseCache detailResponseCache;
+
+  @Mock
+  private ConfigurationTimelineLock timelineLock;
+
+  @Mock
+  private ConfigurationTimelineRepository timelineRepository;
+
   @InjectMocks
   private SpeciesCompositionService speciesCompositionService;
 
+  private static DistrictVolumeSummaryProjection summaryOf(DistrictVolumeEntity entity) {
+    return new SpelAwareProxyProjectionFactory()
+        .createProjection(DistrictVolumeSummaryProjection.class, entity);
+  }
+
   private DistrictVolumeEntity buildEntity(Area area) {
     DistrictVolumeEntity entity = new DistrictVolumeEntity();
     entity.setId(1L);
@@ -90,9 +117,9 @@ class SpeciesCompositionServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
     PageRequest pageable = PageRequest.of(0, 10);
 
-    when(districtVolumeRepository.findAllLiveByConfigType(
+    when(districtVolumeRepository.findAllLiveSummariesByConfigType(
             ConfigType.SPECIES_COMPOSITION, pageable))
-        .thenReturn(new PageImpl<>(List.of(entity), pageable, 1));
+        .thenReturn(new PageImpl<>(List.of(summaryOf(entity)), pageable, 1));
 
     var result =
         speciesCompositionService.getSpeciesCompositions(Optional.empty(), pageable);
@@ -111,9 +138,9 @@ class SpeciesCompositionServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.COASTAL);
     PageRequest pageable = PageRequest.of(0, 10);
 
-    when(districtVolumeRepository.findAllLiveByConfigTypeAndArea(
+    when(districtVolumeRepository.findAllLiveSummariesByConfigTypeAndArea(
             ConfigType.SPECIES_COMPOSITION, Area.COASTAL, pageable))
-        .thenReturn(new PageImpl<>(List.of(entity), pageable, 1));
+        .thenReturn(new PageImpl<>(List.of(summaryOf(entity)), pageable, 1));
 
     var result =
         speciesCompositionService.getSpeciesCompositions(
@@ -157,6 +184,61 @@ class SpeciesCompositionServiceTest {
         .hasMessageContaining("Species composition record not found");
   }
 
+  @Test
+  @DisplayName(
+      "getSerializedSpeciesCompositionById — should serve the cached body without loading the entity")
+  void getSerializedSpeciesCompositionById_returnsCachedBody_whenCurrent() {
+
+    SerializedDetail cached = new SerializedDetail(MOCK_UPLOAD_TIME, new byte[] {1}, "\"1\"");
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(MOCK_UPLOAD_TIME));
+    when(detailResponseCache.get(ConfigType.SPECIES_COMPOSITION, 1L, MOCK_UPLOAD_TIME))
+        .thenReturn(Optional.of(cached));
+
+    assertThat(speciesCompositionService.getSerializedSpeciesCompositionById(1L)).isSameAs(cached);
+    verify(districtVolumeRepository, never()).findByIdAndConfigType(any(), any());
+  }
+
+  @Test
+  @DisplayName(
+      "getSerializedSpeciesCompositionById — should serialize and cache the entity on a miss")
+  void getSerializedSpeciesCompositionById_serializesEntity_whenNotCached() {
+
+    DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
+    entity.setUpdatedAt(MOCK_UPLOAD_TIME);
+    SerializedDetail serialized = new SerializedDetail(MOCK_UPLOAD_TIME, new byte[] {1}, "\"1\"");
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(MOCK_UPLOAD_TIME));
+    when(detailResponseCache.get(ConfigType.SPECIES_COMPOSITION, 1L, MOCK_UPLOAD_TIME))
+        .thenReturn(Optional.empty());
+    when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity));
+    when(detailResponseCache.put(
+        eq(ConfigType.SPECIES_COMPOSITION),
+        eq(1L),
+        eq(MOCK_UPLOAD_TIME),
+        any(DistrictVolumeDetailDto.class)))
+        .thenReturn(serialized);
+
+    assertThat(speciesCompositionService.getSerializedSpeciesCompositionById(1L)).isSameAs(serialized);
+  }
+
+  @Test
+  @DisplayName(
+      "getSerializedSpeciesCompositionById — should throw 404 when the record does not exist")
+  void getSerializedSpeciesCompositionById_throws404_whenNotFound() {
+
+    when(districtVolumeRepository.findUpdatedAtByIdAndConfigType(99L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> speciesCompositionService.getSerializedSpeciesCompositionById(99L))
+        .isInstanceOf(ResponseStatusException.class)
+        .hasMessageContaining("Species composition record not found");
+    verify(detailResponseCache, never()).get(any(), any(), any());
+  }
+
   @Test
   @DisplayName(
       "createSpeciesComposition — should throw 400 when InteriorDataDto used "
@@ -314,9 +396,9 @@ class SpeciesCompositionServiceTest {
     savedEntity.setStartDate(futureDate);
     savedEntity.setTableLevelFactor(new BigDecimal("1.150"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
 
@@ -326,6 +408,7 @@ class SpeciesCompositionServiceTest {
             createDto);
 
     assertThat(result).isNotNull();
+    verify(timelineLock).acquire(ConfigType.SPECIES_COMPOSITION, Area.INTERIOR);
     assertThat(result.area()).isEqualTo("INTERIOR");
     assertThat(result.tableLevelFactor())
         .isEqualTo(new BigDecimal("1.150"));
@@ -333,27 +416,11 @@ class SpeciesCompositionServiceTest {
 
   @Test
   @DisplayName(
-      "createSpeciesComposition — should close the existing open-ended row before saving the new row")
-  void createSpeciesComposition_closesExistingOpenEndedRow_beforeSavingNewRow() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
+      "createSpeciesComposition — should close the overlapping predecessor before saving the new row")
+  void createSpeciesComposition_closesPredecessor_beforeSavingNewRow() {
 
-    LocalDate newStartDate = LocalDate.now().plusDays(20);
-
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            newStartDate,
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity existingOpenEntry = buildEntity(Area.INTERIOR);
-    existingOpenEntry.setStartDate(LocalDate.now().plusDays(5));
-    existingOpenEntry.setEndDate(null);
+    LocalDate newStartDate = LocalDate.of(9999, Month.JANUARY, 1);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(newStartDate);
 
     DistrictVolumeEntity savedEntity = buildEntity(Area.INTERIOR);
     savedEntity.setId(2L);
@@ -361,11 +428,11 @@ class SpeciesCompositionServiceTest {
     savedEntity.setEndDate(null);
     savedEntity.setTableLevelFactor(new BigDecimal("1.150"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR))
-        .thenReturn(List.of(existingOpenEntry));
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, newStartDate, "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
-        .thenReturn(existingOpenEntry, savedEntity);
+        .thenReturn(savedEntity);
 
     DistrictVolumeDetailDto result =
         speciesCompositionService.createSpeciesComposition(
@@ -375,26 +442,20 @@ class SpeciesCompositionServiceTest {
     ArgumentCaptor<DistrictVolumeEntity> saveCaptor =
         ArgumentCaptor.forClass(DistrictVolumeEntity.class);
 
-    verify(districtVolumeRepository)
-        .findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR);
-    verify(districtVolumeRepository, times(2))
-        .save(saveCaptor.capture());
-
-    List<DistrictVolumeEntity> savedEntities = saveCaptor.getAllValues();
-
-    assertThat(savedEntities.get(0)).isSameAs(existingOpenEntry);
-    assertThat(savedEntities.get(0).getEndDate())
-        .isEqualTo(newStartDate.minusDays(1));
-
-    assertThat(savedEntities.get(1).getArea()).isEqualTo(Area.INTERIOR);
-    assertThat(savedEntities.get(1).getStartDate()).isEqualTo(newStartDate);
-    assertThat(savedEntities.get(1).getEndDate()).isNull();
-    assertThat(savedEntities.get(1).getCreatedBy()).isEqualTo("TEST_USER");
-    assertThat(savedEntities.get(1).getConfigType())
-        .isEqualTo(ConfigType.SPECIES_COMPOSITION);
-    assertThat(savedEntities.get(1).getTableLevelFactor())
-        .isEqualTo(new BigDecimal("1.150"));
+    InOrder inOrder = inOrder(timelineLock, timelineRepository, districtVolumeRepository);
+    inOrder.verify(timelineLock).acquire(ConfigType.SPECIES_COMPOSITION, Area.INTERIOR);
+    inOrder.verify(timelineRepository).closePredecessor(
+        ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, newStartDate, "TEST_USER");
+    inOrder.verify(districtVolumeRepository).save(saveCaptor.capture());
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 1L);
+
+    DistrictVolumeEntity saved = saveCaptor.getValue();
+    assertThat(saved.getArea()).isEqualTo(Area.INTERIOR);
+    assertThat(saved.getStartDate()).isEqualTo(newStartDate);
+    assertThat(saved.getEndDate()).isNull();
+    assertThat(saved.getCreatedBy()).isEqualTo("TEST_USER");
+    assertThat(saved.getConfigType()).isEqualTo(ConfigType.SPECIES_COMPOSITION);
+    assertThat(saved.getTableLevelFactor()).isEqualTo(new BigDecimal("1.150"));
 
     assertThat(result.id()).isEqualTo(2L);
     assertThat(result.startDate()).isEqualTo(newStartDate);
@@ -402,80 +463,25 @@ class SpeciesCompositionServiceTest {
 
   @Test
   @DisplayName(
-      "createSpeciesComposition — should throw 422 when start date is not after existing open row")
-  void createSpeciesComposition_throws422_whenStartDateNotAfterExistingOpenEndedRow() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
+      "createSpeciesComposition — should throw 422 when another row already starts on the date")
+  void createSpeciesComposition_throws422_whenStartDateTaken() {
 
     LocalDate existingStartDate = LocalDate.now().plusDays(5);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(existingStartDate);
 
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            existingStartDate,
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity existingOpenEntry = buildEntity(Area.INTERIOR);
-    existingOpenEntry.setStartDate(existingStartDate);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR))
-        .thenReturn(List.of(existingOpenEntry));
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, existingStartDate, "TEST_USER"))
+        .thenReturn(new TimelineSlot(true, null, LocalDate.now().plusDays(10)));
 
     assertThatThrownBy(
           () -> speciesCompositionService.createSpeciesComposition(
               "TEST_USER",
               createDto))
         .isInstanceOf(ResponseStatusException.class)
-        .hasMessageContaining(
-            "Start date must be after the most recent existing start date");
-
-    verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
-  }
-
-  @Test
-  @DisplayName(
-      "createSpeciesComposition — should throw 409 when multiple open-ended rows exist for area")
-  void createSpeciesComposition_throws409_whenMultipleOpenEndedRowsExist() {
-
-    InteriorDataDto interiorData =
-        new InteriorDataDto(
-            Collections.emptyList(),
-            Collections.emptyMap());
-
-    DistrictVolumeCreateDto createDto =
-        new DistrictVolumeCreateDto(
-            "INTERIOR",
-            LocalDate.now().plusDays(30),
-            new BigDecimal("1.150"),
-            null,
-            interiorData);
-
-    DistrictVolumeEntity newestOpenEntry = buildEntity(Area.INTERIOR);
-    newestOpenEntry.setStartDate(LocalDate.now().plusDays(15));
-
-    DistrictVolumeEntity olderOpenEntry = buildEntity(Area.INTERIOR);
-    olderOpenEntry.setId(2L);
-    olderOpenEntry.setStartDate(LocalDate.now().plusDays(5));
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR))
-        .thenReturn(List.of(newestOpenEntry, olderOpenEntry));
-
-    assertThatThrownBy(
-          () -> speciesCompositionService.createSpeciesComposition(
-              "TEST_USER",
-              createDto))
-        .isInstanceOf(ResponseStatusException.class)
-        .hasMessageContaining(
-            "multiple open-ended species composition records exist for area INTERIOR");
+        .hasMessageContaining("A configuration already starts on " + existingStartDate);
 
     verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache, never()).evict(any(), any());
   }
 
   @Test
@@ -504,9 +510,9 @@ class SpeciesCompositionServiceTest {
     DistrictVolumeEntity savedEntity = buildEntity(Area.INTERIOR);
     savedEntity.setStartDate(futureDate);
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
 
@@ -545,9 +551,9 @@ class SpeciesCompositionServiceTest {
     DistrictVolumeEntity savedEntity = buildEntity(Area.COASTAL);
     savedEntity.setStartDate(futureDate);
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.COASTAL, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
 
@@ -585,9 +591,9 @@ class SpeciesCompositionServiceTest {
     savedEntity.setTableLevelFactor(new BigDecimal("1.200"));
     savedEntity.setHeliMultiplier(new BigDecimal("1.500"));
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.COASTAL, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
     when(districtVolumeRepository.save(
             any(DistrictVolumeEntity.class)))
         .thenReturn(savedEntity);
@@ -619,35 +625,10 @@ class SpeciesCompositionServiceTest {
         new BigDecimal("1.500"),
         coastData);
 
-    // Successor: row starting Aug 1, 2027
-    DistrictVolumeEntity successor = buildEntity(Area.COASTAL);
-    successor.setId(2L);
-    successor.setStartDate(LocalDate.of(2027, Month.AUGUST, 1));
-    successor.setEndDate(null);
-
-    // Predecessor: row starting Jan 1, 2027
-    DistrictVolumeEntity predecessor = buildEntity(Area.COASTAL);
-    predecessor.setId(1L);
-    predecessor.setStartDate(LocalDate.of(2027, Month.JANUARY, 1));
-    predecessor.setEndDate(null);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.singletonList(predecessor));
-
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(successor));
-
-    when(districtVolumeRepository.findFirstLiveBefore(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(predecessor));
+    // Predecessor id 1 is closed; successor starts Aug 1, 2027
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.COASTAL, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, LocalDate.of(2027, Month.AUGUST, 1)));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -658,13 +639,9 @@ class SpeciesCompositionServiceTest {
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
     assertThat(result.endDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 31)); // successor start - 1 day
 
-    // Verify predecessor was closed
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getEndDate() != null && e.getEndDate().equals(LocalDate.of(2027, Month.JULY, 14))));
-
-    // Verify new entity was saved with endDate = successor.startDate - 1 day = July 31
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getEndDate() != null && e.getEndDate().equals(LocalDate.of(2027, Month.JULY, 31))));
+    // Only the new entity goes through JPA; the predecessor was closed by the timeline statement
+    verify(districtVolumeRepository, times(1)).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 1L);
   }
 
   @Test
@@ -672,31 +649,11 @@ class SpeciesCompositionServiceTest {
       "createSpeciesComposition — should insert after all rows when no successor exists")
   void createSpeciesComposition_insertsAfterAllRows_whenNoSuccessor() {
 
-    CoastDataDto coastData = new CoastDataDto(Collections.emptyList(), Collections.emptyMap());
-
-    DistrictVolumeCreateDto createDto = new DistrictVolumeCreateDto(
-        "COASTAL",
-        LocalDate.of(2027, Month.JULY, 15),
-        new BigDecimal("1.200"),
-        new BigDecimal("1.500"),
-        coastData);
-
-    // Open-ended predecessor
-    DistrictVolumeEntity predecessor = buildEntity(Area.COASTAL);
-    predecessor.setId(1L);
-    predecessor.setStartDate(LocalDate.of(2027, Month.JANUARY, 1));
-    predecessor.setEndDate(null);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.singletonList(predecessor));
+    DistrictVolumeCreateDto createDto = interiorCreateDto(LocalDate.of(2027, Month.JULY, 15));
 
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, 1L, null));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -707,13 +664,9 @@ class SpeciesCompositionServiceTest {
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
     assertThat(result.endDate()).isNull(); // No successor = open-ended
 
-    // Verify predecessor was closed
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getEndDate() != null && e.getEndDate().equals(LocalDate.of(2027, Month.JULY, 14))));
-
-    // Verify new entity was saved as open-ended (endDate = null)
     verify(districtVolumeRepository).save(argThat(e ->
         e.getEndDate() == null));
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 1L);
   }
 
   @Test
@@ -721,38 +674,12 @@ class SpeciesCompositionServiceTest {
       "createSpeciesComposition — should insert before all rows when no predecessor exists")
   void createSpeciesComposition_insertsBeforeAllRows_whenNoPredecessor() {
 
-    CoastDataDto coastData = new CoastDataDto(Collections.emptyList(), Collections.emptyMap());
-
-    DistrictVolumeCreateDto createDto = new DistrictVolumeCreateDto(
-        "COASTAL",
-        LocalDate.of(2027, Month.JULY, 15),
-        new BigDecimal("1.200"),
-        new BigDecimal("1.500"),
-        coastData);
+    DistrictVolumeCreateDto createDto = interiorCreateDto(LocalDate.of(2027, Month.JULY, 15));
 
-    // Successor exists (starts Aug 1)
-    DistrictVolumeEntity successor = buildEntity(Area.COASTAL);
-    successor.setId(1L);
-    successor.setStartDate(LocalDate.of(2027, Month.AUGUST, 1));
-    successor.setEndDate(null);
-
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.emptyList());
-
-    when(districtVolumeRepository.findFirstLiveAfter(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(List.of(successor));
-
-    when(districtVolumeRepository.findFirstLiveBefore(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.COASTAL),
-            eq(LocalDate.of(2027, Month.JULY, 15)),
-            any(PageRequest.class)))
-        .thenReturn(Collections.emptyList());
+    // Successor exists (starts Aug 1), nothing to close
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, LocalDate.of(2027, Month.JULY, 15), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, LocalDate.of(2027, Month.AUGUST, 1)));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -764,8 +691,8 @@ class SpeciesCompositionServiceTest {
     // successor starts Aug 1, so endDate = July 31
     assertThat(result.endDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 31));
 
-    // No predecessor to close - only the new entity is saved (with endDate != null)
     verify(districtVolumeRepository, times(1)).save(any(DistrictVolumeEntity.class));
+    verify(detailResponseCache, never()).evict(any(), any());
   }
 
   @Test
@@ -782,9 +709,9 @@ class SpeciesCompositionServiceTest {
         new BigDecimal("1.500"),
         coastData);
 
-    when(districtVolumeRepository.findByConfigTypeAndAreaAndEndDateIsNullOrderByStartDateDesc(
-            ConfigType.SPECIES_COMPOSITION, Area.COASTAL))
-        .thenReturn(Collections.emptyList());
+    when(timelineRepository.closePredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.COASTAL, createDto.startDate(), "TEST_USER"))
+        .thenReturn(new TimelineSlot(false, null, null));
 
     when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -794,6 +721,7 @@ class SpeciesCompositionServiceTest {
 
     assertThat(result.startDate()).isEqualTo(LocalDate.of(2027, Month.JULY, 15));
     assertThat(result.endDate()).isNull(); // Open-ended
+    verify(activeConfigurationRegistry).refresh(ConfigType.SPECIES_COMPOSITION, Area.COASTAL);
   }
 
   @Test
@@ -805,13 +733,18 @@ class SpeciesCompositionServiceTest {
     entity.setStartDate(LocalDate.now().plusYears(1));
     entity.setEndDate(null);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
 
     speciesCompositionService.deleteSpeciesComposition("TEST_USER", 1L);
 
     assertThat(entity.isDeleted()).isTrue();
-    verify(districtVolumeRepository).save(entity);
+    verify(timelineLock).acquire(ConfigType.SPECIES_COMPOSITION, Area.INTERIOR);
+    verify(districtVolumeRepository).saveAndFlush(entity);
+    verify(activeConfigurationRegistry).refresh(ConfigType.SPECIES_COMPOSITION, Area.INTERIOR);
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 1L);
   }
 
   @Test
@@ -819,7 +752,7 @@ class SpeciesCompositionServiceTest {
       "deleteSpeciesComposition — should throw 404 when record is not found")
   void deleteSpeciesComposition_throws404_whenNotFound() {
 
-    when(districtVolumeRepository.findByIdAndConfigType(99L, ConfigType.SPECIES_COMPOSITION))
+    when(districtVolumeRepository.findAreaByIdAndConfigType(99L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.empty());
 
     assertThatThrownBy(
@@ -828,6 +761,7 @@ class SpeciesCompositionServiceTest {
         .hasMessageContaining("Species composition record not found");
 
     verify(districtVolumeRepository, never()).save(any(DistrictVolumeEntity.class));
+    verify(timelineLock, never()).acquire(any(), any());
   }
 
   @Test
@@ -838,6 +772,8 @@ class SpeciesCompositionServiceTest {
     DistrictVolumeEntity entity = buildEntity(Area.INTERIOR);
     entity.setDeleted(true);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
 
@@ -858,6 +794,8 @@ class SpeciesCompositionServiceTest {
     entity.setStartDate(LocalDate.now().minusDays(1));
     entity.setEndDate(null);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
 
@@ -878,6 +816,8 @@ class SpeciesCompositionServiceTest {
     entity.setStartDate(null);
     entity.setEndDate(null);
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
 
@@ -898,6 +838,8 @@ class SpeciesCompositionServiceTest {
     entity.setStartDate(LocalDate.now().plusYears(1));
     entity.setEndDate(LocalDate.now().plusDays(10));
 
+    when(districtVolumeRepository.findAreaByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(entity.getArea()));
     when(districtVolumeRepository.findByIdAndConfigType(1L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
 
@@ -919,26 +861,31 @@ class SpeciesCompositionServiceTest {
     entity.setStartDate(LocalDate.now().plusYears(1));
     entity.setEndDate(null);
 
-    DistrictVolumeEntity predecessor = buildEntity(Area.INTERIOR);
-    predecessor.setId(1L);
-    predecessor.setStartDate(LocalDate.now().plusMonths(6));
-    predecessor.setEndDate(null);
-
+    when(districtVolumeRepository.findAreaByIdAndConfigType(2L, ConfigType.SPECIES_COMPOSITION))
+        .thenReturn(Optional.of(Area.INTERIOR));
     when(districtVolumeRepository.findByIdAndConfigType(2L, ConfigType.SPECIES_COMPOSITION))
         .thenReturn(Optional.of(entity));
-    when(districtVolumeRepository.findFirstLiveBefore(
-            eq(ConfigType.SPECIES_COMPOSITION),
-            eq(Area.INTERIOR),
-            eq(entity.getStartDate()),
-            any(PageRequest.class)))
-        .thenReturn(List.of(predecessor));
-    when(districtVolumeRepository.save(any(DistrictVolumeEntity.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(timelineRepository.reopenPredecessor(
+            ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, entity.getStartDate(), null, "TEST_USER"))
+        .thenReturn(Optional.of(1L));
 
     speciesCompositionService.deleteSpeciesComposition("TEST_USER", 2L);
 
     assertThat(entity.isDeleted()).isTrue();
-    verify(districtVolumeRepository).save(argThat(e ->
-        e.getId() == 1L && e.getEndDate() == null));
+    InOrder inOrder = inOrder(districtVolumeRepository, timelineRepository);
+    inOrder.verify(districtVolumeRepository).saveAndFlush(entity);
+    inOrder.verify(timelineRepository).reopenPredecessor(
+        ConfigType.SPECIES_COMPOSITION, Area.INTERIOR, entity.getStartDate(), null, "TEST_USER");
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 1L);
+    verify(detailResponseCache).evict(ConfigType.SPECIES_COMPOSITION, 2L);
+  }
+
+  private static DistrictVolumeCreateDto interiorCreateDto(LocalDate startDate) {
+    return new DistrictVolumeCreateDto(
+        "INTERIOR",
+        startDate,
+        new BigDecimal("1.150"),
+        null,
+        new InteriorDataDto(Collections.emptyList(), Collections.emptyMap()));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,285 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.lenient;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.CoastDistrictRowDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorDistrictRowDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.InteriorZoneDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.SpeciesCompositionTableDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableDataDto;
+import ca.bc.gov.nrs.hrs.dto.districtaveragevolume.TableImportErrorDto;
+import ca.bc.gov.nrs.hrs.entity.speciescomposition.SpeciesCompositionRow;
+import ca.bc.gov.nrs.hrs.exception.TableImportException;
+import ca.bc.gov.nrs.hrs.provider.legacy.LegacyApiProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | Table Import Service")
+class TableImportServiceTest {
+
+  @Mock
+  private LegacyApiProvider legacyApiProvider;
+
+  @InjectMocks
+  private TableImportService tableImportService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(legacyApiProvider.getDistrictCodes()).thenReturn(List.of(
+        new CodeDescriptionDto("DKM", "Kamloops"),
+        new CodeDescriptionDto("DND", "Nadina"),
+        new CodeDescriptionDto("DCK", "Chilliwack")));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should group interior rows by zone in file order")
+  void importDistrictVolumeTable_readsInteriorTable() {
+    TableDataDto result = tableImportService.importDistrictVolumeTable("interior", csv(
+        "Zone,District,Avoidable Sawlog,avoidable_grade_4,unavoidableGrade4,TOTAL",
+        "Wet belt,dkm,1.2345,2,,3",
+        "Dry belt,DND,0,0,0,0",
+        "wet belt, DCK ,1,1,1,1"));
+
+    assertThat(result).isInstanceOf(InteriorDataDto.class);
+    List<InteriorZoneDto> zones = ((InteriorDataDto) result).zones();
+    assertThat(zones).extracting(InteriorZoneDto::name).containsExactly("Wet belt", "Dry belt");
+    assertThat(zones.getFirst().districts())
+        .extracting(InteriorDistrictRowDto::code)
+        .containsExactly("DKM", "DCK");
+    assertThat(zones.getFirst().districts().getFirst()).isEqualTo(new InteriorDistrictRowDto(
+        "DKM",
+        new BigDecimal("1.235"),
+        new BigDecimal("2.000"),
+        null,
+        new BigDecimal("3.000")));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should read coastal tables by section")
+  void importDistrictVolumeTable_readsCoastalTable() {
+    TableDataDto result = tableImportService.importDistrictVolumeTable("COASTAL", csv(
+        "Section,District,Avoidable Sawlog,Avoidable Hembal Grade U,Avoidable Grade Y,"
+            + "Unavoidable,Total",
+        "North,DCK,1,2,3,4,10"));
+
+    assertThat(result).isInstanceOf(CoastDataDto.class);
+    assertThat(((CoastDataDto) result).sections().getFirst().districts())
+        .containsExactly(new CoastDistrictRowDto(
+            "DCK",
+            new BigDecimal("1.000"),
+            new BigDecimal("2.000"),
+            new BigDecimal("3.000"),
+            new BigDecimal("4.000"),
+            new BigDecimal("10.000")));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should report every row error at once")
+  void importDistrictVolumeTable_reportsAllRowErrors() {
+    MockMultipartFile file = csv(
+        "Zone,District,Avoidable Sawlog,Avoidable Grade 4,Unavoidable Grade 4,Total",
+        "Wet belt,XYZ,1,2,3,4",
+        ",DKM,-1,abc,3,2000000",
+        "",
+        "Dry belt,DND,1,2,3,4",
+        "Dry belt,dnd,1,2,3,4");
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("INTERIOR", file))
+        .isInstanceOfSatisfying(TableImportException.class, ex -> {
+          assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+          assertThat(ex.getErrors())
+              .extracting(TableImportErrorDto::row, TableImportErrorDto::column)
+              .containsExactly(
+                  tuple(2L, "District"),
+                  tuple(3L, "Zone"),
+                  tuple(3L, "Avoidable Sawlog"),
+                  tuple(3L, "Avoidable Grade 4"),
+                  tuple(3L, "Total"),
+                  tuple(6L, "District"));
+          assertThat(ex.getErrors().getLast().message())
+              .isEqualTo("District DND already appears on row 5.");
+        });
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should reject a layout that does not match the area")
+  void importDistrictVolumeTable_rejectsAreaMismatch() {
+    MockMultipartFile file = csv("Section,District,Total", "North,DCK,1");
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("INTERIOR", file))
+        .isInstanceOfSatisfying(TableImportException.class, ex ->
+            assertThat(ex.getErrors())
+                .extracting(TableImportErrorDto::message)
+                .containsExactly("Area mismatch: Expected INTERIOR data layout."));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should report missing and unexpected columns")
+  void importDistrictVolumeTable_reportsHeaderErrors() {
+    MockMultipartFile file = csv(
+        "Zone,District,Avoidable Sawlog,Avoidable Grade 4,Total,Notes",
+        "Wet belt,DKM,1,2,3,x");
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("INTERIOR", file))
+        .isInstanceOfSatisfying(TableImportException.class, ex ->
+            assertThat(ex.getErrors())
+                .extracting(TableImportErrorDto::column, TableImportErrorDto::message)
+                .containsExactly(
+                    tuple("Unavoidable Grade 4", "Required column is missing."),
+                    tuple("Notes", "Unexpected column.")));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should reject an invalid area before reading")
+  void importDistrictVolumeTable_rejectsInvalidArea() {
+    MockMultipartFile file = csv("Zone,District");
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("NORTH", file))
+        .isInstanceOf(ResponseStatusException.class)
+        .hasMessageContaining("Invalid area: NORTH");
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should reject files that are neither CSV nor XLSX")
+  void importDistrictVolumeTable_rejectsUnsupportedFormat() {
+    MockMultipartFile file = new MockMultipartFile(
+        "file", "table.pdf", "application/pdf", new byte[] {1});
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("INTERIOR", file))
+        .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should report an empty table")
+  void importDistrictVolumeTable_rejectsTableWithoutRows() {
+    MockMultipartFile file = csv(
+        "Zone,District,Avoidable Sawlog,Avoidable Grade 4,Unavoidable Grade 4,Total");
+
+    assertThatThrownBy(() -> tableImportService.importDistrictVolumeTable("INTERIOR", file))
+        .isInstanceOfSatisfying(TableImportException.class, ex ->
+            assertThat(ex.getErrors())
+                .containsExactly(new TableImportErrorDto(null, null, "The table has no data rows.")));
+  }
+
+  @Test
+  @DisplayName("importDistrictVolumeTable — should read the first sheet of an XLSX workbook")
+  void importDistrictVolumeTable_readsWorkbook() throws IOException {
+    MockMultipartFile file = new MockMultipartFile(
+        "file",
+        "table.xlsx",
+        "application/octet-stream",
+        workbook(
+            "<row r=\"1\">" + inline("A1", "Zone") + inline("B1", "District")
+                + inline("C1", "Avoidable Sawlog") + inline("D1", "Avoidable Grade 4")
+                + inline("E1", "Unavoidable Grade 4") + inline("F1", "Total") + "</row>"
+                + "<row r=\"2\">" + inline("A2", "Wet belt") + inline("B2", "DKM")
+                + "<c r=\"C2\"><v>1.1499999999999999</v></c>"
+                + "<c r=\"F2\"><v>4</v></c></row>"));
+
+    TableDataDto result = tableImportService.importDistrictVolumeTable("INTERIOR", file);
+
+    assertThat(((InteriorDataDto) result).zones().getFirst().districts())
+        .containsExactly(new InteriorDistrictRowDto(
+            "DKM", new BigDecimal("1.150"), null, null, new BigDecimal("4.000")));
+  }
+
+  @Test
+  @DisplayName("importSpeciesCompositionTable — should read one percentage per species column")
+  void importSpeciesCompositionTable_readsRows() {
+    SpeciesCompositionTableDataDto result = tableImportService.importSpeciesCompositionTable(csv(
+        "District,fd,PL,Ba",
+        "DKM,42.5,57.5,",
+        "dnd,,,100"));
+
+    assertThat(result.rows())
+        .extracting(SpeciesCompositionRow::district, SpeciesCompositionRow::species)
+        .containsExactly(
+            tuple(
+                new CodeDescriptionDto("DKM", "Kamloops"),
+                Map.of("FD", new BigDecimal("42.500"), "PL", new BigDecimal("57.500"))),
+            tuple(
+                new CodeDescriptionDto("DND", "Nadina"),
+                Map.of("BA", new BigDecimal("100.000"))));
+  }
+
+  @Test
+  @DisplayName("importSpeciesCompositionTable — should reject percentages above 100")
+  void importSpeciesCompositionTable_rejectsOutOfRangePercentages() {
+    MockMultipartFile file = csv("District,FD,FD", "DKM,101,1");
+
+    assertThatThrownBy(() -> tableImportService.importSpeciesCompositionTable(file))
+        .isInstanceOfSatisfying(TableImportException.class, ex ->
+            assertThat(ex.getErrors())
+                .extracting(TableImportErrorDto::message)
+                .containsExactly("Column appears more than once."));
+
+    MockMultipartFile percentages = csv("District,FD", "DKM,101");
+    assertThatThrownBy(() -> tableImportService.importSpeciesCompositionTable(percentages))
+        .isInstanceOfSatisfying(TableImportException.class, ex ->
+            assertThat(ex.getErrors())
+                .containsExactly(
+                    new TableImportErrorDto(2L, "FD", "Value must not be greater than 100.")));
+  }
+
+  @Test
+  @DisplayName("importSpeciesCompositionTable — should accept any district when none are known")
+  void importSpeciesCompositionTable_skipsDistrictCheck_whenListUnavailable() {
+    lenient().when(legacyApiProvider.getDistrictCodes()).thenReturn(List.of());
+
+    SpeciesCompositionTableDataDto result =
+        tableImportService.importSpeciesCompositionTable(csv("District,FD", "XYZ,100"));
+
+    assertThat(result.rows().getFirst().district()).isEqualTo(new CodeDescriptionDto("XYZ", null));
+  }
+
+  private static MockMultipartFile csv(String... lines) {
+    return new MockMultipartFile(
+        "file",
+        "table.csv",
+        "text/csv",
+        String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String inline(String reference, String text) {
+    return "<c r=\"" + reference + "\" t=\"inlineStr\"><is><t>" + text + "</t></is></c>";
+  }
+
+  private static byte[] workbook(String rows) throws IOException {
+    String main = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+      zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+      zip.write(("<workbook xmlns=\"" + main + "\"/>").getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+      zip.write(("<worksheet xmlns=\"" + main + "\"><sheetData>" + rows
+          + "</sheetData></worksheet>").getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+    }
+    return bytes.toByteArray();
+  }
+}
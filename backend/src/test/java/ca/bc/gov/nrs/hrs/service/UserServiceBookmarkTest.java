@@ -1,13 +1,21 @@
 package ca.bc.gov.nrs.hrs.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import ca.bc.gov.nrs.hrs.cache.BookmarkSet;
+import ca.bc.gov.nrs.hrs.cache.UserBookmarkCache;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.BookmarkConfiguration;
+import ca.bc.gov.nrs.hrs.exception.BatchSizeExceededException;
 import ca.bc.gov.nrs.hrs.entity.users.UserBookmarkEntity;
 import ca.bc.gov.nrs.hrs.repository.UserBookmarkRepository;
 import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +35,12 @@ class UserServiceBookmarkTest {
   @Mock
   private UserBookmarkRepository bookmarkRepository;
 
+  @Mock
+  private UserBookmarkCache bookmarkCache;
+
+  @Mock
+  private HrsConfiguration configuration;
+
   @InjectMocks
   private UserService userService;
 
@@ -103,5 +117,92 @@ class UserServiceBookmarkTest {
 
     assertThat(result).isEmpty();
   }
-}
 
+  @Test
+  @DisplayName("getUserBookmarksInList with cache enabled should return all cached bookmarks")
+  void getUserBookmarksInList_cached_shouldReturnAll() {
+    when(bookmarkCache.isEnabled()).thenReturn(true);
+    when(bookmarkCache.get(USER_ID)).thenReturn(BookmarkSet.of(List.of(300L, 100L)));
+
+    List<Long> result = userService.getUserBookmarksInList(USER_ID, List.of());
+
+    assertThat(result).containsExactly(100L, 300L);
+    verifyNoInteractions(bookmarkRepository);
+  }
+
+  @Test
+  @DisplayName("getUserBookmarksInList with cache enabled should intersect in memory")
+  void getUserBookmarksInList_cached_shouldIntersect() {
+    when(bookmarkCache.isEnabled()).thenReturn(true);
+    when(bookmarkCache.get(USER_ID)).thenReturn(BookmarkSet.of(List.of(100L, 300L)));
+
+    List<Long> result = userService.getUserBookmarksInList(USER_ID, List.of(300L, 200L, 100L));
+
+    assertThat(result).containsExactly(300L, 100L);
+    verifyNoInteractions(bookmarkRepository);
+  }
+
+  @Test
+  @DisplayName("addUserBookmark should write through to the cache")
+  void addUserBookmark_shouldWriteThrough() {
+    userService.addUserBookmark(USER_ID, 100L);
+
+    verify(bookmarkRepository).save(new UserBookmarkEntity(USER_ID, 100L));
+    verify(bookmarkCache).added(USER_ID, 100L);
+  }
+
+  @Test
+  @DisplayName("deleteUserBookmark should write through to the cache")
+  void deleteUserBookmark_shouldWriteThrough() {
+    userService.deleteUserBookmark(USER_ID, 100L);
+
+    verify(bookmarkRepository).deleteAllByReportingUnitIds(USER_ID, new Long[]{100L});
+    verify(bookmarkCache).removed(USER_ID, 100L);
+  }
+
+  @Test
+  @DisplayName("addUserBookmarks should insert distinct ids in a single statement")
+  void addUserBookmarks_shouldInsertOnce() {
+    when(configuration.getBookmarks()).thenReturn(new BookmarkConfiguration());
+
+    userService.addUserBookmarks(USER_ID, Arrays.asList(100L, null, 200L, 100L));
+
+    verify(bookmarkRepository).insertAllIgnoringExisting(USER_ID, new Long[]{100L, 200L});
+    verify(bookmarkCache).addedAll(USER_ID, List.of(100L, 200L));
+    verifyNoMoreInteractions(bookmarkRepository);
+  }
+
+  @Test
+  @DisplayName("deleteUserBookmarks should delete distinct ids in a single statement")
+  void deleteUserBookmarks_shouldDeleteOnce() {
+    when(configuration.getBookmarks()).thenReturn(new BookmarkConfiguration());
+
+    userService.deleteUserBookmarks(USER_ID, List.of(300L, 100L, 300L));
+
+    verify(bookmarkRepository).deleteAllByReportingUnitIds(USER_ID, new Long[]{300L, 100L});
+    verify(bookmarkCache).removedAll(USER_ID, List.of(300L, 100L));
+    verifyNoMoreInteractions(bookmarkRepository);
+  }
+
+  @Test
+  @DisplayName("bulk bookmark calls with no ids should not touch the database")
+  void bulkBookmarks_empty_shouldDoNothing() {
+    userService.addUserBookmarks(USER_ID, List.of());
+    userService.deleteUserBookmarks(USER_ID, null);
+
+    verifyNoInteractions(bookmarkRepository, bookmarkCache);
+  }
+
+  @Test
+  @DisplayName("bulk bookmark calls above the maximum batch size should be rejected")
+  void bulkBookmarks_tooLarge_shouldThrow() {
+    when(configuration.getBookmarks())
+        .thenReturn(BookmarkConfiguration.builder().maxBatchSize(2).build());
+
+    assertThatThrownBy(() -> userService.addUserBookmarks(USER_ID, List.of(1L, 2L, 3L)))
+        .isInstanceOf(BatchSizeExceededException.class)
+        .hasMessageContaining("maximum of 2");
+
+    verifyNoInteractions(bookmarkRepository, bookmarkCache);
+  }
+}
@@ -0,0 +1,97 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.cache.UserPreferenceCache;
+import ca.bc.gov.nrs.hrs.cache.VersionedPreferences;
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceRevisionProjection;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | User Service - Preferences")
+class UserServicePreferenceTest {
+
+  private static final String USER_ID = "IDIR\\testuser";
+
+  @Mock
+  private UserPreferenceRepository preferenceRepository;
+
+  @Mock
+  private UserPreferenceCache preferenceCache;
+
+  private UserService userService;
+
+  @BeforeEach
+  void setUp() {
+    userService = new UserService(
+        preferenceRepository,
+        null,
+        null,
+        preferenceCache,
+        null,
+        JsonMapper.builder().build()
+    );
+  }
+
+  @Test
+  @DisplayName("getUserPreferences should be served from the cache")
+  void getUserPreferences_shouldUseCache() {
+    when(preferenceCache.get(USER_ID))
+        .thenReturn(new VersionedPreferences(Map.of("theme", "dark"), 2L));
+
+    assertThat(userService.getUserPreferences(USER_ID)).containsEntry("theme", "dark");
+  }
+
+  @Test
+  @DisplayName("saveUserPreferences should replace in one statement and write through")
+  void saveUserPreferences_shouldReplaceAndWriteThrough() {
+    when(preferenceRepository.replacePreferences(USER_ID, "{\"theme\":\"dark\"}"))
+        .thenReturn(stored("{\"theme\":\"dark\"}", 5L));
+
+    userService.saveUserPreferences(USER_ID, Map.of("theme", "dark"));
+
+    verify(preferenceCache)
+        .updated(USER_ID, new VersionedPreferences(Map.of("theme", "dark"), 5L));
+  }
+
+  @Test
+  @DisplayName("patchUserPreferences should send nulls to the merge and return the result")
+  void patchUserPreferences_shouldMergeAndWriteThrough() {
+    Map<String, Object> patch = new HashMap<>();
+    patch.put("theme", null);
+    when(preferenceRepository.mergePreferences(eq(USER_ID), eq("{\"theme\":null}")))
+        .thenReturn(stored("{\"pageSize\":25}", 7L));
+
+    Map<String, Object> result = userService.patchUserPreferences(USER_ID, patch);
+
+    assertThat(result).containsExactly(Map.entry("pageSize", 25));
+    verify(preferenceCache)
+        .updated(USER_ID, new VersionedPreferences(Map.of("pageSize", 25), 7L));
+  }
+
+  private static UserPreferenceRevisionProjection stored(String json, long revision) {
+    return new UserPreferenceRevisionProjection() {
+      @Override
+      public String getPreferences() {
+        return json;
+      }
+
+      @Override
+      public Long getRevision() {
+        return revision;
+      }
+    };
+  }
+}
@@ -0,0 +1,61 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Unit Test | FirstFastRequestFilter")
+class FirstFastRequestFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final long processStart = System.currentTimeMillis() - 5_000;
+  private final FirstFastRequestFilter filter =
+      new FirstFastRequestFilter(Duration.ofSeconds(1), processStart, meterRegistry);
+
+  @Test
+  @DisplayName("should report the first fast request since process start")
+  void shouldReportFirstFastRequest() throws Exception {
+    assertThat(gauge()).isNaN();
+
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/codes/districts"),
+        new MockHttpServletResponse(),
+        new MockFilterChain()
+    );
+
+    assertThat(gauge()).isGreaterThanOrEqualTo(5_000);
+  }
+
+  @Test
+  @DisplayName("should not count actuator or failed requests")
+  void shouldSkipProbesAndFailures() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/actuator/health/readiness"),
+        new MockHttpServletResponse(),
+        new MockFilterChain()
+    );
+    MockHttpServletResponse failed = new MockHttpServletResponse();
+    failed.setStatus(503);
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/codes/districts"),
+        failed,
+        new MockFilterChain()
+    );
+
+    assertThat(gauge()).isNaN();
+  }
+
+  private double gauge() {
+    return meterRegistry
+        .get(FirstFastRequestFilter.FIRST_FAST_REQUEST_GAUGE)
+        .timeGauge()
+        .value(TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,80 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.WarmupConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+
+@DisplayName("Unit Test | StartupWarmup")
+class StartupWarmupTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<String> ran = new ArrayList<>();
+
+  @Test
+  @DisplayName("should run every task and time it, carrying on after a failure")
+  void shouldRunEveryTask() {
+    warmup(true, task("failing", true), task("jwk-set", false))
+        .run(new DefaultApplicationArguments());
+
+    assertThat(ran).containsExactly("failing", "jwk-set");
+    assertThat(meterRegistry.get(StartupWarmup.WARMUP_TIMER)
+        .tag("task", "failing")
+        .tag("outcome", "failure")
+        .timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get(StartupWarmup.WARMUP_TIMER)
+        .tag("task", "jwk-set")
+        .tag("outcome", "success")
+        .timer()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should run nothing when disabled")
+  void shouldSkipWhenDisabled() {
+    warmup(false, task("jwk-set", false)).run(new DefaultApplicationArguments());
+
+    assertThat(ran).isEmpty();
+    assertThat(meterRegistry.find(StartupWarmup.WARMUP_TIMER).timer()).isNull();
+  }
+
+  private StartupWarmup warmup(boolean enabled, WarmupTask... tasks) {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    for (WarmupTask task : tasks) {
+      beanFactory.addBean(task.name(), task);
+    }
+    return new StartupWarmup(
+        HrsConfiguration
+            .builder()
+            .warmup(WarmupConfiguration.builder().enabled(enabled).build())
+            .build(),
+        beanFactory.getBeanProvider(WarmupTask.class),
+        meterRegistry
+    );
+  }
+
+  private WarmupTask task(String name, boolean fails) {
+    return new WarmupTask() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public void warmUp() {
+        ran.add(name);
+        if (fails) {
+          throw new IllegalStateException("unavailable");
+        }
+      }
+    };
+  }
+}
@@ -30,4 +30,12 @@ public class LegacyConstants {
    * none are available.</p>
    */
   public static final String NOCLIENT = "NOCLIENT";
+
+  /**
+   * HTTP header carrying the HMAC-signed internal principal produced by the backend.
+   *
+   * <p>Only honoured when {@code ca.bc.gov.nrs.internal-principal.enabled} is set; otherwise
+   * the bearer token is the only source of identity.</p>
+   */
+  public static final String X_INTERNAL_PRINCIPAL = "X-HRS-Internal-Principal";
 }
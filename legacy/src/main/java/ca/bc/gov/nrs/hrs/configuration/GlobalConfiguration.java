@@ -7,6 +7,7 @@ import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
 import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
 import ca.bc.gov.nrs.hrs.entity.reportingunit.ReportingUnitEntity;
 import ca.bc.gov.nrs.hrs.exception.GlobalExceptionHandler;
+import ca.bc.gov.nrs.hrs.monitoring.SlowQuery;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -31,7 +32,8 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
     ReportingUnitSearchParametersDto.class,
     ReportingUnitSearchResultDto.class,
     ReportingUnitEntity.class,
-    ReportingUnitDetailsDto.class
+    ReportingUnitDetailsDto.class,
+    SlowQuery.class
 })
 public class GlobalConfiguration {
 
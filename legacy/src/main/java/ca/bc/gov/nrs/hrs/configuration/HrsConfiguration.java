@@ -1,11 +1,13 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
+import java.time.Duration;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,4 +31,172 @@ public class HrsConfiguration {
    * List of districts.
    */
   private List<String> districts;
+
+  /**
+   * Trusted internal principal configuration for calls forwarded by the backend.
+   */
+  @NestedConfigurationProperty
+  private InternalPrincipalConfiguration internalPrincipal;
+
+  /**
+   * Named native query timing and slow-query capture configuration.
+   */
+  @NestedConfigurationProperty
+  private QueryMonitoringConfiguration queryMonitoring;
+
+  /**
+   * Virtual thread diagnostics configuration.
+   */
+  @NestedConfigurationProperty
+  private VirtualThreadConfiguration virtualThreads;
+
+  /**
+   * Startup warmup configuration.
+   */
+  @NestedConfigurationProperty
+  private WarmupConfiguration warmup;
+
+  /**
+   * Internal principal configuration.
+   *
+   * <p>When enabled, requests carrying a valid HMAC-signed internal principal header produced by
+   * the backend are authenticated from that header, skipping JWT signature verification. The
+   * secret must match the one configured on the backend. Disabled by default.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class InternalPrincipalConfiguration {
+
+    /**
+     * Whether the signed internal principal header is accepted. Defaults to {@code false}.
+     */
+    @Builder.Default
+    private boolean enabled = false;
+
+    /**
+     * Shared HMAC-SHA256 secret used to verify the header.
+     */
+    private String secret;
+
+    /**
+     * Allowed clock skew between the backend and legacy hosts when checking expiry.
+     */
+    @Builder.Default
+    private Duration clockSkew = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Named native query monitoring configuration.
+   *
+   * <p>Native queries tagged with a leading block comment holding their name are timed per
+   * name. An execution at or above the slow threshold is kept in an in-memory ring buffer
+   * together with the shape of its bind variables and, at most once per query per plan interval,
+   * the Oracle execution plan reported by {@code DBMS_XPLAN.DISPLAY_CURSOR}.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class QueryMonitoringConfiguration {
+
+    /**
+     * Whether named native queries are monitored. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Execution time, including fetching, from which a query is captured. Defaults to 1 second.
+     */
+    @Builder.Default
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Number of slow executions kept in the ring buffer. Defaults to 50.
+     */
+    @Builder.Default
+    private int bufferSize = 50;
+
+    /**
+     * Minimum time between two plan captures of the same query. Defaults to 5 minutes.
+     */
+    @Builder.Default
+    private Duration planInterval = Duration.ofMinutes(5);
+
+    /**
+     * {@code DBMS_XPLAN.DISPLAY_CURSOR} format. Defaults to {@code TYPICAL}.
+     */
+    @Builder.Default
+    private String planFormat = "TYPICAL";
+
+    /**
+     * Rows per fetch assumed when the statement does not set a fetch size. Defaults to the Oracle
+     * driver default of 10.
+     */
+    @Builder.Default
+    private int defaultFetchSize = 10;
+  }
+
+  /**
+   * Virtual thread diagnostics settings.
+   *
+   * <p>Only used while virtual threads are enabled with {@code spring.threads.virtual.enabled},
+   * which then also run request handling, {@code @Async} work and scheduled tasks.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class VirtualThreadConfiguration {
+
+    /**
+     * Time a virtual thread must stay pinned to its carrier to be reported. Defaults to 20
+     * milliseconds.
+     */
+    @Builder.Default
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Number of distinct code locations whose pinning is logged with a stack trace. Defaults
+     * to 100.
+     */
+    @Builder.Default
+    private int maxReportedSites = 100;
+  }
+
+  /**
+   * Startup warmup settings.
+   *
+   * <p>Warmup runs once the application has started and before it reports ready, so the work
+   * the first requests would otherwise pay for is done while the readiness probe still keeps
+   * traffic away.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class WarmupConfiguration {
+
+    /**
+     * Whether warmup runs before the application reports ready. Defaults to {@code true}.
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * Time under which a request counts as fast for the time to first fast request. Defaults
+     * to 250 milliseconds.
+     */
+    @Builder.Default
+    private Duration fastRequestThreshold = Duration.ofMillis(250);
+
+    /**
+     * How long the code tables loaded at startup are served before being read again. Defaults
+     * to 1 hour; zero reads them on every request.
+     */
+    @Builder.Default
+    private Duration codeTableTtl = Duration.ofHours(1);
+  }
 }
@@ -0,0 +1,56 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import ca.bc.gov.nrs.hrs.monitoring.NamedQueryDataSource;
+import ca.bc.gov.nrs.hrs.monitoring.NamedQueryRecorder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Configuration enabling the timing of named native queries.
+ *
+ * <p>Decorates the application {@link DataSource} with a {@link NamedQueryDataSource} unless
+ * {@code ca.bc.gov.nrs.query-monitoring.enabled} is {@code false}, and imports the proxy hints
+ * the decorator needs in the native image.</p>
+ *
+ * @since 1.0.0
+ */
+@Configuration
+@ImportRuntimeHints(NamedQueryDataSource.ProxyHints.class)
+@ConditionalOnProperty(
+    prefix = "ca.bc.gov.nrs.query-monitoring",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class NamedQueryMonitoringConfiguration {
+
+  /**
+   * Registers the post-processor that decorates every {@link DataSource} bean.
+   *
+   * <p>The method is static so the post-processor is registered without initializing this
+   * configuration early, and the recorder is looked up lazily for the same reason.</p>
+   *
+   * @param recorder provider of the {@link NamedQueryRecorder}
+   * @return a {@link BeanPostProcessor} wrapping data sources in a {@link NamedQueryDataSource}
+   */
+  @Bean
+  public static BeanPostProcessor namedQueryDataSourcePostProcessor(
+      ObjectProvider<NamedQueryRecorder> recorder
+  ) {
+    return new BeanPostProcessor() {
+
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof NamedQueryDataSource)) {
+          return new NamedQueryDataSource(dataSource, recorder);
+        }
+        return bean;
+      }
+    };
+  }
+}
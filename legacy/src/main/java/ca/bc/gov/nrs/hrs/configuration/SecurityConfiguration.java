@@ -3,7 +3,18 @@ package ca.bc.gov.nrs.hrs.configuration;
 import ca.bc.gov.nrs.hrs.security.ApiAuthorizationCustomizer;
 import ca.bc.gov.nrs.hrs.security.CsrfSecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.HeadersSecurityCustomizer;
+import ca.bc.gov.nrs.hrs.security.InternalPrincipalAuthenticationFilter;
 import ca.bc.gov.nrs.hrs.security.Oauth2SecurityCustomizer;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.net.MalformedURLException;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,6 +22,9 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -34,14 +48,21 @@ public class SecurityConfiguration {
    *
    * <p>The supplied customizers are applied in the following logical order:
    * headers -> CSRF -> CORS defaults -> authorization rules -> disable HTTP Basic and form login ->
-   * OAuth2 resource server. Each argument is a Spring-managed component that encapsulates the
-   * configuration for the corresponding concern.</p>
+   * OAuth2 resource server -> internal principal filter. Each argument is a Spring-managed
+   * component that encapsulates the configuration for the corresponding concern.</p>
+   *
+   * <p>The {@link InternalPrincipalAuthenticationFilter} is inserted immediately before the
+   * {@code BearerTokenAuthenticationFilter} so that a valid signed internal principal forwarded
+   * by the backend authenticates the request before any JWT decoding takes place. When the
+   * feature is disabled the filter is a no-op.</p>
    *
    * @param http              the {@link HttpSecurity} builder provided by Spring Security
    * @param headersCustomizer customizer used to configure security-related HTTP headers
    * @param csrfCustomizer    customizer used to configure CSRF protection
    * @param apiCustomizer     customizer used to configure authorization rules for HTTP endpoints
    * @param oauth2Customizer  customizer used to configure OAuth2 resource server support
+   * @param internalPrincipalFilter filter that authenticates backend-forwarded internal
+   *     principals
    * @return the configured {@link SecurityFilterChain}
    * @throws Exception if an error occurs while configuring {@code HttpSecurity}
    */
@@ -51,7 +72,8 @@ public class SecurityConfiguration {
       HeadersSecurityCustomizer headersCustomizer,
       CsrfSecurityCustomizer csrfCustomizer,
       ApiAuthorizationCustomizer apiCustomizer,
-      Oauth2SecurityCustomizer oauth2Customizer
+      Oauth2SecurityCustomizer oauth2Customizer,
+      InternalPrincipalAuthenticationFilter internalPrincipalFilter
   ) throws Exception {
     http
         .headers(headersCustomizer)
@@ -60,9 +82,66 @@ public class SecurityConfiguration {
         .authorizeHttpRequests(apiCustomizer)
         .httpBasic(AbstractHttpConfigurer::disable)
         .formLogin(AbstractHttpConfigurer::disable)
-        .oauth2ResourceServer(oauth2Customizer);
+        .oauth2ResourceServer(oauth2Customizer)
+        .addFilterBefore(internalPrincipalFilter, BearerTokenAuthenticationFilter.class);
 
     return http.build();
   }
 
+  /**
+   * Keeps the servlet container from registering the {@link InternalPrincipalAuthenticationFilter}.
+   *
+   * <p>The filter is a component so it can be injected into the security chain, which Spring Boot
+   * would otherwise also register as a servlet filter, running it outside the chain.</p>
+   *
+   * @param internalPrincipalFilter filter that authenticates backend-forwarded internal
+   *     principals
+   * @return the disabled registration
+   */
+  @Bean
+  public FilterRegistrationBean<InternalPrincipalAuthenticationFilter>
+      internalPrincipalFilterRegistration(
+      InternalPrincipalAuthenticationFilter internalPrincipalFilter
+  ) {
+    FilterRegistrationBean<InternalPrincipalAuthenticationFilter> registration =
+        new FilterRegistrationBean<>(internalPrincipalFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  /**
+   * Source of the Cognito signing keys, read from the JWK set URI and cached.
+   *
+   * <p>It is a bean of its own so the key set can be fetched during startup warmup rather than
+   * by the first authenticated request.</p>
+   *
+   * @param jwkSetUri the JWK set URI of the user pool
+   * @return the cached {@link JWKSource}
+   * @throws MalformedURLException if the JWK set URI is not a valid URL
+   */
+  @Bean
+  public JWKSource<SecurityContext> jwkSource(
+      @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri
+  ) throws MalformedURLException {
+    return JWKSourceBuilder
+        .<SecurityContext>create(URI.create(jwkSetUri).toURL())
+        .retrying(true)
+        .build();
+  }
+
+  /**
+   * Decoder validating the access tokens against the keys of the {@link JWKSource}.
+   *
+   * @param jwkSource the source of the signing keys
+   * @return the {@link JwtDecoder}
+   */
+  @Bean
+  public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+    // claims are validated by the decoder itself
+    processor.setJWTClaimsSetVerifier((claims, context) -> {
+    });
+    return new NimbusJwtDecoder(processor);
+  }
 }
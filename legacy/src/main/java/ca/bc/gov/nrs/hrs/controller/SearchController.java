@@ -23,6 +23,8 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -65,21 +67,40 @@ public class SearchController {
       Pageable pageable
   ) {
 
-    List<String> userClientNumbers =
-        JwtPrincipalUtil.getIdentityProvider(jwt).equals(IdentityProvider.IDIR)
-            ? List.of()
-            : JwtPrincipalUtil.getClientFromRoles(jwt);
-
     log.info("Searching waste entries with filters: {}, pageable: {} for: {}",
         filters, pageable, JwtPrincipalUtil.getUserId(jwt)
     );
-    return ruSearchService.search(
-        filters,
+    return search(jwt, filters, pageable);
+  }
+
+  /**
+   * Search reporting units using filters supplied in the request body.
+   *
+   * <p>Behaves exactly like {@link #searchWasteEntries(Jwt, ReportingUnitSearchParametersDto,
+   * Pageable)} but accepts the filters as JSON, which allows large {@code reportingUnitIds} sets
+   * (for example a user's bookmarks) without hitting URL length limits. Paging and sorting are
+   * still read from the query string.</p>
+   *
+   * @param jwt      the authenticated JWT principal
+   * @param filters  the search filter parameters read from the request body
+   * @param pageable paging and sorting information
+   * @return a page of {@link ReportingUnitSearchResultDto} matching the supplied criteria
+   */
+  @PostMapping("/reporting-units")
+  public Page<ReportingUnitSearchResultDto> searchWasteEntriesByBody(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestBody ReportingUnitSearchParametersDto filters,
+      @PageableDefault(sort = "lastUpdated", direction = Direction.DESC)
+      Pageable pageable
+  ) {
+    // an absent filter reads as the -1 sentinel, which is not an id sent by the client
+    List<Long> reportingUnitIds = filters.getReportingUnitIds();
+    log.info("Searching waste entries with {} reporting unit id(s), pageable: {} for: {}",
+        reportingUnitIds.equals(List.of(-1L)) ? 0 : reportingUnitIds.size(),
         pageable,
-        userClientNumbers,
         JwtPrincipalUtil.getUserId(jwt)
     );
-
+    return search(jwt, filters, pageable);
   }
 
   /**
@@ -183,4 +204,22 @@ public class SearchController {
     );
   }
 
-}
\ No newline at end of file
+  private Page<ReportingUnitSearchResultDto> search(
+      Jwt jwt,
+      ReportingUnitSearchParametersDto filters,
+      Pageable pageable
+  ) {
+    List<String> userClientNumbers =
+        JwtPrincipalUtil.getIdentityProvider(jwt).equals(IdentityProvider.IDIR)
+            ? List.of()
+            : JwtPrincipalUtil.getClientFromRoles(jwt);
+
+    return ruSearchService.search(
+        filters,
+        pageable,
+        userClientNumbers,
+        JwtPrincipalUtil.getUserId(jwt)
+    );
+  }
+
+}
@@ -3,6 +3,7 @@ package ca.bc.gov.nrs.hrs.dto.search;
 import ca.bc.gov.nrs.hrs.LegacyConstants;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -23,6 +24,12 @@ import org.springframework.format.annotation.DateTimeFormat;
 @With
 public class ReportingUnitSearchParametersDto {
 
+  /**
+   * Maximum length of a single reporting-unit id chunk, matching the {@code VARCHAR2(4000)}
+   * elements of {@code SYS.ODCIVARCHAR2LIST}.
+   */
+  static final int REPORTING_UNIT_ID_CHUNK_LENGTH = 4000;
+
   private String mainSearchTerm;
   private List<String> district;
   private List<String> sampling;
@@ -137,4 +144,43 @@ public class ReportingUnitSearchParametersDto {
     }
     return reportingUnitIds;
   }
+
+  /**
+   * Returns the reporting-unit ID filter split into JSON array chunks.
+   *
+   * <p>Each chunk is a JSON array of ids, such as {@code [879,916]}, no longer than
+   * {@value #REPORTING_UNIT_ID_CHUNK_LENGTH} characters. The search query binds the chunks as a
+   * {@code SYS.ODCIVARCHAR2LIST} collection and expands them with {@code JSON_TABLE}, so the
+   * number of ids is not bound by Oracle's 1000-element {@code IN} list limit nor by the bind
+   * variable count. If no ids were supplied, a single-value list containing
+   * {@link LegacyConstants#NOVALUE} is returned to indicate an absent filter.</p>
+   *
+   * @return the JSON chunks or a singleton list with {@code NOVALUE} when absent
+   */
+  public List<String> getReportingUnitIdChunks() {
+    if (reportingUnitIds == null || reportingUnitIds.isEmpty()) {
+      return List.of(LegacyConstants.NOVALUE);
+    }
+
+    List<String> chunks = new ArrayList<>();
+    StringBuilder chunk = new StringBuilder("[");
+    for (Long value : reportingUnitIds) {
+      if (value == null) {
+        continue;
+      }
+      String id = value.toString();
+      if (chunk.length() > 1
+          && chunk.length() + id.length() + 2 > REPORTING_UNIT_ID_CHUNK_LENGTH) {
+        chunks.add(chunk.append(']').toString());
+        chunk.setLength(0);
+        chunk.append('[');
+      }
+      if (chunk.length() > 1) {
+        chunk.append(',');
+      }
+      chunk.append(id);
+    }
+    chunks.add(chunk.append(']').toString());
+    return chunks;
+  }
 }
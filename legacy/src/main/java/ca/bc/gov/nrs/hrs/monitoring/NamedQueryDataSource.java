@@ -0,0 +1,210 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+/**
+ * Data source decorator that times the execution of named native queries.
+ *
+ * <p>A query is named by a block comment holding its name in capitals, as done at the start of
+ * the repository query constants, for example {@code SEARCH_USER}. The prepared
+ * statements of named queries are wrapped so that the time from {@code executeQuery} until the
+ * result set is closed, the rows read, the fetch size and the type of every bind variable are
+ * handed to the {@link NamedQueryRecorder}. Every other statement is left untouched.</p>
+ *
+ * <p>The connection, statement and result set wrappers are JDK proxies, registered for the
+ * native image by {@link ProxyHints}.</p>
+ */
+public class NamedQueryDataSource extends DelegatingDataSource {
+
+  private static final Pattern QUERY_NAME = Pattern.compile("/\\*\\s*([A-Z][A-Z0-9_]*)\\s*\\*/");
+
+  private final ObjectProvider<NamedQueryRecorder> recorder;
+
+  /**
+   * Creates the decorator.
+   *
+   * @param targetDataSource the data source to decorate
+   * @param recorder         provider of the recorder, resolved when a named query finishes
+   */
+  public NamedQueryDataSource(
+      DataSource targetDataSource,
+      ObjectProvider<NamedQueryRecorder> recorder
+  ) {
+    super(targetDataSource);
+    this.recorder = recorder;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  /**
+   * Extracts the name of a named query.
+   *
+   * @param sql the statement text
+   * @return the query name, or {@code null} when the statement is not named
+   */
+  static String queryName(String sql) {
+    if (sql == null) {
+      return null;
+    }
+    Matcher matcher = QUERY_NAME.matcher(sql);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+
+  private Connection wrap(Connection connection) {
+    return proxy(Connection.class, connection, (method, args) -> {
+      Object result = method.invoke(connection, args);
+      if (result instanceof PreparedStatement statement
+          && method.getName().startsWith("prepare")
+          && args != null
+          && args[0] instanceof String sql) {
+        String name = queryName(sql);
+        if (name != null) {
+          return new NamedStatement(name, connection, statement).proxy();
+        }
+      }
+      return result;
+    });
+  }
+
+  private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      try {
+        return invocation.invoke(method, args);
+      } catch (InvocationTargetException exception) {
+        throw exception.getCause();
+      }
+    };
+    return type.cast(Proxy.newProxyInstance(
+        NamedQueryDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+  }
+
+  @FunctionalInterface
+  private interface Invocation {
+
+    Object invoke(Method method, Object[] args) throws Throwable;
+  }
+
+  /**
+   * Tracks one named prepared statement and its current execution.
+   */
+  private final class NamedStatement {
+
+    private final String name;
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final Map<Integer, String> binds = new TreeMap<>();
+    private long startedAt;
+    private long rows;
+    private boolean executing;
+
+    private NamedStatement(String name, Connection connection, PreparedStatement statement) {
+      this.name = name;
+      this.connection = connection;
+      this.statement = statement;
+    }
+
+    private PreparedStatement proxy() {
+      return NamedQueryDataSource.proxy(PreparedStatement.class, statement, (method, args) -> {
+        String methodName = method.getName();
+        if (methodName.startsWith("set") && args != null && args.length >= 2
+            && args[0] instanceof Integer index) {
+          binds.put(index, bindType(methodName, args[1]));
+        } else if ("clearParameters".equals(methodName)) {
+          binds.clear();
+        } else if ("close".equals(methodName)) {
+          finish();
+        }
+
+        if ("executeQuery".equals(methodName)) {
+          finish();
+          startedAt = System.nanoTime();
+          rows = 0;
+          executing = true;
+          return wrap((ResultSet) method.invoke(statement, args));
+        }
+        return method.invoke(statement, args);
+      });
+    }
+
+    private ResultSet wrap(ResultSet resultSet) {
+      return NamedQueryDataSource.proxy(ResultSet.class, resultSet, (method, args) -> {
+        Object result = method.invoke(resultSet, args);
+        if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+          rows++;
+        } else if ("close".equals(method.getName())) {
+          finish();
+        }
+        return result;
+      });
+    }
+
+    private void finish() {
+      if (!executing) {
+        return;
+      }
+      executing = false;
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+      NamedQueryRecorder target = recorder.getIfAvailable();
+      if (target != null) {
+        target.record(name, elapsed, rows, fetchSize(), new ArrayList<>(binds.values()),
+            connection);
+      }
+    }
+
+    private int fetchSize() {
+      try {
+        return statement.getFetchSize();
+      } catch (SQLException exception) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Registers the JDK proxies of the wrapped JDBC interfaces, which a native image cannot create
+   * without a hint.
+   */
+  public static class ProxyHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(@NonNull RuntimeHints hints, ClassLoader classLoader) {
+      hints.proxies().registerJdkProxy(Connection.class);
+      hints.proxies().registerJdkProxy(PreparedStatement.class);
+      hints.proxies().registerJdkProxy(ResultSet.class);
+    }
+  }
+
+  private static String bindType(String methodName, Object value) {
+    if ("setNull".equals(methodName) || value == null) {
+      return "NULL";
+    }
+    return value.getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,197 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.QueryMonitoringConfiguration;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the executions of named native queries.
+ *
+ * <p>Every execution is recorded in the {@value #EXECUTION_TIMER} timer and the
+ * {@value #ROWS_SUMMARY} and {@value #ROUND_TRIPS_SUMMARY} summaries, tagged with the query name.
+ * Executions at or above the slow threshold are also kept, newest first, in a bounded ring buffer
+ * read by the {@link SlowQueryEndpoint}.</p>
+ *
+ * <p>The plan of a slow execution is read with {@code DBMS_XPLAN.DISPLAY_CURSOR(NULL, NULL)} on
+ * the connection that ran it, which reports the last statement of the session. This needs the
+ * database user to be able to read {@code V$SESSION}, {@code V$SQL} and {@code V$SQL_PLAN}; when
+ * it cannot, the failure is stored as the plan instead.</p>
+ */
+@Slf4j
+@Component
+public class NamedQueryRecorder {
+
+  /**
+   * Timer recording the execution time of named native queries, including fetching.
+   */
+  public static final String EXECUTION_TIMER = "hrs.query.executions";
+
+  /**
+   * Summary recording the rows read per named native query execution.
+   */
+  public static final String ROWS_SUMMARY = "hrs.query.rows";
+
+  /**
+   * Summary recording the estimated fetch round trips per named native query execution.
+   */
+  public static final String ROUND_TRIPS_SUMMARY = "hrs.query.round.trips";
+
+  private static final String PLAN_QUERY =
+      "SELECT plan_table_output FROM TABLE(DBMS_XPLAN.DISPLAY_CURSOR(NULL, NULL, ?))";
+
+  private final MeterRegistry meterRegistry;
+  private final QueryMonitoringConfiguration configuration;
+  private final Deque<SlowQuery> slowQueries;
+  private final Map<String, Instant> lastPlanCapture = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the recorder.
+   *
+   * @param meterRegistry the registry the query meters are recorded in
+   * @param configuration application configuration providing the query monitoring settings
+   */
+  public NamedQueryRecorder(MeterRegistry meterRegistry, HrsConfiguration configuration) {
+    this.meterRegistry = meterRegistry;
+    this.configuration = Optional
+        .ofNullable(configuration.getQueryMonitoring())
+        .orElseGet(QueryMonitoringConfiguration::new);
+    this.slowQueries = new ArrayDeque<>(this.configuration.getBufferSize());
+  }
+
+  /**
+   * Records a finished execution of a named query.
+   *
+   * @param query      the query name
+   * @param elapsed    the execution time including fetching
+   * @param rows       the number of rows read
+   * @param fetchSize  the statement fetch size, or 0 when the driver default applies
+   * @param binds      the bind variable types, in binding order
+   * @param connection the connection that ran the query, used to read its plan
+   */
+  public void record(
+      String query,
+      Duration elapsed,
+      long rows,
+      int fetchSize,
+      List<String> binds,
+      Connection connection
+  ) {
+    long roundTrips = roundTrips(rows, fetchSize);
+
+    Timer
+        .builder(EXECUTION_TIMER)
+        .description("Execution time of named native queries, including fetching")
+        .tag("query", query)
+        .register(meterRegistry)
+        .record(elapsed.toNanos(), TimeUnit.NANOSECONDS);
+    DistributionSummary
+        .builder(ROWS_SUMMARY)
+        .description("Rows read per named native query execution")
+        .tag("query", query)
+        .register(meterRegistry)
+        .record(rows);
+    DistributionSummary
+        .builder(ROUND_TRIPS_SUMMARY)
+        .description("Estimated fetch round trips per named native query execution")
+        .tag("query", query)
+        .register(meterRegistry)
+        .record(roundTrips);
+
+    if (elapsed.compareTo(configuration.getSlowThreshold()) < 0) {
+      return;
+    }
+
+    Instant now = Instant.now();
+    SlowQuery slowQuery = new SlowQuery(
+        query,
+        now,
+        elapsed.toMillis(),
+        rows,
+        roundTrips,
+        List.copyOf(binds),
+        shouldCapturePlan(query, now) ? capturePlan(connection) : null
+    );
+    log.warn("Slow query {} took {} ms for {} rows", query, slowQuery.elapsedMs(), rows);
+
+    synchronized (slowQueries) {
+      if (slowQueries.size() >= configuration.getBufferSize()) {
+        slowQueries.removeLast();
+      }
+      if (configuration.getBufferSize() > 0) {
+        slowQueries.addFirst(slowQuery);
+      }
+    }
+  }
+
+  /**
+   * Returns the captured slow executions.
+   *
+   * @return the slow executions, newest first
+   */
+  public List<SlowQuery> getSlowQueries() {
+    synchronized (slowQueries) {
+      return List.copyOf(slowQueries);
+    }
+  }
+
+  /**
+   * Empties the ring buffer and allows the next slow execution of every query to capture a plan.
+   */
+  public void clear() {
+    synchronized (slowQueries) {
+      slowQueries.clear();
+    }
+    lastPlanCapture.clear();
+  }
+
+  private long roundTrips(long rows, int fetchSize) {
+    int rowsPerFetch = fetchSize > 0 ? fetchSize : configuration.getDefaultFetchSize();
+    // A last fetch is needed to find out there are no more rows
+    return rowsPerFetch > 0 ? rows / rowsPerFetch + 1 : 1;
+  }
+
+  private boolean shouldCapturePlan(String query, Instant now) {
+    Instant notBefore = now.minus(configuration.getPlanInterval());
+    Instant previous = lastPlanCapture.get(query);
+    if (previous != null && previous.isAfter(notBefore)) {
+      return false;
+    }
+    return previous == null
+        ? lastPlanCapture.putIfAbsent(query, now) == null
+        : lastPlanCapture.replace(query, previous, now);
+  }
+
+  private List<String> capturePlan(Connection connection) {
+    try (PreparedStatement statement = connection.prepareStatement(PLAN_QUERY)) {
+      statement.setString(1, configuration.getPlanFormat());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        List<String> plan = new ArrayList<>();
+        while (resultSet.next()) {
+          plan.add(resultSet.getString(1));
+        }
+        return plan;
+      }
+    } catch (SQLException exception) {
+      log.debug("Could not read the plan of a slow query", exception);
+      return List.of("Plan unavailable: " + exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A named native query execution that took at least the configured slow threshold.
+ *
+ * <p>Only the shape of the bind variables is kept, as the type of each one in binding order (or
+ * {@code NULL}), never their values. The plan is the output of
+ * {@code DBMS_XPLAN.DISPLAY_CURSOR} for the execution, or {@code null} when a plan of the same
+ * query was captured recently.</p>
+ *
+ * @param query      the query name, for example {@code SEARCH_REPORTING_UNIT_QUERY}
+ * @param capturedAt when the execution finished
+ * @param elapsedMs  the execution time including fetching, in milliseconds
+ * @param rows       the number of rows read
+ * @param roundTrips the estimated number of fetch round trips
+ * @param binds      the bind variable types, in binding order
+ * @param plan       the execution plan lines, if captured
+ */
+public record SlowQuery(
+    String query,
+    Instant capturedAt,
+    long elapsedMs,
+    long rows,
+    long roundTrips,
+    List<String> binds,
+    List<String> plan
+) {
+
+}
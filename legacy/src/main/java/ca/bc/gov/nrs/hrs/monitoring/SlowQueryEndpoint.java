@@ -0,0 +1,41 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the slow named native query executions.
+ *
+ * <p>{@code GET /actuator/slowqueries} returns the executions kept by the
+ * {@link NamedQueryRecorder}, newest first; {@code DELETE /actuator/slowqueries} empties the
+ * buffer.</p>
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+  private final NamedQueryRecorder recorder;
+
+  /**
+   * Returns the captured slow executions.
+   *
+   * @return the slow executions, newest first
+   */
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return recorder.getSlowQueries();
+  }
+
+  /**
+   * Empties the slow execution buffer.
+   */
+  @DeleteOperation
+  public void clear() {
+    recorder.clear();
+  }
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
  *
  * <p>This class is not meant to be instantiated, hence the private constructor.
  * The constants defined in this class are used in repository classes to fetch data from the
- * database.</p>
+ * database. Each public query starts with a block comment holding its name, which the
+ * {@link ca.bc.gov.nrs.hrs.monitoring.NamedQueryDataSource} uses to time it.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class QueryConstants {
@@ -19,7 +20,7 @@ public final class QueryConstants {
   private static final String COUNT = "SELECT COUNT(1) AS total ";
   private static final String COUNT_CTE = "SELECT COUNT(1) OVER() AS total ";
 
-  public static final String SEARCH_USER = """
+  public static final String SEARCH_USER = "/* SEARCH_USER */ " + """
       SELECT USERID
       FROM (
         SELECT ENTRY_USERID AS USERID FROM WASTE_REPORTING_UNIT
@@ -88,14 +89,16 @@ public final class QueryConstants {
       """;
 
   public static final String MY_DISTRICTS_QUERY =
-      "WITH ValidBlockCounts AS (" + MY_DISTRICTS_WAA + "),"
+      "/* MY_DISTRICTS_QUERY */ "
+      + "WITH ValidBlockCounts AS (" + MY_DISTRICTS_WAA + "),"
       + "ClientStats AS (" + MY_DISTRICTS_WRU + "),"
       + "ClientList AS (" + MY_DISTRICTS_MYCLIENTS + "),"
       + "Together AS (" + MY_DISTRICTS_UNION + ") "
       + MY_DISTRICTS_STATUS;
 
   public static final String MY_DISTRICTS_COUNT =
-      "WITH ValidBlockCounts AS (" + MY_DISTRICTS_WAA + "),"
+      "/* MY_DISTRICTS_COUNT */ "
+      + "WITH ValidBlockCounts AS (" + MY_DISTRICTS_WAA + "),"
       + "ClientStats AS (" + MY_DISTRICTS_WRU + "),"
       + "ClientList AS (" + MY_DISTRICTS_MYCLIENTS + "),"
       + "Together AS (" + MY_DISTRICTS_UNION + ") "
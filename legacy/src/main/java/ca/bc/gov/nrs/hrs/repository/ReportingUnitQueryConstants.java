@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
  *
  * <p>This class is not meant to be instantiated, hence the private constructor.
  * The constants defined in this class are used in repository classes to fetch data from the
- * database.</p>
+ * database. Each public query starts with a block comment holding its name, which the
+ * {@link ca.bc.gov.nrs.hrs.monitoring.NamedQueryDataSource} uses to time it.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ReportingUnitQueryConstants {
@@ -133,18 +134,24 @@ public final class ReportingUnitQueryConstants {
           OR (NVL(:#{#filter.multiMark}, 0) = 1 AND waa.MULTI_MARK_IND = 'Y')
         )
         AND (
-          -1 in (:#{#filter.reportingUnitIds})
-          OR wru.REPORTING_UNIT_ID IN (:#{#filter.reportingUnitIds})
+          'NOVALUE' IN (:#{#filter.reportingUnitIdChunks})
+          OR wru.REPORTING_UNIT_ID IN (
+            SELECT ids.id
+            FROM TABLE(SYS.ODCIVARCHAR2LIST(:#{#filter.reportingUnitIdChunks})) chunks,
+              JSON_TABLE(chunks.COLUMN_VALUE, '$[*]' COLUMNS (id NUMBER PATH '$')) ids
+          )
         )
       """;
 
   public static final String SEARCH_REPORTING_UNIT_QUERY =
-      SEARCH_REPORTING_UNIT_SELECT
+      "/* SEARCH_REPORTING_UNIT_QUERY */ "
+      + SEARCH_REPORTING_UNIT_SELECT
       + SEARCH_REPORTING_UNIT_FROM_JOIN
       + SEARCH_REPORTING_UNIT_WHERE;
 
   public static final String SEARCH_REPORTING_UNIT_COUNT =
-      "WITH DistinctResults AS ("
+      "/* SEARCH_REPORTING_UNIT_COUNT */ "
+      + "WITH DistinctResults AS ("
       + SEARCH_REPORTING_UNIT_SELECT
       + SEARCH_REPORTING_UNIT_FROM_JOIN
       + SEARCH_REPORTING_UNIT_WHERE
@@ -270,14 +277,15 @@ public final class ReportingUnitQueryConstants {
       """;
 
   public static final String GET_SEARCH_BLOCK_EXPANDED_CONTENT =
-      "WITH BlockCount AS (" + GET_BLOCK_COUNT + "), "
+      "/* GET_SEARCH_BLOCK_EXPANDED_CONTENT */ "
+      + "WITH BlockCount AS (" + GET_BLOCK_COUNT + "), "
       + "ChildCount AS (" + GET_CHILD_COUNT + "), "
       + "CommentsAudit AS (" + GET_BLOCK_COMMENT_LATEST + "), "
       + "AttachmentContent AS (" + GET_BLOCK_ATTACHMENT_LATEST + "), "
       + "ChildValues AS (" + GET_BLOCK_SECONDARY_MARK + ") "
       + GET_SEARCH_BLOCK_EXPANDED;
 
-  public static final String GET_RU_DETAILS = """
+  public static final String GET_RU_DETAILS = "/* GET_RU_DETAILS */ " + """
       SELECT
           wru.CLIENT_NUMBER,
           wru.CLIENT_LOCN_CODE,
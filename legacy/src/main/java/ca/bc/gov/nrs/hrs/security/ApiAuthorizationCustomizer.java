@@ -36,14 +36,22 @@ public class ApiAuthorizationCustomizer implements
           .AuthorizationManagerRequestMatcherRegistry authorize
   ) {
     authorize
-        // Public health endpoint
-        .requestMatchers(HttpMethod.GET, "/actuator/health")
+        // Public health endpoint and its liveness and readiness probes
+        .requestMatchers(
+            HttpMethod.GET,
+            "/actuator/health",
+            "/actuator/health/liveness",
+            "/actuator/health/readiness")
         .permitAll()
 
         // Metrics endpoint should be protected
         .requestMatchers("/metrics")
         .authenticated()
 
+        // Slow query captures expose bind shapes and plans
+        .requestMatchers("/actuator/slowqueries")
+        .authenticated()
+
         // Allow OPTIONS requests to be accessed with authentication
         .requestMatchers(HttpMethod.OPTIONS, "/**")
         .authenticated()
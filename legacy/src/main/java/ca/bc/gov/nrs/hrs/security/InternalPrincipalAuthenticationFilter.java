@@ -0,0 +1,169 @@
+package ca.bc.gov.nrs.hrs.security;
+
+import ca.bc.gov.nrs.hrs.LegacyConstants;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.InternalPrincipalConfiguration;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that authenticates backend-forwarded calls from a signed internal principal.
+ *
+ * <p>The backend has already verified the user's JWT before calling this service. When
+ * {@code ca.bc.gov.nrs.internal-principal.enabled} is {@code true} and the request carries a
+ * {@link LegacyConstants#X_INTERNAL_PRINCIPAL} header, this filter checks its HMAC-SHA256
+ * signature and expiry and, if valid, places a {@link JwtAuthenticationToken} built from the
+ * forwarded claims into the {@code SecurityContext}. Controllers keep receiving a {@link Jwt}
+ * principal, so {@code JwtPrincipalUtil} works unchanged.</p>
+ *
+ * <p>Requests authenticated this way are flagged with {@link #AUTHENTICATED_ATTRIBUTE} so that
+ * {@link Oauth2SecurityCustomizer} skips bearer token resolution and the JWT signature is not
+ * verified a second time. A missing, expired or tampered header is ignored and the request
+ * falls back to the regular JWT path.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalPrincipalAuthenticationFilter extends OncePerRequestFilter {
+
+  /**
+   * Request attribute set when the request was authenticated from the internal principal.
+   */
+  public static final String AUTHENTICATED_ATTRIBUTE =
+      InternalPrincipalAuthenticationFilter.class.getName() + ".AUTHENTICATED";
+
+  static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private static final TypeReference<Map<String, Object>> CLAIMS_TYPE =
+      new TypeReference<>() {
+      };
+
+  private final HrsConfiguration configuration;
+  private final ObjectMapper mapper;
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    InternalPrincipalConfiguration internal = configuration.getInternalPrincipal();
+    return internal == null
+        || !internal.isEnabled()
+        || StringUtils.isBlank(internal.getSecret())
+        || StringUtils.isBlank(request.getHeader(LegacyConstants.X_INTERNAL_PRINCIPAL));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain chain
+  ) throws ServletException, IOException {
+
+    verify(request.getHeader(LegacyConstants.X_INTERNAL_PRINCIPAL))
+        .ifPresent(jwt -> {
+          SecurityContext context = SecurityContextHolder.createEmptyContext();
+          context.setAuthentication(new JwtAuthenticationToken(jwt, authorities(jwt)));
+          SecurityContextHolder.setContext(context);
+          request.setAttribute(AUTHENTICATED_ATTRIBUTE, Boolean.TRUE);
+        });
+
+    chain.doFilter(request, response);
+  }
+
+  /**
+   * Verify the signed header and rebuild the forwarded {@link Jwt} when valid.
+   *
+   * @param header the raw header value in {@code base64url(payload).base64url(hmac)} form
+   * @return the reconstructed {@link Jwt}, or empty if the header is malformed, tampered with
+   *     or expired
+   */
+  Optional<Jwt> verify(String header) {
+    InternalPrincipalConfiguration internal = configuration.getInternalPrincipal();
+    int separator = header.indexOf('.');
+    if (separator <= 0 || separator == header.length() - 1) {
+      log.debug("Malformed internal principal header, falling back to JWT");
+      return Optional.empty();
+    }
+
+    String payload = header.substring(0, separator);
+    String signature = header.substring(separator + 1);
+
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(
+          internal.getSecret().getBytes(StandardCharsets.UTF_8),
+          HMAC_ALGORITHM
+      ));
+      byte[] expected = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+      if (!MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(signature))) {
+        log.warn("Internal principal signature mismatch, falling back to JWT");
+        return Optional.empty();
+      }
+
+      Map<String, Object> claims =
+          mapper.readValue(Base64.getUrlDecoder().decode(payload), CLAIMS_TYPE);
+
+      Instant now = Instant.now();
+      Object exp = claims.get("exp");
+      if (!(exp instanceof Number expNumber)
+          || now.isAfter(
+          Instant.ofEpochSecond(expNumber.longValue()).plus(internal.getClockSkew()))) {
+        log.debug("Internal principal expired, falling back to JWT");
+        return Optional.empty();
+      }
+
+      Instant expiresAt = Instant.ofEpochSecond(expNumber.longValue());
+      return Optional.of(
+          Jwt
+              .withTokenValue(header)
+              .header("alg", "HS256")
+              .claims(values -> {
+                values.putAll(claims);
+                values.put("exp", expiresAt);
+              })
+              .issuedAt(now.isBefore(expiresAt) ? now : expiresAt.minusSeconds(1))
+              .build()
+      );
+    } catch (GeneralSecurityException | IOException | IllegalArgumentException e) {
+      log.warn("Unable to verify internal principal, falling back to JWT: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private List<SimpleGrantedAuthority> authorities(Jwt jwt) {
+    List<String> groups = jwt.getClaimAsStringList("cognito:groups");
+    if (groups == null) {
+      return List.of();
+    }
+    return groups
+        .stream()
+        .filter(Objects::nonNull)
+        .map(SimpleGrantedAuthority::new)
+        .toList();
+  }
+}
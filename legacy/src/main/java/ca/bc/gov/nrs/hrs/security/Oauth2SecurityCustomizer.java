@@ -1,36 +1,55 @@
 package ca.bc.gov.nrs.hrs.security;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.oauth2.server.resource.OAuth2ResourceServerConfigurer;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.stereotype.Component;
 
 /**
  * Customize OAuth2 resource server configuration to extract authorities
- * from the JWT's {@code cognito:groups} claim and to configure the JWK set URI.
+ * from the JWT's {@code cognito:groups} claim and to decode tokens with the
+ * application {@link JwtDecoder}.
  *
  * <p>The customizer sets a JwtAuthenticationConverter that uses the
  * {@code cognito:groups} claim as the source of granted authorities and
  * removes any prefix from authority names to match application roles.
  * </p>
+ *
+ * <p>Bearer token resolution is skipped for requests already authenticated by
+ * {@link InternalPrincipalAuthenticationFilter}, so backend-forwarded calls carrying a valid
+ * signed internal principal do not pay for a second JWT signature verification.
+ * </p>
  */
 @Component
+@RequiredArgsConstructor
 public class Oauth2SecurityCustomizer implements
     Customizer<OAuth2ResourceServerConfigurer<HttpSecurity>> {
 
-  @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-  String jwkSetUri;
+  private final JwtDecoder jwtDecoder;
 
   @Override
   public void customize(
       OAuth2ResourceServerConfigurer<HttpSecurity> customize) {
-    customize.jwt(jwt -> jwt.jwtAuthenticationConverter(converter()).jwkSetUri(jwkSetUri));
+    customize
+        .bearerTokenResolver(bearerTokenResolver())
+        .jwt(jwt -> jwt.jwtAuthenticationConverter(converter()).decoder(jwtDecoder));
+  }
+
+  private BearerTokenResolver bearerTokenResolver() {
+    DefaultBearerTokenResolver delegate = new DefaultBearerTokenResolver();
+    return request ->
+        request.getAttribute(InternalPrincipalAuthenticationFilter.AUTHENTICATED_ATTRIBUTE) != null
+            ? null
+            : delegate.resolve(request);
   }
 
   private Converter<Jwt, AbstractAuthenticationToken> converter() {
@@ -24,6 +24,7 @@ public class AssessAreaStatusService {
 
   private final AssessAreaStatusRepository repository;
   private final AssessAreaStatusMapper codeMapping;
+  private final CodeTableSnapshot snapshot;
 
   /**
    * Retrieve all valid assessment-area status codes.
@@ -31,19 +32,23 @@ public class AssessAreaStatusService {
    * <p>This method loads active rows from the code table via the repository, maps each
    * entity to a {@link CodeDescriptionDto} and returns the resulting list.</p>
    *
+   * <p>The result is served from the {@link CodeTableSnapshot} until it expires.</p>
+   *
    * @return list of status {@link CodeDescriptionDto} suitable for UI selection lists
    */
   @NewSpan
   public List<CodeDescriptionDto> getStatusCodes() {
-    log.info("Getting all assessment area status for the search openings");
+    return snapshot.get("assess-area-status", () -> {
+      log.info("Getting all assessment area status for the search openings");
 
-    List<CodeDescriptionDto> codes = repository
-        .findAllValid()
-        .stream()
-        .map(codeMapping::toDto)
-        .toList();
+      List<CodeDescriptionDto> codes = repository
+          .findAllValid()
+          .stream()
+          .map(codeMapping::toDto)
+          .toList();
 
-    log.info("Found {} all assessment area status by codes", codes.size());
-    return codes;
+      log.info("Found {} all assessment area status by codes", codes.size());
+      return codes;
+    });
   }
 }
@@ -0,0 +1,78 @@
+package ca.bc.gov.nrs.hrs.service.codes;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.WarmupConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory snapshot of the code tables, loaded at startup and kept for a configured time.
+ *
+ * <p>Code tables change rarely and are read by every search screen, so the services serve them
+ * from the snapshot and read the database again only once it is older than the code table TTL.
+ * A TTL of zero disables the snapshot and every call reads the database.</p>
+ */
+@Component
+public class CodeTableSnapshot {
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<String, Snapshot> tables = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the snapshot.
+   *
+   * @param configuration application configuration holding the warmup settings
+   */
+  @Autowired
+  public CodeTableSnapshot(HrsConfiguration configuration) {
+    this(
+        Optional
+            .ofNullable(configuration.getWarmup())
+            .orElseGet(WarmupConfiguration::new)
+            .getCodeTableTtl(),
+        Clock.systemUTC()
+    );
+  }
+
+  CodeTableSnapshot(Duration ttl, Clock clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the codes of a table, loading them when missing or older than the TTL.
+   *
+   * @param table  the code table name
+   * @param loader reads the codes from the database
+   * @return the codes of the table
+   */
+  public List<CodeDescriptionDto> get(String table, Supplier<List<CodeDescriptionDto>> loader) {
+    if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+      return loader.get();
+    }
+    Instant now = clock.instant();
+    Snapshot current = tables.get(table);
+    if (current != null && current.loadedAt().plus(ttl).isAfter(now)) {
+      return current.codes();
+    }
+    // Loaded outside the map, so a slow read holds no lock and a loader may read other tables.
+    // Two callers may both load an expired table; the later snapshot wins.
+    Snapshot loaded = new Snapshot(loader.get(), now);
+    tables.put(table, loaded);
+    return loaded.codes();
+  }
+
+  private record Snapshot(List<CodeDescriptionDto> codes, Instant loadedAt) {
+
+  }
+}
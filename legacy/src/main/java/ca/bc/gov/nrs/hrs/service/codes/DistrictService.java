@@ -27,6 +27,7 @@ public class DistrictService {
   private final OrgUnitRepository orgUnitRepository;
   private final DistrictMapper districtMapper;
   private final HrsConfiguration configuration;
+  private final CodeTableSnapshot snapshot;
 
   /**
    * Find all Org Units for the Openings Search.
@@ -34,26 +35,30 @@ public class DistrictService {
    * <p>Fetches configured org-unit codes and maps them to DTOs. The description text is cleaned
    * to remove the phrase "Natural Resource District" for compact display.</p>
    *
+   * <p>The result is served from the {@link CodeTableSnapshot} until it expires.</p>
+   *
    * @return List of {@link CodeDescriptionDto} representing org units
    */
   @NewSpan
   public List<CodeDescriptionDto> findAllOrgUnits() {
-    log.info("Getting all org units for the search openings");
+    return snapshot.get("districts", () -> {
+      log.info("Getting all org units for the search openings");
 
-    List<CodeDescriptionDto> orgUnits = orgUnitRepository
-        .findAllByOrgUnitCodeInOrderByOrgUnitCodeAsc(configuration.getDistricts())
-        .stream()
-        .map(districtMapper::fromProjection)
-        .map(code -> code.withDescription(
-                code
-                    .description()
-                    .replaceAll("Natural Resource District", StringUtils.EMPTY)
-                    .trim()
-            )
-        )
-        .toList();
+      List<CodeDescriptionDto> orgUnits = orgUnitRepository
+          .findAllByOrgUnitCodeInOrderByOrgUnitCodeAsc(configuration.getDistricts())
+          .stream()
+          .map(districtMapper::fromProjection)
+          .map(code -> code.withDescription(
+                  code
+                      .description()
+                      .replaceAll("Natural Resource District", StringUtils.EMPTY)
+                      .trim()
+              )
+          )
+          .toList();
 
-    log.info("Found {} org units by codes", orgUnits.size());
-    return orgUnits;
+      log.info("Found {} org units by codes", orgUnits.size());
+      return orgUnits;
+    });
   }
 }
@@ -24,25 +24,30 @@ public class SamplingService {
 
   private final SamplingOptionRepository repository;
   private final SamplingOptionMapper codeMapping;
+  private final CodeTableSnapshot snapshot;
 
   /**
    * Retrieve all valid sampling options.
    *
    * <p>Loads active sampling options and maps each entity to a DTO for UI consumption.</p>
    *
+   * <p>The result is served from the {@link CodeTableSnapshot} until it expires.</p>
+   *
    * @return list of sampling option {@link CodeDescriptionDto}
    */
   @NewSpan
   public List<CodeDescriptionDto> getSamplingCodes() {
-    log.info("Getting all sampling options for the search openings");
+    return snapshot.get("sampling-options", () -> {
+      log.info("Getting all sampling options for the search openings");
 
-    List<CodeDescriptionDto> codes = repository
-        .findAllValid()
-        .stream()
-        .map(codeMapping::toDto)
-        .toList();
+      List<CodeDescriptionDto> codes = repository
+          .findAllValid()
+          .stream()
+          .map(codeMapping::toDto)
+          .toList();
 
-    log.info("Found {} sampling options by codes", codes.size());
-    return codes;
+      log.info("Found {} sampling options by codes", codes.size());
+      return codes;
+    });
   }
 }
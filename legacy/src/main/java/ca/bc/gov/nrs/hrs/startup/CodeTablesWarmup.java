@@ -0,0 +1,38 @@
+package ca.bc.gov.nrs.hrs.startup;
+
+import ca.bc.gov.nrs.hrs.service.codes.AssessAreaStatusService;
+import ca.bc.gov.nrs.hrs.service.codes.CodeTableSnapshot;
+import ca.bc.gov.nrs.hrs.service.codes.DistrictService;
+import ca.bc.gov.nrs.hrs.service.codes.SamplingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the code tables into the {@link CodeTableSnapshot}, which also opens the first database
+ * connections and runs the first queries through Hibernate.
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class CodeTablesWarmup implements WarmupTask {
+
+  private final DistrictService districtService;
+  private final SamplingService samplingService;
+  private final AssessAreaStatusService assessAreaStatusService;
+
+  @Override
+  public String name() {
+    return "code-tables";
+  }
+
+  @Override
+  public void warmUp() {
+    int codes = districtService.findAllOrgUnits().size()
+        + samplingService.getSamplingCodes().size()
+        + assessAreaStatusService.getStatusCodes().size();
+    log.info("Loaded {} codes", codes);
+  }
+}
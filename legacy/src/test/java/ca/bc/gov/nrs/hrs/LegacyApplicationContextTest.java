@@ -0,0 +1,36 @@
+package ca.bc.gov.nrs.hrs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Starts the whole application context without a database, so a bean Spring cannot create fails
+ * the unit tests rather than only the container tests.
+ */
+@DisplayName("Unit Test | App Context")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    properties = {
+        "spring.datasource.url=jdbc:oracle:thin:@localhost:1/hrs",
+        "spring.datasource.hikari.initialization-fail-timeout=-1",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"
+    }
+)
+class LegacyApplicationContextTest {
+
+  @Autowired
+  private ApplicationContext context;
+
+  @Test
+  @DisplayName("should create every bean without a database")
+  void contextLoads() {
+    assertThat(context.getBeanDefinitionCount()).isPositive();
+  }
+}
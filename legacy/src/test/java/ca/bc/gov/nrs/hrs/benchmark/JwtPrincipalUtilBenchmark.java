@@ -0,0 +1,79 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.dto.base.Role;
+import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Measures the parsing of {@code cognito:groups} into roles and the client list the search
+ * controllers derive from it on every request.
+ *
+ * <p>The token is a Business BCeID one holding a concrete role plus one abstract role per
+ * client.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtPrincipalUtilBenchmark {
+
+  @Param({"2", "50"})
+  private int clients;
+
+  private Jwt jwt;
+
+  /**
+   * Builds a token with the requested number of client groups.
+   */
+  @Setup
+  public void setUp() {
+    List<String> groups = new ArrayList<>();
+    groups.add("WASTE_PLUS_DISTRICT");
+    for (int index = 0; index < clients; index++) {
+      groups.add(String.format("WASTE_PLUS_SUBMITTER_%08d", index));
+    }
+    jwt = Jwt
+        .withTokenValue("token")
+        .header("alg", "none")
+        .claim("custom:idp_name", "bceidbusiness")
+        .claim("cognito:groups", groups)
+        .build();
+  }
+
+  /**
+   * Parses the groups into the role to clients map.
+   *
+   * @return the parsed roles
+   */
+  @Benchmark
+  public Map<Role, List<String>> getRoles() {
+    return JwtPrincipalUtil.getRoles(jwt);
+  }
+
+  /**
+   * Resolves the clients a search is restricted to.
+   *
+   * @return the client numbers
+   */
+  @Benchmark
+  public List<String> getClientListFromJwt() {
+    return JwtPrincipalUtil.getClientListFromJwt(jwt);
+  }
+}
@@ -0,0 +1,249 @@
+package ca.bc.gov.nrs.hrs.benchmark;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.reportingunit.ReportingUnitDetailsDto;
+import ca.bc.gov.nrs.hrs.dto.search.ClientDistrictSearchResultDto;
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchExpandedDto;
+import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
+import ca.bc.gov.nrs.hrs.entity.codes.AssessAreaStatusEntity;
+import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.entity.reportingunit.ReportingUnitDetailsProjection;
+import ca.bc.gov.nrs.hrs.entity.search.ClientDistrictSearchProjection;
+import ca.bc.gov.nrs.hrs.entity.search.ReportingUnitSearchExpandedProjection;
+import ca.bc.gov.nrs.hrs.entity.search.ReportingUnitSearchProjection;
+import ca.bc.gov.nrs.hrs.mappers.codes.AssessAreaStatusMapper;
+import ca.bc.gov.nrs.hrs.mappers.codes.AssessAreaStatusMapperImpl;
+import ca.bc.gov.nrs.hrs.mappers.codes.DistrictMapper;
+import ca.bc.gov.nrs.hrs.mappers.codes.DistrictMapperImpl;
+import ca.bc.gov.nrs.hrs.mappers.reportingunit.ReportingUnitDetailsMapper;
+import ca.bc.gov.nrs.hrs.mappers.reportingunit.ReportingUnitDetailsMapperImpl;
+import ca.bc.gov.nrs.hrs.mappers.search.ClientDistrictSearchMapper;
+import ca.bc.gov.nrs.hrs.mappers.search.ClientDistrictSearchMapperImpl;
+import ca.bc.gov.nrs.hrs.mappers.search.ReportingUnitSearchExpandedMapper;
+import ca.bc.gov.nrs.hrs.mappers.search.ReportingUnitSearchExpandedMapperImpl;
+import ca.bc.gov.nrs.hrs.mappers.search.ReportingUnitSearchMapper;
+import ca.bc.gov.nrs.hrs.mappers.search.ReportingUnitSearchMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the MapStruct mappers under {@code mappers} over a page of rows.
+ *
+ * <p>The projections are map-backed proxies made by the same projection factory Spring Data
+ * uses for the native queries, so every getter pays the proxy dispatch it pays in production.
+ * The expanded row carries a secondary marks JSON array, which the mapper parses.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+  private static final LocalDateTime UPDATED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private ReportingUnitSearchMapper searchMapper;
+  private ReportingUnitSearchExpandedMapper expandedMapper;
+  private ReportingUnitDetailsMapper detailsMapper;
+  private ClientDistrictSearchMapper clientDistrictMapper;
+  private AssessAreaStatusMapper statusMapper;
+  private DistrictMapper districtMapper;
+
+  private List<ReportingUnitSearchProjection> searchRows;
+  private ReportingUnitSearchExpandedProjection expandedRow;
+  private ReportingUnitDetailsProjection detailsRow;
+  private List<ClientDistrictSearchProjection> clientDistrictRows;
+  private List<AssessAreaStatusEntity> statuses;
+  private List<OrgUnitEntity> districts;
+
+  /**
+   * Creates the generated mappers and the rows they map.
+   */
+  @Setup
+  public void setUp() {
+    searchMapper = new ReportingUnitSearchMapperImpl();
+    expandedMapper = new ReportingUnitSearchExpandedMapperImpl();
+    ReflectionTestUtils.setField(expandedMapper, "objectMapper", new ObjectMapper());
+    detailsMapper = new ReportingUnitDetailsMapperImpl();
+    clientDistrictMapper = new ClientDistrictSearchMapperImpl();
+    statusMapper = new AssessAreaStatusMapperImpl();
+    districtMapper = new DistrictMapperImpl();
+
+    ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
+    searchRows = IntStream
+        .range(0, pageSize)
+        .mapToObj(index -> factory.createProjection(
+            ReportingUnitSearchProjection.class, searchRow(index)))
+        .collect(Collectors.toList());
+    expandedRow = factory.createProjection(
+        ReportingUnitSearchExpandedProjection.class, expandedRow());
+    detailsRow = factory.createProjection(ReportingUnitDetailsProjection.class, Map.of(
+        "clientNumber", "00001271",
+        "clientLocnCode", "00",
+        "samplingCode", "S",
+        "samplingName", "Sampling",
+        "districtCode", "DCR",
+        "districtName", "Campbell River Natural Resource District"));
+    clientDistrictRows = IntStream
+        .range(0, pageSize)
+        .mapToObj(index -> factory.createProjection(ClientDistrictSearchProjection.class, Map.of(
+            "clientNumber", String.format("%08d", index),
+            "submissionsCount", 12L,
+            "blocksCount", 34L,
+            "lastUpdate", UPDATED)))
+        .collect(Collectors.toList());
+    statuses = IntStream
+        .range(0, 12)
+        .mapToObj(index -> AssessAreaStatusEntity
+            .builder()
+            .id("S" + index)
+            .description("Status " + index)
+            .effectiveDate(UPDATED)
+            .expiryDate(LocalDateTime.MAX)
+            .updateTimestamp(UPDATED)
+            .build())
+        .collect(Collectors.toList());
+    districts = IntStream
+        .range(0, 25)
+        .mapToObj(index -> OrgUnitEntity
+            .builder()
+            .orgUnitNo((long) index)
+            .orgUnitCode("D" + index)
+            .orgUnitName("District " + index + " Natural Resource District")
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Maps a page of reporting unit search rows.
+   *
+   * @return the mapped page content
+   */
+  @Benchmark
+  public List<ReportingUnitSearchResultDto> reportingUnitSearch() {
+    return searchRows.stream().map(searchMapper::fromProjection).collect(Collectors.toList());
+  }
+
+  /**
+   * Maps one expanded search row, parsing its secondary marks.
+   *
+   * @return the mapped row
+   */
+  @Benchmark
+  public ReportingUnitSearchExpandedDto reportingUnitSearchExpanded() {
+    return expandedMapper.fromProjection(expandedRow);
+  }
+
+  /**
+   * Maps the reporting unit details row.
+   *
+   * @return the mapped row
+   */
+  @Benchmark
+  public ReportingUnitDetailsDto reportingUnitDetails() {
+    return detailsMapper.fromProjection(detailsRow);
+  }
+
+  /**
+   * Maps a page of client district rows.
+   *
+   * @return the mapped page content
+   */
+  @Benchmark
+  public List<ClientDistrictSearchResultDto> clientDistrictSearch() {
+    return clientDistrictRows
+        .stream()
+        .map(clientDistrictMapper::fromProjection)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Maps the status and district code tables, as the code endpoints do.
+   *
+   * @return the mapped codes
+   */
+  @Benchmark
+  public List<CodeDescriptionDto> codeTables() {
+    List<CodeDescriptionDto> codes = statuses
+        .stream()
+        .map(statusMapper::toDto)
+        .collect(Collectors.toList());
+    districts.stream().map(districtMapper::fromProjection).forEach(codes::add);
+    return codes;
+  }
+
+  private static Map<String, Object> searchRow(int index) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("wasteAssessmentAreaId", 100L + index);
+    row.put("cutBlockId", "BLK-" + index);
+    row.put("ruNumber", 879L + index);
+    row.put("clientNumber", String.format("%08d", index % 7));
+    row.put("clientName", null);
+    row.put("licenseNumber", "A91320");
+    row.put("cuttingPermit", "CP1");
+    row.put("timberMark", "TM001");
+    row.put("multiMark", index % 3 == 0 ? 1 : 0);
+    row.put("secondaryEntry", 0);
+    row.put("samplingCode", "S");
+    row.put("samplingName", "Sampling");
+    row.put("districtCode", "DCR");
+    row.put("districtName", "Campbell River Natural Resource District");
+    row.put("statusCode", "AC");
+    row.put("statusName", "Active");
+    row.put("lastUpdated", UPDATED);
+    return row;
+  }
+
+  private static Map<String, Object> expandedRow() {
+    String secondary = IntStream
+        .range(0, 5)
+        .mapToObj(index -> String.format(
+            "{\"mark\":\"TM00%d\",\"status\":{\"code\":\"AC\",\"description\":\"Active\"},"
+                + "\"area\":%d.5}", index, index))
+        .collect(Collectors.joining(",", "[", "]"));
+
+    Map<String, Object> row = new HashMap<>();
+    row.put("id", 1L);
+    row.put("licenseNo", "L123");
+    row.put("cuttingPermit", "CP1");
+    row.put("timberMark", "TM001");
+    row.put("exempted", 0);
+    row.put("multiMark", 1);
+    row.put("netArea", 100.5);
+    row.put("markArea", 50.25);
+    row.put("submitter", "submitter");
+    row.put("attachmentId", 10L);
+    row.put("attachmentName", "doc.pdf");
+    row.put("comments", "some comment");
+    row.put("totalBlockCount", 5);
+    row.put("totalChildCount", 3);
+    row.put("secondary", secondary);
+    row.put("statusCode", "AC");
+    row.put("statusName", "Active");
+    return row;
+  }
+}
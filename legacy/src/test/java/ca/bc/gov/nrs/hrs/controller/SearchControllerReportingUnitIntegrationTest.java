@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.hrs.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -8,6 +9,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
 
 @AutoConfigureMockMvc
@@ -434,4 +438,27 @@ class SearchControllerReportingUnitIntegrationTest
         .andReturn();
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Should filter reporting units by a large reportingUnitIds body")
+  void shouldFilterByReportingUnitIdsInBody() throws Exception {
+    String ids = LongStream
+        .concat(LongStream.of(879L, 916L), LongStream.rangeClosed(1_000_000L, 1_002_500L))
+        .mapToObj(String::valueOf)
+        .collect(Collectors.joining(","));
+
+    mockMvc
+        .perform(
+            post(SEARCH_URL)
+                .header(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE_JSON)
+                .param("page", "0")
+                .param("size", "10")
+                .content("{\"reportingUnitIds\": [" + ids + "]}")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .accept(CONTENT_TYPE_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(CONTENT_TYPE_JSON))
+        .andExpect(jsonPath("$.page.totalElements").value(Matchers.greaterThanOrEqualTo(2)))
+        .andReturn();
+  }
+
+}
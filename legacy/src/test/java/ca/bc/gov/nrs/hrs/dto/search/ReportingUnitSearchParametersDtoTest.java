@@ -0,0 +1,56 @@
+package ca.bc.gov.nrs.hrs.dto.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.LegacyConstants;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | ReportingUnitSearchParametersDto")
+class ReportingUnitSearchParametersDtoTest {
+
+  @Test
+  @DisplayName("getReportingUnitIdChunks should return NOVALUE when no ids are set")
+  void getReportingUnitIdChunks_noIds_shouldReturnNoValue() {
+    var dto = new ReportingUnitSearchParametersDto();
+
+    assertThat(dto.getReportingUnitIdChunks()).containsExactly(LegacyConstants.NOVALUE);
+    assertThat(dto.withReportingUnitIds(List.of()).getReportingUnitIdChunks())
+        .containsExactly(LegacyConstants.NOVALUE);
+  }
+
+  @Test
+  @DisplayName("getReportingUnitIdChunks should build a JSON array and skip nulls")
+  void getReportingUnitIdChunks_fewIds_shouldReturnSingleChunk() {
+    var dto = new ReportingUnitSearchParametersDto()
+        .withReportingUnitIds(Arrays.asList(879L, null, 916L));
+
+    assertThat(dto.getReportingUnitIdChunks()).containsExactly("[879,916]");
+  }
+
+  @Test
+  @DisplayName("getReportingUnitIdChunks should split large sets within the element length")
+  void getReportingUnitIdChunks_manyIds_shouldSplit() {
+    List<Long> ids = LongStream.rangeClosed(1_000_000L, 1_005_000L).boxed().toList();
+    var dto = new ReportingUnitSearchParametersDto().withReportingUnitIds(ids);
+
+    List<String> chunks = dto.getReportingUnitIdChunks();
+
+    assertThat(chunks).hasSizeGreaterThan(1);
+    assertThat(chunks).allSatisfy(chunk -> assertThat(chunk)
+        .startsWith("[")
+        .endsWith("]")
+        .hasSizeLessThanOrEqualTo(ReportingUnitSearchParametersDto.REPORTING_UNIT_ID_CHUNK_LENGTH));
+    assertThat(
+        chunks
+            .stream()
+            .map(chunk -> chunk.substring(1, chunk.length() - 1))
+            .flatMap(chunk -> Arrays.stream(chunk.split(",")))
+            .map(Long::valueOf)
+            .toList()
+    ).isEqualTo(ids);
+  }
+}
@@ -0,0 +1,148 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | NamedQueryDataSource")
+class NamedQueryDataSourceTest {
+
+  @Mock
+  private DataSource target;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private ResultSet resultSet;
+
+  @Mock
+  private ObjectProvider<NamedQueryRecorder> recorderProvider;
+
+  @Mock
+  private NamedQueryRecorder recorder;
+
+  private NamedQueryDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new NamedQueryDataSource(target, recorderProvider);
+  }
+
+  @Test
+  @DisplayName("should record the rows, fetch size and bind shape of a named query on close")
+  void shouldRecordNamedQuery() throws Exception {
+    String sql = "/* SEARCH_USER */ SELECT USERID FROM WASTE_REPORTING_UNIT WHERE X = ?";
+    when(connection.prepareStatement(sql)).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(statement.getFetchSize()).thenReturn(10);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(recorderProvider.getIfAvailable()).thenReturn(recorder);
+
+    PreparedStatement prepared = openConnection().prepareStatement(sql);
+    prepared.setString(1, "JDOE");
+    prepared.setNull(2, Types.VARCHAR);
+    prepared.setObject(3, 42L);
+    try (ResultSet rows = prepared.executeQuery()) {
+      while (rows.next()) {
+        // read every row
+      }
+    }
+
+    verify(recorder).record(
+        eq("SEARCH_USER"), any(), eq(2L), eq(10), eq(List.of("String", "NULL", "Long")),
+        eq(connection));
+  }
+
+  @Test
+  @DisplayName("should leave statements without a query name untouched")
+  void shouldNotWrapUnnamedStatements() throws Exception {
+    String sql = "SELECT 1 FROM DUAL";
+    when(connection.prepareStatement(sql)).thenReturn(statement);
+
+    assertThat(openConnection().prepareStatement(sql)).isSameAs(statement);
+  }
+
+  @Test
+  @DisplayName("should record an execution whose result set is never closed when the statement is")
+  void shouldRecordOnStatementClose() throws Exception {
+    String sql = "/* MY_DISTRICTS_COUNT */ WITH x AS (SELECT 1 FROM DUAL) SELECT * FROM x";
+    when(connection.prepareStatement(sql)).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(recorderProvider.getIfAvailable()).thenReturn(recorder);
+
+    PreparedStatement prepared = openConnection().prepareStatement(sql);
+    prepared.executeQuery();
+    prepared.close();
+    prepared.close();
+
+    verify(recorder).record(
+        eq("MY_DISTRICTS_COUNT"), any(), eq(0L), anyInt(), eq(List.of()), eq(connection));
+  }
+
+  @Test
+  @DisplayName("should not record anything when the recorder is not available")
+  void shouldSkipWithoutRecorder() throws Exception {
+    String sql = "/* SEARCH_USER */ SELECT 1 FROM DUAL";
+    when(connection.prepareStatement(sql)).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+
+    openConnection().prepareStatement(sql).executeQuery().close();
+
+    verify(recorder, never())
+        .record(anyString(), any(), anyLong(), anyInt(), anyList(), any());
+  }
+
+  @Test
+  @DisplayName("should read the query name from the leading block comment, ignoring hints")
+  void shouldExtractQueryName() {
+    assertThat(NamedQueryDataSource.queryName("/* SEARCH_REPORTING_UNIT_QUERY */ SELECT 1"))
+        .isEqualTo("SEARCH_REPORTING_UNIT_QUERY");
+    assertThat(NamedQueryDataSource.queryName("SELECT /*+ INDEX(t) */ 1 FROM t")).isNull();
+    assertThat(NamedQueryDataSource.queryName(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("should register the JDBC proxies for the native image")
+  void shouldRegisterProxyHints() {
+    RuntimeHints hints = new RuntimeHints();
+    new NamedQueryDataSource.ProxyHints().registerHints(hints, getClass().getClassLoader());
+
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ResultSet.class)).accepts(hints);
+  }
+
+  private Connection openConnection() throws Exception {
+    when(target.getConnection()).thenReturn(connection);
+    return dataSource.getConnection();
+  }
+}
@@ -0,0 +1,140 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.QueryMonitoringConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Test | NamedQueryRecorder")
+class NamedQueryRecorderTest {
+
+  private static final Duration SLOW = Duration.ofSeconds(2);
+  private static final Duration FAST = Duration.ofMillis(20);
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private ResultSet resultSet;
+
+  private SimpleMeterRegistry meterRegistry;
+  private NamedQueryRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    HrsConfiguration configuration = new HrsConfiguration();
+    configuration.setQueryMonitoring(QueryMonitoringConfiguration
+        .builder()
+        .slowThreshold(Duration.ofSeconds(1))
+        .bufferSize(2)
+        .build());
+    recorder = new NamedQueryRecorder(meterRegistry, configuration);
+  }
+
+  @Test
+  @DisplayName("should record time, rows and estimated round trips per query name")
+  void record_recordsMeters() {
+    recorder.record("SEARCH_USER", FAST, 25, 10, List.of("String"), connection);
+
+    assertThat(meterRegistry.get(NamedQueryRecorder.EXECUTION_TIMER)
+        .tag("query", "SEARCH_USER")
+        .timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get(NamedQueryRecorder.ROWS_SUMMARY)
+        .tag("query", "SEARCH_USER")
+        .summary()
+        .totalAmount()).isEqualTo(25);
+    assertThat(meterRegistry.get(NamedQueryRecorder.ROUND_TRIPS_SUMMARY)
+        .tag("query", "SEARCH_USER")
+        .summary()
+        .totalAmount()).isEqualTo(3);
+    assertThat(recorder.getSlowQueries()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should capture a slow execution with its bind shape and plan")
+  void record_capturesSlowQueryWithPlan() throws SQLException {
+    mockPlan("Plan hash value: 1234", "| 0 | SELECT STATEMENT |");
+
+    recorder.record("SEARCH_REPORTING_UNIT_QUERY", SLOW, 5, 0, List.of("String", "NULL"),
+        connection);
+
+    assertThat(recorder.getSlowQueries()).singleElement().satisfies(slowQuery -> {
+      assertThat(slowQuery.query()).isEqualTo("SEARCH_REPORTING_UNIT_QUERY");
+      assertThat(slowQuery.elapsedMs()).isEqualTo(2000);
+      assertThat(slowQuery.roundTrips()).isEqualTo(1);
+      assertThat(slowQuery.binds()).containsExactly("String", "NULL");
+      assertThat(slowQuery.plan())
+          .containsExactly("Plan hash value: 1234", "| 0 | SELECT STATEMENT |");
+    });
+    verify(statement).setString(1, "TYPICAL");
+  }
+
+  @Test
+  @DisplayName("should capture the plan of a query at most once per plan interval")
+  void record_throttlesPlanCapture() throws SQLException {
+    mockPlan("Plan hash value: 1234");
+
+    recorder.record("SEARCH_USER", SLOW, 1, 10, List.of(), connection);
+    recorder.record("SEARCH_USER", SLOW, 1, 10, List.of(), connection);
+
+    assertThat(recorder.getSlowQueries())
+        .extracting(SlowQuery::plan)
+        .containsExactly(null, List.of("Plan hash value: 1234"));
+  }
+
+  @Test
+  @DisplayName("should keep only the newest slow executions")
+  void record_keepsNewestInRingBuffer() throws SQLException {
+    when(connection.prepareStatement(anyString())).thenThrow(new SQLException("ORA-00942"));
+
+    recorder.record("SEARCH_USER", SLOW, 1, 10, List.of(), connection);
+    recorder.record("MY_DISTRICTS_QUERY", SLOW, 1, 10, List.of(), connection);
+    recorder.record("SEARCH_REPORTING_UNIT_COUNT", SLOW, 1, 10, List.of(), connection);
+
+    assertThat(recorder.getSlowQueries())
+        .extracting(SlowQuery::query)
+        .containsExactly("SEARCH_REPORTING_UNIT_COUNT", "MY_DISTRICTS_QUERY");
+    assertThat(recorder.getSlowQueries().get(0).plan())
+        .containsExactly("Plan unavailable: ORA-00942");
+
+    recorder.clear();
+
+    assertThat(recorder.getSlowQueries()).isEmpty();
+  }
+
+  private void mockPlan(String... lines) throws SQLException {
+    Iterator<String> remaining = List.of(lines).iterator();
+    AtomicReference<String> current = new AtomicReference<>();
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenAnswer(invocation -> {
+      current.set(remaining.hasNext() ? remaining.next() : null);
+      return current.get() != null;
+    });
+    when(resultSet.getString(1)).thenAnswer(invocation -> current.get());
+  }
+}
@@ -0,0 +1,79 @@
+package ca.bc.gov.nrs.hrs.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.VirtualThreadConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | VirtualThreadMonitor")
+class VirtualThreadMonitorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private VirtualThreadMonitor monitor;
+
+  @AfterEach
+  void tearDown() {
+    if (monitor != null) {
+      monitor.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("should register nothing while virtual threads are disabled")
+  void shouldStayIdleWhenDisabled() {
+    monitor = monitor(false);
+
+    monitor.start();
+
+    assertThat(monitor.isRunning()).isFalse();
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should report the carrier threads and the scheduler parallelism")
+  void shouldRegisterCarrierGauges() {
+    monitor = monitor(true);
+    monitor.start();
+
+    assertThat(monitor.isRunning()).isTrue();
+    assertThat(meterRegistry.get(VirtualThreadMonitor.CARRIER_GAUGE).gauge().value())
+        .isNotNegative();
+    assertThat(meterRegistry.get(VirtualThreadMonitor.PARALLELISM_GAUGE).gauge().value())
+        .isEqualTo(VirtualThreadMonitor.parallelism());
+  }
+
+  @Test
+  @DisplayName("should record a pinning against the first application frame")
+  void shouldRecordPinning() {
+    monitor = monitor(true);
+    monitor.start();
+
+    monitor.onPinned(Duration.ofMillis(30), List.of(
+        "java.lang.VirtualThread.parkOnCarrierThread:675",
+        "oracle.jdbc.driver.T4CConnection.doRPC:1024",
+        "ca.bc.gov.nrs.hrs.repository.ReportingUnitRepository.search:42"));
+    monitor.onPinned(Duration.ofMillis(10), List.of());
+
+    assertThat(meterRegistry.get(VirtualThreadMonitor.PINNED_TIMER).timer().count())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(VirtualThreadMonitor.PINNED_TIMER).timer().max(
+        TimeUnit.MILLISECONDS)).isEqualTo(30);
+  }
+
+  private VirtualThreadMonitor monitor(boolean enabled) {
+    return new VirtualThreadMonitor(
+        enabled,
+        VirtualThreadConfiguration
+            .builder()
+            .pinnedThreshold(Duration.ofMillis(10))
+            .build(),
+        meterRegistry
+    );
+  }
+}
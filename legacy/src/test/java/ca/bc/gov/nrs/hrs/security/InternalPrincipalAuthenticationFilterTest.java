@@ -0,0 +1,160 @@
+package ca.bc.gov.nrs.hrs.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.LegacyConstants;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.HrsConfiguration.InternalPrincipalConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.IdentityProvider;
+import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+@DisplayName("Unit Test | InternalPrincipalAuthenticationFilter")
+class InternalPrincipalAuthenticationFilterTest {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should authenticate from a valid signed header")
+  void shouldAuthenticateFromValidHeader() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(
+        LegacyConstants.X_INTERNAL_PRINCIPAL,
+        sign(claims(Instant.now().plusSeconds(60)), SECRET)
+    );
+
+    filter(true).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertThat(authentication).isInstanceOf(JwtAuthenticationToken.class);
+    assertThat(request.getAttribute(InternalPrincipalAuthenticationFilter.AUTHENTICATED_ATTRIBUTE))
+        .isEqualTo(Boolean.TRUE);
+    assertThat(authentication.getAuthorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactly("Submitter_00010001");
+
+    Jwt jwt = ((JwtAuthenticationToken) authentication).getToken();
+    assertThat(JwtPrincipalUtil.getIdentityProvider(jwt)).isEqualTo(IdentityProvider.BUSINESS_BCEID);
+    assertThat(JwtPrincipalUtil.getClientFromRoles(jwt)).containsExactly("00010001");
+  }
+
+  @Test
+  @DisplayName("should ignore header when disabled")
+  void shouldIgnoreHeaderWhenDisabled() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(
+        LegacyConstants.X_INTERNAL_PRINCIPAL,
+        sign(claims(Instant.now().plusSeconds(60)), SECRET)
+    );
+
+    filter(false).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(request.getAttribute(InternalPrincipalAuthenticationFilter.AUTHENTICATED_ATTRIBUTE))
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("should fall back when signature does not match")
+  void shouldFallBackOnTamperedSignature() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(
+        LegacyConstants.X_INTERNAL_PRINCIPAL,
+        sign(claims(Instant.now().plusSeconds(60)), "another-secret-another-secret-00")
+    );
+
+    filter(true).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  @DisplayName("should fall back when header is expired")
+  void shouldFallBackWhenExpired() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(
+        LegacyConstants.X_INTERNAL_PRINCIPAL,
+        sign(claims(Instant.now().minusSeconds(60)), SECRET)
+    );
+
+    filter(true).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  @DisplayName("should fall back when header is malformed")
+  void shouldFallBackWhenMalformed() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(LegacyConstants.X_INTERNAL_PRINCIPAL, "not-a-signed-value");
+
+    filter(true).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  private InternalPrincipalAuthenticationFilter filter(boolean enabled) {
+    HrsConfiguration configuration = HrsConfiguration
+        .builder()
+        .internalPrincipal(
+            InternalPrincipalConfiguration
+                .builder()
+                .enabled(enabled)
+                .secret(SECRET)
+                .clockSkew(Duration.ofSeconds(5))
+                .build()
+        )
+        .build();
+    return new InternalPrincipalAuthenticationFilter(configuration, mapper);
+  }
+
+  private Map<String, Object> claims(Instant expiresAt) {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    claims.put("sub", "user123");
+    claims.put("custom:idp_name", "bceidbusiness");
+    claims.put("custom:idp_username", "JDOE");
+    claims.put("cognito:groups", List.of("Submitter_00010001"));
+    claims.put("exp", expiresAt.getEpochSecond());
+    return claims;
+  }
+
+  private String sign(Map<String, Object> claims, String secret) throws Exception {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String payload = encoder.encodeToString(mapper.writeValueAsBytes(claims));
+    Mac mac = Mac.getInstance(InternalPrincipalAuthenticationFilter.HMAC_ALGORITHM);
+    mac.init(new SecretKeySpec(
+        secret.getBytes(StandardCharsets.UTF_8),
+        InternalPrincipalAuthenticationFilter.HMAC_ALGORITHM
+    ));
+    return payload + "." + encoder.encodeToString(
+        mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))
+    );
+  }
+}
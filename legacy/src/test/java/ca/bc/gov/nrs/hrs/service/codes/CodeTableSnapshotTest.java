@@ -0,0 +1,86 @@
+package ca.bc.gov.nrs.hrs.service.codes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | CodeTableSnapshot")
+class CodeTableSnapshotTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-31T12:00:00Z");
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Supplier<List<CodeDescriptionDto>> loader = () -> List.of(
+      new CodeDescriptionDto("DCK", "Chilliwack " + loads.incrementAndGet()));
+
+  @Test
+  @DisplayName("should serve the loaded codes until they expire")
+  void shouldServeUntilExpired() {
+    AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    CodeTableSnapshot snapshot = new CodeTableSnapshot(Duration.ofHours(1), new Clock() {
+      @Override
+      public ZoneId getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return now.get();
+      }
+    });
+
+    snapshot.get("districts", loader);
+    assertThat(snapshot.get("districts", loader))
+        .extracting(CodeDescriptionDto::description)
+        .containsExactly("Chilliwack 1");
+    assertThat(loads).hasValue(1);
+
+    now.set(NOW.plus(Duration.ofHours(2)));
+    assertThat(snapshot.get("districts", loader))
+        .extracting(CodeDescriptionDto::description)
+        .containsExactly("Chilliwack 2");
+  }
+
+  @Test
+  @DisplayName("should let a loader read another table")
+  void shouldLoadReentrantly() {
+    CodeTableSnapshot snapshot =
+        new CodeTableSnapshot(Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    assertThat(snapshot.get("samplings", () -> snapshot.get("districts", loader)))
+        .extracting(CodeDescriptionDto::description)
+        .containsExactly("Chilliwack 1");
+    assertThat(snapshot.get("districts", loader))
+        .extracting(CodeDescriptionDto::description)
+        .containsExactly("Chilliwack 1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("should read on every call with a zero TTL")
+  void shouldLoadWithZeroTtl() {
+    CodeTableSnapshot snapshot =
+        new CodeTableSnapshot(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    snapshot.get("districts", loader);
+    snapshot.get("districts", loader);
+
+    assertThat(loads).hasValue(2);
+  }
+}